@@ -0,0 +1,227 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash set of primitive int values.
+ * Values are not boxed.
+ * Not thread-safe.
+ */
+public class IntHashSet {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.7f;
+
+    // Zero marks free slot. Presence of zero is stored separately.
+    private int[] keys;
+    private boolean hasZero;
+    private int size;
+    private int mask;
+    private int threshold;
+
+    public IntHashSet()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntHashSet(int expectedSize)
+    {
+        allocate(IntObjectMap.tableSizeFor(expectedSize));
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    public boolean contains(int value)
+    {
+        if (value == 0) {
+            return hasZero;
+        }
+        int slot = hash(value) & mask;
+        for (;;) {
+            int slotKey = keys[slot];
+            if (slotKey == value) {
+                return true;
+            }
+            if (slotKey == 0) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Adds value to the set
+     * @return true if set didn't contain this value
+     */
+    public boolean add(int value)
+    {
+        if (value == 0) {
+            if (hasZero) {
+                return false;
+            }
+            hasZero = true;
+            size++;
+            return true;
+        }
+        int slot = hash(value) & mask;
+        for (;;) {
+            int slotKey = keys[slot];
+            if (slotKey == 0) {
+                break;
+            }
+            if (slotKey == value) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Removes value from the set
+     * @return true if set contained this value
+     */
+    public boolean remove(int value)
+    {
+        if (value == 0) {
+            if (!hasZero) {
+                return false;
+            }
+            hasZero = false;
+            size--;
+            return true;
+        }
+        int slot = hash(value) & mask;
+        for (;;) {
+            int slotKey = keys[slot];
+            if (slotKey == 0) {
+                return false;
+            }
+            if (slotKey == value) {
+                break;
+            }
+            slot = (slot + 1) & mask;
+        }
+        shiftKeys(slot);
+        size--;
+        return true;
+    }
+
+    public void clear()
+    {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(keys, 0);
+        hasZero = false;
+        size = 0;
+    }
+
+    /**
+     * Returns all values (in no particular order)
+     */
+    public int[] toArray()
+    {
+        int[] result = new int[size];
+        int pos = 0;
+        if (hasZero) {
+            result[pos++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[pos++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns all values in ascending order
+     */
+    public int[] toSortedArray()
+    {
+        int[] result = toArray();
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void shiftKeys(int pos)
+    {
+        for (;;) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int key;
+            for (;;) {
+                key = keys[pos];
+                if (key == 0) {
+                    keys[last] = 0;
+                    return;
+                }
+                int ideal = hash(key) & mask;
+                if (last <= pos ? (last >= ideal || ideal > pos) : (last >= ideal && ideal > pos)) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = key;
+        }
+    }
+
+    private void rehash(int newCapacity)
+    {
+        int[] oldKeys = keys;
+        allocate(newCapacity);
+        for (int key : oldKeys) {
+            if (key != 0) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity)
+    {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int hash(int key)
+    {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+}
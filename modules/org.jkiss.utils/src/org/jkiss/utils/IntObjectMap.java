@@ -0,0 +1,289 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.utils;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map with primitive int keys.
+ * Keys are not boxed and no entry object is allocated per mapping.
+ * Use {@link #cursor()} to iterate over mappings without boxing.
+ * Not thread-safe. Map must not be modified while it is iterated.
+ */
+public class IntObjectMap<VALUE> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.7f;
+
+    // Zero key marks free slot. Mapping for zero key is stored separately.
+    private int[] keys;
+    private Object[] values;
+    private boolean hasZeroKey;
+    private Object zeroValue;
+    private int size;
+    private int mask;
+    private int threshold;
+
+    public IntObjectMap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntObjectMap(int expectedSize)
+    {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public int size()
+    {
+        return size;
+    }
+
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    public boolean containsKey(int key)
+    {
+        if (key == 0) {
+            return hasZeroKey;
+        }
+        return findSlot(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public VALUE get(int key)
+    {
+        if (key == 0) {
+            return (VALUE) zeroValue;
+        }
+        int slot = findSlot(key);
+        return slot < 0 ? null : (VALUE) values[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    public VALUE put(int key, VALUE value)
+    {
+        if (key == 0) {
+            Object oldValue = zeroValue;
+            if (!hasZeroKey) {
+                hasZeroKey = true;
+                size++;
+            }
+            zeroValue = value;
+            return (VALUE) oldValue;
+        }
+        int slot = hash(key) & mask;
+        for (;;) {
+            int slotKey = keys[slot];
+            if (slotKey == 0) {
+                break;
+            }
+            if (slotKey == key) {
+                Object oldValue = values[slot];
+                values[slot] = value;
+                return (VALUE) oldValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > threshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public VALUE remove(int key)
+    {
+        if (key == 0) {
+            Object oldValue = zeroValue;
+            if (hasZeroKey) {
+                hasZeroKey = false;
+                zeroValue = null;
+                size--;
+            }
+            return (VALUE) oldValue;
+        }
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        Object oldValue = values[slot];
+        shiftKeys(slot);
+        size--;
+        return (VALUE) oldValue;
+    }
+
+    public void clear()
+    {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        hasZeroKey = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    /**
+     * Returns all keys (in no particular order)
+     */
+    public int[] keys()
+    {
+        int[] result = new int[size];
+        int pos = 0;
+        if (hasZeroKey) {
+            result[pos++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[pos++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns cursor positioned before the first mapping
+     */
+    public Cursor cursor()
+    {
+        return new Cursor();
+    }
+
+    /**
+     * Mappings cursor.
+     * <pre>
+     * for (IntObjectMap&lt;V&gt;.Cursor c = map.cursor(); c.next(); ) {
+     *     use(c.key(), c.value());
+     * }
+     * </pre>
+     */
+    public class Cursor {
+        private int index = -1;
+
+        public boolean next()
+        {
+            while (++index < keys.length) {
+                if (keys[index] != 0) {
+                    return true;
+                }
+            }
+            return index == keys.length && hasZeroKey;
+        }
+
+        public int key()
+        {
+            return index == keys.length ? 0 : keys[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        public VALUE value()
+        {
+            return (VALUE) (index == keys.length ? zeroValue : values[index]);
+        }
+    }
+
+    private int findSlot(int key)
+    {
+        int slot = hash(key) & mask;
+        for (;;) {
+            int slotKey = keys[slot];
+            if (slotKey == key) {
+                return slot;
+            }
+            if (slotKey == 0) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Removes slot and shifts following entries of the same probe sequence back (no tombstones).
+     */
+    private void shiftKeys(int pos)
+    {
+        for (;;) {
+            int last = pos;
+            pos = (pos + 1) & mask;
+            int key;
+            for (;;) {
+                key = keys[pos];
+                if (key == 0) {
+                    keys[last] = 0;
+                    values[last] = null;
+                    return;
+                }
+                int ideal = hash(key) & mask;
+                if (last <= pos ? (last >= ideal || ideal > pos) : (last >= ideal && ideal > pos)) {
+                    break;
+                }
+                pos = (pos + 1) & mask;
+            }
+            keys[last] = key;
+            values[last] = values[pos];
+        }
+    }
+
+    private void rehash(int newCapacity)
+    {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            int key = oldKeys[i];
+            if (key != 0) {
+                int slot = hash(key) & mask;
+                while (keys[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity)
+    {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    static int tableSizeFor(int expectedSize)
+    {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR < expectedSize && capacity < (1 << 30)) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static int hash(int key)
+    {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+}
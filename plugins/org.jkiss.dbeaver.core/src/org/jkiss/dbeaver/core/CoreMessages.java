@@ -708,6 +708,8 @@ public class CoreMessages extends NLS {
 
 	public static String dialog_find_replace_find;
 
+	public static String dialog_find_replace_find_all;
+
 	public static String dialog_find_replace_find_literal;
 
 	public static String dialog_find_replace_find_replace;
@@ -725,6 +727,10 @@ public class CoreMessages extends NLS {
 
 	public static String dialog_find_replace_literal_not_found;
 
+	public static String dialog_find_replace_matches;
+
+	public static String dialog_find_replace_matches_limit;
+
 	public static String dialog_find_replace_new_find;
 
 	public static String dialog_find_replace_replace;
@@ -1163,6 +1169,10 @@ public class CoreMessages extends NLS {
 
     public static String pref_page_database_general_separate_meta_connection;
 
+    public static String pref_page_database_general_checkbox_meta_warmup;
+
+    public static String pref_page_database_general_label_meta_warmup_threads;
+
 	public static String pref_page_database_general_checkbox_case_sensitive_names;
 
 	public static String pref_page_database_general_checkbox_keep_cursor;
@@ -1268,6 +1278,8 @@ public class CoreMessages extends NLS {
 
 	public static String pref_page_sql_editor_label_commit_after_line;
 
+	public static String pref_page_sql_editor_label_batch_size;
+
 	public static String pref_page_sql_editor_label_commit_type;
 
 	public static String pref_page_sql_editor_label_error_handling;
@@ -29,6 +29,7 @@ import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.app.*;
 import org.jkiss.dbeaver.model.data.DBDRegistry;
 import org.jkiss.dbeaver.model.edit.DBERegistry;
+import org.jkiss.dbeaver.model.impl.SharedContentStore;
 import org.jkiss.dbeaver.model.impl.app.DefaultCertificateStorage;
 import org.jkiss.dbeaver.model.navigator.DBNModel;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
@@ -47,6 +48,7 @@ import org.jkiss.dbeaver.runtime.net.GlobalProxyAuthenticator;
 import org.jkiss.dbeaver.runtime.net.GlobalProxySelector;
 import org.jkiss.dbeaver.runtime.qm.QMControllerImpl;
 import org.jkiss.dbeaver.runtime.qm.QMLogFileWriter;
+import org.jkiss.dbeaver.ui.editors.sql.syntax.SQLObjectNameIndex;
 import org.jkiss.dbeaver.utils.GeneralUtils;
 import org.jkiss.utils.CommonUtils;
 import org.jkiss.utils.StandardConstants;
@@ -248,6 +250,8 @@ public class DBeaverCore implements DBPPlatform {
         }
         activatedServices.clear();
 
+        SQLObjectNameIndex.dispose();
+
         // Dispose navigator model first
         // It is a part of UI
         if (this.navigatorModel != null) {
@@ -272,6 +276,8 @@ public class DBeaverCore implements DBPPlatform {
             //queryManager = null;
         }
         DataSourceProviderRegistry.getInstance().dispose();
+        // Close shared LOB contents file
+        SharedContentStore.disposeInstance();
 
         if (isStandalone() && workspace != null) {
             try {
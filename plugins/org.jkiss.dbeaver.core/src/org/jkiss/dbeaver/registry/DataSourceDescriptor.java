@@ -24,6 +24,7 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.model.*;
 import org.jkiss.dbeaver.model.app.DBPDataSourceRegistry;
 import org.jkiss.dbeaver.model.app.DBPPlatform;
@@ -149,6 +150,8 @@ public class DataSourceDescriptor
     private volatile boolean connecting = false;
     private final List<DBRProcessDescriptor> childProcesses = new ArrayList<>();
     private DBWTunnel tunnel;
+    private DataSourceWarmUpService warmUpService;
+    private List<DataSourceRegistry.PendingCredentials> pendingCredentials;
     @NotNull
     private final DBVModel virtualModel;
 
@@ -180,6 +183,7 @@ public class DataSourceDescriptor
     // Copy constructor
     public DataSourceDescriptor(@NotNull DataSourceDescriptor source)
     {
+        source.resolveSecuredCredentials();
         this.registry = source.registry;
         this.origin = source.origin;
         this.id = source.id;
@@ -641,6 +645,7 @@ public class DataSourceDescriptor
         }
         log.debug("Connect with '" + getName() + "' (" + getId() + ")");
 
+        resolveSecuredCredentials();
         //final String oldName = getConnectionConfiguration().getUserName();
         //final String oldPassword = getConnectionConfiguration().getUserPassword();
         if (!isSavePassword()) {
@@ -719,6 +724,11 @@ public class DataSourceDescriptor
 
             processEvents(monitor, DBPConnectionEventType.AFTER_CONNECT);
 
+            if (initialize && getPreferenceStore().getBoolean(ModelPreferences.META_WARMUP_ENABLED)) {
+                warmUpService = new DataSourceWarmUpService(this, dataSource);
+                warmUpService.start();
+            }
+
             if (reflect) {
                 getRegistry().notifyDataSourceListeners(new DBPEvent(
                     DBPEvent.Action.OBJECT_UPDATE,
@@ -830,6 +840,10 @@ public class DataSourceDescriptor
 
         connecting = true;
         try {
+            if (warmUpService != null) {
+                warmUpService.stop();
+                warmUpService = null;
+            }
             {
                 List<DBPDataSourceUser> usersStamp;
                 synchronized (users) {
@@ -1185,6 +1199,29 @@ public class DataSourceDescriptor
         return registry.getSecurePreferences().node(id);
     }
 
+    synchronized void addPendingCredentials(DataSourceRegistry.PendingCredentials credentials) {
+        if (pendingCredentials == null) {
+            pendingCredentials = new ArrayList<>();
+        }
+        pendingCredentials.add(credentials);
+    }
+
+    synchronized void clearPendingCredentials() {
+        pendingCredentials = null;
+    }
+
+    /**
+     * Reads user credentials from secure storage (or decrypts them).
+     * Credentials are not read during config loading because it is slow and may require master password.
+     */
+    public synchronized void resolveSecuredCredentials() {
+        if (pendingCredentials != null) {
+            final List<DataSourceRegistry.PendingCredentials> credentials = pendingCredentials;
+            pendingCredentials = null;
+            ((DataSourceRegistry) registry).readSecuredCredentials(this, credentials);
+        }
+    }
+
     @Override
     public String toString() {
         return name + " [" + driver + "]";
@@ -90,13 +90,28 @@ public class DataSourceRegistry implements DBPDataSourceRegistry
     private final List<DBPEventListener> dataSourceListeners = new ArrayList<>();
     private final List<DataSourceFolder> dataSourceFolders = new ArrayList<>();
     private volatile boolean saveInProgress = false;
+    private volatile boolean passwordReadCanceled = false;
 
     public DataSourceRegistry(DBPPlatform platform, IProject project)
+    {
+        this(platform, project, true);
+    }
+
+    /**
+     * Creates registry and loads data sources configuration.
+     * Registry listeners are notified only if fireLoadEvent is set - otherwise caller must do it itself
+     * (e.g. when registry is loaded in a background thread).
+     */
+    DataSourceRegistry(DBPPlatform platform, IProject project, boolean fireLoadEvent)
     {
         this.platform = platform;
         this.project = project;
+        long startTime = System.currentTimeMillis();
         loadDataSources(false);
-        DataSourceProviderRegistry.getInstance().fireRegistryChange(this, true);
+        log.debug("Project '" + project.getName() + "' data sources loaded (" + (System.currentTimeMillis() - startTime) + "ms)");
+        if (fireLoadEvent) {
+            DataSourceProviderRegistry.getInstance().fireRegistryChange(this, true);
+        }
     }
 
     public void dispose()
@@ -434,6 +449,7 @@ public class DataSourceRegistry implements DBPDataSourceRegistry
             return;
         }
         ParseResults parseResults = new ParseResults();
+        passwordReadCanceled = false;
         try {
             for (IResource res : project.members(IContainer.INCLUDE_HIDDEN)) {
                 if (res instanceof IFile) {
@@ -628,6 +644,8 @@ public class DataSourceRegistry implements DBPDataSourceRegistry
     private void saveDataSource(XMLBuilder xml, DataSourceDescriptor dataSource)
         throws IOException
     {
+        // Credentials must be read before we clear them in secure storage
+        dataSource.resolveSecuredCredentials();
         clearSecuredPasswords(dataSource);
 
         xml.startElement(RegistryConstants.TAG_DATA_SOURCE);
@@ -934,7 +952,6 @@ public class DataSourceRegistry implements DBPDataSourceRegistry
         private DBSObjectFilter curFilter;
         private StringBuilder curQuery;
         private ParseResults parseResults;
-        private boolean passwordReadCanceled = false;
 
         private DataSourcesParser(DataSourceOrigin origin, boolean refresh, ParseResults parseResults)
         {
@@ -980,11 +997,15 @@ public class DataSourceRegistry implements DBPDataSourceRegistry
                         return;
                     }
                     String driverId = atts.getValue(RegistryConstants.ATTR_DRIVER);
-                    DriverDescriptor driver = provider.getDriver(driverId);
-                    if (driver == null) {
-                        log.warn("Can't find driver " + driverId + " in datasource provider " + provider.getId() + " for datasource '" + name + "'. Create new driver");
-                        driver = provider.createDriver(driverId);
-                        provider.addDriver(driver);
+                    DriverDescriptor driver;
+                    synchronized (provider) {
+                        // Registries of different projects may be loaded simultaneously
+                        driver = provider.getDriver(driverId);
+                        if (driver == null) {
+                            log.warn("Can't find driver " + driverId + " in datasource provider " + provider.getId() + " for datasource '" + name + "'. Create new driver");
+                            driver = provider.createDriver(driverId);
+                            provider.addDriver(driver);
+                        }
                     }
                     curDataSource = getDataSource(id);
                     boolean newDataSource = (curDataSource == null);
@@ -1000,6 +1021,7 @@ public class DataSourceRegistry implements DBPDataSourceRegistry
                         curDataSource.getConnectionConfiguration().setProperties(Collections.<String, String>emptyMap());
                         curDataSource.getConnectionConfiguration().setHandlers(Collections.<DBWHandlerConfiguration>emptyList());
                         curDataSource.clearFilters();
+                        curDataSource.clearPendingCredentials();
                     }
                     curDataSource.setName(name);
                     curDataSource.setSavePassword(CommonUtils.getBoolean(atts.getValue(RegistryConstants.ATTR_SAVE_PASSWORD)));
@@ -1044,13 +1066,12 @@ public class DataSourceRegistry implements DBPDataSourceRegistry
                         config.setServerName(atts.getValue(RegistryConstants.ATTR_SERVER));
                         config.setDatabaseName(atts.getValue(RegistryConstants.ATTR_DATABASE));
                         config.setUrl(atts.getValue(RegistryConstants.ATTR_URL));
-                        if (!passwordReadCanceled) {
-                            final String[] creds = readSecuredCredentials(atts, curDataSource, null);
-                            config.setUserName(creds[0]);
-                            if (curDataSource.isSavePassword()) {
-                                config.setUserPassword(creds[1]);
-                            }
-                        }
+                        // Secure storage and encrypted password are read on demand
+                        config.setUserName(atts.getValue(RegistryConstants.ATTR_USER));
+                        curDataSource.addPendingCredentials(new PendingCredentials(
+                            null,
+                            atts.getValue(RegistryConstants.ATTR_USER),
+                            atts.getValue(RegistryConstants.ATTR_PASSWORD)));
                         config.setClientHomeId(atts.getValue(RegistryConstants.ATTR_HOME));
                         config.setConnectionType(
                             DataSourceProviderRegistry.getInstance().getConnectionType(
@@ -1157,13 +1178,11 @@ public class DataSourceRegistry implements DBPDataSourceRegistry
                         curNetworkHandler = new DBWHandlerConfiguration(handlerDescriptor, curDataSource.getDriver());
                         curNetworkHandler.setEnabled(CommonUtils.getBoolean(atts.getValue(RegistryConstants.ATTR_ENABLED)));
                         curNetworkHandler.setSavePassword(CommonUtils.getBoolean(atts.getValue(RegistryConstants.ATTR_SAVE_PASSWORD)));
-                        if (!passwordReadCanceled) {
-                            final String[] creds = readSecuredCredentials(atts, curDataSource, "network/" + handlerId);
-                            curNetworkHandler.setUserName(creds[0]);
-                            if (curNetworkHandler.isSavePassword()) {
-                                curNetworkHandler.setPassword(creds[1]);
-                            }
-                        }
+                        curNetworkHandler.setUserName(atts.getValue(RegistryConstants.ATTR_USER));
+                        curDataSource.addPendingCredentials(new PendingCredentials(
+                            curNetworkHandler,
+                            atts.getValue(RegistryConstants.ATTR_USER),
+                            atts.getValue(RegistryConstants.ATTR_PASSWORD)));
 
                         curDataSource.getConnectionConfiguration().addHandler(curNetworkHandler);
                     }
@@ -1241,38 +1260,78 @@ public class DataSourceRegistry implements DBPDataSourceRegistry
             isDescription = false;
         }
 
-        private String[] readSecuredCredentials(Attributes xmlAttrs, DataSourceDescriptor dataSource, String subNode) {
-            String[] creds = new String[2];
-            final DBASecureStorage secureStorage = getPlatform().getSecureStorage();
-            {
-                try {
-                    if (secureStorage.useSecurePreferences()) {
-                        ISecurePreferences prefNode = dataSource.getSecurePreferences();
-                        if (subNode != null) {
-                            for (String nodeName : subNode.split("/")) {
-                                prefNode = prefNode.node(nodeName);
-                            }
+    }
+
+    /**
+     * Reads credentials postponed by config parser.
+     * Secure storage access may require master password so we do it only when credentials are really needed.
+     */
+    void readSecuredCredentials(DataSourceDescriptor dataSource, List<PendingCredentials> credentials) {
+        for (PendingCredentials pc : credentials) {
+            final String[] creds = readSecuredCredentials(
+                dataSource,
+                pc.handler == null ? null : "network/" + pc.handler.getId(),
+                pc.userName,
+                pc.encPassword);
+            if (pc.handler == null) {
+                DBPConnectionConfiguration config = dataSource.getConnectionConfiguration();
+                config.setUserName(creds[0]);
+                if (dataSource.isSavePassword()) {
+                    config.setUserPassword(creds[1]);
+                }
+            } else {
+                pc.handler.setUserName(creds[0]);
+                if (pc.handler.isSavePassword()) {
+                    pc.handler.setPassword(creds[1]);
+                }
+            }
+        }
+    }
+
+    private String[] readSecuredCredentials(DataSourceDescriptor dataSource, String subNode, String xmlUser, String xmlPassword) {
+        String[] creds = new String[2];
+        final DBASecureStorage secureStorage = getPlatform().getSecureStorage();
+        if (!passwordReadCanceled) {
+            try {
+                if (secureStorage.useSecurePreferences()) {
+                    ISecurePreferences prefNode = dataSource.getSecurePreferences();
+                    if (subNode != null) {
+                        for (String nodeName : subNode.split("/")) {
+                            prefNode = prefNode.node(nodeName);
                         }
-                        creds[0] = prefNode.get(RegistryConstants.ATTR_USER, null);
-                        creds[1] = prefNode.get(RegistryConstants.ATTR_PASSWORD, null);
                     }
-                } catch (StorageException e) {
-                    // Most likely user canceled master password enter of failed by some other reason.
-                    // Anyhow we won't try it again
-                    log.error("Can't read password from secure storage", e);
-                    passwordReadCanceled = true;
+                    creds[0] = prefNode.get(RegistryConstants.ATTR_USER, null);
+                    creds[1] = prefNode.get(RegistryConstants.ATTR_PASSWORD, null);
                 }
+            } catch (StorageException e) {
+                // Most likely user canceled master password enter of failed by some other reason.
+                // Anyhow we won't try it again
+                log.error("Can't read password from secure storage", e);
+                passwordReadCanceled = true;
             }
-            if (CommonUtils.isEmpty(creds[0])) {
-                creds[0] = xmlAttrs.getValue(RegistryConstants.ATTR_USER);
-            }
-            if (CommonUtils.isEmpty(creds[1])) {
-                final String encPassword = xmlAttrs.getValue(RegistryConstants.ATTR_PASSWORD);
-                creds[1] = CommonUtils.isEmpty(encPassword) ? null : decryptPassword(encPassword);
-            }
-            return creds;
         }
+        if (CommonUtils.isEmpty(creds[0])) {
+            creds[0] = xmlUser;
+        }
+        if (CommonUtils.isEmpty(creds[1])) {
+            creds[1] = CommonUtils.isEmpty(xmlPassword) ? null : decryptPassword(xmlPassword);
+        }
+        return creds;
+    }
 
+    /**
+     * Data source (or network handler) credentials as they were read from config file
+     */
+    static class PendingCredentials {
+        final DBWHandlerConfiguration handler;
+        final String userName;
+        final String encPassword;
+
+        PendingCredentials(DBWHandlerConfiguration handler, String userName, String encPassword) {
+            this.handler = handler;
+            this.userName = userName;
+            this.encPassword = encPassword;
+        }
     }
 
     private class DisconnectTask implements DBRRunnableWithProgress {
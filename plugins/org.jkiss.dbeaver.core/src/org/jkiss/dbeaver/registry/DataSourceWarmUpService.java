@@ -0,0 +1,328 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.registry;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.ModelPreferences;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.MetadataLoadTracker;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+import org.jkiss.dbeaver.model.struct.rdb.DBSTable;
+
+import java.util.*;
+
+/**
+ * Metadata warm-up service.
+ * Preloads tables, columns, constraints and indexes of recently used and active schemas after connect.
+ * Several workers read metadata in parallel, each in its own isolated context.
+ * Warm-up is skipped if separate metadata connection is disabled - workers must never block the shared metadata context.
+ * Tables are read one by one and workers pause while user reads metadata.
+ */
+class DataSourceWarmUpService {
+
+    private static final Log log = Log.getLog(DataSourceWarmUpService.class);
+
+    // Pause after user-initiated metadata read
+    private static final long USER_IDLE_TIMEOUT = 500;
+    private static final int MAX_WORKERS = 8;
+    private static final int MAX_DEFAULT_CONTAINERS = 20;
+    private static final long STOP_TIMEOUT = 3000;
+
+    private final DataSourceDescriptor container;
+    private final DBPDataSource dataSource;
+    private final LinkedList<WarmUpTask> tasks = new LinkedList<>();
+    private final Set<DBSObject> processed = Collections.newSetFromMap(new IdentityHashMap<DBSObject, Boolean>());
+    private final List<WarmUpJob> workers = new ArrayList<>();
+    private int activeTasks;
+    private int defaultContainers;
+    private volatile boolean stopped;
+
+    private static class WarmUpTask {
+        // Name path from data source root. Used if object is null
+        final List<String> path;
+        final DBSObjectContainer object;
+        // Expand non-structure containers (catalogs) into their children
+        final boolean expand;
+
+        WarmUpTask(@Nullable List<String> path, @Nullable DBSObjectContainer object, boolean expand)
+        {
+            this.path = path;
+            this.object = object;
+            this.expand = expand;
+        }
+    }
+
+    DataSourceWarmUpService(@NotNull DataSourceDescriptor container, @NotNull DBPDataSource dataSource)
+    {
+        this.container = container;
+        this.dataSource = dataSource;
+    }
+
+    void start()
+    {
+        if (container.getDriver().isEmbedded() ||
+            !container.getPreferenceStore().getBoolean(ModelPreferences.META_SEPARATE_CONNECTION))
+        {
+            // No isolated contexts
+            return;
+        }
+        // Recently used containers first
+        for (List<String> path : MetadataLoadTracker.getUsedContainers(container.getId())) {
+            tasks.add(new WarmUpTask(path, null, false));
+        }
+        // Then active schema
+        DBSObject[] selectedObjects = DBUtils.getSelectedObjects(dataSource);
+        if (selectedObjects.length > 0 && selectedObjects[selectedObjects.length - 1] instanceof DBSObjectContainer) {
+            tasks.add(new WarmUpTask(null, (DBSObjectContainer) selectedObjects[selectedObjects.length - 1], true));
+        }
+        if (tasks.isEmpty()) {
+            // Nothing is known about this connection - warm up top level containers
+            DBSObjectContainer rootContainer = DBUtils.getAdapter(DBSObjectContainer.class, dataSource);
+            if (rootContainer == null) {
+                return;
+            }
+            tasks.add(new WarmUpTask(null, rootContainer, true));
+        }
+
+        int workerCount = Math.min(
+            Math.max(container.getPreferenceStore().getInt(ModelPreferences.META_WARMUP_THREADS), 1),
+            MAX_WORKERS);
+        for (int i = 0; i < workerCount; i++) {
+            WarmUpJob job = new WarmUpJob();
+            workers.add(job);
+            job.schedule();
+        }
+    }
+
+    void stop()
+    {
+        stopped = true;
+        for (WarmUpJob job : workers) {
+            job.cancel();
+        }
+        synchronized (tasks) {
+            tasks.notifyAll();
+        }
+        // Wait for 3 seconds
+        final long stopTime = System.currentTimeMillis() + STOP_TIMEOUT;
+        try {
+            for (WarmUpJob job : workers) {
+                long timeout = stopTime - System.currentTimeMillis();
+                if (timeout <= 0 || !job.join(timeout, null)) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            // its ok, do nothing
+        }
+        workers.clear();
+    }
+
+    /**
+     * Takes next task. Waits while queue is empty but other workers may add new tasks.
+     */
+    @Nullable
+    private WarmUpTask nextTask()
+    {
+        synchronized (tasks) {
+            while (tasks.isEmpty() && activeTasks > 0 && !stopped) {
+                try {
+                    tasks.wait(USER_IDLE_TIMEOUT);
+                } catch (InterruptedException e) {
+                    return null;
+                }
+            }
+            WarmUpTask task = tasks.poll();
+            if (task != null) {
+                activeTasks++;
+            }
+            return task;
+        }
+    }
+
+    private void taskFinished()
+    {
+        synchronized (tasks) {
+            activeTasks--;
+            tasks.notifyAll();
+        }
+    }
+
+    private void addTask(WarmUpTask task)
+    {
+        synchronized (tasks) {
+            tasks.add(task);
+            tasks.notifyAll();
+        }
+    }
+
+    private boolean markProcessed(DBSObject object)
+    {
+        synchronized (processed) {
+            return processed.add(object);
+        }
+    }
+
+    /**
+     * Waits while user reads metadata.
+     * @return false if warm-up was stopped
+     */
+    private boolean waitForUserIdle(DBRProgressMonitor monitor)
+    {
+        for (;;) {
+            if (stopped || monitor.isCanceled()) {
+                return false;
+            }
+            long idleTime = System.currentTimeMillis() - MetadataLoadTracker.getLastUserRequestTime(dataSource);
+            if (idleTime >= USER_IDLE_TIMEOUT) {
+                return true;
+            }
+            try {
+                Thread.sleep(USER_IDLE_TIMEOUT - idleTime);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        }
+    }
+
+    private void processTask(DBRProgressMonitor monitor, WarmUpTask task) throws DBException
+    {
+        DBSObjectContainer object = task.object != null ? task.object : resolveContainer(monitor, task.path);
+        if (object == null || !markProcessed(object)) {
+            return;
+        }
+        if (!isStructureContainer(monitor, object)) {
+            if (task.expand) {
+                for (DBSObject child : object.getChildren(monitor)) {
+                    if (child instanceof DBSObjectContainer && !(child instanceof DBSEntity)) {
+                        synchronized (tasks) {
+                            if (defaultContainers >= MAX_DEFAULT_CONTAINERS) {
+                                break;
+                            }
+                            defaultContainers++;
+                        }
+                        addTask(new WarmUpTask(null, (DBSObjectContainer) child, true));
+                    }
+                }
+            }
+            return;
+        }
+        monitor.subTask("Warm up " + object.getName());
+        if (!waitForUserIdle(monitor)) {
+            return;
+        }
+        Collection<? extends DBSObject> children = object.getChildren(monitor);
+        if (children == null) {
+            return;
+        }
+        // Read tables one by one. Whole schema structure reads would block user requests to this schema
+        for (DBSObject child : children) {
+            if (!(child instanceof DBSEntity)) {
+                continue;
+            }
+            if (!waitForUserIdle(monitor)) {
+                return;
+            }
+            DBSEntity entity = (DBSEntity) child;
+            entity.getAttributes(monitor);
+            entity.getConstraints(monitor);
+            if (entity instanceof DBSTable) {
+                ((DBSTable) entity).getIndexes(monitor);
+            }
+        }
+    }
+
+    @Nullable
+    private DBSObjectContainer resolveContainer(DBRProgressMonitor monitor, List<String> path) throws DBException
+    {
+        DBSObject object = DBUtils.getAdapter(DBSObjectContainer.class, dataSource);
+        for (String name : path) {
+            if (!(object instanceof DBSObjectContainer)) {
+                return null;
+            }
+            object = ((DBSObjectContainer) object).getChild(monitor, name);
+        }
+        return object instanceof DBSObjectContainer ? (DBSObjectContainer) object : null;
+    }
+
+    /**
+     * Structure container (schema) holds tables. Other containers (catalogs, root) hold containers
+     */
+    private static boolean isStructureContainer(DBRProgressMonitor monitor, DBSObjectContainer object) throws DBException
+    {
+        Class<? extends DBSObject> childType = object.getChildType(monitor);
+        return childType == null ||
+            !DBSObjectContainer.class.isAssignableFrom(childType) ||
+            DBSEntity.class.isAssignableFrom(childType);
+    }
+
+    private class WarmUpJob extends AbstractJob {
+
+        WarmUpJob()
+        {
+            super("Metadata warm-up (" + container.getName() + ")");
+            setUser(false);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor)
+        {
+            DBCExecutionContext context;
+            try {
+                context = dataSource.openIsolatedContext(monitor, "Metadata warm-up");
+            } catch (DBException e) {
+                // Do not use shared metadata context
+                log.debug("Can't open isolated metadata context, warm-up skipped: " + e.getMessage());
+                return Status.OK_STATUS;
+            }
+            try {
+                MetadataLoadTracker.beginBackgroundLoad(context);
+                while (waitForUserIdle(monitor)) {
+                    WarmUpTask task = nextTask();
+                    if (task == null) {
+                        break;
+                    }
+                    try {
+                        processTask(monitor, task);
+                    } catch (Throwable e) {
+                        log.debug("Metadata warm-up error: " + e.getMessage());
+                    } finally {
+                        taskFinished();
+                    }
+                }
+            } finally {
+                MetadataLoadTracker.endBackgroundLoad();
+                context.close();
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+}
@@ -37,6 +37,7 @@ import org.jkiss.utils.CommonUtils;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 public class ProjectRegistry implements DBPProjectManager, DBPExternalFileManager {
     private static final Log log = Log.getLog(ProjectRegistry.class);
@@ -48,6 +49,8 @@ public class ProjectRegistry implements DBPProjectManager, DBPExternalFileManage
     private final Map<String, ResourceHandlerDescriptor> rootMapping = new HashMap<>();
 
     private final Map<IProject, DataSourceRegistry> projectDatabases = new HashMap<>();
+    // Registries loaded at startup but not yet added by navigator model
+    private final Map<IProject, DataSourceRegistry> preloadedDatabases = new HashMap<>();
     private IProject activeProject;
     private IWorkspace workspace;
 
@@ -128,6 +131,54 @@ public class ProjectRegistry implements DBPProjectManager, DBPExternalFileManage
                 monitor.done();
             }
         }
+
+        preloadDataSourceRegistries(projects);
+    }
+
+    /**
+     * Loads data sources configurations of all open projects in parallel.
+     * Registries are added to project registry later - in {@link #addProject(IProject)}.
+     */
+    private void preloadDataSourceRegistries(List<IProject> projects)
+    {
+        final List<IProject> openProjects = new ArrayList<>();
+        for (IProject project : projects) {
+            if (project.isOpen() && !project.isHidden()) {
+                openProjects.add(project);
+            }
+        }
+        if (openProjects.size() < 2) {
+            // Nothing to parallelize
+            return;
+        }
+        final long startTime = System.currentTimeMillis();
+        final DBeaverCore core = DBeaverCore.getInstance();
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(openProjects.size(), Runtime.getRuntime().availableProcessors()));
+        try {
+            final Map<IProject, Future<DataSourceRegistry>> results = new LinkedHashMap<>();
+            for (final IProject project : openProjects) {
+                results.put(project, executor.submit(new Callable<DataSourceRegistry>() {
+                    @Override
+                    public DataSourceRegistry call() throws Exception {
+                        return new DataSourceRegistry(core, project, false);
+                    }
+                }));
+            }
+            for (Map.Entry<IProject, Future<DataSourceRegistry>> result : results.entrySet()) {
+                try {
+                    preloadedDatabases.put(result.getKey(), result.getValue().get());
+                } catch (ExecutionException e) {
+                    // Registry will be loaded again by addProject
+                    log.error("Error loading data sources of project '" + result.getKey().getName() + "'", e.getCause());
+                } catch (InterruptedException e) {
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        log.debug("Data sources of " + openProjects.size() + " projects loaded (" + (System.currentTimeMillis() - startTime) + "ms)");
     }
 
     public void dispose()
@@ -140,6 +191,10 @@ public class ProjectRegistry implements DBPProjectManager, DBPExternalFileManage
             dataSourceRegistry.dispose();
         }
         this.projectDatabases.clear();
+        for (DataSourceRegistry dataSourceRegistry : this.preloadedDatabases.values()) {
+            dataSourceRegistry.dispose();
+        }
+        this.preloadedDatabases.clear();
 
         // Dispose resource handlers
         for (ResourceHandlerDescriptor handlerDescriptor : this.handlerDescriptors) {
@@ -348,7 +403,13 @@ public class ProjectRegistry implements DBPProjectManager, DBPExternalFileManage
             log.warn("Project [" + project + "] already added");
             return;
         }
-        projectDatabases.put(project, new DataSourceRegistry(DBeaverCore.getInstance(), project));
+        DataSourceRegistry dataSourceRegistry = preloadedDatabases.remove(project);
+        if (dataSourceRegistry == null) {
+            dataSourceRegistry = new DataSourceRegistry(DBeaverCore.getInstance(), project);
+        } else {
+            DataSourceProviderRegistry.getInstance().fireRegistryChange(dataSourceRegistry, true);
+        }
+        projectDatabases.put(project, dataSourceRegistry);
     }
 
     @Override
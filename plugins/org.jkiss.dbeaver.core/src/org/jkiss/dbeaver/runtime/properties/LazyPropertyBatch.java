@@ -0,0 +1,131 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.runtime.properties;
+
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.meta.IPropertyBatchLoader;
+import org.jkiss.dbeaver.model.meta.IPropertyCacheValidator;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.lang.reflect.Method;
+import java.util.*;
+
+/**
+ * Collects lazy properties of many objects and reads them with batch loaders.
+ * Properties without batch loader are ignored - they are read one by one by the caller.
+ */
+public class LazyPropertyBatch {
+
+    private static final Log log = Log.getLog(LazyPropertyBatch.class);
+
+    private static class Batch {
+        final ObjectAttributeDescriptor attribute;
+        final IPropertyBatchLoader<Object> loader;
+        final Set<Object> objects = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+
+        Batch(ObjectAttributeDescriptor attribute, IPropertyBatchLoader<Object> loader) {
+            this.attribute = attribute;
+            this.loader = loader;
+        }
+    }
+
+    // Batches are keyed by lazy getter. Different descriptors of the same getter share one batch.
+    private final Map<Method, Batch> batches = new LinkedHashMap<>();
+
+    public boolean isEmpty() {
+        return batches.isEmpty();
+    }
+
+    /**
+     * Adds property of the specified object to the batch.
+     * @return true if property value will be read by batch loader
+     */
+    @SuppressWarnings("unchecked")
+    public boolean addProperty(Object object, ObjectPropertyDescriptor prop) {
+        if (prop.isExpensive()) {
+            // Expensive properties (e.g. exact row count) are read only for the object user looks at
+            return false;
+        }
+        // Find outermost lazy attribute. Only it may be read without reading its parents.
+        List<ObjectAttributeDescriptor> path = new ArrayList<>();
+        for (ObjectAttributeDescriptor attr = prop; attr != null; attr = attr.getParent()) {
+            path.add(0, attr);
+        }
+        for (ObjectAttributeDescriptor attr : path) {
+            if (object == null) {
+                return false;
+            }
+            if (attr.isLazy()) {
+                final IPropertyCacheValidator cacheValidator = attr.getCacheValidator();
+                if (!(cacheValidator instanceof IPropertyBatchLoader) || !attr.getGetter().getDeclaringClass().isInstance(object)) {
+                    return false;
+                }
+                if (cacheValidator.isPropertyCached(object, attr.getId())) {
+                    return false;
+                }
+                Batch batch = batches.get(attr.getGetter());
+                if (batch == null) {
+                    batch = new Batch(attr, (IPropertyBatchLoader<Object>) cacheValidator);
+                    batches.put(attr.getGetter(), batch);
+                }
+                batch.objects.add(object);
+                return true;
+            }
+            if (!(attr instanceof ObjectPropertyGroupDescriptor)) {
+                return false;
+            }
+            try {
+                object = ((ObjectPropertyGroupDescriptor) attr).getGroupObject(object, null);
+            } catch (Exception e) {
+                log.debug(e);
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Reads all collected properties. Errors are logged, failed properties will be read one by one later.
+     */
+    public void load(DBRProgressMonitor monitor) {
+        for (Batch batch : batches.values()) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            // Some objects could be loaded by the previous batches
+            List<Object> objects = new ArrayList<>(batch.objects.size());
+            for (Object object : batch.objects) {
+                if (!batch.loader.isPropertyCached(object, batch.attribute.getId())) {
+                    objects.add(object);
+                }
+            }
+            if (objects.isEmpty()) {
+                continue;
+            }
+            final long startTime = System.currentTimeMillis();
+            try {
+                batch.loader.loadPropertyValues(monitor, objects, batch.attribute.getId());
+            } catch (Throwable e) {
+                log.error("Error reading property '" + batch.attribute.getId() + "' for " + objects.size() + " object(s)", e);
+            }
+            log.debug("Property '" + batch.attribute.getId() + "' batch read for " + objects.size() + " object(s) (" + (System.currentTimeMillis() - startTime) + "ms)");
+        }
+        batches.clear();
+    }
+
+}
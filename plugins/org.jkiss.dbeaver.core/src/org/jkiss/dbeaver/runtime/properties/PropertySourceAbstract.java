@@ -20,8 +20,12 @@ package org.jkiss.dbeaver.runtime.properties;
 import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.core.DBeaverCore;
 import org.jkiss.dbeaver.model.DBPContextProvider;
+import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
+import org.jkiss.dbeaver.model.navigator.DBNNode;
 import org.jkiss.dbeaver.model.preferences.DBPPropertyDescriptor;
 import org.jkiss.dbeaver.model.preferences.DBPPropertyManager;
 import org.jkiss.dbeaver.model.preferences.DBPPropertySource;
@@ -344,7 +348,9 @@ public abstract class PropertySourceAbstract implements DBPPropertyManager, IPro
         {
             try {
                 Map<ObjectPropertyDescriptor, Object> result = new IdentityHashMap<>();
-                for (ObjectPropertyDescriptor prop : obtainLazyProperties()) {
+                final List<ObjectPropertyDescriptor> lazyProperties = obtainLazyProperties();
+                loadSiblingProperties(monitor, getEditableValue(), lazyProperties);
+                for (ObjectPropertyDescriptor prop : lazyProperties) {
                     if (monitor.isCanceled()) {
                         break;
                     }
@@ -367,6 +373,44 @@ public abstract class PropertySourceAbstract implements DBPPropertyManager, IPro
         }
     }
 
+    /**
+     * Reads lazy properties of the object and its already loaded navigator siblings with batch loaders.
+     * Next objects of the same list will be shown without extra queries.
+     */
+    private static void loadSiblingProperties(DBRProgressMonitor monitor, Object object, List<ObjectPropertyDescriptor> properties)
+    {
+        if (!(object instanceof DBSObject) || properties.isEmpty()) {
+            return;
+        }
+        final LazyPropertyBatch propertyBatch = new LazyPropertyBatch();
+        boolean hasBatchProps = false;
+        for (ObjectPropertyDescriptor prop : properties) {
+            if (propertyBatch.addProperty(object, prop)) {
+                hasBatchProps = true;
+            }
+        }
+        if (!hasBatchProps) {
+            return;
+        }
+        final DBNDatabaseNode node = DBeaverCore.getInstance().getNavigatorModel().findNode((DBSObject) object);
+        final DBNNode parentNode = node == null ? null : node.getParentNode();
+        if (parentNode instanceof DBNDatabaseNode && !((DBNDatabaseNode) parentNode).needsInitialization()) {
+            try {
+                for (DBNDatabaseNode sibling : ((DBNDatabaseNode) parentNode).getChildren(monitor)) {
+                    final DBSObject siblingObject = sibling.getObject();
+                    if (siblingObject != object && siblingObject != null && siblingObject.getClass() == object.getClass()) {
+                        for (ObjectPropertyDescriptor prop : properties) {
+                            propertyBatch.addProperty(siblingObject, prop);
+                        }
+                    }
+                }
+            } catch (DBException e) {
+                log.debug(e);
+            }
+        }
+        propertyBatch.load(monitor);
+    }
+
     private List<ObjectPropertyDescriptor> obtainLazyProperties()
     {
         synchronized (lazyProps) {
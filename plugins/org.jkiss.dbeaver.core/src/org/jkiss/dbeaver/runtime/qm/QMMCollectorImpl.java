@@ -42,11 +42,16 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
     private static final Log log = Log.getLog(QMMCollectorImpl.class);
 
     private static final long EVENT_DISPATCH_PERIOD = 250;
+    private static final long MAX_EVENT_DISPATCH_PERIOD = 2000;
+    // Number of events per dispatch which makes dispatcher slow down
+    private static final int EVENT_BURST_SIZE = 500;
     private static final int MAX_HISTORY_EVENTS = 1000;
 
     private Map<String, QMMSessionInfo> sessionMap = new HashMap<>();
     private List<QMMetaListener> listeners = new ArrayList<>();
     private List<QMMetaEvent> eventPool = new ArrayList<>();
+    // Position of the last pending event of each object in event pool
+    private Map<QMMObject, Integer> eventPoolIndex = new IdentityHashMap<>();
     private final Object historySync = new Object();
     private List<QMMetaEvent> pastEvents = new ArrayList<>();
     private boolean running = true;
@@ -113,6 +118,19 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
 
     private synchronized void fireMetaEvent(final QMMObject object, final QMMetaEvent.Action action)
     {
+        // Merge with pending event of the same object.
+        // Listeners read actual object state so intermediate updates carry no extra information.
+        Integer pendingIndex = eventPoolIndex.get(object);
+        if (pendingIndex != null) {
+            if (action == QMMetaEvent.Action.UPDATE) {
+                return;
+            }
+            if (action == QMMetaEvent.Action.END && eventPool.get(pendingIndex).getAction() == QMMetaEvent.Action.UPDATE) {
+                eventPool.set(pendingIndex, new QMMetaEvent(object, action));
+                return;
+            }
+        }
+        eventPoolIndex.put(object, eventPool.size());
         eventPool.add(new QMMetaEvent(object, action));
     }
 
@@ -123,6 +141,7 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
         }
         List<QMMetaEvent> events = eventPool;
         eventPool = new ArrayList<>();
+        eventPoolIndex.clear();
         return events;
     }
 
@@ -314,7 +333,12 @@ public class QMMCollectorImpl extends DefaultExecutionHandler implements QMMColl
                 }
             }
             if (isRunning()) {
-                this.schedule(EVENT_DISPATCH_PERIOD);
+                long dispatchPeriod = EVENT_DISPATCH_PERIOD;
+                if (events.size() > EVENT_BURST_SIZE) {
+                    // Too many events. Let listeners (UI mostly) rest a bit and get bigger portions
+                    dispatchPeriod = Math.min(MAX_EVENT_DISPATCH_PERIOD, EVENT_DISPATCH_PERIOD * events.size() / EVENT_BURST_SIZE);
+                }
+                this.schedule(dispatchPeriod);
             }
             return Status.OK_STATUS;
         }
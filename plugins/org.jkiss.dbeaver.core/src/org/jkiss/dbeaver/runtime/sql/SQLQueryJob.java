@@ -34,6 +34,8 @@ import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.data.DBDDataReceiver;
 import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
 import org.jkiss.dbeaver.model.impl.local.StatResultSet;
 import org.jkiss.dbeaver.model.qm.QMUtils;
@@ -53,7 +55,10 @@ import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.io.Closeable;
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 
@@ -79,6 +84,8 @@ public class SQLQueryJob extends DataSourceJob implements Closeable
 
     private SQLScriptCommitType commitType;
     private SQLScriptErrorHandling errorHandling;
+    private int commitLines;
+    private int batchSize;
     private boolean fetchResultSets;
     private long rsOffset;
     private long rsMaxRows;
@@ -91,6 +98,8 @@ public class SQLQueryJob extends DataSourceJob implements Closeable
     private int fetchResultSetNumber;
     private int resultSetNumber;
     private SQLQuery lastGoodQuery;
+    private int lastBatchErrorOffset;
+    private boolean[] lastBatchFailed;
 
     public SQLQueryJob(
         @NotNull IWorkbenchPartSite partSite,
@@ -113,6 +122,8 @@ public class SQLQueryJob extends DataSourceJob implements Closeable
             DBPPreferenceStore preferenceStore = getDataSourceContainer().getPreferenceStore();
             this.commitType = SQLScriptCommitType.valueOf(preferenceStore.getString(DBeaverPreferences.SCRIPT_COMMIT_TYPE));
             this.errorHandling = SQLScriptErrorHandling.valueOf(preferenceStore.getString(DBeaverPreferences.SCRIPT_ERROR_HANDLING));
+            this.commitLines = preferenceStore.getInt(DBeaverPreferences.SCRIPT_COMMIT_LINES);
+            this.batchSize = preferenceStore.getInt(DBeaverPreferences.SCRIPT_BATCH_SIZE);
             this.fetchResultSets = queries.size() == 1 || preferenceStore.getBoolean(DBeaverPreferences.SCRIPT_FETCH_RESULT_SETS);
             this.rsMaxRows = preferenceStore.getInt(DBeaverPreferences.RESULT_SET_MAX_ROWS);
         }
@@ -173,52 +184,107 @@ public class SQLQueryJob extends DataSourceJob implements Closeable
                     }
                 }
 
+                // Commit each N queries only if we are in manual commit mode
+                int linesPerCommit = 0;
+                if (commitType == SQLScriptCommitType.NLINES && txnManager != null && !oldAutoCommit && commitLines > 0) {
+                    linesPerCommit = commitLines;
+                }
+                // Parameterless DML queries may be sent to the server in batches
+                boolean useBatches =
+                    batchSize > 1 &&
+                    queries.size() > 1 &&
+                    session instanceof JDBCSession &&
+                    context.getDataSource().getInfo().supportsBatchUpdates();
+
                 resultSetNumber = 0;
+                int uncommittedQueries = 0;
                 for (int queryNum = 0; queryNum < queries.size(); ) {
                     // Execute query
                     SQLQuery query = queries.get(queryNum);
 
                     fetchResultSetNumber = resultSetNumber;
-                    boolean runNext = executeSingleQuery(session, query, true);
-                    if (!runNext) {
+                    int processedQueries = 0;
+                    if (useBatches) {
+                        int batchLength = getBatchLength(
+                            queryNum,
+                            linesPerCommit > 0 ? Math.min(batchSize, linesPerCommit - uncommittedQueries) : batchSize);
+                        if (batchLength > 1) {
+                            processedQueries = executeQueryBatch((JDBCSession) session, queries.subList(queryNum, queryNum + batchLength));
+                            if (processedQueries == 0) {
+                                // Batches are not supported by driver. Do not try again
+                                useBatches = false;
+                            }
+                        }
+                    }
+                    boolean runNext;
+                    if (processedQueries > 0) {
+                        runNext = lastError == null || errorHandling == SQLScriptErrorHandling.IGNORE;
+                    } else {
+                        processedQueries = 1;
+                        runNext = executeSingleQuery(session, query, true);
+                    }
+                    boolean stopScript = false;
+                    boolean retryQuery = false;
+                    while (!runNext && !stopScript && !retryQuery) {
                         // Ask to continue
                         if (lastError != null) {
                             log.error(lastError);
                         }
-                        boolean isQueue = queryNum < queries.size() - 1;
+                        boolean isQueue = queryNum + processedQueries < queries.size();
                         ExecutionQueueErrorResponse response = ExecutionQueueErrorJob.showError(
                             isQueue ? "SQL script execution" : "SQL query execution",
                             lastError,
                             isQueue);
 
-                        boolean stopScript = false;
                         switch (response) {
                             case STOP:
                                 // just stop execution
                                 stopScript = true;
                                 break;
                             case RETRY:
+                                if (processedQueries > 1) {
+                                    if (lastBatchErrorOffset != processedQueries - 1) {
+                                        // Driver continued batch after the failed query so queries after it
+                                        // were executed already. Re-run failed queries one by one
+                                        runNext = retryFailedBatchQueries(session, queries.subList(queryNum, queryNum + processedQueries));
+                                        break;
+                                    }
+                                    // Queries before the failed one were executed. Retry the failed one
+                                    monitor.worked(lastBatchErrorOffset);
+                                    queryNum += lastBatchErrorOffset;
+                                    uncommittedQueries += lastBatchErrorOffset;
+                                }
                                 // just make it again
-                                continue;
+                                retryQuery = true;
+                                break;
                             case IGNORE:
                                 // Just do nothing
+                                runNext = true;
                                 break;
                             case IGNORE_ALL:
                                 errorHandling = SQLScriptErrorHandling.IGNORE;
+                                runNext = true;
                                 break;
                         }
-
-                        if (stopScript) {
-                            break;
-                        }
+                    }
+                    if (stopScript) {
+                        break;
+                    }
+                    if (retryQuery) {
+                        continue;
                     }
 
                     // Check monitor
                     if (monitor.isCanceled()) {
                         break;
                     }
-                    monitor.worked(1);
-                    queryNum++;
+                    monitor.worked(processedQueries);
+                    queryNum += processedQueries;
+                    uncommittedQueries += processedQueries;
+                    if (linesPerCommit > 0 && uncommittedQueries >= linesPerCommit) {
+                        txnManager.commit(session);
+                        uncommittedQueries = 0;
+                    }
                 }
                 showExecutionResult(session);
                 monitor.done();
@@ -429,6 +495,246 @@ public class SQLQueryJob extends DataSourceJob implements Closeable
         return true;
     }
 
+    /**
+     * Returns number of consecutive queries (starting from queryNum) which can be executed in one batch
+     */
+    private int getBatchLength(int queryNum, int maxLength)
+    {
+        int length = 0;
+        while (length < maxLength && queryNum + length < queries.size() && isBatchableQuery(queries.get(queryNum + length))) {
+            length++;
+        }
+        return length;
+    }
+
+    /**
+     * Only plain DML queries without parameters may be batched.
+     * Query type is determined by the first keyword - full parse of each script query is too expensive.
+     * DML with RETURNING/OUTPUT clause produces result set and fails in batch.
+     */
+    private static boolean isBatchableQuery(@NotNull SQLQuery query)
+    {
+        if (!CommonUtils.isEmpty(query.getParameters())) {
+            return false;
+        }
+        String text = query.getQuery();
+        boolean firstWord = true;
+        for (int start = 0; start < text.length(); ) {
+            if (!Character.isLetter(text.charAt(start))) {
+                if (firstWord && !Character.isWhitespace(text.charAt(start))) {
+                    return false;
+                }
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < text.length() && (Character.isLetterOrDigit(text.charAt(end)) || text.charAt(end) == '_')) {
+                end++;
+            }
+            String word = text.substring(start, end);
+            if (firstWord) {
+                if (!word.equalsIgnoreCase("INSERT") && !word.equalsIgnoreCase("UPDATE") && !word.equalsIgnoreCase("DELETE")) {
+                    return false;
+                }
+                firstWord = false;
+            } else if (word.equalsIgnoreCase("RETURNING") || word.equalsIgnoreCase("OUTPUT")) {
+                return false;
+            }
+            start = end;
+        }
+        return !firstWord;
+    }
+
+    /**
+     * Executes failed queries of the last batch one by one.
+     * @return true if all of them succeeded
+     */
+    private boolean retryFailedBatchQueries(@NotNull DBCSession session, @NotNull List<SQLQuery> batch)
+    {
+        for (int i = 0; i < batch.size() && i < lastBatchFailed.length; i++) {
+            if (lastBatchFailed[i]) {
+                if (!executeSingleQuery(session, batch.get(i), true)) {
+                    return false;
+                }
+                lastBatchFailed[i] = false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Executes queries as a single JDBC batch.
+     * The whole batch is reported as one query with aggregated update count. Failed queries are determined
+     * by update counts array and reported separately. If update counts do not cover the whole batch
+     * (or connection is in auto-commit mode) then we can't tell which queries were applied, so the whole batch
+     * is reported as failed.
+     * @return number of processed queries (successful or failed) or 0 if batch can't be executed
+     */
+    private int executeQueryBatch(@NotNull JDBCSession session, @NotNull List<SQLQuery> batch)
+    {
+        lastError = null;
+        lastBatchErrorOffset = -1;
+        lastBatchFailed = new boolean[0];
+
+        final DBCExecutionContext executionContext = getExecutionContext();
+        final SQLQuery firstQuery = batch.get(0);
+
+        closeStatement();
+        if (!connectionInvalidated && executionContext.getDataSource().getContainer().getPreferenceStore().getBoolean(DBeaverPreferences.STATEMENT_INVALIDATE_BEFORE_EXECUTE)) {
+            executionContext.invalidateContext(session.getProgressMonitor());
+            connectionInvalidated = true;
+        }
+
+        final JDBCStatement dbStat;
+        try {
+            dbStat = session.createStatement();
+        } catch (Throwable e) {
+            log.debug("Can't create batch statement: " + e.getMessage());
+            return 0;
+        }
+        // Register statement so it can be canceled as a single query statement
+        curStatement = dbStat;
+
+        int[] updateCounts;
+        Throwable batchError = null;
+        long startTime;
+        try {
+            dbStat.setStatementSource(new AbstractExecutionSource(dataContainer, executionContext, partSite.getPart(), firstQuery));
+            int statementTimeout = getDataSourceContainer().getPreferenceStore().getInt(DBeaverPreferences.STATEMENT_TIMEOUT);
+            if (statementTimeout > 0) {
+                try {
+                    dbStat.setStatementTimeout(statementTimeout);
+                } catch (Throwable e) {
+                    log.debug("Can't set statement timeout:" + e.getMessage());
+                }
+            }
+            try {
+                for (SQLQuery query : batch) {
+                    dbStat.addBatch(query.getQuery());
+                }
+            } catch (Throwable e) {
+                log.debug("Can't prepare queries batch: " + e.getMessage());
+                return 0;
+            }
+
+            statistics.setQueryText(firstQuery.getQuery());
+            // Batch is reported as its first query
+            fireStartQuery(session, firstQuery);
+
+            startTime = System.currentTimeMillis();
+            try {
+                updateCounts = dbStat.executeBatch();
+            } catch (BatchUpdateException e) {
+                updateCounts = e.getUpdateCounts();
+                batchError = e;
+            } catch (Throwable e) {
+                // We don't know what was executed. Consider the first query as failed
+                updateCounts = null;
+                batchError = e;
+            }
+        } catch (Throwable e) {
+            log.debug("Can't prepare batch statement: " + e.getMessage());
+            return 0;
+        } finally {
+            closeStatement();
+        }
+        long executeTime = System.currentTimeMillis() - startTime;
+
+        boolean[] failed = new boolean[batch.size()];
+        boolean batchFailed = false;
+        long rowsUpdated = 0;
+        if (batchError != null && (updateCounts == null || updateCounts.length < batch.size() || isAutoCommit())) {
+            // Some drivers (e.g. in auto-commit mode) roll back the whole batch on error
+            batchFailed = true;
+            Arrays.fill(failed, true);
+        } else if (updateCounts != null) {
+            // Driver executed the whole batch and marked failed queries with EXECUTE_FAILED
+            boolean hasFailed = false;
+            for (int i = 0; i < failed.length; i++) {
+                if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                    failed[i] = true;
+                    hasFailed = true;
+                } else if (updateCounts[i] > 0) {
+                    rowsUpdated += updateCounts[i];
+                }
+            }
+            if (batchError != null && !hasFailed) {
+                failed[failed.length - 1] = true;
+            }
+        }
+        for (int i = 0; i < failed.length; i++) {
+            if (failed[i]) {
+                if (lastBatchErrorOffset < 0) {
+                    lastBatchErrorOffset = i;
+                }
+            } else {
+                lastGoodQuery = batch.get(i);
+            }
+        }
+
+        statistics.addExecuteTime(executeTime);
+        statistics.setStatementsCount(statistics.getStatementsCount() + batch.size());
+        statistics.addRowsUpdated(rowsUpdated);
+
+        // One notification per batch. Failed queries are reported separately
+        final SQLQueryResult batchResult = new SQLQueryResult(firstQuery);
+        if (batchFailed) {
+            batchResult.setError(batchError);
+        } else {
+            batchResult.setUpdateCount(rowsUpdated);
+        }
+        batchResult.setQueryTime(executeTime);
+        fireEndQuery(session, batchResult);
+        if (!batchFailed) {
+            for (int i = 0; i < failed.length; i++) {
+                if (failed[i]) {
+                    final SQLQueryResult queryResult = new SQLQueryResult(batch.get(i));
+                    queryResult.setError(batchError);
+                    fireStartQuery(session, batch.get(i));
+                    fireEndQuery(session, queryResult);
+                }
+            }
+        }
+        lastBatchFailed = failed;
+        if (batchError != null) {
+            lastError = batchError;
+        }
+        return batch.size();
+    }
+
+    private boolean isAutoCommit()
+    {
+        final DBCTransactionManager txnManager = DBUtils.getTransactionManager(getExecutionContext());
+        try {
+            return txnManager == null || txnManager.isAutoCommit();
+        } catch (DBCException e) {
+            log.debug("Can't check auto-commit mode: " + e.getMessage());
+            return true;
+        }
+    }
+
+    private void fireStartQuery(@NotNull DBCSession session, @NotNull SQLQuery query)
+    {
+        if (listener != null) {
+            try {
+                listener.onStartQuery(session, query);
+            } catch (Exception e) {
+                log.error(e);
+            }
+        }
+    }
+
+    private void fireEndQuery(@NotNull DBCSession session, @NotNull SQLQueryResult result)
+    {
+        if (listener != null) {
+            try {
+                listener.onEndQuery(session, result);
+            } catch (Exception e) {
+                log.error(e);
+            }
+        }
+    }
+
     private void showExecutionResult(DBCSession session) {
         if (statistics.getStatementsCount() > 1 || resultSetNumber == 0) {
             SQLQuery query = new SQLQuery("", -1, -1);
@@ -18,28 +18,78 @@
 package org.jkiss.dbeaver.tools.compare;
 
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
 import org.jkiss.dbeaver.model.DBPNamedObject;
 import org.jkiss.dbeaver.model.preferences.DBPPropertyDescriptor;
 import org.jkiss.dbeaver.model.DBPSystemObject;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseFolder;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
 import org.jkiss.dbeaver.model.navigator.meta.DBXTreeNode;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
 import org.jkiss.dbeaver.model.runtime.DBRProgressListener;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
 import org.jkiss.dbeaver.runtime.properties.*;
+import org.jkiss.dbeaver.utils.GeneralUtils;
 
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 public class CompareObjectsExecutor {
 
     private static final Log log = Log.getLog(CompareObjectsExecutor.class);
 
-    private final Object PROPS_LOCK = new Object();
+    private static final long CANCEL_CHECK_PERIOD = 200;
+
+    /**
+     * Task performed for each compared node
+     */
+    private interface NodeTask {
+        void run(DBRProgressMonitor monitor, int nodeIndex) throws Exception;
+    }
+
+    /**
+     * Runs node tasks of one data source.
+     * Nodes of different data sources are processed by different jobs in parallel.
+     */
+    private static class DataSourceNodesJob extends AbstractJob {
+        private final NodeTask task;
+        private final List<Integer> nodeIndexes;
+        private volatile Throwable error;
+
+        DataSourceNodesJob(DBPDataSourceContainer dataSource, NodeTask task, List<Integer> nodeIndexes)
+        {
+            super("Compare " + dataSource.getName() + " objects");
+            this.task = task;
+            this.nodeIndexes = nodeIndexes;
+            setUser(false);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor)
+        {
+            try {
+                for (Integer nodeIndex : nodeIndexes) {
+                    if (monitor.isCanceled()) {
+                        break;
+                    }
+                    task.run(monitor, nodeIndex);
+                }
+            } catch (Throwable e) {
+                error = e;
+            }
+            return Status.OK_STATUS;
+        }
+    }
 
     private CompareObjectsSettings settings;
 
@@ -51,7 +101,8 @@ public class CompareObjectsExecutor {
 
     private volatile int initializedCount = 0;
     private volatile IStatus initializeError;
-    private final Map<Object, Map<DBPPropertyDescriptor, Object>> propertyValues = new IdentityHashMap<>();
+    private final Map<Object, Map<DBPPropertyDescriptor, Object>> propertyValues = Collections.synchronizedMap(
+        new IdentityHashMap<Object, Map<DBPPropertyDescriptor, Object>>());
 
     private final List<CompareReportLine> reportLines = new ArrayList<>();
     private int reportDepth = 0;
@@ -165,7 +216,7 @@ public class CompareObjectsExecutor {
         return new CompareReport(rootNodes, reportLines);
     }
 
-    private void compareNodes(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes)
+    private void compareNodes(DBRProgressMonitor monitor, final List<DBNDatabaseNode> nodes)
         throws DBException, InterruptedException
     {
         reportObjectsCompareBegin(nodes);
@@ -173,18 +224,51 @@ public class CompareObjectsExecutor {
         try {
             if (nodes.size() > 1) {
                 // Go deeper only if we have more than one node
+                List<ObjectPropertyDescriptor> properties = null;
+                boolean readLazyProperties = false;
                 if (!settings.isCompareOnlyStructure() && !(nodes.get(0) instanceof DBNDatabaseFolder)) {
-                    compareProperties(monitor, nodes);
+                    properties = prepareProperties(monitor, nodes);
+                    for (ObjectPropertyDescriptor prop : properties) {
+                        if (prop.isLazy()) {
+                            readLazyProperties = settings.isCompareLazyProperties();
+                            break;
+                        }
+                    }
                 }
 
-                compareChildren(monitor, nodes);
+                // Load properties and children of each node in one pass
+                final DBNDatabaseNode[][] allChildren = new DBNDatabaseNode[nodes.size()][];
+                final List<ObjectPropertyDescriptor> nodeProperties = properties;
+                final boolean nodeLazyProperties = readLazyProperties;
+                runNodeTasks(monitor, nodes, new NodeTask() {
+                    @Override
+                    public void run(DBRProgressMonitor monitor, int nodeIndex) throws Exception
+                    {
+                        DBNDatabaseNode node = nodes.get(nodeIndex);
+                        if (nodeProperties != null) {
+                            readProperties(monitor, node.getObject(), nodeProperties, nodeLazyProperties);
+                        }
+                        allChildren[nodeIndex] = readChildren(monitor, node);
+                    }
+                });
+
+                if (properties != null) {
+                    // Compare properties
+                    for (ObjectPropertyDescriptor prop : properties) {
+                        reportPropertyCompare(prop);
+                    }
+                }
+                compareChildren(monitor, allChildren);
             }
         } finally {
             reportObjectsCompareEnd();
         }
     }
 
-    private void compareProperties(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes) throws DBException, InterruptedException
+    /**
+     * Initializes nodes and returns properties to compare
+     */
+    private List<ObjectPropertyDescriptor> prepareProperties(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes) throws DBException, InterruptedException
     {
         // Clear compare singletons
         this.initializedCount = 0;
@@ -213,76 +297,59 @@ public class CompareObjectsExecutor {
         }
 
         monitor.subTask("Compare " + title.toString());
-        boolean compareLazyProperties = false;
 
         DBNDatabaseNode firstNode = nodes.get(0);
-        List<ObjectPropertyDescriptor> properties = ObjectPropertyDescriptor.extractAnnotations(
+        return ObjectPropertyDescriptor.extractAnnotations(
             null,
             firstNode.getObject().getClass(),
             getDataSourceFilter(firstNode));
+    }
+
+    private void readProperties(DBRProgressMonitor monitor, DBSObject databaseObject, List<ObjectPropertyDescriptor> properties, boolean readLazyProperties)
+    {
+        Map<DBPPropertyDescriptor, Object> nodeProperties = Collections.synchronizedMap(
+            new IdentityHashMap<DBPPropertyDescriptor, Object>());
+        propertyValues.put(databaseObject, nodeProperties);
+        PropertyCollector propertySource = new PropertyCollector(databaseObject, readLazyProperties);
         for (ObjectPropertyDescriptor prop : properties) {
-            if (prop.isLazy()) {
-                compareLazyProperties = true;
-                break;
+            Object propertyValue = propertySource.getPropertyValue(monitor, databaseObject, prop);
+            if (propertyValue instanceof DBPNamedObject) {
+                // Compare just object names
+                propertyValue = ((DBPNamedObject) propertyValue).getName();
             }
+            nodeProperties.put(prop, propertyValue);
         }
-        compareLazyProperties = compareLazyProperties && settings.isCompareLazyProperties();
+    }
 
-        // Load all properties
-        for (DBNDatabaseNode node : nodes) {
-            if (monitor.isCanceled()) {
-                throw new InterruptedException();
-            }
-            DBSObject databaseObject = node.getObject();
-            Map<DBPPropertyDescriptor, Object> nodeProperties = propertyValues.get(databaseObject);
-            if (nodeProperties == null) {
-                nodeProperties = new IdentityHashMap<>();
-                propertyValues.put(databaseObject, nodeProperties);
-            }
-            PropertyCollector propertySource = new PropertyCollector(databaseObject, compareLazyProperties);
-            for (ObjectPropertyDescriptor prop : properties) {
-                Object propertyValue = propertySource.getPropertyValue(monitor, databaseObject, prop);
-                synchronized (PROPS_LOCK) {
-                    if (propertyValue instanceof DBPNamedObject) {
-                        // Compare just object names
-                        propertyValue = ((DBPNamedObject) propertyValue).getName();
-                    }
-                    nodeProperties.put(prop, propertyValue);
-                }
-            }
-            monitor.worked(1);
+    private DBNDatabaseNode[] readChildren(DBRProgressMonitor monitor, DBNDatabaseNode node) throws DBException
+    {
+        // Cache structure if possible
+        if (node.getObject() instanceof DBSObjectContainer) {
+            ((DBSObjectContainer) node.getObject()).cacheStructure(monitor, DBSObjectContainer.STRUCT_ALL);
         }
-
-        // Compare properties
-        for (ObjectPropertyDescriptor prop : properties) {
-            reportPropertyCompare(prop);
+        try {
+            return node.getChildren(monitor);
+        } catch (Exception e) {
+            log.warn("Error reading child nodes for compare", e);
+            return null;
         }
     }
 
-    private void compareChildren(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes) throws DBException, InterruptedException
+    private void compareChildren(DBRProgressMonitor monitor, DBNDatabaseNode[][] allChildren) throws DBException, InterruptedException
     {
         // Compare children
-        int nodeCount = nodes.size();
-        List<DBNDatabaseNode[]> allChildren = new ArrayList<>(nodeCount);
-        for (int i = 0; i < nodeCount; i++) {
-            DBNDatabaseNode node = nodes.get(i);
-            // Cache structure if possible
-            if (node.getObject() instanceof DBSObjectContainer) {
-                ((DBSObjectContainer) node.getObject()).cacheStructure(monitor, DBSObjectContainer.STRUCT_ALL);
-            }
-            try {
-                DBNDatabaseNode[] children = node.getChildren(monitor);
-                allChildren.add(children);
-            } catch (Exception e) {
-                log.warn("Error reading child nodes for compare", e);
-                allChildren.add(null);
-            }
-        }
-
+        int nodeCount = allChildren.length;
         Set<String> allChildNames = new LinkedHashSet<>();
+        List<Map<String, DBNDatabaseNode>> childrenByName = new ArrayList<>(nodeCount);
         for (DBNDatabaseNode[] childList : allChildren) {
+            Map<String, DBNDatabaseNode> childMap = new HashMap<>();
+            childrenByName.add(childMap);
             if (childList == null) continue;
             for (DBNDatabaseNode child : childList) {
+                final String childName = child.getNodeName();
+                if (!childMap.containsKey(childName)) {
+                    childMap.put(childName, child);
+                }
                 DBXTreeNode meta = child.getMeta();
                 if (meta.isVirtual()) {
                     // Skip virtual nodes
@@ -292,40 +359,16 @@ public class CompareObjectsExecutor {
                     // Skip system objects
                     continue;
                 }
-                allChildNames.add(child.getNodeName());
+                allChildNames.add(childName);
             }
         }
 
         for (String childName : allChildNames) {
-            int[] childIndexes = new int[nodeCount];
-            for (int i = 0; i < nodeCount; i++) {
-                childIndexes[i] = -1;
-                DBNDatabaseNode[] childList = allChildren.get(i);
-                if (childList == null) continue;
-                for (int k = 0; k < childList.length; k++) {
-                    DBNDatabaseNode child = childList[k];
-                    if (child.getNodeName().equals(childName)) {
-                        childIndexes[i] = k;
-                        break;
-                    }
-                }
-            }
-
             List<DBNDatabaseNode> nodesToCompare = new ArrayList<>(nodeCount);
             for (int i = 0; i < nodeCount; i++) {
-                if (childIndexes[i] == -1) {
-                    // Missing
-                } else {
-                    for (int k = 0; k < nodeCount; k++) {
-                        if (k != i && childIndexes[k] != childIndexes[i]) {
-                            // Wrong index - add to report
-                            break;
-                        }
-                    }
-                    final DBNDatabaseNode[] childList = allChildren.get(i);
-                    if (childList != null) {
-                        nodesToCompare.add(childList[childIndexes[i]]);
-                    }
+                DBNDatabaseNode child = childrenByName.get(i).get(childName);
+                if (child != null) {
+                    nodesToCompare.add(child);
                 }
             }
             // Compare children recursively
@@ -333,6 +376,79 @@ public class CompareObjectsExecutor {
         }
     }
 
+    /**
+     * Runs task for each node.
+     * If parallel load is enabled then nodes of different data sources are processed concurrently
+     * (each data source in its own job), otherwise all nodes are processed sequentially in the current thread.
+     */
+    private void runNodeTasks(DBRProgressMonitor monitor, List<DBNDatabaseNode> nodes, NodeTask task)
+        throws DBException, InterruptedException
+    {
+        final Map<DBPDataSourceContainer, List<Integer>> dataSourceNodes = new LinkedHashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            final DBPDataSourceContainer dataSource = nodes.get(i).getDataSourceContainer();
+            List<Integer> nodeIndexes = dataSourceNodes.get(dataSource);
+            if (nodeIndexes == null) {
+                nodeIndexes = new ArrayList<>();
+                dataSourceNodes.put(dataSource, nodeIndexes);
+            }
+            nodeIndexes.add(i);
+        }
+        if (!settings.isLoadInParallel() || dataSourceNodes.size() < 2) {
+            for (int i = 0; i < nodes.size(); i++) {
+                if (monitor.isCanceled()) {
+                    throw new InterruptedException();
+                }
+                try {
+                    task.run(monitor, i);
+                } catch (DBException | InterruptedException | RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new DBException("Error comparing objects", e);
+                }
+                monitor.worked(1);
+            }
+            return;
+        }
+
+        final List<DataSourceNodesJob> jobs = new ArrayList<>(dataSourceNodes.size());
+        final CountDownLatch jobsLatch = new CountDownLatch(dataSourceNodes.size());
+        for (Map.Entry<DBPDataSourceContainer, List<Integer>> entry : dataSourceNodes.entrySet()) {
+            DataSourceNodesJob job = new DataSourceNodesJob(entry.getKey(), task, entry.getValue());
+            job.addJobChangeListener(new JobChangeAdapter() {
+                @Override
+                public void done(IJobChangeEvent event)
+                {
+                    jobsLatch.countDown();
+                }
+            });
+            jobs.add(job);
+            job.schedule();
+        }
+        try {
+            // Wake up periodically only to check for cancel
+            while (!jobsLatch.await(CANCEL_CHECK_PERIOD, TimeUnit.MILLISECONDS)) {
+                if (monitor.isCanceled()) {
+                    throw new InterruptedException();
+                }
+            }
+        } finally {
+            if (monitor.isCanceled()) {
+                for (DataSourceNodesJob job : jobs) {
+                    job.cancel();
+                }
+            }
+        }
+        for (DataSourceNodesJob job : jobs) {
+            if (job.error instanceof DBException) {
+                throw (DBException) job.error;
+            } else if (job.error != null) {
+                throw new DBException("Error comparing objects", GeneralUtils.getRootCause(job.error));
+            }
+        }
+        monitor.worked(nodes.size());
+    }
+
 
     private DataSourcePropertyFilter getDataSourceFilter(DBNDatabaseNode node)
     {
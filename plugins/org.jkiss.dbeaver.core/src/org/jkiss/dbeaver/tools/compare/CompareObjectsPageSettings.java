@@ -33,6 +33,7 @@ class CompareObjectsPageSettings extends ActiveWizardPage<CompareObjectsWizard>
     private Table nodesTable;
     private Button skipSystemObjects;
     private Button compareLazyProperties;
+    private Button loadInParallel;
     private Button compareOnlyStructure;
 
     CompareObjectsPageSettings() {
@@ -106,6 +107,14 @@ class CompareObjectsPageSettings extends ActiveWizardPage<CompareObjectsWizard>
                     settings.setCompareOnlyStructure(compareOnlyStructure.getSelection());
                 }
             });
+            loadInParallel = UIUtils.createCheckbox(compareSettings, "Read objects of different connections in parallel", settings.isLoadInParallel());
+            loadInParallel.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e)
+                {
+                    settings.setLoadInParallel(loadInParallel.getSelection());
+                }
+            });
         }
         
         setControl(composite);
@@ -49,6 +49,7 @@ public class CompareObjectsSettings {
     private boolean compareLazyProperties = false;
     private boolean compareOnlyStructure = false;
     private boolean showOnlyDifferences = false;
+    private boolean loadInParallel = true;
     private OutputType outputType = OutputType.BROWSER;
     private String outputFolder = DialogUtils.getCurDialogFolder();
 
@@ -102,6 +103,16 @@ public class CompareObjectsSettings {
         this.showOnlyDifferences = showOnlyDifferences;
     }
 
+    public boolean isLoadInParallel()
+    {
+        return loadInParallel;
+    }
+
+    public void setLoadInParallel(boolean loadInParallel)
+    {
+        this.loadInParallel = loadInParallel;
+    }
+
     public OutputType getOutputType()
     {
         return outputType;
@@ -136,6 +147,9 @@ public class CompareObjectsSettings {
         if (dialogSettings.get("showDifference") != null) {
             showOnlyDifferences = dialogSettings.getBoolean("showDifference");
         }
+        if (dialogSettings.get("loadParallel") != null) {
+            loadInParallel = dialogSettings.getBoolean("loadParallel");
+        }
         if (dialogSettings.get("outputType") != null) {
             outputType = OutputType.valueOf(dialogSettings.get("outputType"));
         }
@@ -150,6 +164,7 @@ public class CompareObjectsSettings {
         dialogSettings.put("compareLazy", compareLazyProperties);
         dialogSettings.put("compareStructure", compareOnlyStructure);
         dialogSettings.put("showDifference", showOnlyDifferences);
+        dialogSettings.put("loadParallel", loadInParallel);
         dialogSettings.put("outputType", outputType.name());
         dialogSettings.put("outputFolder", outputFolder);
     }
@@ -24,6 +24,7 @@ import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBPEvaluationContext;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.DBDValueHandler;
+import org.jkiss.dbeaver.model.data.DBDValueReader;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.AbstractExecutionSource;
 import org.jkiss.dbeaver.model.impl.DBObjectNameCaseTransformer;
@@ -53,6 +54,7 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     private DatabaseConsumerSettings settings;
     private DatabaseMappingContainer containerMapping;
     private ColumnMapping[] columnMappings;
+    private DBCResultSet valueReadersSource;
     private DBCExecutionContext targetContext;
     private DBCSession targetSession;
     private DBSDataManipulator.ExecuteBatch executeBatch;
@@ -64,6 +66,7 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
         DBCAttributeMetaData sourceAttr;
         DatabaseMappingAttribute targetAttr;
         DBDValueHandler sourceValueHandler;
+        DBDValueReader sourceValueReader;
         DBDValueHandler targetValueHandler;
         int targetIndex = -1;
 
@@ -89,6 +92,7 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
         DBCResultSetMetaData metaData = resultSet.getMeta();
         List<DBCAttributeMetaData> rsAttributes = metaData.getAttributes();
         columnMappings = new ColumnMapping[rsAttributes.size()];
+        valueReadersSource = null;
         targetAttributes = new ArrayList<>(columnMappings.length);
         for (int i = 0; i < rsAttributes.size(); i++) {
             ColumnMapping columnMapping = new ColumnMapping(rsAttributes.get(i));
@@ -118,13 +122,21 @@ public class DatabaseTransferConsumer implements IDataTransferConsumer<DatabaseC
     @Override
     public void fetchRow(DBCSession session, DBCResultSet resultSet) throws DBCException
     {
+        if (valueReadersSource != resultSet) {
+            // Resolve column readers once per result set
+            for (int i = 0; i < columnMappings.length; i++) {
+                ColumnMapping column = columnMappings[i];
+                column.sourceValueReader = DBUtils.createValueReader(resultSet, column.sourceValueHandler, column.sourceAttr, i);
+            }
+            valueReadersSource = resultSet;
+        }
         Object[] rowValues = new Object[targetAttributes.size()];
         for (int i = 0; i < columnMappings.length; i++) {
             ColumnMapping column = columnMappings[i];
             if (column.targetIndex < 0) {
                 continue;
             }
-            final Object attrValue = column.sourceValueHandler.fetchValueObject(session, resultSet, column.sourceAttr, i);
+            final Object attrValue = column.sourceValueReader.readValue(session, resultSet);
             rowValues[column.targetIndex] = column.targetValueHandler.getValueFromObject(
                 session,
                 column.targetAttr.getTarget(),
@@ -32,6 +32,7 @@ import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.data.DBDContent;
 import org.jkiss.dbeaver.model.data.DBDContentStorage;
 import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.model.data.DBDValueReader;
 import org.jkiss.dbeaver.model.exec.DBCAttributeMetaData;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCResultSet;
@@ -73,6 +74,8 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
     private PrintWriter writer;
     private List<DBDAttributeBinding> metaColumns;
     private Object[] row;
+    private DBDValueReader[] valueReaders;
+    private DBCResultSet valueReadersSource;
     private File lobDirectory;
     private long lobCount;
     private File outputFile;
@@ -101,6 +104,8 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
             metaColumns.add(columnBinding);
         }
         row = new Object[metaColumns.size()];
+        valueReaders = null;
+        valueReadersSource = null;
 
         if (!initialized) {
             try {
@@ -119,11 +124,15 @@ public class StreamTransferConsumer implements IDataTransferConsumer<StreamConsu
     @Override
     public void fetchRow(DBCSession session, DBCResultSet resultSet) throws DBCException
     {
+        if (valueReaders == null || valueReadersSource != resultSet) {
+            // Resolve column readers once per result set
+            valueReaders = DBUtils.createValueReaders(resultSet, metaColumns.toArray(new DBDAttributeBinding[metaColumns.size()]));
+            valueReadersSource = resultSet;
+        }
         try {
             // Get values
-            for (int i = 0; i < metaColumns.size(); i++) {
-                DBDAttributeBinding column = metaColumns.get(i);
-                Object value = column.getValueHandler().fetchValueObject(session, resultSet, column.getAttribute(), column.getOrdinalPosition());
+            for (int i = 0; i < valueReaders.length; i++) {
+                Object value = valueReaders[i].readValue(session, resultSet);
                 if (value instanceof DBDContent && !settings.isOutputClipboard()) {
                     // Check for binary type export
                     if (!ContentUtils.isTextContent((DBDContent)value)) {
@@ -44,6 +44,7 @@ public class DataExporterCSV extends StreamExporterAbstract {
     private static final String PROP_DELIMITER = "delimiter";
     private static final String PROP_HEADER = "header";
     private static final String PROP_QUOTE_CHAR = "quoteChar";
+    private static final String PROP_ROW_DELIMITER = "rowDelimiter";
     public static final char DEF_DELIMITER = ',';
     public static final String DEF_QUOTE_CHAR = "\"";
 
@@ -89,7 +90,9 @@ public class DataExporterCSV extends StreamExporterAbstract {
         }
         useQuotes = quoteChar != ' ';
         out = site.getWriter();
-        rowDelimiter = GeneralUtils.getDefaultLineSeparator();
+        Object rowDelimProp = site.getProperties().get(PROP_ROW_DELIMITER);
+        rowDelimiter = rowDelimProp == null || rowDelimProp.toString().isEmpty() ?
+            GeneralUtils.getDefaultLineSeparator() : rowDelimProp.toString();
         try {
             headerPosition = HeaderPosition.valueOf(String.valueOf(site.getProperties().get(PROP_HEADER)));
         } catch (Exception e) {
@@ -1041,6 +1041,7 @@ public abstract class ObjectListControl<OBJECT_TYPE> extends ProgressPageControl
                 return Status.OK_STATUS;
             }
             monitor.beginTask(CoreMessages.controls_object_list_monitor_load_lazy_props, objectMap.size());
+            loadBatchProperties(monitor, objectMap);
             for (Map.Entry<OBJECT_TYPE, List<ObjectColumn>> entry : objectMap.entrySet()) {
                 if (monitor.isCanceled() || isDisposed()) {
                     break;
@@ -1128,6 +1129,29 @@ public abstract class ObjectListControl<OBJECT_TYPE> extends ProgressPageControl
             }
             return Status.OK_STATUS;
         }
+
+        /**
+         * Reads properties which support batch loading with one query for all objects.
+         * Values are cached in model objects, so the following per-object reads are fast.
+         */
+        private void loadBatchProperties(DBRProgressMonitor monitor, Map<OBJECT_TYPE, List<ObjectColumn>> objectMap) {
+            final LazyPropertyBatch propertyBatch = new LazyPropertyBatch();
+            for (Map.Entry<OBJECT_TYPE, List<ObjectColumn>> entry : objectMap.entrySet()) {
+                Object object = getObjectValue(entry.getKey());
+                if (object == null) {
+                    continue;
+                }
+                for (ObjectColumn column : entry.getValue()) {
+                    ObjectPropertyDescriptor prop = getPropertyByObject(column, object);
+                    if (prop != null) {
+                        propertyBatch.addProperty(object, prop);
+                    }
+                }
+            }
+            if (!propertyBatch.isEmpty()) {
+                propertyBatch.load(monitor);
+            }
+        }
     }
 
     protected class ViewerRenderer extends ObjectViewerRenderer {
@@ -33,7 +33,7 @@ import org.jkiss.dbeaver.model.DBPImage;
 import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
-import org.jkiss.utils.IntKeyMap;
+import org.jkiss.utils.IntHashSet;
 
 import java.util.*;
 import java.util.List;
@@ -149,7 +149,7 @@ public abstract class LightGrid extends Canvas {
     private final Set<GridPos> selectedCells = new TreeSet<>(new GridPos.PosComparator());
     private final List<GridPos> selectedCellsBeforeRangeSelect = new ArrayList<>();
     private final List<GridColumn> selectedColumns = new ArrayList<>();
-    private final IntKeyMap<Boolean> selectedRows = new IntKeyMap<>();
+    private final IntHashSet selectedRows = new IntHashSet();
 
     private boolean cellDragSelectionOccurring = false;
     private boolean cellRowDragSelectionOccurring = false;
@@ -2082,7 +2082,7 @@ public abstract class LightGrid extends Canvas {
             // get the item to draw
             if (row >= 0 && row < getItemCount()) {
 
-                boolean cellInRowSelected = selectedRows.containsKey(row);
+                boolean cellInRowSelected = selectedRows.contains(row);
 
                 if (rowHeaderVisible) {
 
@@ -2544,12 +2544,12 @@ public abstract class LightGrid extends Canvas {
         selectedColumns.clear();
         selectedRows.clear();
 
-        IntKeyMap<Boolean> columnIndices = new IntKeyMap<>();
+        IntHashSet columnIndices = new IntHashSet();
         for (GridPos cell : selectedCells) {
-            columnIndices.put(cell.col, Boolean.TRUE);
-            selectedRows.put(cell.row, Boolean.TRUE);
+            columnIndices.add(cell.col);
+            selectedRows.add(cell.row);
         }
-        for (Integer columnIndex : columnIndices.keySet()) {
+        for (int columnIndex : columnIndices.toArray()) {
             selectedColumns.add(columns.get(columnIndex));
         }
         Collections.sort(selectedColumns, new Comparator<GridColumn>() {
@@ -3922,11 +3922,11 @@ public abstract class LightGrid extends Canvas {
 
     /**
      * Returns selected rows indexes
-     * @return indexes of selected rows
+     * @return indexes of selected rows in ascending order
      */
-    public Collection<Integer> getRowSelection()
+    public int[] getRowSelection()
     {
-        return Collections.unmodifiableCollection(selectedRows.keySet());
+        return selectedRows.toSortedArray();
     }
 
     private void getCells(GridColumn col, List<GridPos> cells)
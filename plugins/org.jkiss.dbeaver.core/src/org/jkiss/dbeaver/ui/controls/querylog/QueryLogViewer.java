@@ -45,6 +45,7 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.*;
 import org.eclipse.ui.IWorkbenchCommandConstants;
 import org.eclipse.ui.IWorkbenchPartSite;
+import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.core.CoreCommands;
 import org.jkiss.dbeaver.core.CoreMessages;
@@ -67,14 +68,16 @@ import org.jkiss.dbeaver.ui.dialogs.sql.BaseSQLDialog;
 import org.jkiss.dbeaver.ui.editors.sql.handlers.OpenHandler;
 import org.jkiss.dbeaver.utils.GeneralUtils;
 import org.jkiss.utils.CommonUtils;
-import org.jkiss.utils.LongKeyMap;
+import org.jkiss.utils.LongObjectMap;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.Set;
 
 /**
  * QueryLogViewer
@@ -102,6 +105,15 @@ public class QueryLogViewer extends Viewer implements QMMetaListener, DBPPrefere
         abstract String getText(QMMetaEvent event);
     }
 
+    private static class LogEntry {
+        QMMetaEvent event;
+
+        private LogEntry(QMMetaEvent event)
+        {
+            this.event = event;
+        }
+    }
+
     private static class ColumnDescriptor {
         LogColumn logColumn;
         TableColumn tableColumn;
@@ -297,7 +309,9 @@ public class QueryLogViewer extends Viewer implements QMMetaListener, DBPPrefere
     private final IWorkbenchPartSite site;
     private Table logTable;
     private java.util.List<ColumnDescriptor> columns = new ArrayList<>();
-    private LongKeyMap<TableItem> objectToItemMap = new LongKeyMap<>();
+    // Log entries in chronological order. Table shows them in reverse order (newest first)
+    private final java.util.List<LogEntry> logEntries = new ArrayList<>();
+    private final LongObjectMap<LogEntry> objectToEntryMap = new LongObjectMap<>();
     private QMEventFilter filter;
 
     private final Color colorLightGreen;
@@ -329,7 +343,7 @@ public class QueryLogViewer extends Viewer implements QMMetaListener, DBPPrefere
         // Create log table
         logTable = new Table(
             parent,
-            SWT.MULTI | SWT.FULL_SELECTION | SWT.H_SCROLL | SWT.V_SCROLL);
+            SWT.MULTI | SWT.FULL_SELECTION | SWT.H_SCROLL | SWT.V_SCROLL | SWT.VIRTUAL);
         logTable.setData(this);
         logTable.setLinesVisible(true);
         logTable.setHeaderVisible(true);
@@ -357,12 +371,24 @@ public class QueryLogViewer extends Viewer implements QMMetaListener, DBPPrefere
 
         createContextMenu();
         addDragAndDropSupport();
+        logTable.addListener(SWT.SetData, new Listener() {
+            @Override
+            public void handleEvent(Event event)
+            {
+                LogEntry entry = getEntry(event.index);
+                if (entry != null) {
+                    updateItem(entry.event, (TableItem) event.item);
+                }
+            }
+        });
         logTable.addSelectionListener(new SelectionAdapter() {
             @Override
             public void widgetDefaultSelected(SelectionEvent e)
             {
-                //TableItem item = (TableItem)e.item;
-                showEventDetails((QMMetaEvent) e.item.getData());
+                LogEntry entry = getEntry(logTable.indexOf((TableItem) e.item));
+                if (entry != null) {
+                    showEventDetails(entry.event);
+                }
             }
         });
 
@@ -474,14 +500,36 @@ public class QueryLogViewer extends Viewer implements QMMetaListener, DBPPrefere
     @Override
     public IStructuredSelection getSelection()
     {
-        TableItem[] items = logTable.getSelection();
-        QMMetaEvent[] data = new QMMetaEvent[items.length];
-        for (int i = 0, itemsLength = items.length; i < itemsLength; i++) {
-            data[i] = (QMMetaEvent)items[i].getData();
+        java.util.List<QMMetaEvent> data = new ArrayList<>();
+        for (LogEntry entry : getSelectedEntries()) {
+            data.add(entry.event);
         }
         return new StructuredSelection(data);
     }
 
+    private java.util.List<LogEntry> getSelectedEntries()
+    {
+        int[] indices = logTable.getSelectionIndices();
+        java.util.List<LogEntry> entries = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            LogEntry entry = getEntry(index);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    @Nullable
+    private LogEntry getEntry(int itemIndex)
+    {
+        int entryIndex = logEntries.size() - 1 - itemIndex;
+        if (itemIndex < 0 || entryIndex < 0) {
+            return null;
+        }
+        return logEntries.get(entryIndex);
+    }
+
     @Override
     public void setSelection(ISelection selection, boolean reveal)
     {
@@ -597,50 +645,57 @@ public class QueryLogViewer extends Viewer implements QMMetaListener, DBPPrefere
         }
         logTable.setRedraw(false);
         try {
-            // Add events in reverse order
-            int itemIndex = 0;
-            for (int i = events.size(); i > 0; i--) {
-                if (itemIndex >= entriesPerPage) {
-                    // Do not add remaining (older) events - they don't fit page anyway
-                    break;
-                }
-                QMMetaEvent event = events.get(i - 1);
+            // New entries shift table items so we have to restore selection afterwards
+            java.util.List<LogEntry> selectedEntries = getSelectedEntries();
+
+            // Events come in chronological order
+            for (QMMetaEvent event : events) {
                 if (!defaultFilter.accept(event) || (filter != null && !filter.accept(event))) {
                     continue;
                 }
                 QMMObject object = event.getObject();
-                if (object instanceof QMMStatementExecuteInfo) {
-                    itemIndex = createOrUpdateItem(event, itemIndex);
-                } else if (object instanceof QMMTransactionInfo || object instanceof QMMTransactionSavepointInfo) {
-                    itemIndex = createOrUpdateItem(event, itemIndex);
-                    // Update all dependent statements
-                    if (object instanceof QMMTransactionInfo) {
-                        for (QMMTransactionSavepointInfo savepoint = ((QMMTransactionInfo) object).getCurrentSavepoint(); savepoint != null; savepoint = savepoint.getPrevious()) {
-                            updateExecutions(event, savepoint);
-                        }
-
-                    } else {
-                        updateExecutions(event, (QMMTransactionSavepointInfo) object);
-                    }
+                if (object instanceof QMMStatementExecuteInfo ||
+                    object instanceof QMMTransactionInfo ||
+                    object instanceof QMMTransactionSavepointInfo)
+                {
+                    createOrUpdateEntry(event);
                 } else if (object instanceof QMMSessionInfo) {
                     QMMetaEvent.Action action = event.getAction();
                     if (action == QMMetaEvent.Action.BEGIN || action == QMMetaEvent.Action.END) {
-                        TableItem item = new TableItem(logTable, SWT.NONE, itemIndex++);
-                        updateItem(event, item);
+                        logEntries.add(new LogEntry(event));
                     }
                 }
             }
-            int itemCount = logTable.getItemCount();
-            if (itemCount > entriesPerPage) {
-                int[] indexes = new int[itemCount - entriesPerPage];
-                for (int i = 0; i < itemCount - entriesPerPage; i++) {
-                    indexes[i] = entriesPerPage + i;
-                    TableItem tableItem = logTable.getItem(entriesPerPage + i);
-                    if (tableItem != null && tableItem.getData() instanceof QMMObject) {
-                        objectToItemMap.remove(((QMMObject) tableItem.getData()).getObjectId());
+            int extraEntries = logEntries.size() - entriesPerPage;
+            if (extraEntries > 0) {
+                // Remove oldest entries - they don't fit page anyway
+                java.util.List<LogEntry> oldEntries = logEntries.subList(0, extraEntries);
+                for (LogEntry entry : oldEntries) {
+                    long objectId = entry.event.getObject().getObjectId();
+                    if (objectToEntryMap.get(objectId) == entry) {
+                        objectToEntryMap.remove(objectId);
                     }
                 }
-                logTable.remove(indexes);
+                oldEntries.clear();
+            }
+            // Virtual table will request visible items again.
+            // Dependent statements of finished transactions get their new colors here as well.
+            logTable.setItemCount(logEntries.size());
+            logTable.clearAll();
+
+            if (!selectedEntries.isEmpty()) {
+                Set<LogEntry> selectedSet = new HashSet<>(selectedEntries);
+                java.util.List<Integer> selectedIndices = new ArrayList<>();
+                for (int i = 0; i < logEntries.size(); i++) {
+                    if (selectedSet.contains(logEntries.get(i))) {
+                        selectedIndices.add(logEntries.size() - 1 - i);
+                    }
+                }
+                int[] indices = new int[selectedIndices.size()];
+                for (int i = 0; i < indices.length; i++) {
+                    indices[i] = selectedIndices.get(i);
+                }
+                logTable.setSelection(indices);
             }
         } catch (Exception e) {
             log.error("Error updating Query Log", e);
@@ -652,30 +707,19 @@ public class QueryLogViewer extends Viewer implements QMMetaListener, DBPPrefere
         }
     }
 
-    private void updateExecutions(QMMetaEvent event, QMMTransactionSavepointInfo savepoint)
+    private void createOrUpdateEntry(QMMetaEvent event)
     {
-        for (Iterator<QMMStatementExecuteInfo> i = savepoint.getExecutions(); i.hasNext(); ) {
-            QMMStatementExecuteInfo exec = i.next();
-            TableItem item = objectToItemMap.get(exec.getObjectId());
-            if (item != null && !item.isDisposed()) {
-                item.setFont(getObjectFont(event));
-                item.setForeground(getObjectForeground(event));
-                item.setBackground(getObjectBackground(event));
-            }
+        long objectId = event.getObject().getObjectId();
+        LogEntry entry = objectToEntryMap.get(objectId);
+        if (entry == null) {
+            entry = new LogEntry(event);
+            logEntries.add(entry);
+            objectToEntryMap.put(objectId, entry);
+        } else {
+            entry.event = event;
         }
     }
 
-    private int createOrUpdateItem(QMMetaEvent event, int itemIndex)
-    {
-        TableItem item = objectToItemMap.get(event.getObject().getObjectId());
-        if (item == null) {
-            item = new TableItem(logTable, SWT.NONE, itemIndex++);
-            objectToItemMap.put(event.getObject().getObjectId(), item);
-        }
-        updateItem(event, item);
-        return itemIndex;
-    }
-
     private void updateItem(QMMetaEvent event, TableItem item)
     {
         item.setData(event);
@@ -741,8 +785,8 @@ public class QueryLogViewer extends Viewer implements QMMetaListener, DBPPrefere
                 };
 
                 boolean hasStatements = false;
-                for (TableItem item : logTable.getSelection()) {
-                    if (((QMMetaEvent)item.getData()).getObject() instanceof QMMStatementExecuteInfo) {
+                for (LogEntry entry : getSelectedEntries()) {
+                    if (entry.event.getObject() instanceof QMMStatementExecuteInfo) {
                         hasStatements = true;
                         break;
                     }
@@ -766,10 +810,8 @@ public class QueryLogViewer extends Viewer implements QMMetaListener, DBPPrefere
     private void openSelectionInEditor() {
         DBPDataSourceContainer dsContainer = null;
         StringBuilder sql = new StringBuilder();
-        TableItem[] items = logTable.getSelection();
-        for (TableItem item : items) {
-            QMMetaEvent event = (QMMetaEvent) item.getData();
-            QMMObject object = event.getObject();
+        for (LogEntry entry : getSelectedEntries()) {
+            QMMObject object = entry.event.getObject();
             if (object instanceof QMMStatementExecuteInfo) {
                 QMMStatementExecuteInfo stmtExec = (QMMStatementExecuteInfo) object;
                 if (dsContainer == null) {
@@ -829,7 +871,8 @@ public class QueryLogViewer extends Viewer implements QMMetaListener, DBPPrefere
     public synchronized void clearLog()
     {
         logTable.removeAll();
-        objectToItemMap.clear();
+        logEntries.clear();
+        objectToEntryMap.clear();
     }
 
     public void selectAll()
@@ -0,0 +1,293 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.core.DBeaverUI;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPMessageType;
+import org.jkiss.dbeaver.model.DBPNamedObject;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDContentStorage;
+import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.DBSDataContainer;
+import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataExporter;
+import org.jkiss.dbeaver.tools.transfer.stream.IStreamDataExporterSite;
+import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams result set selection into a file using data transfer exporter.
+ * Cells are formatted on the fly so the whole selection never resides in memory as a single string.
+ * Only first rows (preview) are kept in memory and copied to the clipboard.
+ */
+class ResultSetCopyJob extends AbstractJob {
+
+    private static final Log log = Log.getLog(ResultSetCopyJob.class);
+
+    private static final int PROGRESS_STEP = 1000;
+
+    private final IResultSetController controller;
+    private final DBSDataContainer dataContainer;
+    private final List<DBDAttributeBinding> attributes;
+    private final List<Object[]> rows;
+    private final IStreamDataExporter exporter;
+    private final Map<Object, Object> exporterProperties;
+    private final DBDDisplayFormat format;
+    private final File outputFile;
+    private final int previewRows;
+
+    private PrintWriter writer;
+    private PreviewWriter previewWriter;
+
+    /**
+     * Must be called in UI thread: cell values are taken from the model here.
+     * @param outputFile output file. If null then exported data is written in temporary file.
+     * @param previewRows number of first rows copied to the clipboard. 0 disables clipboard copy.
+     */
+    ResultSetCopyJob(
+        @NotNull IResultSetController controller,
+        @NotNull Collection<DBDAttributeBinding> attributes,
+        @NotNull Collection<ResultSetRow> rows,
+        @NotNull IStreamDataExporter exporter,
+        @NotNull Map<Object, Object> exporterProperties,
+        @NotNull DBDDisplayFormat format,
+        @Nullable File outputFile,
+        int previewRows)
+    {
+        super("Copy " + rows.size() + " row(s)");
+        this.controller = controller;
+        this.dataContainer = controller.getDataContainer();
+        this.attributes = new ArrayList<>(attributes);
+        // Snapshot value references. Model may be refreshed or edited while job runs.
+        // Values are formatted during export.
+        final ResultSetModel model = controller.getModel();
+        this.rows = new ArrayList<>(rows.size());
+        for (ResultSetRow row : rows) {
+            final Object[] rowValues = new Object[this.attributes.size()];
+            for (int i = 0; i < rowValues.length; i++) {
+                rowValues[i] = model.getCellValue(this.attributes.get(i), row);
+            }
+            this.rows.add(rowValues);
+        }
+        this.exporter = exporter;
+        this.exporterProperties = exporterProperties;
+        this.format = format;
+        this.outputFile = outputFile;
+        this.previewRows = previewRows;
+        setUser(true);
+    }
+
+    @Override
+    protected IStatus run(DBRProgressMonitor monitor)
+    {
+        final DBPDataSource dataSource = dataContainer == null ? null : dataContainer.getDataSource();
+        File file = outputFile;
+        int rowCount = 0;
+        try {
+            if (file == null) {
+                file = File.createTempFile("dbeaver-copy", ".txt");
+                file.deleteOnExit();
+            }
+            previewWriter = new PreviewWriter(
+                new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), GeneralUtils.DEFAULT_FILE_CHARSET)));
+            previewWriter.capture = previewRows > 0;
+            writer = new PrintWriter(previewWriter);
+            try (DBCSession session = dataSource == null ? null : DBUtils.openUtilSession(monitor, dataSource, "Copy selected rows")) {
+                exporter.init(new CopyExportSite(dataContainer));
+                try {
+                    exporter.exportHeader(session);
+                    monitor.beginTask(getName(), rows.size());
+                    for (Object[] rowValues : rows) {
+                        if (monitor.isCanceled()) {
+                            break;
+                        }
+                        exporter.exportRow(session, rowValues);
+                        rowCount++;
+                        if (rowCount >= previewRows) {
+                            previewWriter.capture = false;
+                        }
+                        if (rowCount % PROGRESS_STEP == 0) {
+                            monitor.worked(PROGRESS_STEP);
+                        }
+                    }
+                    monitor.done();
+                    if (rowCount == rows.size()) {
+                        exporter.exportFooter(monitor);
+                    }
+                } finally {
+                    exporter.dispose();
+                }
+            } finally {
+                writer.close();
+            }
+            if (writer.checkError()) {
+                throw new IOException("Error writing to " + file.getAbsolutePath());
+            }
+        } catch (Exception e) {
+            return GeneralUtils.makeExceptionStatus(e);
+        }
+
+        final boolean completed = rowCount == rows.size();
+        final String preview = previewRows > 0 ? previewWriter.preview.toString() : null;
+        if (outputFile == null && completed && rowCount <= previewRows) {
+            // Everything fits in clipboard - temp file is not needed
+            if (!file.delete()) {
+                log.debug("Can't delete temp file " + file.getAbsolutePath());
+            }
+        }
+        final String message = completed && outputFile == null && rowCount <= previewRows ?
+            rowCount + " row(s) copied" :
+            rowCount + " row(s) copied to " + file.getAbsolutePath() +
+                (preview == null ? "" : " (first " + Math.min(rowCount, previewRows) + " in clipboard)");
+        DBeaverUI.asyncExec(new Runnable() {
+            @Override
+            public void run() {
+                if (!CommonUtils.isEmpty(preview)) {
+                    ResultSetUtils.copyToClipboard(preview);
+                }
+                controller.setStatus(message, completed ? DBPMessageType.INFORMATION : DBPMessageType.WARNING);
+            }
+        });
+        return Status.OK_STATUS;
+    }
+
+    /**
+     * Keeps everything written while capture is on
+     */
+    private static class PreviewWriter extends FilterWriter {
+        private final StringBuilder preview = new StringBuilder();
+        private boolean capture;
+
+        PreviewWriter(Writer out)
+        {
+            super(out);
+        }
+
+        @Override
+        public void write(int c) throws IOException
+        {
+            super.write(c);
+            if (capture) {
+                preview.append((char) c);
+            }
+        }
+
+        @Override
+        public void write(@NotNull char[] cbuf, int off, int len) throws IOException
+        {
+            super.write(cbuf, off, len);
+            if (capture) {
+                preview.append(cbuf, off, len);
+            }
+        }
+
+        @Override
+        public void write(@NotNull String str, int off, int len) throws IOException
+        {
+            super.write(str, off, len);
+            if (capture) {
+                preview.append(str, off, off + len);
+            }
+        }
+    }
+
+    private class CopyExportSite implements IStreamDataExporterSite {
+
+        private final DBSDataContainer dataContainer;
+
+        CopyExportSite(DBSDataContainer dataContainer)
+        {
+            this.dataContainer = dataContainer;
+        }
+
+        @Override
+        public DBPNamedObject getSource()
+        {
+            return dataContainer;
+        }
+
+        @Override
+        public DBDDisplayFormat getExportFormat()
+        {
+            return format;
+        }
+
+        @Override
+        public Map<Object, Object> getProperties()
+        {
+            return exporterProperties;
+        }
+
+        @Override
+        public List<DBDAttributeBinding> getAttributes()
+        {
+            return attributes;
+        }
+
+        @Override
+        public OutputStream getOutputStream()
+        {
+            // Text only
+            return null;
+        }
+
+        @Override
+        public PrintWriter getWriter()
+        {
+            return writer;
+        }
+
+        @Override
+        public void flush() throws IOException
+        {
+            writer.flush();
+        }
+
+        @Override
+        public void writeBinaryData(@NotNull DBDContentStorage cs) throws IOException
+        {
+            try (final InputStream stream = cs.getContentStream()) {
+                writer.write("0x"); //$NON-NLS-1$
+                byte[] buffer = new byte[5000];
+                for (; ; ) {
+                    int count = stream.read(buffer);
+                    if (count <= 0) {
+                        break;
+                    }
+                    GeneralUtils.writeBytesAsHex(writer, buffer, 0, count);
+                }
+            }
+        }
+    }
+
+}
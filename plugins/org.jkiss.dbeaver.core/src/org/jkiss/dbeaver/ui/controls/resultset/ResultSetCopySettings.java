@@ -29,6 +29,9 @@ public class ResultSetCopySettings {
     private String columnDelimiter;
     private String rowDelimiter;
     private DBDDisplayFormat format;
+    private boolean copyToFile;
+    private String outputFile;
+    private int clipboardPreviewRows;
 
     public ResultSetCopySettings() {
     }
@@ -88,4 +91,37 @@ public class ResultSetCopySettings {
     public void setFormat(DBDDisplayFormat format) {
         this.format = format;
     }
+
+    /**
+     * Stream selection in file in background instead of building clipboard string
+     */
+    public boolean isCopyToFile() {
+        return copyToFile;
+    }
+
+    public void setCopyToFile(boolean copyToFile) {
+        this.copyToFile = copyToFile;
+    }
+
+    /**
+     * Output file path. Empty means temporary file.
+     */
+    public String getOutputFile() {
+        return outputFile;
+    }
+
+    public void setOutputFile(String outputFile) {
+        this.outputFile = outputFile;
+    }
+
+    /**
+     * Number of first rows copied in clipboard when copying to file
+     */
+    public int getClipboardPreviewRows() {
+        return clipboardPreviewRows;
+    }
+
+    public void setClipboardPreviewRows(int clipboardPreviewRows) {
+        this.clipboardPreviewRows = clipboardPreviewRows;
+    }
 }
@@ -23,6 +23,8 @@ import org.eclipse.jface.dialogs.Dialog;
 import org.eclipse.jface.dialogs.IDialogConstants;
 import org.eclipse.jface.dialogs.IDialogSettings;
 import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
 import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.*;
@@ -32,10 +34,17 @@ import org.eclipse.ui.menus.UIElement;
 import org.jkiss.code.NotNull;
 import org.jkiss.dbeaver.core.CoreCommands;
 import org.jkiss.dbeaver.core.CoreMessages;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.tools.transfer.stream.impl.DataExporterCSV;
 import org.jkiss.dbeaver.ui.UIUtils;
+import org.jkiss.dbeaver.ui.controls.TextWithOpenFile;
 import org.jkiss.utils.ArrayUtils;
+import org.jkiss.utils.CommonUtils;
 
+import java.io.File;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -56,14 +65,44 @@ public class ResultSetCopySpecialHandler extends ResultSetCommandHandler impleme
             case CoreCommands.CMD_COPY_SPECIAL:
                 ConfigDialog configDialog = new ConfigDialog(HandlerUtil.getActiveShell(event));
                 if (configDialog.open() == IDialogConstants.OK_ID) {
-                    ResultSetUtils.copyToClipboard(resultSet.getActivePresentation().copySelectionToString(
-                        configDialog.copySettings));
+                    ResultSetCopySettings copySettings = configDialog.copySettings;
+                    if (copySettings.isCopyToFile() && resultSet instanceof ResultSetViewer) {
+                        copySelectionToFile((ResultSetViewer) resultSet, copySettings);
+                    } else {
+                        ResultSetUtils.copyToClipboard(resultSet.getActivePresentation().copySelectionToString(
+                            copySettings));
+                    }
                 }
                 break;
         }
         return null;
     }
 
+    private static void copySelectionToFile(ResultSetViewer resultSet, ResultSetCopySettings copySettings)
+    {
+        IResultSetSelection selection = resultSet.getSelection();
+        Collection<DBDAttributeBinding> attributes = selection.getSelectedAttributes();
+        Collection<ResultSetRow> rows = selection.getSelectedRows();
+        if (attributes.isEmpty() || rows.isEmpty()) {
+            return;
+        }
+        // Use the same exporter as data transfer so formatting is consistent
+        Map<Object, Object> exporterProperties = new HashMap<>();
+        exporterProperties.put("delimiter", copySettings.getColumnDelimiter());
+        exporterProperties.put("rowDelimiter", copySettings.getRowDelimiter());
+        exporterProperties.put("header", copySettings.isCopyHeader() ? "top" : "none");
+        String outputFile = copySettings.getOutputFile();
+        new ResultSetCopyJob(
+            resultSet,
+            attributes,
+            rows,
+            new DataExporterCSV(),
+            exporterProperties,
+            copySettings.getFormat(),
+            CommonUtils.isEmpty(outputFile) ? null : new File(outputFile),
+            copySettings.getClipboardPreviewRows()).schedule();
+    }
+
     @Override
     public void updateElement(UIElement element, Map parameters)
     {
@@ -77,6 +116,11 @@ public class ResultSetCopySpecialHandler extends ResultSetCommandHandler impleme
         public static final String PARAM_FORMAT = "format";
         public static final String PARAM_COL_DELIMITER = "delimiter";
         public static final String PARAM_ROW_DELIMITER = "rowDelimiter";
+        public static final String PARAM_COPY_TO_FILE = "copyToFile";
+        public static final String PARAM_OUTPUT_FILE = "outputFile";
+        public static final String PARAM_PREVIEW_ROWS = "previewRows";
+
+        public static final int DEFAULT_PREVIEW_ROWS = 1000;
 
         private final IDialogSettings settings;
 
@@ -85,6 +129,9 @@ public class ResultSetCopySpecialHandler extends ResultSetCommandHandler impleme
         private Combo formatCombo;
         private Combo colDelimCombo;
         private Combo rowDelimCombo;
+        private Button copyToFileCheck;
+        private TextWithOpenFile outputFileText;
+        private Spinner previewRowsSpinner;
 
         private ResultSetCopySettings copySettings;
 
@@ -98,6 +145,9 @@ public class ResultSetCopySpecialHandler extends ResultSetCommandHandler impleme
             copySettings.setFormat(DBDDisplayFormat.UI);
             copySettings.setColumnDelimiter("\t");
             copySettings.setRowDelimiter("\n");
+            copySettings.setCopyToFile(false);
+            copySettings.setOutputFile("");
+            copySettings.setClipboardPreviewRows(DEFAULT_PREVIEW_ROWS);
             if (settings.get(PARAM_COPY_HEADER) != null) {
                 copySettings.setCopyHeader(settings.getBoolean(PARAM_COPY_HEADER));
             }
@@ -113,6 +163,15 @@ public class ResultSetCopySpecialHandler extends ResultSetCommandHandler impleme
             if (settings.get(PARAM_ROW_DELIMITER) != null) {
                 copySettings.setRowDelimiter(settings.get(PARAM_ROW_DELIMITER));
             }
+            if (settings.get(PARAM_COPY_TO_FILE) != null) {
+                copySettings.setCopyToFile(settings.getBoolean(PARAM_COPY_TO_FILE));
+            }
+            if (settings.get(PARAM_OUTPUT_FILE) != null) {
+                copySettings.setOutputFile(settings.get(PARAM_OUTPUT_FILE));
+            }
+            if (settings.get(PARAM_PREVIEW_ROWS) != null) {
+                copySettings.setClipboardPreviewRows(settings.getInt(PARAM_PREVIEW_ROWS));
+            }
         }
 
         @Override
@@ -139,9 +198,30 @@ public class ResultSetCopySpecialHandler extends ResultSetCommandHandler impleme
 
             colDelimCombo = createDelimiterCombo(group, "Column Delimiter", new String[] {"\t", ";", ","}, copySettings.getColumnDelimiter());
             rowDelimCombo = createDelimiterCombo(group, "Row Delimiter", new String[] {"\n", "|", "^"}, copySettings.getRowDelimiter());
+
+            copyToFileCheck = UIUtils.createLabelCheckbox(group, "Copy to file", "Write selection to file in background. Use it for big selections", copySettings.isCopyToFile());
+            UIUtils.createControlLabel(group, "Output file");
+            outputFileText = new TextWithOpenFile(group, "Output file", new String[] {"*.csv", "*.txt", "*"});
+            outputFileText.setLayoutData(new GridData(GridData.FILL_HORIZONTAL));
+            outputFileText.getTextControl().setToolTipText("Leave empty to use temporary file");
+            outputFileText.setText(CommonUtils.notEmpty(copySettings.getOutputFile()));
+            previewRowsSpinner = UIUtils.createLabelSpinner(group, "Clipboard preview rows", "Number of first rows copied in clipboard when copying to file", copySettings.getClipboardPreviewRows(), 0, Integer.MAX_VALUE);
+            copyToFileCheck.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e) {
+                    updateFileControls();
+                }
+            });
+            updateFileControls();
             return group;
         }
 
+        private void updateFileControls() {
+            boolean copyToFile = copyToFileCheck.getSelection();
+            outputFileText.setEnabled(copyToFile);
+            previewRowsSpinner.setEnabled(copyToFile);
+        }
+
         private Combo createDelimiterCombo(Composite group, String label, String[] options, String defDelimiter) {
             UIUtils.createControlLabel(group, label);
             Combo combo = new Combo(group, SWT.BORDER | SWT.DROP_DOWN);
@@ -185,12 +265,24 @@ public class ResultSetCopySpecialHandler extends ResultSetCommandHandler impleme
             copySettings.setFormat(format);
             copySettings.setColumnDelimiter(convertDelimiterFromDisplay(colDelimCombo.getText()));
             copySettings.setRowDelimiter(convertDelimiterFromDisplay(rowDelimCombo.getText()));
+            if (copyToFileCheck.getSelection() && copySettings.getColumnDelimiter().length() != 1) {
+                // File is written by CSV exporter which supports single character delimiters only
+                UIUtils.showMessageBox(getShell(), "Copy to file", "Column delimiter must be a single character when copying to file", SWT.ICON_ERROR);
+                colDelimCombo.setFocus();
+                return;
+            }
+            copySettings.setCopyToFile(copyToFileCheck.getSelection());
+            copySettings.setOutputFile(outputFileText.getText().trim());
+            copySettings.setClipboardPreviewRows(previewRowsSpinner.getSelection());
 
             settings.put(PARAM_COPY_HEADER, copySettings.isCopyHeader());
             settings.put(PARAM_COPY_ROWS, copySettings.isCopyRowNumbers());
             settings.put(PARAM_FORMAT, format.name());
             settings.put(PARAM_COL_DELIMITER, copySettings.getColumnDelimiter());
             settings.put(PARAM_ROW_DELIMITER, copySettings.getRowDelimiter());
+            settings.put(PARAM_COPY_TO_FILE, copySettings.isCopyToFile());
+            settings.put(PARAM_OUTPUT_FILE, copySettings.getOutputFile());
+            settings.put(PARAM_PREVIEW_ROWS, copySettings.getClipboardPreviewRows());
             super.okPressed();
         }
     }
@@ -22,6 +22,7 @@ import org.jkiss.dbeaver.core.DBeaverUI;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.DBDAttributeBindingMeta;
 import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.data.DBDValueReader;
 import org.jkiss.dbeaver.model.exec.*;
 
 import java.util.ArrayList;
@@ -39,6 +40,8 @@ class ResultSetDataReceiver implements DBDDataReceiver {
     private ResultSetViewer resultSetViewer;
     private int columnsCount;
     private DBDAttributeBindingMeta[] metaColumns;
+    private DBDValueReader[] valueReaders;
+    private DBCResultSet valueReadersSource;
     private List<Object[]> rows = new ArrayList<>();
     private boolean hasMoreData;
     private boolean nextSegmentRead;
@@ -79,6 +82,8 @@ class ResultSetDataReceiver implements DBDDataReceiver {
         this.rows.clear();
         this.offset = offset;
         this.maxRows = maxRows;
+        this.valueReaders = null;
+        this.valueReadersSource = null;
 
         if (!nextSegmentRead) {
             // Get columns metadata
@@ -101,14 +106,15 @@ class ResultSetDataReceiver implements DBDDataReceiver {
     public void fetchRow(DBCSession session, DBCResultSet resultSet)
         throws DBCException
     {
+        if (valueReaders == null || valueReadersSource != resultSet) {
+            // Resolve column readers once per result set
+            valueReaders = DBUtils.createValueReaders(resultSet, metaColumns);
+            valueReadersSource = resultSet;
+        }
         Object[] row = new Object[columnsCount];
         for (int i = 0; i < columnsCount; i++) {
             try {
-                row[i] = metaColumns[i].getValueHandler().fetchValueObject(
-                    session,
-                    resultSet,
-                    metaColumns[i].getAttribute(),
-                    metaColumns[i].getOrdinalPosition());
+                row[i] = valueReaders[i].readValue(session, resultSet);
             }
             catch (Throwable e) {
                 // Do not reports the same error multiple times
@@ -0,0 +1,562 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.ui.controls.resultset;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBPDataKind;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDAttributeConstraint;
+import org.jkiss.dbeaver.model.data.DBDDataFilter;
+import org.jkiss.dbeaver.model.exec.DBCLogicalOperator;
+import org.jkiss.utils.CommonUtils;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sorts and filters fetched result set rows on the client side.
+ *
+ * Sort keys are extracted from rows once (into primitive arrays where possible),
+ * then row indexes are sorted with stable merge sort. Big row sets are sorted in parallel.
+ */
+class ResultSetLocalEngine {
+
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    private static final int PARALLEL_SORT_THRESHOLD = 8192;
+
+    private static ForkJoinPool sortPool;
+
+    /**
+     * Sorts rows by specified order constraints. Rows with equal keys keep their relative order.
+     */
+    static void sortRows(@NotNull ResultSetModel model, @NotNull List<ResultSetRow> rows, @NotNull List<DBDAttributeConstraint> orderConstraints)
+    {
+        final int rowCount = rows.size();
+        List<SortKey> keyList = new ArrayList<>();
+        for (DBDAttributeConstraint co : orderConstraints) {
+            final DBDAttributeBinding binding = model.getAttributeBinding(co.getAttribute());
+            if (binding != null) {
+                keyList.add(extractSortKey(model, binding, rows, co.isOrderDescending()));
+            }
+        }
+        if (keyList.isEmpty() || rowCount < 2) {
+            return;
+        }
+        final SortKey[] keys = keyList.toArray(new SortKey[keyList.size()]);
+        final int[] order = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            order[i] = i;
+        }
+        final int[] buffer = new int[rowCount];
+        if (rowCount > PARALLEL_SORT_THRESHOLD) {
+            getSortPool().invoke(new SortTask(order, buffer, 0, rowCount, keys));
+        } else {
+            mergeSort(order, buffer, 0, rowCount, keys);
+        }
+
+        ResultSetRow[] sortedRows = new ResultSetRow[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            sortedRows[i] = rows.get(order[i]);
+        }
+        for (int i = 0; i < rowCount; i++) {
+            rows.set(i, sortedRows[i]);
+        }
+    }
+
+    /**
+     * Compiles data filter conditions into row filter.
+     * Returns null if filter can't be evaluated locally the same way as database does it
+     * (custom criteria, string comparisons which depend on collation, unsupported operators, etc).
+     */
+    @Nullable
+    static RowFilter compileFilter(@NotNull ResultSetModel model, @NotNull DBDDataFilter dataFilter, @NotNull List<ResultSetRow> rows)
+    {
+        if (!CommonUtils.isEmpty(dataFilter.getWhere()) || !CommonUtils.isEmpty(dataFilter.getOrder())) {
+            return null;
+        }
+        List<RowCondition> conditions = new ArrayList<>();
+        for (DBDAttributeConstraint constraint : dataFilter.getConstraints()) {
+            if (!constraint.hasCondition()) {
+                continue;
+            }
+            if (!CommonUtils.isEmpty(constraint.getCriteria())) {
+                return null;
+            }
+            final DBDAttributeBinding binding = model.getAttributeBinding(constraint.getAttribute());
+            if (binding == null) {
+                return null;
+            }
+            final DBPDataKind dataKind = binding.getDataKind();
+            if (dataKind != DBPDataKind.NUMERIC && dataKind != DBPDataKind.DATETIME && dataKind != DBPDataKind.BOOLEAN) {
+                return null;
+            }
+            DBCLogicalOperator operator = constraint.getOperator();
+            boolean reverse = constraint.isReverseOperator();
+            final Object value = constraint.getValue();
+            Object[] arguments;
+            if (operator.getArgumentCount() == 0) {
+                if (DBUtils.isNullValue(value)) {
+                    // Reverse flag is ignored in this case (the same way as in SQL condition)
+                    reverse = false;
+                }
+                arguments = new Object[0];
+            } else if (DBUtils.isNullValue(value)) {
+                // Comparison with NULL means IS [NOT] NULL
+                operator = reverse ? DBCLogicalOperator.IS_NOT_NULL : DBCLogicalOperator.IS_NULL;
+                reverse = false;
+                arguments = new Object[0];
+            } else if (operator.getArgumentCount() == 1) {
+                arguments = new Object[] { value };
+            } else if (operator.getArgumentCount() < 0 && value.getClass().isArray()) {
+                arguments = new Object[Array.getLength(value)];
+                for (int i = 0; i < arguments.length; i++) {
+                    arguments[i] = Array.get(value, i);
+                }
+            } else {
+                return null;
+            }
+            switch (operator) {
+                case EQUALS:
+                case NOT_EQUALS:
+                case GREATER:
+                case GREATER_EQUALS:
+                case LESS:
+                case LESS_EQUALS:
+                case IS_NULL:
+                case IS_NOT_NULL:
+                case IN:
+                    break;
+                default:
+                    return null;
+            }
+            // Arguments must be comparable with all cell values
+            for (Object arg : arguments) {
+                if (DBUtils.isNullValue(arg)) {
+                    return null;
+                }
+            }
+            if (arguments.length > 0) {
+                for (ResultSetRow row : rows) {
+                    Object cellValue = model.getCellValue(binding, row);
+                    if (DBUtils.isNullValue(cellValue)) {
+                        continue;
+                    }
+                    for (Object arg : arguments) {
+                        if (!isComparable(cellValue, arg)) {
+                            return null;
+                        }
+                    }
+                }
+            }
+            conditions.add(new RowCondition(binding, operator, reverse, arguments));
+        }
+        return new RowFilter(model, conditions.toArray(new RowCondition[conditions.size()]), dataFilter.isAnyConstraint());
+    }
+
+    private static boolean isComparable(@NotNull Object value1, @NotNull Object value2)
+    {
+        if (value1 instanceof Number && value2 instanceof Number) {
+            return true;
+        }
+        return value1.getClass() == value2.getClass() && value1 instanceof Comparable;
+    }
+
+    /**
+     * Compares values the same way as database does. Numbers are compared by value regardless of their type and scale.
+     */
+    @SuppressWarnings("unchecked")
+    private static int compareValues(@NotNull Object value1, @NotNull Object value2)
+    {
+        if (value1 instanceof Number && value2 instanceof Number) {
+            return compareNumbers((Number) value1, (Number) value2);
+        }
+        return ((Comparable<Object>) value1).compareTo(value2);
+    }
+
+    private static int compareNumbers(@NotNull Number value1, @NotNull Number value2)
+    {
+        if (isInteger(value1) && isInteger(value2)) {
+            return Long.compare(value1.longValue(), value2.longValue());
+        }
+        if (isSpecialDouble(value1) || isSpecialDouble(value2)) {
+            return Double.compare(value1.doubleValue(), value2.doubleValue());
+        }
+        return toBigDecimal(value1).compareTo(toBigDecimal(value2));
+    }
+
+    private static boolean isInteger(Number value)
+    {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private static boolean isSpecialDouble(Number value)
+    {
+        return (value instanceof Double || value instanceof Float) &&
+            (Double.isNaN(value.doubleValue()) || Double.isInfinite(value.doubleValue()));
+    }
+
+    private static BigDecimal toBigDecimal(Number value)
+    {
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+            return new BigDecimal((BigInteger) value);
+        } else if (isInteger(value)) {
+            return BigDecimal.valueOf(value.longValue());
+        } else {
+            return BigDecimal.valueOf(value.doubleValue());
+        }
+    }
+
+    private static synchronized ForkJoinPool getSortPool()
+    {
+        if (sortPool == null) {
+            sortPool = new ForkJoinPool();
+        }
+        return sortPool;
+    }
+
+    private static SortKey extractSortKey(ResultSetModel model, DBDAttributeBinding binding, List<ResultSetRow> rows, boolean descending)
+    {
+        final int rowCount = rows.size();
+        final boolean[] nulls = new boolean[rowCount];
+        final Object[] values = new Object[rowCount];
+        boolean allIntegers = true, allDoubles = true, allNumbers = true, hasSpecialDoubles = false, sameClass = true;
+        Class<?> valueClass = null;
+        for (int i = 0; i < rowCount; i++) {
+            Object value = model.getCellValue(binding, rows.get(i));
+            if (DBUtils.isNullValue(value)) {
+                nulls[i] = true;
+                continue;
+            }
+            values[i] = value;
+            if (value instanceof Number) {
+                final Number number = (Number) value;
+                if (!isInteger(number)) {
+                    allIntegers = false;
+                }
+                if (value instanceof BigDecimal || value instanceof BigInteger) {
+                    allDoubles = false;
+                } else if (isSpecialDouble(number)) {
+                    hasSpecialDoubles = true;
+                }
+            } else {
+                allIntegers = allDoubles = allNumbers = false;
+            }
+            if (valueClass == null) {
+                valueClass = value.getClass();
+            } else if (valueClass != value.getClass()) {
+                sameClass = false;
+            }
+        }
+        if (allIntegers) {
+            long[] keys = new long[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                if (!nulls[i]) {
+                    keys[i] = ((Number) values[i]).longValue();
+                }
+            }
+            return new LongSortKey(nulls, descending, keys);
+        } else if (allDoubles || (allNumbers && hasSpecialDoubles)) {
+            // NaN and infinity can't be converted to BigDecimal - compare mixed numbers as doubles then
+            double[] keys = new double[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                if (!nulls[i]) {
+                    keys[i] = ((Number) values[i]).doubleValue();
+                }
+            }
+            return new DoubleSortKey(nulls, descending, keys);
+        } else if (allNumbers) {
+            // Mixed numeric types (e.g. BigDecimal and Double) are compared by value
+            BigDecimal[] keys = new BigDecimal[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                if (!nulls[i]) {
+                    keys[i] = toBigDecimal((Number) values[i]);
+                }
+            }
+            return new ComparableSortKey(nulls, descending, keys);
+        } else if (sameClass && valueClass != null && Comparable.class.isAssignableFrom(valueClass)) {
+            return new ComparableSortKey(nulls, descending, values);
+        } else {
+            String[] keys = new String[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                if (!nulls[i]) {
+                    keys[i] = String.valueOf(values[i]);
+                }
+            }
+            return new ComparableSortKey(nulls, descending, keys);
+        }
+    }
+
+    private static int compareRows(SortKey[] keys, int row1, int row2)
+    {
+        for (SortKey key : keys) {
+            int result = key.compare(row1, row2);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    private static void mergeSort(int[] order, int[] buffer, int low, int high, SortKey[] keys)
+    {
+        if (high - low <= INSERTION_SORT_THRESHOLD) {
+            for (int i = low + 1; i < high; i++) {
+                int row = order[i];
+                int k = i - 1;
+                while (k >= low && compareRows(keys, order[k], row) > 0) {
+                    order[k + 1] = order[k];
+                    k--;
+                }
+                order[k + 1] = row;
+            }
+            return;
+        }
+        int middle = (low + high) >>> 1;
+        mergeSort(order, buffer, low, middle, keys);
+        mergeSort(order, buffer, middle, high, keys);
+        merge(order, buffer, low, middle, high, keys);
+    }
+
+    private static void merge(int[] order, int[] buffer, int low, int middle, int high, SortKey[] keys)
+    {
+        if (compareRows(keys, order[middle - 1], order[middle]) <= 0) {
+            // Already ordered
+            return;
+        }
+        System.arraycopy(order, low, buffer, low, high - low);
+        int i = low, k = middle, pos = low;
+        while (i < middle && k < high) {
+            // Take from the right part only if it is strictly less - this keeps sort stable
+            if (compareRows(keys, buffer[k], buffer[i]) < 0) {
+                order[pos++] = buffer[k++];
+            } else {
+                order[pos++] = buffer[i++];
+            }
+        }
+        while (i < middle) {
+            order[pos++] = buffer[i++];
+        }
+        while (k < high) {
+            order[pos++] = buffer[k++];
+        }
+    }
+
+    private static class SortTask extends RecursiveAction {
+        private final int[] order;
+        private final int[] buffer;
+        private final int low;
+        private final int high;
+        private final SortKey[] keys;
+
+        SortTask(int[] order, int[] buffer, int low, int high, SortKey[] keys)
+        {
+            this.order = order;
+            this.buffer = buffer;
+            this.low = low;
+            this.high = high;
+            this.keys = keys;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if (high - low <= PARALLEL_SORT_THRESHOLD) {
+                mergeSort(order, buffer, low, high, keys);
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            invokeAll(
+                new SortTask(order, buffer, low, middle, keys),
+                new SortTask(order, buffer, middle, high, keys));
+            merge(order, buffer, low, middle, high, keys);
+        }
+    }
+
+    private static abstract class SortKey {
+        private final boolean[] nulls;
+        private final boolean descending;
+
+        SortKey(boolean[] nulls, boolean descending)
+        {
+            this.nulls = nulls;
+            this.descending = descending;
+        }
+
+        int compare(int row1, int row2)
+        {
+            final boolean null1 = nulls[row1], null2 = nulls[row2];
+            int result;
+            if (null1 || null2) {
+                // Nulls go last
+                result = null1 == null2 ? 0 : (null1 ? 1 : -1);
+            } else {
+                result = compareValues(row1, row2);
+            }
+            return descending ? -result : result;
+        }
+
+        abstract int compareValues(int row1, int row2);
+    }
+
+    private static class LongSortKey extends SortKey {
+        private final long[] values;
+
+        LongSortKey(boolean[] nulls, boolean descending, long[] values)
+        {
+            super(nulls, descending);
+            this.values = values;
+        }
+
+        @Override
+        int compareValues(int row1, int row2)
+        {
+            return Long.compare(values[row1], values[row2]);
+        }
+    }
+
+    private static class DoubleSortKey extends SortKey {
+        private final double[] values;
+
+        DoubleSortKey(boolean[] nulls, boolean descending, double[] values)
+        {
+            super(nulls, descending);
+            this.values = values;
+        }
+
+        @Override
+        int compareValues(int row1, int row2)
+        {
+            return Double.compare(values[row1], values[row2]);
+        }
+    }
+
+    private static class ComparableSortKey extends SortKey {
+        private final Object[] values;
+
+        ComparableSortKey(boolean[] nulls, boolean descending, Object[] values)
+        {
+            super(nulls, descending);
+            this.values = values;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        int compareValues(int row1, int row2)
+        {
+            return ((Comparable<Object>) values[row1]).compareTo(values[row2]);
+        }
+    }
+
+    private static class RowCondition {
+        private final DBDAttributeBinding binding;
+        private final DBCLogicalOperator operator;
+        private final boolean reverse;
+        private final Object[] arguments;
+
+        RowCondition(DBDAttributeBinding binding, DBCLogicalOperator operator, boolean reverse, Object[] arguments)
+        {
+            this.binding = binding;
+            this.operator = operator;
+            this.reverse = reverse;
+            this.arguments = arguments;
+        }
+    }
+
+    /**
+     * Compiled data filter
+     */
+    static class RowFilter {
+        private final ResultSetModel model;
+        private final RowCondition[] conditions;
+        private final boolean anyCondition;
+
+        private RowFilter(ResultSetModel model, RowCondition[] conditions, boolean anyCondition)
+        {
+            this.model = model;
+            this.conditions = conditions;
+            this.anyCondition = anyCondition;
+        }
+
+        boolean matches(@NotNull ResultSetRow row)
+        {
+            if (conditions.length == 0) {
+                return true;
+            }
+            for (RowCondition condition : conditions) {
+                Object value = model.getCellValue(condition.binding, row);
+                boolean result;
+                if (DBUtils.isNullValue(value) && condition.operator.getArgumentCount() != 0) {
+                    // Any comparison with NULL is false in SQL (even negated)
+                    result = false;
+                } else {
+                    result = evaluate(condition.operator, DBUtils.isNullValue(value) ? null : value, condition.arguments);
+                    if (condition.reverse) {
+                        result = !result;
+                    }
+                }
+                if (anyCondition && result) {
+                    return true;
+                } else if (!anyCondition && !result) {
+                    return false;
+                }
+            }
+            return !anyCondition;
+        }
+
+        private static boolean evaluate(DBCLogicalOperator operator, Object value, Object[] arguments)
+        {
+            switch (operator) {
+                case IS_NULL:
+                    return value == null;
+                case IS_NOT_NULL:
+                    return value != null;
+                case EQUALS:
+                    return compareValues(value, arguments[0]) == 0;
+                case NOT_EQUALS:
+                    return compareValues(value, arguments[0]) != 0;
+                case GREATER:
+                    return compareValues(value, arguments[0]) > 0;
+                case GREATER_EQUALS:
+                    return compareValues(value, arguments[0]) >= 0;
+                case LESS:
+                    return compareValues(value, arguments[0]) < 0;
+                case LESS_EQUALS:
+                    return compareValues(value, arguments[0]) <= 0;
+                case IN:
+                    for (Object arg : arguments) {
+                        if (compareValues(value, arg) == 0) {
+                            return true;
+                        }
+                    }
+                    return false;
+                default:
+                    throw new IllegalArgumentException("Operator " + operator + " can't be evaluated locally");
+            }
+        }
+    }
+
+}
@@ -59,6 +59,10 @@ public class ResultSetModel {
 
     // Data
     private List<ResultSetRow> curRows = new ArrayList<>();
+    // Fetched rows which do not match local data filter
+    private List<ResultSetRow> hiddenRows = new ArrayList<>();
+    // Rows were read with server-side filter conditions
+    private boolean serverFiltered;
     private Long totalRowCount = null;
     private int changesCount = 0;
     private volatile boolean hasData = false;
@@ -425,6 +429,9 @@ public class ResultSetModel {
             } else {
                 row.values[rootIndex] = value;
             }
+            if (colorMapping.containsKey(attr)) {
+                updateRowColors(row);
+            }
             return true;
         }
         return false;
@@ -600,6 +607,9 @@ public class ResultSetModel {
         updateRowColors(curRows);
     }
 
+    /**
+     * Evaluates color rules once per row, so painting doesn't need to evaluate them per cell
+     */
     private void updateRowColors(List<ResultSetRow> rows) {
         if (colorMapping.isEmpty()) {
             for (ResultSetRow row : rows) {
@@ -607,16 +617,21 @@ public class ResultSetModel {
                 row.background = null;
             }
         } else {
-            for (Map.Entry<DBDAttributeBinding, AttributeColorSettings> entry : colorMapping.entrySet()) {
-                for (ResultSetRow row : rows) {
-                    final DBDAttributeBinding binding = entry.getKey();
-                    final Object cellValue = getCellValue(binding, row);
-                    //final String cellStringValue = binding.getValueHandler().getValueDisplayString(binding, cellValue, DBDDisplayFormat.NATIVE);
-                    if (entry.getValue().evaluate(cellValue)) {
-                        row.foreground = entry.getValue().colorForeground;
-                        row.background = entry.getValue().colorBackground;
-                    }
-                }
+            for (ResultSetRow row : rows) {
+                updateRowColors(row);
+            }
+        }
+    }
+
+    private void updateRowColors(ResultSetRow row) {
+        row.foreground = null;
+        row.background = null;
+        // The last matched rule wins
+        for (Map.Entry<DBDAttributeBinding, AttributeColorSettings> entry : colorMapping.entrySet()) {
+            final Object cellValue = getCellValue(entry.getKey(), row);
+            if (entry.getValue().evaluate(cellValue)) {
+                row.foreground = entry.getValue().colorForeground;
+                row.background = entry.getValue().colorBackground;
             }
         }
     }
@@ -672,7 +687,7 @@ public class ResultSetModel {
     }
 
     ResultSetRow addNewRow(int rowNum, @NotNull Object[] data) {
-        ResultSetRow newRow = new ResultSetRow(curRows.size(), data);
+        ResultSetRow newRow = new ResultSetRow(curRows.size() + hiddenRows.size(), data);
         newRow.setVisualNumber(rowNum);
         newRow.setState(ResultSetRow.STATE_ADDED);
         shiftRows(newRow, 1);
@@ -734,11 +749,19 @@ public class ResultSetModel {
                 row.setRowNumber(row.getRowNumber() + delta);
             }
         }
+        // Hidden rows get their visual numbers back from resetOrdering, so only source order matters here
+        for (ResultSetRow row : hiddenRows) {
+            if (row.getRowNumber() >= relative.getRowNumber()) {
+                row.setRowNumber(row.getRowNumber() + delta);
+            }
+        }
     }
 
     private void releaseAll() {
         final List<ResultSetRow> oldRows = curRows;
+        oldRows.addAll(hiddenRows);
         this.curRows = new ArrayList<>();
+        this.hiddenRows = new ArrayList<>();
         this.totalRowCount = null;
 
         // Cleanup in separate job.
@@ -835,51 +858,65 @@ public class ResultSetModel {
     }
 
     public void resetOrdering() {
-        final boolean hasOrdering = dataFilter.hasOrdering();
         // Sort locally
-        final List<DBDAttributeConstraint> orderConstraints = dataFilter.getOrderConstraints();
-        Collections.sort(curRows, new Comparator<ResultSetRow>() {
-            @Override
-            public int compare(ResultSetRow row1, ResultSetRow row2) {
-                if (!hasOrdering) {
+        if (dataFilter.hasOrdering()) {
+            ResultSetLocalEngine.sortRows(this, curRows, dataFilter.getOrderConstraints());
+        } else {
+            Collections.sort(curRows, new Comparator<ResultSetRow>() {
+                @Override
+                public int compare(ResultSetRow row1, ResultSetRow row2) {
                     return row1.getRowNumber() - row2.getRowNumber();
                 }
-                int result = 0;
-                for (DBDAttributeConstraint co : orderConstraints) {
-                    final DBDAttributeBinding binding = getAttributeBinding(co.getAttribute());
-                    if (binding == null) {
-                        continue;
-                    }
-                    Object cell1 = getCellValue(binding, row1);
-                    Object cell2 = getCellValue(binding, row2);
-                    if (cell1 == cell2) {
-                        result = 0;
-                    } else if (DBUtils.isNullValue(cell1)) {
-                        result = 1;
-                    } else if (DBUtils.isNullValue(cell2)) {
-                        result = -1;
-                    } else if (cell1 instanceof Comparable) {
-                        result = ((Comparable) cell1).compareTo(cell2);
-                    } else {
-                        String str1 = String.valueOf(cell1);
-                        String str2 = String.valueOf(cell2);
-                        result = str1.compareTo(str2);
-                    }
-                    if (co.isOrderDescending()) {
-                        result = -result;
-                    }
-                    if (result != 0) {
-                        break;
-                    }
-                }
-                return result;
-            }
-        });
+            });
+        }
         for (int i = 0; i < curRows.size(); i++) {
             curRows.get(i).setVisualNumber(i);
         }
     }
 
+    boolean isServerFiltered() {
+        return serverFiltered;
+    }
+
+    void setServerFiltered(boolean serverFiltered) {
+        this.serverFiltered = serverFiltered;
+    }
+
+    /**
+     * Applies data filter to already fetched rows.
+     * Rows which do not match the filter are hidden (not released) so next filter may show them again.
+     *
+     * @param filter new data filter
+     * @return false if filter can't be applied locally and data must be re-read from server
+     */
+    boolean applyLocalFilter(@NotNull DBDDataFilter filter) {
+        if (serverFiltered || !hasData) {
+            return false;
+        }
+        List<ResultSetRow> allRows = new ArrayList<>(curRows.size() + hiddenRows.size());
+        allRows.addAll(curRows);
+        allRows.addAll(hiddenRows);
+        final ResultSetLocalEngine.RowFilter rowFilter = ResultSetLocalEngine.compileFilter(this, filter, allRows);
+        if (rowFilter == null) {
+            return false;
+        }
+        setDataFilter(filter);
+
+        List<ResultSetRow> matchedRows = new ArrayList<>();
+        List<ResultSetRow> skippedRows = new ArrayList<>();
+        for (ResultSetRow row : allRows) {
+            if (rowFilter.matches(row)) {
+                matchedRows.add(row);
+            } else {
+                skippedRows.add(row);
+            }
+        }
+        this.curRows = matchedRows;
+        this.hiddenRows = skippedRows;
+        resetOrdering();
+        return true;
+    }
+
     private void fillVisibleAttributes() {
         this.visibleAttributes.clear();
 
@@ -2118,6 +2118,15 @@ public class ResultSetViewer extends Viewer
 
         DBSDataContainer dataContainer = getDataContainer();
         if (dataContainer != null) {
+            if (dataPumpJob == null && !isHasMoreData() && !ResultSetUtils.isServerSideFiltering(this) && model.applyLocalFilter(filter)) {
+                // All rows were fetched - no need to read them again
+                curRow = model.getRowCount() > 0 ? model.getRow(0) : null;
+                setNewState(dataContainer, filter);
+                activePresentation.refreshData(true, false, true);
+                updateFiltersText();
+                updateEditControls();
+                return;
+            }
             runDataPump(
                 dataContainer,
                 filter,
@@ -2301,6 +2310,7 @@ public class ResultSetViewer extends Viewer
                                     "Query execution failed",
                                     error);
                             } else {
+                                model.setServerFiltered(useDataFilter != null && useDataFilter.hasConditions());
                                 if (!metadataChanged && focusRow >= 0 && focusRow < model.getRowCount() && model.getVisibleAttributeCount() > 0) {
                                     // Seems to be refresh
                                     // Restore original position
@@ -0,0 +1,237 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jkiss.dbeaver.ui.controls.resultset.plaintext;
+
+import org.eclipse.swt.custom.StyledTextContent;
+import org.eclipse.swt.custom.TextChangeListener;
+import org.eclipse.swt.custom.TextChangedEvent;
+import org.eclipse.swt.custom.TextChangingEvent;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetModel;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetRow;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Virtual content of plain text grid.
+ * All grid lines have the same length so line offsets are calculated and lines are rendered
+ * from the model on demand. Only recently rendered lines are kept.
+ */
+class PlainTextContent implements StyledTextContent {
+
+    private static final String LINE_DELIMITER = "\n";
+    private static final int LINE_CACHE_SIZE = 500;
+
+    private final ResultSetModel model;
+    private final List<DBDAttributeBinding> attrs;
+    private final int[] colWidths;
+    private final int lineLength;
+    private final String headerLine;
+    private final String dividerLine;
+    private int rowCount;
+
+    private final List<TextChangeListener> listeners = new ArrayList<>();
+    private final Map<Integer, String> lineCache = new LinkedHashMap<Integer, String>(LINE_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+            return size() > LINE_CACHE_SIZE;
+        }
+    };
+
+    PlainTextContent(ResultSetModel model, List<DBDAttributeBinding> attrs, int[] colWidths, int rowCount) {
+        this.model = model;
+        this.attrs = new ArrayList<>(attrs);
+        this.colWidths = colWidths;
+        this.rowCount = rowCount;
+
+        int length = 0;
+        for (int width : colWidths) {
+            length += width + 1;
+        }
+        this.lineLength = length;
+
+        StringBuilder line = new StringBuilder(lineLength);
+        for (int i = 0; i < this.attrs.size(); i++) {
+            appendCell(line, PlainTextPresentation.getAttributeName(this.attrs.get(i)), colWidths[i]);
+        }
+        this.headerLine = line.toString();
+
+        line.setLength(0);
+        for (int width : colWidths) {
+            for (int k = width; k > 0; k--) {
+                line.append("-");
+            }
+            line.append("|");
+        }
+        this.dividerLine = line.toString();
+    }
+
+    int[] getColumnWidths() {
+        return colWidths;
+    }
+
+    int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Appends lines of rows which were added to the model after this content creation.
+     */
+    void appendRows(int newRowCount) {
+        if (newRowCount <= rowCount) {
+            return;
+        }
+        StringBuilder newText = new StringBuilder((lineLength + 1) * (newRowCount - rowCount));
+        for (int i = rowCount; i < newRowCount; i++) {
+            newText.append(LINE_DELIMITER).append(getRowLine(i));
+        }
+        TextChangingEvent changingEvent = new TextChangingEvent(this);
+        changingEvent.start = getCharCount();
+        changingEvent.newText = newText.toString();
+        changingEvent.replaceCharCount = 0;
+        changingEvent.newCharCount = newText.length();
+        changingEvent.replaceLineCount = 0;
+        changingEvent.newLineCount = newRowCount - rowCount;
+        for (TextChangeListener listener : new ArrayList<>(listeners)) {
+            listener.textChanging(changingEvent);
+        }
+
+        rowCount = newRowCount;
+
+        TextChangedEvent changedEvent = new TextChangedEvent(this);
+        for (TextChangeListener listener : new ArrayList<>(listeners)) {
+            listener.textChanged(changedEvent);
+        }
+    }
+
+    @Override
+    public void addTextChangeListener(TextChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeTextChangeListener(TextChangeListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public int getCharCount() {
+        return getLineCount() * (lineLength + 1) - 1;
+    }
+
+    @Override
+    public String getLine(int lineIndex) {
+        if (lineIndex == 0) {
+            return headerLine;
+        } else if (lineIndex == 1) {
+            return dividerLine;
+        }
+        String line = lineCache.get(lineIndex);
+        if (line == null) {
+            line = getRowLine(lineIndex - PlainTextPresentation.FIRST_ROW_LINE);
+            lineCache.put(lineIndex, line);
+        }
+        return line;
+    }
+
+    @Override
+    public int getLineAtOffset(int offset) {
+        return Math.max(0, Math.min(offset / (lineLength + 1), getLineCount() - 1));
+    }
+
+    @Override
+    public int getLineCount() {
+        return PlainTextPresentation.FIRST_ROW_LINE + rowCount;
+    }
+
+    @Override
+    public String getLineDelimiter() {
+        return LINE_DELIMITER;
+    }
+
+    @Override
+    public int getOffsetAtLine(int lineIndex) {
+        return lineIndex * (lineLength + 1);
+    }
+
+    @Override
+    public String getTextRange(int start, int length) {
+        StringBuilder text = new StringBuilder(length);
+        int end = start + length;
+        int lineCount = getLineCount();
+        for (int line = getLineAtOffset(start); line < lineCount; line++) {
+            int lineStart = getOffsetAtLine(line);
+            if (lineStart >= end) {
+                break;
+            }
+            int from = Math.max(start - lineStart, 0);
+            int to = Math.min(end - lineStart, lineLength);
+            if (from < to) {
+                text.append(getLine(line), from, to);
+            }
+            if (end > lineStart + lineLength && start <= lineStart + lineLength && line < lineCount - 1) {
+                text.append(LINE_DELIMITER);
+            }
+        }
+        return text.toString();
+    }
+
+    @Override
+    public void replaceTextRange(int start, int replaceLength, String text) {
+        // Read-only content
+    }
+
+    @Override
+    public void setText(String text) {
+        // Read-only content
+    }
+
+    private String getRowLine(int rowIndex) {
+        List<ResultSetRow> allRows = model.getAllRows();
+        StringBuilder line = new StringBuilder(lineLength);
+        if (rowIndex >= allRows.size()) {
+            // Model was changed and content wasn't refreshed yet
+            for (int k = lineLength; k > 0; k--) {
+                line.append(" ");
+            }
+            return line.toString();
+        }
+        ResultSetRow row = allRows.get(rowIndex);
+        for (int i = 0; i < attrs.size(); i++) {
+            appendCell(line, PlainTextPresentation.getCellString(model, attrs.get(i), row), colWidths[i]);
+        }
+        return line.toString();
+    }
+
+    private static void appendCell(StringBuilder line, String value, int width) {
+        if (value.length() >= width - 1) {
+            value = CommonUtils.truncateString(value, Math.max(width - 1, 0));
+        }
+        line.append(value);
+        for (int k = width - value.length(); k > 0; k--) {
+            line.append(" ");
+        }
+        line.append("|");
+    }
+
+}
@@ -61,8 +61,12 @@ import java.util.List;
 public class PlainTextPresentation extends AbstractPresentation implements IAdaptable {
 
     public static final int FIRST_ROW_LINE = 2;
+    // Maximum number of rows used to calculate column widths
+    private static final int MAX_SAMPLE_ROWS = 1000;
 
     private StyledText text;
+    private StyledTextContent defaultContent;
+    private PlainTextContent gridContent;
     private DBDAttributeBinding curAttribute;
     private StyledTextFindReplaceTarget findReplaceTarget;
     public boolean activated;
@@ -84,6 +88,7 @@ public class PlainTextPresentation extends AbstractPresentation implements IAdap
         text.setMargins(4, 4, 4, 4);
         text.setFont(JFaceResources.getFont(JFaceResources.TEXT_FONT));
         text.setLayoutData(new GridData(GridData.FILL_BOTH));
+        defaultContent = text.getContent();
         text.addCaretListener(new CaretListener() {
             @Override
             public void caretMoved(CaretEvent event) {
@@ -194,7 +199,9 @@ public class PlainTextPresentation extends AbstractPresentation implements IAdap
 
     @Override
     public void refreshData(boolean refreshMetadata, boolean append, boolean keepState) {
-        colWidths = null;
+        if (!append) {
+            colWidths = null;
+        }
         if (controller.isRecordMode()) {
             printRecord();
         } else {
@@ -203,89 +210,50 @@ public class PlainTextPresentation extends AbstractPresentation implements IAdap
     }
 
     private void printGrid(boolean append) {
-        int maxColumnSize = getController().getPreferenceStore().getInt(DBeaverPreferences.RESULT_TEXT_MAX_COLUMN_SIZE);
-        StringBuilder grid = new StringBuilder(512);
         ResultSetModel model = controller.getModel();
-        List<DBDAttributeBinding> attrs = model.getVisibleAttributes();
-
         List<ResultSetRow> allRows = model.getAllRows();
-        if (colWidths == null) {
-            // Calculate column widths
-            colWidths = new int[attrs.size()];
-
-            for (int i = 0; i < attrs.size(); i++) {
-                DBDAttributeBinding attr = attrs.get(i);
-                colWidths[i] = getAttributeName(attr).length();
-                for (ResultSetRow row : allRows) {
-                    String displayString = getCellString(model, attr, row);
-                    colWidths[i] = Math.max(colWidths[i], displayString.length());
-                }
-            }
-            for (int i = 0; i < colWidths.length; i++) {
-                colWidths[i]++;
-                if (colWidths[i] > maxColumnSize) {
-                    colWidths[i] = maxColumnSize;
-                }
+        if (append && gridContent != null && text.getContent() == gridContent) {
+            // Add lines of the new segment
+            gridContent.appendRows(allRows.size());
+        } else {
+            List<DBDAttributeBinding> attrs = model.getVisibleAttributes();
+            if (colWidths == null) {
+                colWidths = calculateColumnWidths(model, attrs, allRows);
             }
+            // Lines are rendered on demand
+            gridContent = new PlainTextContent(model, attrs, colWidths, allRows.size());
+            text.setContent(gridContent);
         }
 
-        if (!append) {
-            // Print header
-            for (int i = 0; i < attrs.size(); i++) {
-                DBDAttributeBinding attr = attrs.get(i);
-                String attrName = getAttributeName(attr);
-                grid.append(attrName);
-                for (int k = colWidths[i] - attrName.length(); k > 0; k--) {
-                    grid.append(" ");
-                }
-                grid.append("|");
-            }
-            grid.append("\n");
+        totalRows = allRows.size();
+    }
 
-            // Print divider
-            // Print header
+    private int[] calculateColumnWidths(ResultSetModel model, List<DBDAttributeBinding> attrs, List<ResultSetRow> allRows) {
+        int maxColumnSize = getController().getPreferenceStore().getInt(DBeaverPreferences.RESULT_TEXT_MAX_COLUMN_SIZE);
+        int[] widths = new int[attrs.size()];
+        for (int i = 0; i < attrs.size(); i++) {
+            widths[i] = getAttributeName(attrs.get(i)).length();
+        }
+        // Evenly sample rows. Longer values are truncated anyway
+        int rowStep = Math.max(1, allRows.size() / MAX_SAMPLE_ROWS);
+        for (int r = 0; r < allRows.size(); r += rowStep) {
+            ResultSetRow row = allRows.get(r);
             for (int i = 0; i < attrs.size(); i++) {
-                for (int k = colWidths[i]; k > 0; k--) {
-                    grid.append("-");
+                if (widths[i] < maxColumnSize) {
+                    widths[i] = Math.max(widths[i], getCellString(model, attrs.get(i), row).length());
                 }
-                grid.append("|");
             }
-            grid.append("\n");
         }
-
-        // Print rows
-        int firstRow = append ? totalRows : 0;
-        if (append) {
-            grid.append("\n");
-        }
-        for (int i = firstRow; i < allRows.size(); i++) {
-            ResultSetRow row = allRows.get(i);
-            for (int k = 0; k < attrs.size(); k++) {
-                DBDAttributeBinding attr = attrs.get(k);
-                String displayString = getCellString(model, attr, row);
-                if (displayString.length() >= colWidths[k] - 1) {
-                    displayString = CommonUtils.truncateString(displayString, colWidths[k] - 1);
-                }
-                grid.append(displayString);
-                for (int j = colWidths[k] - displayString.length(); j > 0; j--) {
-                    grid.append(" ");
-                }
-                grid.append("|");
+        for (int i = 0; i < widths.length; i++) {
+            widths[i]++;
+            if (widths[i] > maxColumnSize) {
+                widths[i] = maxColumnSize;
             }
-            grid.append("\n");
         }
-        grid.setLength(grid.length() - 1); // cut last line feed
-
-        if (append) {
-            text.append(grid.toString());
-        } else {
-            text.setText(grid.toString());
-        }
-
-        totalRows = allRows.size();
+        return widths;
     }
 
-    private static String getAttributeName(DBDAttributeBinding attr) {
+    static String getAttributeName(DBDAttributeBinding attr) {
         if (CommonUtils.isEmpty(attr.getLabel())) {
             return attr.getName();
         } else {
@@ -293,7 +261,7 @@ public class PlainTextPresentation extends AbstractPresentation implements IAdap
         }
     }
 
-    private String getCellString(ResultSetModel model, DBDAttributeBinding attr, ResultSetRow row) {
+    static String getCellString(ResultSetModel model, DBDAttributeBinding attr, ResultSetRow row) {
         String displayString = attr.getValueHandler().getValueDisplayString(attr, model.getCellValue(attr, row), DBDDisplayFormat.EDIT);
         return TextUtils.getSingleLineString(displayString);
     }
@@ -338,6 +306,10 @@ public class PlainTextPresentation extends AbstractPresentation implements IAdap
             grid.append("\n");
         }
         grid.setLength(grid.length() - 1); // cut last line feed
+        if (text.getContent() != defaultContent) {
+            text.setContent(defaultContent);
+            gridContent = null;
+        }
         text.setText(grid.toString());
     }
 
@@ -349,6 +321,7 @@ public class PlainTextPresentation extends AbstractPresentation implements IAdap
     @Override
     public void clearMetaData() {
         colWidths = null;
+        gridContent = null;
         curLineRange = null;
         totalRows = 0;
     }
@@ -141,6 +141,9 @@ public class SpreadsheetPresentation extends AbstractPresentation implements IRe
     private boolean showOddRows = true;
     private boolean showCelIcons = true;
 
+    // Texts of recently painted cells
+    private final SpreadsheetTextCache cellTextCache = new SpreadsheetTextCache();
+
     public SpreadsheetPresentation() {
         findReplaceTarget = new SpreadsheetFindReplaceTarget(this);
 
@@ -550,6 +553,9 @@ public class SpreadsheetPresentation extends AbstractPresentation implements IRe
         DBPPreferenceStore preferenceStore = getPreferenceStore();
         showOddRows = preferenceStore.getBoolean(DBeaverPreferences.RESULT_SET_SHOW_ODD_ROWS);
         showCelIcons = preferenceStore.getBoolean(DBeaverPreferences.RESULT_SET_SHOW_CELL_ICONS);
+        if (!append) {
+            cellTextCache.clear();
+        }
 
         spreadsheet.setRedraw(false);
         try {
@@ -561,12 +567,14 @@ public class SpreadsheetPresentation extends AbstractPresentation implements IRe
 
     @Override
     public void formatData(boolean refreshData) {
+        cellTextCache.clear();
         reorderLocally();
         spreadsheet.refreshData(false, true);
     }
 
     @Override
     public void clearMetaData() {
+        cellTextCache.clear();
         this.curAttribute = null;
         this.columnOrder = SWT.NONE;
     }
@@ -1084,7 +1092,7 @@ public class SpreadsheetPresentation extends AbstractPresentation implements IRe
         public Collection<DBDAttributeBinding> getSelectedAttributes() {
             if (controller.isRecordMode()) {
                 List<DBDAttributeBinding> attrs = new ArrayList<>();
-                for (Integer row : spreadsheet.getRowSelection()) {
+                for (int row : spreadsheet.getRowSelection()) {
                     attrs.add(controller.getModel().getVisibleAttribute(row));
                 }
                 return attrs;
@@ -1109,7 +1117,7 @@ public class SpreadsheetPresentation extends AbstractPresentation implements IRe
                 return Collections.singletonList(currentRow);
             } else {
                 List<ResultSetRow> rows = new ArrayList<>();
-                for (Integer row : spreadsheet.getRowSelection()) {
+                for (int row : spreadsheet.getRowSelection()) {
                     rows.add(controller.getModel().getRow(row));
                 }
                 Collections.sort(rows, new Comparator<ResultSetRow>() {
@@ -1309,10 +1317,16 @@ public class SpreadsheetPresentation extends AbstractPresentation implements IRe
                         return "[" + ((DBDComposite) value).getDataType().getName() + "]";
                     }
                 }
-                return attr.getValueRenderer().getValueDisplayString(
-                    attr.getAttribute(),
-                    value,
-                    DBDDisplayFormat.UI);
+                DBDValueRenderer renderer = attr.getValueRenderer();
+                String text = cellTextCache.getText(row, attr, value, renderer);
+                if (text == null) {
+                    text = renderer.getValueDisplayString(
+                        attr.getAttribute(),
+                        value,
+                        DBDDisplayFormat.UI);
+                    cellTextCache.putText(row, attr, value, renderer, text);
+                }
+                return text;
             } else {
                 return value;
             }
@@ -0,0 +1,103 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jkiss.dbeaver.ui.controls.resultset.spreadsheet;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDValue;
+import org.jkiss.dbeaver.ui.controls.resultset.ResultSetRow;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of formatted cell texts.
+ * Each text is stored along with the value and the renderer it was made of, so edited cells
+ * and changed renderers are re-formatted automatically.
+ */
+class SpreadsheetTextCache {
+
+    private static final int MAX_CACHE_SIZE = 20000;
+
+    private static class CellKey {
+        private final ResultSetRow row;
+        private final DBDAttributeBinding attribute;
+
+        CellKey(ResultSetRow row, DBDAttributeBinding attribute) {
+            this.row = row;
+            this.attribute = attribute;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof CellKey)) {
+                return false;
+            }
+            CellKey key = (CellKey) obj;
+            return row == key.row && attribute == key.attribute;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(row) * 31 + System.identityHashCode(attribute);
+        }
+    }
+
+    private static class CellText {
+        private final Object value;
+        private final Object renderer;
+        private final String text;
+
+        CellText(Object value, Object renderer, String text) {
+            this.value = value;
+            this.renderer = renderer;
+            this.text = text;
+        }
+    }
+
+    private final Map<CellKey, CellText> cache = new LinkedHashMap<CellKey, CellText>(1024, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CellKey, CellText> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    @Nullable
+    String getText(@NotNull ResultSetRow row, @NotNull DBDAttributeBinding attribute, @Nullable Object value, @NotNull Object renderer) {
+        CellText cellText = cache.get(new CellKey(row, attribute));
+        if (cellText != null && cellText.value == value && cellText.renderer == renderer) {
+            return cellText.text;
+        }
+        return null;
+    }
+
+    void putText(@NotNull ResultSetRow row, @NotNull DBDAttributeBinding attribute, @Nullable Object value, @NotNull Object renderer, @NotNull String text) {
+        if (value instanceof DBDValue) {
+            // Complex values may be changed in place
+            return;
+        }
+        cache.put(new CellKey(row, attribute), new CellText(value, renderer, text));
+    }
+
+    void clear() {
+        cache.clear();
+    }
+
+}
@@ -25,6 +25,7 @@ import org.eclipse.ui.IWorkbench;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.ui.dialogs.DialogUtils;
+import org.jkiss.dbeaver.utils.RuntimeUtils;
 
 import java.io.File;
 import java.util.Collection;
@@ -38,6 +39,7 @@ public abstract class AbstractImportExportWizard<PROCESS_ARG> extends AbstractTo
 
     protected File outputFolder = new File(DialogUtils.getCurDialogFolder());
     protected String outputFilePattern;
+    private String runTimestamp;
 
     protected AbstractImportExportWizard(Collection<DBSObject> objects, String title) {
         super(objects, title);
@@ -64,6 +66,16 @@ public abstract class AbstractImportExportWizard<PROCESS_ARG> extends AbstractTo
         this.outputFilePattern = outputFilePattern;
     }
 
+    /**
+     * Timestamp of the current run. All files produced by one run (possibly by parallel processes) share it.
+     */
+    protected synchronized String getRunTimestamp() {
+        if (runTimestamp == null) {
+            runTimestamp = RuntimeUtils.getCurrentTimeStamp();
+        }
+        return runTimestamp;
+    }
+
     @Override
     public void init(IWorkbench workbench, IStructuredSelection selection) {
         setWindowTitle(task);
@@ -78,7 +78,15 @@ public abstract class AbstractScriptExecuteWizard<BASE_OBJECT extends DBSObject,
         logPage.startLogReader(
             processBuilder,
             process.getInputStream());
-        new TextFileTransformerJob(monitor, inputFile, process.getOutputStream(), getInputCharset(), getOutputCharset()).start();
+        new TextFileTransformerJob(monitor, getProcessInputFile(arg), process.getOutputStream(), getInputCharset(), getOutputCharset()).start();
+    }
+
+    /**
+     * Script file which is passed to the process. Wizards which split input into several scripts override it.
+     */
+    protected File getProcessInputFile(PROCESS_ARG arg)
+    {
+        return inputFile;
     }
 
     @Override
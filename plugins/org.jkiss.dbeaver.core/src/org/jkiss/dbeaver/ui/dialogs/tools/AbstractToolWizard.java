@@ -33,6 +33,7 @@ import org.jkiss.dbeaver.model.connection.DBPConnectionConfiguration;
 import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.runtime.DBRRunnableWithProgress;
+import org.jkiss.dbeaver.model.runtime.ProxyProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.utils.CommonUtils;
@@ -44,6 +45,12 @@ import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstract wizard
@@ -63,6 +70,8 @@ public abstract class AbstractToolWizard<BASE_OBJECT extends DBSObject, PROCESS_
     protected String task;
     protected final DatabaseWizardPageLog logPage;
     private boolean finished;
+    private final AtomicInteger failedProcesses = new AtomicInteger();
+    private final List<DumpJob> dumpJobs = new ArrayList<>();
 
     protected AbstractToolWizard(Collection<BASE_OBJECT> databaseObjects, String task)
     {
@@ -127,6 +136,24 @@ public abstract class AbstractToolWizard<BASE_OBJECT extends DBSObject, PROCESS_
 
     public abstract Collection<PROCESS_ARG> getRunInfo();
 
+    /**
+     * Maximum number of tool processes which may run simultaneously.
+     * By default processes run one by one.
+     */
+    protected int getParallelProcessCount()
+    {
+        return 1;
+    }
+
+    /**
+     * Checks whether process may run simultaneously with other processes.
+     * Non-parallel process waits for all previously started processes and only then next processes are started.
+     */
+    protected boolean isParallelProcess(PROCESS_ARG arg)
+    {
+        return true;
+    }
+
     @Override
     public void createPageControls(Composite pageContainer)
     {
@@ -188,9 +215,21 @@ public abstract class AbstractToolWizard<BASE_OBJECT extends DBSObject, PROCESS_
     public void run(DBRProgressMonitor monitor) throws InvocationTargetException, InterruptedException
     {
         try {
-            for (PROCESS_ARG arg : getRunInfo()) {
-                executeProcess(monitor, arg);
+            failedProcesses.set(0);
+            synchronized (dumpJobs) {
+                dumpJobs.clear();
+            }
+            final Collection<PROCESS_ARG> runInfo = getRunInfo();
+            final int parallelCount = Math.min(getParallelProcessCount(), runInfo.size());
+            if (parallelCount > 1) {
+                executeProcesses(monitor, runInfo, parallelCount);
+            } else {
+                for (PROCESS_ARG arg : runInfo) {
+                    runProcess(monitor, arg);
+                }
             }
+            // Process output may be still being written
+            waitForDumpJobs();
             // Refresh navigator node (script execution can change everything inside)
             for (BASE_OBJECT object : databaseObjects) {
                 final DBNDatabaseNode node = dataSourceContainer.getPlatform().getNavigatorModel().findNode(object);
@@ -210,6 +249,90 @@ public abstract class AbstractToolWizard<BASE_OBJECT extends DBSObject, PROCESS_
         }
     }
 
+    private void executeProcesses(final DBRProgressMonitor monitor, Collection<PROCESS_ARG> runInfo, int parallelCount)
+        throws Exception
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelCount);
+        try {
+            final List<Future<Boolean>> running = new ArrayList<>();
+            for (final PROCESS_ARG arg : runInfo) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                if (!isParallelProcess(arg)) {
+                    waitForProcesses(running);
+                    runProcess(monitor, arg);
+                    continue;
+                }
+                running.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() throws Exception {
+                        // Workers share the wizard task, each of them reports its own progress
+                        return runProcess(new WorkerProgressMonitor(monitor), arg);
+                    }
+                }));
+            }
+            waitForProcesses(running);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void waitForProcesses(List<Future<Boolean>> running)
+        throws Exception
+    {
+        try {
+            for (Future<Boolean> future : running) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            // Do not start queued processes. Running ones will finish by themselves
+            for (Future<Boolean> future : running) {
+                future.cancel(false);
+            }
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        } finally {
+            running.clear();
+        }
+    }
+
+    private boolean runProcess(DBRProgressMonitor monitor, PROCESS_ARG arg)
+        throws IOException, CoreException, InterruptedException
+    {
+        final boolean success = executeProcess(monitor, arg);
+        if (!success) {
+            failedProcesses.incrementAndGet();
+        }
+        return success;
+    }
+
+    private void waitForDumpJobs()
+        throws InterruptedException
+    {
+        for (;;) {
+            final DumpJob job;
+            synchronized (dumpJobs) {
+                if (dumpJobs.isEmpty()) {
+                    break;
+                }
+                job = dumpJobs.remove(0);
+            }
+            job.join();
+        }
+    }
+
+    /**
+     * Number of processes which failed (non-zero exit code or I/O error) during the last run.
+     * Output write errors are counted too.
+     */
+    protected int getFailedProcessCount()
+    {
+        return failedProcesses.get();
+    }
+
     public boolean executeProcess(DBRProgressMonitor monitor, PROCESS_ARG arg)
         throws IOException, CoreException, InterruptedException
     {
@@ -285,6 +408,45 @@ public abstract class AbstractToolWizard<BASE_OBJECT extends DBSObject, PROCESS_
         return !CommonUtils.isEmpty(password) && string.contains(password);
     }
 
+    /**
+     * Monitor of a process running in parallel with others.
+     * Task is owned by the wizard monitor so workers do not begin or end it.
+     */
+    private static class WorkerProgressMonitor extends ProxyProgressMonitor {
+
+        private final DBRProgressMonitor original;
+
+        WorkerProgressMonitor(DBRProgressMonitor original)
+        {
+            super(original);
+            this.original = original;
+        }
+
+        @Override
+        public void beginTask(String name, int totalWork)
+        {
+            subTask(name);
+        }
+
+        @Override
+        public void done()
+        {
+        }
+
+        @Override
+        public void worked(int work)
+        {
+        }
+
+        @Override
+        public void subTask(String name)
+        {
+            synchronized (original) {
+                original.subTask(name);
+            }
+        }
+    }
+
     public abstract class DumpJob extends Thread {
         protected DBRProgressMonitor monitor;
         protected InputStream input;
@@ -296,6 +458,9 @@ public abstract class AbstractToolWizard<BASE_OBJECT extends DBSObject, PROCESS_
             this.monitor = monitor;
             this.input = stream;
             this.outFile = outFile;
+            synchronized (dumpJobs) {
+                dumpJobs.add(this);
+            }
         }
 
         @Override
@@ -303,6 +468,7 @@ public abstract class AbstractToolWizard<BASE_OBJECT extends DBSObject, PROCESS_
             try {
                 runDump();
             } catch (IOException e) {
+                failedProcesses.incrementAndGet();
                 logPage.appendLog(e.getMessage());
             }
         }
@@ -126,6 +126,7 @@ public class BinaryContent {
 
 
     static final long mappedFileBufferLength = 2048 * 1024;  // for mapped file I/O
+    static final int fileReadChunkLength = 64 * 1024;  // max length of a single channel read
 
     private ActionHistory actions = null;  // undo/redo actions history
     private ActionHistory actionsTemp = null;
@@ -404,14 +405,18 @@ public class BinaryContent {
             RandomAccessFile src = (RandomAccessFile) sourceRange.data;
             long start = sourceRange.dataOffset + overlapBytes;
             int length = (int) Math.min(sourceRange.length - overlapBytes, maxCopyLength);
-            int limit = -1;
-            if (dst.remaining() > length) {
-                limit = dst.limit();
-                dst.limit(dst.position() + length);
+            // Big parts (finds) are read in chunks. Channel read into a heap buffer goes through
+            // a temporary direct buffer of the same size which is cached by each reading thread
+            int limit = dst.limit();
+            int end = dst.position() + Math.min(length, dst.remaining());
+            while (dst.position() < end) {
+                dst.limit(Math.min(end, dst.position() + fileReadChunkLength));
+                int count = src.getChannel().read(dst, start);
+                if (count <= 0)
+                    break;
+                start += count;
             }
-            src.getChannel().read(dst, start);
-            if (limit > 0)
-                dst.limit(limit);
+            dst.limit(limit);
         }
 
         return dst.position() - dstInitialPosition;
@@ -16,11 +16,15 @@
  * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
  */
 
+
 package org.jkiss.dbeaver.ui.editors.binary;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -30,28 +34,116 @@ import java.util.regex.Pattern;
  * Given a literal, finds its position in the file. It is possible to get subsequent finds.
  * The search is either binary or text based. Text based search uses standard java unicode (all of big
  * and little endian, odd and even address) plus ascii when the literal falls within ascii char limits.
+ * Literals are searched with Boyer-Moore-Horspool algorithm in big parts of the content. Regular expression
+ * is used only for case insensitive search of non-ascii unicode literals.
  *
  * @author Jordi
  */
 public class BinaryTextFinder {
 
 
-    public static final int MAP_SIZE = 64 * 1024;
+    public static final int MAP_SIZE = (int) BinaryContent.mappedFileBufferLength;
     public static final int MAX_SEQUENCE_SIZE = 2 * 1024;  // a search string of 2K should be enough
 
+    private static final byte[] foldNone = new byte[256];
+    private static final byte[] foldAsciiCase = new byte[256];
+
+    static {
+        for (int i = 0; i < 256; ++i) {
+            foldNone[i] = (byte) i;
+            foldAsciiCase[i] = (byte) (i >= 'A' && i <= 'Z' ? i + 32 : i);
+        }
+    }
+
+    /**
+     * Byte sequence with Boyer-Moore-Horspool shift tables for both search directions
+     */
+    private static class ByteSequence {
+        private final byte[] sequence;
+        private final int[] forwardShift = new int[256];
+        private final int[] backwardShift = new int[256];
+
+        ByteSequence(byte[] source, byte[] fold)
+        {
+            int length = source.length;
+            sequence = new byte[length];
+            for (int i = 0; i < length; ++i) {
+                sequence[i] = fold[source[i] & 0x0ff];
+            }
+            for (int i = 0; i < 256; ++i) {
+                forwardShift[i] = length;
+                backwardShift[i] = length;
+            }
+            // distance from the last occurrence of a byte to the sequence end
+            for (int i = 0; i < length - 1; ++i) {
+                forwardShift[sequence[i] & 0x0ff] = length - 1 - i;
+            }
+            // distance from the sequence start to the first occurrence of a byte
+            for (int i = length - 1; i > 0; --i) {
+                backwardShift[sequence[i] & 0x0ff] = i;
+            }
+        }
+
+        int length()
+        {
+            return sequence.length;
+        }
+
+        /**
+         * Finds first match starting at from or later and ending before limit
+         */
+        int findForward(byte[] data, int from, int limit, byte[] fold)
+        {
+            int last = sequence.length - 1;
+            if (last < 0) return -1;
+
+            for (int i = from; i <= limit - sequence.length; ) {
+                int j = last;
+                while (fold[data[i + j] & 0x0ff] == sequence[j]) {
+                    if (j == 0) return i;
+                    --j;
+                }
+                i += forwardShift[fold[data[i + last] & 0x0ff] & 0x0ff];
+            }
+
+            return -1;
+        }
+
+        /**
+         * Finds last match ending at to or before
+         */
+        int findBackward(byte[] data, int to, byte[] fold)
+        {
+            int last = sequence.length - 1;
+            if (last < 0) return -1;
+
+            for (int i = to - sequence.length; i >= 0; ) {
+                int j = 0;
+                while (fold[data[i + j] & 0x0ff] == sequence[j]) {
+                    if (j == last) return i;
+                    ++j;
+                }
+                i -= backwardShift[fold[data[i] & 0x0ff] & 0x0ff];
+            }
+
+            return -1;
+        }
+    }
+
     private long bufferPosition = -1L;
     private ByteBuffer byteBuffer = null;
     private int currentPartFound = -1;  // relative positions
-    private boolean currentPartFoundIsUnicode = false;
+    private int currentPartFoundLength = 0;
     private long currentPosition = 0L;  // absolute value, start of forward finds, end(exclusive) of backward finds
-    private byte[] byteFindSequence = null;
+    private List<ByteSequence> findSequences = new ArrayList<>();
     private boolean caseSensitive = true;
+    private byte[] fold = foldNone;
     private BinaryContent content = null;
     private boolean directionForward = true;
     private CharSequence literal = null;
     private int literalByteLength = -1;
     private Pattern pattern = null;
-    private boolean stopSearching = false;
+    private volatile boolean stopSearching = false;
 
 
     /**
@@ -85,91 +177,75 @@ public class BinaryTextFinder {
     }
 
 
-    void findAllMatches()
-        throws IOException
+    /**
+     * Finds the nearest match of all sequences in the current part.
+     *
+     * @param offset first match start for forward finds, last match end (exclusive) for backward ones
+     */
+    void findAllMatches(int offset)
     {
-        currentPartFound = findHexAsciiMatchInPart();
-        int currentPartFoundUnicode = findUnicodeMatchInPart();
-        currentPartFoundIsUnicode = false;
-
-        if (currentPartFoundUnicode >= 0 && (currentPartFound < 0 ||
-            directionForward && currentPartFound > currentPartFoundUnicode ||
-            !directionForward && currentPartFound < currentPartFoundUnicode)) {
-            currentPartFound = currentPartFoundUnicode;
-            currentPartFoundIsUnicode = true;
+        currentPartFound = -1;
+        currentPartFoundLength = 0;
+
+        byte[] data = byteBuffer.array();
+        int limit = byteBuffer.limit();
+        for (ByteSequence sequence : findSequences) {
+            int found = directionForward ?
+                sequence.findForward(data, offset, limit, fold) :
+                sequence.findBackward(data, offset, fold);
+            setPartFound(found, sequence.length());
+        }
+        if (pattern != null) {
+            setPartFound(findUnicodeMatchInPart(offset), literal.length() * 2);
         }
     }
 
 
-    private int findHexAsciiMatchInPart()
-        throws IOException
+    private void setPartFound(int found, int length)
     {
-        if (byteFindSequence == null) return -1;
-
-        int start = 0;
-        int inclusiveEnd = byteBuffer.limit() - byteFindSequence.length;
-        if (!directionForward) {
-            start = inclusiveEnd;
-            inclusiveEnd = 0;
-        }
-
-        for (int i = start;
-            directionForward && i <= inclusiveEnd || !directionForward && i >= inclusiveEnd;
-            i += directionForward ? 1 : -1)
-        {
-            boolean matchesSoFar = true;
-            for (int j = 0; j < byteFindSequence.length && matchesSoFar; ++j) {
-                byte existing = byteBuffer.get(i + j);
-                byte matcher = byteFindSequence[j];
-                if (existing != matcher) {
-                    if (caseSensitive || existing < 'A' || existing > 'z' || matcher < 'A' ||
-                        matcher > 'z' || existing - matcher != 32 && matcher - existing != 32)
-                        matchesSoFar = false;
-                }
-            }
-            if (matchesSoFar) {
-                return i;
-            }
+        if (found >= 0 && (currentPartFound < 0 ||
+            directionForward && currentPartFound > found ||
+            !directionForward && currentPartFound < found)) {
+            currentPartFound = found;
+            currentPartFoundLength = length;
         }
-
-        return -1;
     }
 
 
-    private int findUnicodeMatchInPart()
-        throws IOException
+    private int findUnicodeMatchInPart(int offset)
     {
-        if (pattern == null) return -1;
-
-        int result = Integer.MAX_VALUE;
-        if (!directionForward) {
-            result = -1;
-        }
-        byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
-        Matcher matcher = pattern.matcher(byteBuffer.asCharBuffer());
-
+        int result = -1;
         for (int encoding = 0; encoding < 4; ++encoding) {
-            while (matcher.find()) {
-                int index = matcher.start() * 2 + (encoding >= 2 ? 1 : 0);
-                if (directionForward && result > index || !directionForward && result < index) {
-                    result = index;
+            int shift = encoding >= 2 ? 1 : 0;
+            if (byteBuffer.limit() < shift) {
+                break;
+            }
+            byteBuffer.order(encoding % 2 == 0 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+            byteBuffer.position(shift);
+            CharBuffer chars = byteBuffer.asCharBuffer();
+            Matcher matcher = pattern.matcher(chars);
+            if (directionForward) {
+                int startChar = Math.max(0, (offset - shift + 1) / 2);
+                if (startChar <= chars.length() && matcher.find(startChar)) {
+                    int index = matcher.start() * 2 + shift;
+                    if (result < 0 || result > index) {
+                        result = index;
+                    }
                 }
-                if (directionForward) {
-                    break;
+            } else {
+                int endChar = Math.min(chars.length(), (offset - shift) / 2);
+                if (endChar > 0) {
+                    matcher.region(0, endChar);
+                    while (matcher.find()) {
+                        int index = matcher.start() * 2 + shift;
+                        if (result < index) {
+                            result = index;
+                        }
+                    }
                 }
             }
-            if (encoding == 0) {
-                byteBuffer.order(ByteOrder.BIG_ENDIAN);
-            } else if (encoding == 1 && byteBuffer.limit() > 0) {
-                byteBuffer.position(1);
-            } else if (encoding == 2) {
-                byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
-            }
-            matcher.reset(byteBuffer.asCharBuffer());
-        }
-        if (result == Integer.MAX_VALUE) {
-            result = -1;
         }
+        byteBuffer.position(0);
 
         return result;
     }
@@ -197,33 +273,88 @@ public class BinaryTextFinder {
     {
         stopSearching = false;
         populatePart();
-        findAllMatches();
+        findAllMatches(partStartOffset());
 
         while (currentPartFound < 0) { // end of part
             if (nextPart() == null || stopSearching) {
                 stopSearching = false;
                 return null;  // end of file
             }
-            findAllMatches();
+            findAllMatches(partStartOffset());
         }
 
         long resultPosition = bufferPosition + currentPartFound;
-        int length = currentPartFoundIsUnicode ? literalByteLength : byteFindSequence.length;
+        int length = currentPartFoundLength;
         setNewStart(resultPosition + (directionForward ? 1 : length - 1));
 
         return new Number[]{resultPosition, length};
     }
 
 
+    /**
+     * Get all matches of the literal in the whole content. Search position and direction are not changed.
+     *
+     * @param maxMatches maximum number of matches to collect
+     * @return list of matches sorted by position, each one is an array with the position and the length
+     *         of the match (as in {@link #getNextMatch()})
+     */
+    public List<Number[]> getAllMatches(int maxMatches)
+        throws IOException
+    {
+        final boolean oldDirectionForward = directionForward;
+        final long oldPosition = currentPosition;
+        final List<Number[]> result = new ArrayList<>();
+        stopSearching = false;
+        directionForward = true;
+        setNewStart(0L);
+        try {
+            populatePart();
+            int offset = 0;
+            long lastPosition = -1L;
+            while (result.size() < maxMatches && !stopSearching) {
+                findAllMatches(offset);
+                if (currentPartFound < 0) {
+                    if (nextPart() == null) {
+                        break;
+                    }
+                    offset = 0;
+                    continue;
+                }
+                long position = bufferPosition + currentPartFound;
+                if (position > lastPosition) {
+                    // Parts overlap so the same match may be found twice
+                    result.add(new Number[]{position, currentPartFoundLength});
+                    lastPosition = position;
+                }
+                offset = currentPartFound + 1;
+            }
+        } finally {
+            stopSearching = false;
+            directionForward = oldDirectionForward;
+            setNewStart(oldPosition);
+        }
+
+        return result;
+    }
+
+
+    private int partStartOffset()
+    {
+        return directionForward ? 0 : byteBuffer.limit();
+    }
+
+
     void initSearchHex(byte[] sequence)
     {
-        byteFindSequence = sequence;
+        byte[] byteFindSequence = sequence;
 
         if (sequence.length > MAX_SEQUENCE_SIZE) {
             byteFindSequence = new byte[MAX_SEQUENCE_SIZE];
             System.arraycopy(sequence, 0, byteFindSequence, 0, MAX_SEQUENCE_SIZE);
         }
 
+        findSequences.clear();
+        findSequences.add(new ByteSequence(byteFindSequence, fold));
         literalByteLength = byteFindSequence.length;
     }
 
@@ -241,35 +372,54 @@ public class BinaryTextFinder {
 
     void initSearchUnicodeAscii()
     {
-        StringBuilder regex = new StringBuilder("\\Q");  // everything-quoted regular expression
-
         if (literal.length() * 2 > MAX_SEQUENCE_SIZE)  // 16 bit Unicode chars
             literal = literal.subSequence(0, MAX_SEQUENCE_SIZE / 2);
         literalByteLength = literal.length() * 2;
 
         boolean isAsciiCompatible = true;
+        boolean isAscii = true;
         byte[] tmpBytes = new byte[literal.length()];
-        char previous = '\0';
+        byte[] littleEndianBytes = new byte[literalByteLength];
+        byte[] bigEndianBytes = new byte[literalByteLength];
         for (int i = 0; i < literal.length(); ++i) {
             char aChar = literal.charAt(i);
-            regex.append(aChar);
-
-            if (previous == '\\' && aChar == 'E')
-                regex.append("\\\\E\\Q");
-
-            previous = aChar;
 
             tmpBytes[i] = (byte) aChar;
+            littleEndianBytes[i * 2] = (byte) aChar;
+            littleEndianBytes[i * 2 + 1] = (byte) (aChar >>> 8);
+            bigEndianBytes[i * 2] = (byte) (aChar >>> 8);
+            bigEndianBytes[i * 2 + 1] = (byte) aChar;
             if (aChar > 255) isAsciiCompatible = false;
+            if (aChar > 127) isAscii = false;
         }
-        regex.append("\\E");
-
-        int ignoreCaseFlags = 0;
-        if (!caseSensitive) ignoreCaseFlags = Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
-        pattern = Pattern.compile(regex.toString(), ignoreCaseFlags);
 
+        findSequences.clear();
+        pattern = null;
         if (isAsciiCompatible)
-            byteFindSequence = tmpBytes;
+            findSequences.add(new ByteSequence(tmpBytes, fold));
+
+        if (caseSensitive || isAscii) {
+            // Both byte orders, odd and even addresses. Ascii case folding can't match wrong unicode chars
+            // because high bytes of ascii chars are zeroes.
+            findSequences.add(new ByteSequence(littleEndianBytes, fold));
+            findSequences.add(new ByteSequence(bigEndianBytes, fold));
+        } else {
+            // Unicode case folding
+            StringBuilder regex = new StringBuilder("\\Q");  // everything-quoted regular expression
+            char previous = '\0';
+            for (int i = 0; i < literal.length(); ++i) {
+                char aChar = literal.charAt(i);
+                regex.append(aChar);
+
+                if (previous == '\\' && aChar == 'E')
+                    regex.append("\\\\E\\Q");
+
+                previous = aChar;
+            }
+            regex.append("\\E");
+
+            pattern = Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        }
     }
 
 
@@ -311,23 +461,14 @@ public class BinaryTextFinder {
     {
         if (content == null) return;
 
-        byteBuffer = null;  // multiple FileChannel.read(byteBuffer) leak memory, so don't reuse buffer
-        byteBuffer = ByteBuffer.allocate(MAP_SIZE);
-//	if (byteBuffer == null)
-//		byteBuffer = ByteBuffer.allocate(MAP_SIZE);
+        // File ranges are read in small chunks (see BinaryContent),
+        // so the heap buffer can be reused between parts and finds
+        if (byteBuffer == null)
+            byteBuffer = ByteBuffer.allocate(MAP_SIZE);
+        byteBuffer.clear();
         byteBuffer.limit(size);
-        byteBuffer.position(0);
-//	try {
         content.get(byteBuffer, bufferPosition);
-//	} catch (OutOfMemoryError e) {
-//		byteBuffer = null;
-//		byteBuffer = ByteBuffer.allocate(MAP_SIZE);
-        //	byteBuffer.limit(size);
-        //byteBuffer.position(0);
-        //content.get(byteBuffer, myCurrentPosition);
-        //}
-        byteBuffer.limit(byteBuffer.position());
-        byteBuffer.position(0);
+        byteBuffer.flip();
     }
 
 
@@ -341,8 +482,11 @@ public class BinaryTextFinder {
         if (caseSensitive == beSensitive) return;
 
         caseSensitive = beSensitive;
-        if (literal != null)
+        if (literal != null) {
+            // Hex sequences are raw bytes, they are never case folded
+            fold = caseSensitive ? foldNone : foldAsciiCase;
             initSearchUnicodeAscii();
+        }
     }
 
 
@@ -71,6 +71,7 @@ public class HexEditControl extends Composite {
         -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 10, 11, 12, 13, 14, 15};
     static final int maxScreenResolution = 1920;
     static final int minCharSize = 5;
+    public static final int maxFoundMatches = 100000;  // find all index size
     static final int SET_TEXT = 0;
     static final int SHIFT_FORWARD = 1;  // frame
     static final int SHIFT_BACKWARD = 2;
@@ -107,6 +108,7 @@ public class HexEditControl extends Composite {
     private BinaryContent content = null;
     private long endPosition = 0L;
     private BinaryTextFinder finder = null;
+    private List<Number[]> foundMatches = null;  // find all results sorted by position, null if not valid
     private boolean isInserting = true;
     private KeyListener keyAdapter = new ControlKeyAdapter();
     private int lastFocusedTextArea = -1;  // 1 or 2;
@@ -1126,22 +1128,31 @@ public class HexEditControl extends Composite {
         if (findString == null) return true;
 
         initFinder(findString, isHexString, searchForward, ignoreCase);
-        final Object[] result = new Object[2];
-        HexManager.blockUntilFinished(new Runnable() {
-            @Override
-            public void run()
-            {
-                try {
-                    result[0] = finder.getNextMatch();
-                } catch (IOException e) {
-                    result[1] = e;
+        Object[] vector;
+        if (foundMatches != null) {
+            // Jump through find all results instead of searching again
+            vector = getFoundMatch(searchForward);
+            if (vector != null) {
+                finder.setNewStart((Long) vector[0] + (searchForward ? 1 : (Integer) vector[1] - 1));
+            }
+        } else {
+            final Object[] result = new Object[2];
+            HexManager.blockUntilFinished(new Runnable() {
+                @Override
+                public void run()
+                {
+                    try {
+                        result[0] = finder.getNextMatch();
+                    } catch (IOException e) {
+                        result[1] = e;
+                    }
                 }
+            });
+            if (result[1] != null) {
+                throw (IOException) result[1];
             }
-        });
-        if (result[1] != null) {
-            throw (IOException) result[1];
+            vector = (Object[]) result[0];
         }
-        Object[] vector = (Object[]) result[0];
         if (vector != null && vector.length > 1 && vector[0] != null && vector[1] != null) {
             startPosition = (Long) vector[0];
             caretStickToStart = false;
@@ -1159,6 +1170,77 @@ public class HexEditControl extends Composite {
     }
 
 
+    /**
+     * Finds all occurrences of the literal in the content and selects the first one after the caret.
+     * Subsequent finds of the same literal jump through found occurrences until the content is modified.
+     *
+     * @param findString  the literal to find
+     * @param isHexString consider the literal as an hex string (ie. "0fdA1"). Used for binary finds.
+     * @param ignoreCase  match upper case with lower case characters
+     * @return number of matches found
+     */
+    public int findAll(String findString, boolean isHexString, boolean ignoreCase)
+        throws IOException
+    {
+        if (findString == null) return 0;
+
+        initFinder(findString, isHexString, true, ignoreCase);
+        stopSearching = false;
+        final Object[] result = new Object[2];
+        HexManager.blockUntilFinished(new Runnable() {
+            @Override
+            public void run()
+            {
+                try {
+                    result[0] = finder.getAllMatches(maxFoundMatches);
+                } catch (IOException e) {
+                    result[1] = e;
+                }
+            }
+        });
+        if (result[1] != null) {
+            throw (IOException) result[1];
+        }
+        @SuppressWarnings("unchecked")
+        List<Number[]> matches = (List<Number[]>) result[0];
+        if (matches.isEmpty()) {
+            return 0;
+        }
+        if (!stopSearching && matches.size() < maxFoundMatches) {
+            // Incomplete results can't replace real finds
+            foundMatches = matches;
+        }
+        findAndSelectInternal(findString, isHexString, true, ignoreCase, true);
+
+        return matches.size();
+    }
+
+
+    private Number[] getFoundMatch(boolean searchForward)
+    {
+        long bound = getCaretPos();
+        if (searchForward && isSelected()) {
+            // Matches may overlap
+            bound = startPosition + 1;
+        }
+        // Index of the first match at bound or after it
+        int low = 0, high = foundMatches.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (foundMatches.get(middle)[0].longValue() < bound) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (searchForward) {
+            return low < foundMatches.size() ? foundMatches.get(low) : null;
+        } else {
+            return low > 0 ? foundMatches.get(low - 1) : null;
+        }
+    }
+
+
     /**
      * Get caret position in file, which can be out of view
      *
@@ -1260,6 +1342,7 @@ public class HexEditControl extends Composite {
             previousFindStringWasHex = isHexString;
             previousFindIgnoredCase = ignoreCase;
 
+            foundMatches = null;
             if (isHexString) {
                 finder = new BinaryTextFinder(hexStringToByte(findString), content);
             } else {
@@ -1800,8 +1883,17 @@ public class HexEditControl extends Composite {
         }
         content = aContent;
         finder = null;
+        foundMatches = null;
         if (content != null) {
             content.setActionsHistory();
+            content.addModifyListener(new BinaryContent.ModifyListener() {
+                @Override
+                public void modified()
+                {
+                    // Found positions are not valid anymore
+                    foundMatches = null;
+                }
+            });
 
             if (firstContent || endPosition > content.length() || textAreasStart >= content.length()) {
                 textAreasStart = startPosition = endPosition = 0L;
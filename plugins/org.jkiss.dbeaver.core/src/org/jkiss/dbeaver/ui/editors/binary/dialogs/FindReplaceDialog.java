@@ -56,6 +56,7 @@ public class FindReplaceDialog extends Dialog {
     private static final String textDirection = CoreMessages.dialog_find_replace_direction;
     private static final String textError = CoreMessages.dialog_find_replace_error_;
     private static final String textFind = CoreMessages.dialog_find_replace_find;
+    private static final String textFindAll = CoreMessages.dialog_find_replace_find_all;
     private static final String textFindLiteral = CoreMessages.dialog_find_replace_find_literal;
     private static final String textFindReplace = CoreMessages.dialog_find_replace_find_replace;
     private static final String textForward = CoreMessages.dialog_find_replace_forward;
@@ -63,6 +64,8 @@ public class FindReplaceDialog extends Dialog {
     private static final String textHex = "Hex"; //$NON-NLS-1$
     private static final String textIgnoreCase = CoreMessages.dialog_find_replace_ignore_case;
     private static final String textLiteralNotFound = CoreMessages.dialog_find_replace_literal_not_found;
+    private static final String textMatches = CoreMessages.dialog_find_replace_matches;
+    private static final String textMatchesLimit = CoreMessages.dialog_find_replace_matches_limit;
     private static final String textNewFind = CoreMessages.dialog_find_replace_new_find;
     private static final String textReplace = CoreMessages.dialog_find_replace_replace;
     private static final String textReplaceAll = CoreMessages.dialog_find_replace_replace_all;
@@ -108,6 +111,7 @@ public class FindReplaceDialog extends Dialog {
     private Button checkBox = null;
     private Composite findReplaceButtonsComposite = null;
     private Button findButton = null;
+    private Button findAllButton = null;
     private Button replaceFindButton = null;
     private Button replaceButton = null;
     private Button replaceAllButton = null;
@@ -281,7 +285,7 @@ public class FindReplaceDialog extends Dialog {
     }
 
 
-    private void activateProgressBar()
+    private void activateProgressBar(final boolean wholeContent)
     {
         Display.getCurrent().timerExec(500, new Runnable() {
             @Override
@@ -294,7 +298,9 @@ public class FindReplaceDialog extends Dialog {
         });
         long max = editControl.getContent().length();
         long min = editControl.getCaretPos();
-        if (backwardRadioButton.getSelection()) {
+        if (wholeContent) {
+            min = 0L;
+        } else if (backwardRadioButton.getSelection()) {
             max = min;
             min = 0L;
         }
@@ -317,7 +323,7 @@ public class FindReplaceDialog extends Dialog {
                 int selection = 0;
                 if (editControl.getFinder() != null) {
                     selection = (int) (editControl.getFinder().getSearchPosition() >>> finalFactor);
-                    if (backwardRadioButton.getSelection()) {
+                    if (!wholeContent && backwardRadioButton.getSelection()) {
                         selection = progressBar.getMaximum() - selection;
                     }
                 }
@@ -407,6 +413,17 @@ public class FindReplaceDialog extends Dialog {
                 doFind();
             }
         });
+        findAllButton = new Button(findReplaceButtonsComposite, SWT.NONE);
+        findAllButton.setLayoutData(new GridData(SWT.FILL, SWT.BEGINNING, true, false));
+        findAllButton.setText(textFindAll);
+        findAllButton.addSelectionListener(defaultSelectionAdapter);
+        findAllButton.addSelectionListener(new SelectionAdapter() {
+            @Override
+            public void widgetSelected(SelectionEvent e)
+            {
+                doFindAll();
+            }
+        });
         replaceFindButton = new Button(findReplaceButtonsComposite, SWT.NONE);
         replaceFindButton.setLayoutData(new GridData(SWT.FILL, SWT.BEGINNING, true, false));
         replaceFindButton.setText(textReplaceFind);
@@ -430,7 +447,7 @@ public class FindReplaceDialog extends Dialog {
             }
         });
         replaceAllButton = new Button(findReplaceButtonsComposite, SWT.NONE);
-        replaceAllButton.setLayoutData(new GridData(SWT.FILL, SWT.BEGINNING, true, false));
+        replaceAllButton.setLayoutData(new GridData(SWT.FILL, SWT.BEGINNING, true, false, 2, 1));
         replaceAllButton.setText(textReplaceAll);
         replaceAllButton.addSelectionListener(defaultSelectionAdapter);
         replaceAllButton.addSelectionListener(new org.eclipse.swt.events.SelectionAdapter() {
@@ -627,7 +644,7 @@ public class FindReplaceDialog extends Dialog {
 
     private void doFind()
     {
-        prepareToRun();
+        prepareToRun(false);
         progressCancelButton.setText(textCancel);
         String message = textLiteralNotFound;
         String literal = findGroup.textCombo.getText();
@@ -645,9 +662,33 @@ public class FindReplaceDialog extends Dialog {
     }
 
 
+    private void doFindAll()
+    {
+        prepareToRun(true);
+        progressCancelButton.setText(textCancel);
+        String message = textLiteralNotFound;
+        String literal = findGroup.textCombo.getText();
+        if (editControl != null && literal.length() > 0) {
+            try {
+                int matches = editControl.findAll(literal, findGroup.hexRadioButton.getSelection(),
+                                                  checkBox.getSelection());
+                if (matches >= HexEditControl.maxFoundMatches) {
+                    message = matches + textMatchesLimit;
+                } else if (matches > 0) {
+                    message = matches + textMatches;
+                }
+            }
+            catch (IOException e) {
+                message = textError + e;
+            }
+        }
+        endOfRun(message);
+    }
+
+
     private void doReplaceAll()
     {
-        prepareToRun();
+        prepareToRun(false);
         progressCancelButton.setText(textStop);
         String message = textLiteralNotFound;
         String literal = findGroup.textCombo.getText();
@@ -682,6 +723,7 @@ public class FindReplaceDialog extends Dialog {
         checkBox.setEnabled(!searching);
 
         findButton.setEnabled(!searching);
+        findAllButton.setEnabled(!searching);
         replaceFindButton.setEnabled(!searching);
         replaceButton.setEnabled(!searching);
         replaceAllButton.setEnabled(!searching);
@@ -694,6 +736,7 @@ public class FindReplaceDialog extends Dialog {
 
         boolean somethingToFind = findGroup.textCombo.getText().length() > 0;
         findButton.setEnabled(somethingToFind);
+        findAllButton.setEnabled(somethingToFind);
         replaceAllButton.setEnabled(somethingToFind);
         long selectionLength = 0L;
         if (editControl != null) {
@@ -715,7 +758,7 @@ public class FindReplaceDialog extends Dialog {
     }
 
 
-    private void prepareToRun()
+    private void prepareToRun(boolean wholeContent)
     {
         searching = true;
         lastFindHexButtonSelected = findGroup.hexRadioButton.getSelection();
@@ -726,7 +769,7 @@ public class FindReplaceDialog extends Dialog {
         lastIgnoreCase = checkBox.getSelection();
         feedbackLabel.setText(textSearching);
         enableDisableControls();
-        activateProgressBar();
+        activateProgressBar(wholeContent);
     }
 
 
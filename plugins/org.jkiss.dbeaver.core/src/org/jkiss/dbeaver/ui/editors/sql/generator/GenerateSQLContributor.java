@@ -114,13 +114,13 @@ public class GenerateSQLContributor extends CompoundContributionItem {
         if (menu.size() > 0) {
             menu.add(new Separator());
         }
-        menu.add(makeAction("DDL", new SQLGenerator<DBPScriptObject>(scriptObjects) {
+        menu.add(makeAction("DDL", new DDLGenerator(scriptObjects) {
             @Override
             public void generateSQL(DBRProgressMonitor monitor, StringBuilder sql, DBPScriptObject object) throws DBException {
                 if (sql.length() > 0) {
                     sql.append("\n");
                 }
-                String definitionText = CommonUtils.notEmpty(object.getObjectDefinitionText(monitor)).trim();
+                String definitionText = CommonUtils.notEmpty(getObjectDefinitionText(monitor, object)).trim();
                 sql.append(definitionText);
                 if (!definitionText.endsWith(SQLConstants.DEFAULT_STATEMENT_DELIMITER)) {
                     sql.append(SQLConstants.DEFAULT_STATEMENT_DELIMITER);
@@ -314,6 +314,75 @@ public class GenerateSQLContributor extends CompoundContributionItem {
 
     }
 
+    /**
+     * Reads definitions of objects in portions. Objects whose parents support bulk read get definitions
+     * with a few queries instead of a query per object.
+     */
+    private abstract static class DDLGenerator extends SQLGenerator<DBPScriptObject> {
+
+        private static final int BULK_SIZE = 1000;
+
+        private final Map<DBPScriptObject, String> definitions = new IdentityHashMap<>();
+
+        protected DDLGenerator(List<DBPScriptObject> objects)
+        {
+            super(objects);
+        }
+
+        @Override
+        public void run(DBRProgressMonitor monitor) throws InvocationTargetException, InterruptedException
+        {
+            StringBuilder sql = new StringBuilder(100);
+            try {
+                for (int i = 0; i < objects.size(); i += BULK_SIZE) {
+                    if (monitor.isCanceled()) {
+                        throw new InterruptedException();
+                    }
+                    final List<DBPScriptObject> portion = objects.subList(i, Math.min(i + BULK_SIZE, objects.size()));
+                    readDefinitions(monitor, portion);
+                    for (DBPScriptObject object : portion) {
+                        generateSQL(monitor, sql, object);
+                    }
+                    definitions.clear();
+                }
+            } catch (DBException e) {
+                throw new InvocationTargetException(e);
+            } finally {
+                definitions.clear();
+            }
+            result = sql.toString();
+        }
+
+        protected String getObjectDefinitionText(DBRProgressMonitor monitor, DBPScriptObject object) throws DBException
+        {
+            final String definition = definitions.get(object);
+            return definition != null ? definition : object.getObjectDefinitionText(monitor);
+        }
+
+        private void readDefinitions(DBRProgressMonitor monitor, List<DBPScriptObject> portion) throws DBException
+        {
+            final Map<DBPScriptObjectBulkReader, List<DBPScriptObject>> readers = new LinkedHashMap<>();
+            for (DBPScriptObject object : portion) {
+                if (object instanceof DBSObject) {
+                    final DBSObject parent = ((DBSObject) object).getParentObject();
+                    if (parent instanceof DBPScriptObjectBulkReader) {
+                        List<DBPScriptObject> children = readers.get(parent);
+                        if (children == null) {
+                            children = new ArrayList<>();
+                            readers.put((DBPScriptObjectBulkReader) parent, children);
+                        }
+                        children.add(object);
+                    }
+                }
+            }
+            for (Map.Entry<DBPScriptObjectBulkReader, List<DBPScriptObject>> entry : readers.entrySet()) {
+                if (entry.getValue().size() > 1) {
+                    definitions.putAll(entry.getKey().readObjectDefinitions(monitor, entry.getValue()));
+                }
+            }
+        }
+    }
+
     private abstract static class BaseAnalysisRunner<OBJECT> extends SQLGenerator<OBJECT> {
 
         protected BaseAnalysisRunner(List<OBJECT> objects) {
@@ -189,13 +189,11 @@ class SQLCompletionAnalyzer
                             // Search using structure assistant
                             DBSStructureAssistant structureAssistant = DBUtils.getAdapter(DBSStructureAssistant.class, sc);
                             if (structureAssistant != null) {
-                                Collection<DBSObjectReference> references = structureAssistant.findObjectsByMask(
-                                    monitor,
+                                Collection<DBSObjectReference> references = findObjectsByMask(
+                                    structureAssistant,
                                     null,
-                                    structureAssistant.getAutoCompleteObjectTypes(),
                                     request.wordDetector.removeQuotes(token),
                                     request.wordDetector.isQuoted(token),
-                                    false,
                                     2);
                                 if (!references.isEmpty()) {
                                     childObject = references.iterator().next().resolveObject(monitor);
@@ -351,13 +349,11 @@ class SQLCompletionAnalyzer
                     DBSStructureAssistant structureAssistant = DBUtils.getAdapter(DBSStructureAssistant.class, sc);
                     if (structureAssistant != null) {
                         String objectNameMask = nameList.get(0);
-                        Collection<DBSObjectReference> tables = structureAssistant.findObjectsByMask(
-                            monitor,
+                        Collection<DBSObjectReference> tables = findObjectsByMask(
+                            structureAssistant,
                             sc,
-                            structureAssistant.getAutoCompleteObjectTypes(),
                             request.wordDetector.removeQuotes(objectNameMask),
                             request.wordDetector.isQuoted(objectNameMask),
-                            false,
                             2);
                         if (!tables.isEmpty()) {
                             return tables.iterator().next().resolveObject(monitor);
@@ -391,6 +387,15 @@ class SQLCompletionAnalyzer
                 children = ((DBSEntity)parent).getAttributes(monitor);
             }
             if (children != null && !children.isEmpty()) {
+                final SQLObjectNameIndex nameIndex = getNameIndex();
+                if (nameIndex != null) {
+                    // Remember objects read from metadata cache
+                    if (parent instanceof DBSObjectContainer) {
+                        nameIndex.addContainerChildren((DBSObjectContainer) parent, children);
+                    } else {
+                        nameIndex.addObjects(children);
+                    }
+                }
                 List<DBSObject> matchedObjects = new ArrayList<>();
                 final Map<String, Integer> scoredMatches = new HashMap<>();
                 boolean simpleMode = request.simpleMode;
@@ -466,13 +471,11 @@ class SQLCompletionAnalyzer
         String objectName)
     {
         try {
-            Collection<DBSObjectReference> references = assistant.findObjectsByMask(
-                monitor,
+            Collection<DBSObjectReference> references = findObjectsByMask(
+                assistant,
                 rootSC,
-                assistant.getAutoCompleteObjectTypes(),
                 request.wordDetector.removeQuotes(objectName) + "%",
                 request.wordDetector.isQuoted(objectName),
-                false,
                 100);
             for (DBSObjectReference reference : references) {
                 request.proposals.add(makeProposalsFromObject(reference, reference.getObjectType().getImage()));
@@ -482,6 +485,67 @@ class SQLCompletionAnalyzer
         }
     }
 
+    /**
+     * Searches objects in local name index first. Structure assistant (database) is skipped only if index
+     * covers the whole search scope. Otherwise index results are merged with database results.
+     */
+    private Collection<DBSObjectReference> findObjectsByMask(
+        DBSStructureAssistant assistant,
+        @Nullable DBSObject parentObject,
+        String objectNameMask,
+        boolean caseSensitive,
+        int maxResults) throws DBException
+    {
+        final DBSObjectType[] objectTypes = assistant.getAutoCompleteObjectTypes();
+        final SQLObjectNameIndex nameIndex = getNameIndex();
+        Collection<DBSObjectReference> indexReferences = null;
+        if (nameIndex != null) {
+            indexReferences = nameIndex.findObjectsByMask(
+                parentObject,
+                objectTypes,
+                objectNameMask,
+                caseSensitive,
+                maxResults);
+            if (indexReferences != null && nameIndex.coversScope(parentObject, objectTypes)) {
+                return indexReferences;
+            }
+        }
+        Collection<DBSObjectReference> references = assistant.findObjectsByMask(
+            monitor,
+            parentObject,
+            objectTypes,
+            objectNameMask,
+            caseSensitive,
+            false,
+            maxResults);
+        if (CommonUtils.isEmpty(indexReferences)) {
+            return references;
+        }
+        // Index results go first (they include name humps matches)
+        final Map<String, DBSObjectReference> merged = new LinkedHashMap<>();
+        for (DBSObjectReference reference : indexReferences) {
+            merged.put(reference.getFullyQualifiedName(DBPEvaluationContext.DDL), reference);
+        }
+        for (DBSObjectReference reference : references) {
+            if (merged.size() >= maxResults) {
+                break;
+            }
+            if (!merged.containsKey(reference.getFullyQualifiedName(DBPEvaluationContext.DDL))) {
+                merged.put(reference.getFullyQualifiedName(DBPEvaluationContext.DDL), reference);
+            }
+        }
+        return merged.values();
+    }
+
+    @Nullable
+    private SQLObjectNameIndex getNameIndex()
+    {
+        if (!request.editor.getActivePreferenceStore().getBoolean(SQLPreferenceConstants.PROPOSALS_USE_NAME_INDEX)) {
+            return null;
+        }
+        return SQLObjectNameIndex.getIndex(request.editor.getDataSource());
+    }
+
     private SQLCompletionProposal makeProposalsFromObject(DBSObject object)
     {
         DBNNode node = DBeaverCore.getInstance().getNavigatorModel().getNodeByObject(monitor, object, false);
@@ -0,0 +1,589 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.ui.editors.sql.syntax;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.core.DBeaverCore;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.impl.struct.AbstractObjectReference;
+import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
+import org.jkiss.dbeaver.model.navigator.DBNEvent;
+import org.jkiss.dbeaver.model.navigator.DBNModel;
+import org.jkiss.dbeaver.model.navigator.INavigatorListener;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.struct.*;
+
+import java.util.*;
+
+/**
+ * In-memory index of database object names.
+ * Index is built per data source from already read metadata and is used by SQL completion
+ * to avoid structure assistant (catalog) queries on each keystroke.
+ *
+ * Names are kept in two sorted arrays: by upper-cased name (prefix lookup)
+ * and by name "humps" (initials of words, e.g. CO for CUSTOMER_ORDERS or CustomerOrders).
+ * Index is updated on navigator events, rebuilt after reconnect and dropped on disconnect.
+ * Index knows which containers were read completely, so callers may check whether it covers the whole search scope.
+ */
+public class SQLObjectNameIndex {
+
+    private static final Log log = Log.getLog(SQLObjectNameIndex.class);
+
+    private static final Map<DBPDataSourceContainer, SQLObjectNameIndex> indexes = new IdentityHashMap<>();
+    private static INavigatorListener modelListener;
+
+    private static class Entry {
+        final DBSObject object;
+        final String name;
+        final String upperName;
+        final String humps;
+
+        Entry(DBSObject object) {
+            this.object = object;
+            this.name = object.getName();
+            this.upperName = name.toUpperCase(Locale.ENGLISH);
+            this.humps = getNameHumps(name);
+        }
+    }
+
+    private static final Comparator<Entry> NAME_COMPARATOR = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry o1, Entry o2) {
+            return o1.upperName.compareTo(o2.upperName);
+        }
+    };
+
+    private static final Comparator<Entry> HUMPS_COMPARATOR = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry o1, Entry o2) {
+            return o1.humps.compareTo(o2.humps);
+        }
+    };
+
+    private final DBPDataSource dataSource;
+    private final Map<DBSObject, Entry> entries = new IdentityHashMap<>();
+    // Containers whose children were all added to the index. Guarded by entries
+    private final Set<DBSObject> loadedContainers = Collections.newSetFromMap(new IdentityHashMap<DBSObject, Boolean>());
+    private volatile Entry[] nameIndex;
+    private volatile Entry[] humpsIndex;
+    private volatile boolean ready;
+    private volatile boolean disposed;
+
+    private SQLObjectNameIndex(@NotNull DBPDataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Returns index for specified data source.
+     * If index is not yet built then schedules its build and returns null.
+     */
+    @Nullable
+    public static SQLObjectNameIndex getIndex(@Nullable DBPDataSource dataSource) {
+        if (dataSource == null) {
+            return null;
+        }
+        final DBPDataSourceContainer container = dataSource.getContainer();
+        SQLObjectNameIndex index;
+        synchronized (indexes) {
+            index = indexes.get(container);
+            if (index != null && index.dataSource != dataSource) {
+                // Reconnected - forget old objects
+                index.disposed = true;
+                index = null;
+            }
+            if (index == null) {
+                index = new SQLObjectNameIndex(dataSource);
+                indexes.put(container, index);
+                if (modelListener == null) {
+                    modelListener = new ModelListener();
+                    DBeaverCore.getInstance().getNavigatorModel().addListener(modelListener);
+                }
+                new IndexLoadJob(index, null).schedule();
+            }
+        }
+        return index.ready ? index : null;
+    }
+
+    public static void dispose() {
+        synchronized (indexes) {
+            for (SQLObjectNameIndex index : indexes.values()) {
+                index.disposed = true;
+            }
+            indexes.clear();
+            if (modelListener != null) {
+                DBNModel navigatorModel = DBeaverCore.getInstance().getNavigatorModel();
+                if (navigatorModel != null) {
+                    navigatorModel.removeListener(modelListener);
+                }
+                modelListener = null;
+            }
+        }
+    }
+
+    /**
+     * Drops index of disconnected or deleted data source
+     */
+    private static void removeIndex(@NotNull DBPDataSourceContainer container) {
+        synchronized (indexes) {
+            SQLObjectNameIndex index = indexes.remove(container);
+            if (index != null) {
+                index.disposed = true;
+            }
+        }
+    }
+
+    @Nullable
+    private static SQLObjectNameIndex findIndex(@Nullable DBPDataSourceContainer container) {
+        if (container == null) {
+            return null;
+        }
+        synchronized (indexes) {
+            SQLObjectNameIndex index = indexes.get(container);
+            return index == null || index.disposed || index.dataSource != container.getDataSource() ? null : index;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Adds objects to the index. Used to remember objects which were read by other components.
+     */
+    public void addObjects(@NotNull Collection<? extends DBSObject> objects) {
+        synchronized (entries) {
+            for (DBSObject object : objects) {
+                addEntry(object);
+            }
+        }
+    }
+
+    /**
+     * Adds all children of container. After this container is considered as completely indexed.
+     */
+    public void addContainerChildren(@NotNull DBSObjectContainer container, @NotNull Collection<? extends DBSObject> children) {
+        synchronized (entries) {
+            for (DBSObject object : children) {
+                addEntry(object);
+            }
+            if (!(container instanceof DBSEntity)) {
+                loadedContainers.add(container);
+            }
+        }
+    }
+
+    public void addObject(@NotNull DBSObject object) {
+        synchronized (entries) {
+            addEntry(object);
+        }
+    }
+
+    public void removeObject(@NotNull DBSObject object) {
+        synchronized (entries) {
+            loadedContainers.remove(object);
+            if (entries.remove(object) != null) {
+                invalidate();
+            }
+        }
+    }
+
+    /**
+     * Container contents may be changed. It is not considered as completely indexed until it is read again.
+     */
+    public void resetContainer(@NotNull DBSObject container) {
+        synchronized (entries) {
+            loadedContainers.remove(container);
+        }
+    }
+
+    /**
+     * Checks that search in the index gives the same results as search in database.
+     * It is true if all searched object types are entities (tables) and all containers in scope were read completely.
+     *
+     * @param parentObject search scope. Null means whole data source.
+     */
+    public boolean coversScope(@Nullable DBSObject parentObject, @NotNull DBSObjectType[] objectTypes) {
+        for (DBSObjectType type : objectTypes) {
+            Class<? extends DBSObject> typeClass = type.getTypeClass();
+            if (typeClass == null || !DBSEntity.class.isAssignableFrom(typeClass)) {
+                // Other objects (procedures, etc) are not children of containers
+                return false;
+            }
+        }
+        DBSObject scope = parentObject != null ? parentObject : DBUtils.getAdapter(DBSObjectContainer.class, dataSource);
+        synchronized (entries) {
+            if (scope == null || !loadedContainers.contains(scope)) {
+                return false;
+            }
+            for (DBSObject object : entries.keySet()) {
+                if (object instanceof DBSObjectContainer && !(object instanceof DBSEntity) &&
+                    !loadedContainers.contains(object) && isChildOf(object, scope))
+                {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private void addEntry(DBSObject object) {
+        if (object.getName() == null || object.getDataSource() != dataSource || DBUtils.isHiddenObject(object)) {
+            return;
+        }
+        Entry entry = entries.get(object);
+        if (entry == null || !entry.name.equals(object.getName())) {
+            entries.put(object, new Entry(object));
+            invalidate();
+        }
+    }
+
+    private void invalidate() {
+        nameIndex = null;
+        humpsIndex = null;
+    }
+
+    /**
+     * Finds objects by name prefix or by name humps.
+     *
+     * @param parentObject   if not null then only children (direct or indirect) of this object are returned
+     * @param objectTypes    object types to search
+     * @param objectNameMask exact object name or name prefix followed by %. Other wildcards are not supported.
+     *                       Prefixes also match name humps (e.g. "ab%" matches ACCOUNT_BALANCE).
+     * @param caseSensitive  case sensitive match
+     * @param maxResults     maximum number of results
+     * @return object references or null if the mask can't be handled locally
+     */
+    @Nullable
+    public List<DBSObjectReference> findObjectsByMask(
+        @Nullable DBSObject parentObject,
+        @NotNull DBSObjectType[] objectTypes,
+        @NotNull String objectNameMask,
+        boolean caseSensitive,
+        int maxResults)
+    {
+        // Name without wildcards is an exact name lookup
+        final boolean exactMatch = !objectNameMask.endsWith("%");
+        String prefix = objectNameMask;
+        while (prefix.endsWith("%")) {
+            prefix = prefix.substring(0, prefix.length() - 1);
+        }
+        if (prefix.isEmpty() || prefix.indexOf('%') != -1) {
+            return null;
+        }
+        Entry[] byName = nameIndex;
+        Entry[] byHumps = humpsIndex;
+        if (byName == null || byHumps == null) {
+            synchronized (entries) {
+                byName = entries.values().toArray(new Entry[entries.size()]);
+                byHumps = byName.clone();
+                Arrays.sort(byName, NAME_COMPARATOR);
+                Arrays.sort(byHumps, HUMPS_COMPARATOR);
+                nameIndex = byName;
+                humpsIndex = byHumps;
+            }
+        }
+
+        final Map<DBSObject, DBSObjectReference> result = new LinkedHashMap<>();
+        final String upperPrefix = prefix.toUpperCase(Locale.ENGLISH);
+        for (int i = lowerBound(byName, upperPrefix, false); i < byName.length && result.size() < maxResults; i++) {
+            Entry entry = byName[i];
+            if (exactMatch ? !entry.upperName.equals(upperPrefix) : !entry.upperName.startsWith(upperPrefix)) {
+                break;
+            }
+            if (caseSensitive && (exactMatch ? !entry.name.equals(prefix) : !entry.name.startsWith(prefix))) {
+                continue;
+            }
+            addReference(result, entry, parentObject, objectTypes);
+        }
+        if (!exactMatch && !caseSensitive && result.size() < maxResults) {
+            final String[] queryHumps = splitQueryHumps(prefix);
+            if (queryHumps.length > 1) {
+                StringBuilder initials = new StringBuilder(queryHumps.length);
+                for (String hump : queryHumps) {
+                    initials.append(hump.charAt(0));
+                }
+                final String humpsPrefix = initials.toString();
+                for (int i = lowerBound(byHumps, humpsPrefix, true); i < byHumps.length && result.size() < maxResults; i++) {
+                    Entry entry = byHumps[i];
+                    if (!entry.humps.startsWith(humpsPrefix)) {
+                        break;
+                    }
+                    if (!result.containsKey(entry.object) && matchesHumps(entry.name, queryHumps)) {
+                        addReference(result, entry, parentObject, objectTypes);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(result.values());
+    }
+
+    private static void addReference(Map<DBSObject, DBSObjectReference> result, Entry entry, @Nullable DBSObject parentObject, DBSObjectType[] objectTypes) {
+        final DBSObjectType objectType = getObjectType(entry.object, objectTypes);
+        if (objectType == null || !isChildOf(entry.object, parentObject)) {
+            return;
+        }
+        final DBSObject container = entry.object.getParentObject();
+        if (container == null) {
+            return;
+        }
+        result.put(entry.object, new IndexedObjectReference(entry.object, container, objectType));
+    }
+
+    private static int lowerBound(Entry[] index, String key, boolean humps) {
+        int low = 0, high = index.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            String value = humps ? index[mid].humps : index[mid].upperName;
+            if (value.compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Nullable
+    private static DBSObjectType getObjectType(DBSObject object, DBSObjectType[] objectTypes) {
+        for (DBSObjectType type : objectTypes) {
+            Class<? extends DBSObject> typeClass = type.getTypeClass();
+            if (typeClass != null && typeClass.isInstance(object)) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isChildOf(DBSObject object, @Nullable DBSObject parentObject) {
+        if (parentObject == null) {
+            return true;
+        }
+        for (DBSObject parent = object.getParentObject(); parent != null; parent = parent.getParentObject()) {
+            if (parent == parentObject) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits name into words: by _, $ and digits or by case change (camel case).
+     * Returns upper-cased initials of all words.
+     */
+    static String getNameHumps(String name) {
+        StringBuilder humps = new StringBuilder();
+        boolean wordStart = true;
+        char prevChar = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                wordStart = true;
+            } else {
+                if (wordStart || (Character.isUpperCase(c) && Character.isLowerCase(prevChar))) {
+                    humps.append(Character.toUpperCase(c));
+                }
+                wordStart = false;
+            }
+            prevChar = c;
+        }
+        return humps.toString();
+    }
+
+    /**
+     * Splits query into humps. Mixed case query is split by case changes ("CusOrd" -> CUS, ORD),
+     * single case query without separators is treated as list of initials ("co" -> C, O).
+     */
+    static String[] splitQueryHumps(String query) {
+        List<String> humps = new ArrayList<>();
+        boolean hasLower = false, hasUpper = false, hasSeparator = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (Character.isLowerCase(c)) hasLower = true;
+            else if (Character.isUpperCase(c)) hasUpper = true;
+            else if (!Character.isLetterOrDigit(c)) hasSeparator = true;
+        }
+        if (!hasSeparator && !(hasLower && hasUpper)) {
+            for (int i = 0; i < query.length(); i++) {
+                humps.add(String.valueOf(Character.toUpperCase(query.charAt(i))));
+            }
+        } else {
+            StringBuilder word = new StringBuilder();
+            char prevChar = 0;
+            for (int i = 0; i < query.length(); i++) {
+                char c = query.charAt(i);
+                if (!Character.isLetterOrDigit(c) || (Character.isUpperCase(c) && Character.isLowerCase(prevChar))) {
+                    if (word.length() > 0) {
+                        humps.add(word.toString().toUpperCase(Locale.ENGLISH));
+                        word.setLength(0);
+                    }
+                }
+                if (Character.isLetterOrDigit(c)) {
+                    word.append(c);
+                }
+                prevChar = c;
+            }
+            if (word.length() > 0) {
+                humps.add(word.toString().toUpperCase(Locale.ENGLISH));
+            }
+        }
+        return humps.toArray(new String[humps.size()]);
+    }
+
+    private static boolean matchesHumps(String name, String[] queryHumps) {
+        final String upperName = name.toUpperCase(Locale.ENGLISH);
+        int wordIndex = 0;
+        boolean wordStart = true;
+        char prevChar = 0;
+        for (int i = 0; i < name.length() && wordIndex < queryHumps.length; i++) {
+            char c = name.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                wordStart = true;
+            } else {
+                if (wordStart || (Character.isUpperCase(c) && Character.isLowerCase(prevChar))) {
+                    if (!upperName.startsWith(queryHumps[wordIndex], i)) {
+                        return false;
+                    }
+                    wordIndex++;
+                }
+                wordStart = false;
+            }
+            prevChar = c;
+        }
+        return wordIndex == queryHumps.length;
+    }
+
+    private void loadContainer(DBRProgressMonitor monitor, DBSObjectContainer container, Set<DBSObject> forceLoad, int depth) throws DBException {
+        if (monitor.isCanceled() || disposed) {
+            return;
+        }
+        Collection<? extends DBSObject> children = container.getChildren(monitor);
+        if (children == null) {
+            return;
+        }
+        addContainerChildren(container, children);
+        if (depth > 0) {
+            for (DBSObject child : children) {
+                if (child instanceof DBSObjectContainer && !(child instanceof DBSEntity) && forceLoad.contains(child)) {
+                    loadContainer(monitor, (DBSObjectContainer) child, forceLoad, depth - 1);
+                }
+            }
+        }
+    }
+
+    private static class IndexedObjectReference extends AbstractObjectReference {
+        private final DBSObject object;
+
+        IndexedObjectReference(DBSObject object, DBSObject container, DBSObjectType type) {
+            super(object.getName(), container, null, object.getClass(), type);
+            this.object = object;
+        }
+
+        @Override
+        public DBSObject resolveObject(DBRProgressMonitor monitor) throws DBException {
+            return object;
+        }
+    }
+
+    private static class IndexLoadJob extends AbstractJob {
+        private final SQLObjectNameIndex index;
+        private final DBSObjectContainer container;
+
+        IndexLoadJob(@NotNull SQLObjectNameIndex index, @Nullable DBSObjectContainer container) {
+            super("Index object names of " + index.dataSource.getContainer().getName());
+            this.index = index;
+            this.container = container;
+            setUser(false);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor) {
+            try {
+                DBSObjectContainer rootContainer = container;
+                Set<DBSObject> forceLoad = new HashSet<>();
+                if (rootContainer == null) {
+                    rootContainer = DBUtils.getAdapter(DBSObjectContainer.class, index.dataSource);
+                    if (rootContainer == null) {
+                        return Status.OK_STATUS;
+                    }
+                    // Read contents of active schema/catalog. Other containers are indexed on demand.
+                    for (DBSObject selected : DBUtils.getSelectedObjects(rootContainer)) {
+                        for (DBSObject parent = selected; parent != null; parent = parent.getParentObject()) {
+                            forceLoad.add(parent);
+                        }
+                    }
+                }
+                index.loadContainer(monitor, rootContainer, forceLoad, 2);
+            } catch (Throwable e) {
+                log.debug("Error indexing object names: " + e.getMessage());
+            } finally {
+                index.ready = true;
+            }
+            return Status.OK_STATUS;
+        }
+    }
+
+    private static class ModelListener implements INavigatorListener {
+        @Override
+        public void nodeChanged(DBNEvent event) {
+            if (!(event.getNode() instanceof DBNDatabaseNode)) {
+                return;
+            }
+            final DBNDatabaseNode node = (DBNDatabaseNode) event.getNode();
+            final DBSObject object = node.getObject();
+            if (object instanceof DBPDataSourceContainer) {
+                if (event.getAction() == DBNEvent.Action.REMOVE ||
+                    (event.getAction() == DBNEvent.Action.UPDATE && event.getNodeChange() == DBNEvent.NodeChange.UNLOAD))
+                {
+                    // Data source was deleted or disconnected
+                    removeIndex((DBPDataSourceContainer) object);
+                }
+                return;
+            }
+            final SQLObjectNameIndex index = findIndex(node.getDataSourceContainer());
+            if (index == null || object == null) {
+                return;
+            }
+            switch (event.getAction()) {
+                case ADD:
+                    index.addObject(object);
+                    break;
+                case REMOVE:
+                    index.removeObject(object);
+                    break;
+                case UPDATE:
+                    if (event.getNodeChange() == DBNEvent.NodeChange.REFRESH || event.getNodeChange() == DBNEvent.NodeChange.STRUCT_REFRESH) {
+                        index.addObject(object);
+                        if (object instanceof DBSObjectContainer && !(object instanceof DBSEntity)) {
+                            index.resetContainer(object);
+                            new IndexLoadJob(index, (DBSObjectContainer) object).schedule();
+                        }
+                    }
+                    break;
+            }
+        }
+    }
+}
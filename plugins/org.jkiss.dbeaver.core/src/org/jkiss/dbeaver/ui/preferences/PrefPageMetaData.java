@@ -23,6 +23,7 @@ import org.eclipse.swt.widgets.Button;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
 import org.eclipse.swt.widgets.Group;
+import org.eclipse.swt.widgets.Spinner;
 import org.jkiss.dbeaver.DBeaverPreferences;
 import org.jkiss.dbeaver.ModelPreferences;
 import org.jkiss.dbeaver.core.CoreMessages;
@@ -41,6 +42,8 @@ public class PrefPageMetaData extends TargetPrefPage
     private Button readExpensiveCheck;
     private Button separateMetaConnectionCheck;
     private Button caseSensitiveNamesCheck;
+    private Button warmUpCheck;
+    private Spinner warmUpThreadsSpinner;
 
     public PrefPageMetaData()
     {
@@ -54,7 +57,9 @@ public class PrefPageMetaData extends TargetPrefPage
         return
             store.contains(DBeaverPreferences.READ_EXPENSIVE_PROPERTIES) ||
             store.contains(ModelPreferences.META_SEPARATE_CONNECTION) ||
-            store.contains(ModelPreferences.META_CASE_SENSITIVE)
+            store.contains(ModelPreferences.META_CASE_SENSITIVE) ||
+            store.contains(ModelPreferences.META_WARMUP_ENABLED) ||
+            store.contains(ModelPreferences.META_WARMUP_THREADS)
             ;
     }
 
@@ -74,6 +79,9 @@ public class PrefPageMetaData extends TargetPrefPage
             separateMetaConnectionCheck = UIUtils.createCheckbox(metadataGroup, CoreMessages.pref_page_database_general_separate_meta_connection, false);
             caseSensitiveNamesCheck = UIUtils.createCheckbox(metadataGroup, CoreMessages.pref_page_database_general_checkbox_case_sensitive_names, false);
             readExpensiveCheck = UIUtils.createCheckbox(metadataGroup, CoreMessages.pref_page_database_general_checkbox_show_row_count, false);
+            warmUpCheck = UIUtils.createCheckbox(metadataGroup, CoreMessages.pref_page_database_general_checkbox_meta_warmup, false);
+            Composite threadsGroup = UIUtils.createPlaceholder(metadataGroup, 2);
+            warmUpThreadsSpinner = UIUtils.createLabelSpinner(threadsGroup, CoreMessages.pref_page_database_general_label_meta_warmup_threads, 2, 1, 8);
         }
 
         return composite;
@@ -86,6 +94,8 @@ public class PrefPageMetaData extends TargetPrefPage
             readExpensiveCheck.setSelection(store.getBoolean(DBeaverPreferences.READ_EXPENSIVE_PROPERTIES));
             separateMetaConnectionCheck.setSelection(store.getBoolean(ModelPreferences.META_SEPARATE_CONNECTION));
             caseSensitiveNamesCheck.setSelection(store.getBoolean(ModelPreferences.META_CASE_SENSITIVE));
+            warmUpCheck.setSelection(store.getBoolean(ModelPreferences.META_WARMUP_ENABLED));
+            warmUpThreadsSpinner.setSelection(store.getInt(ModelPreferences.META_WARMUP_THREADS));
         } catch (Exception e) {
             log.warn(e);
         }
@@ -98,6 +108,8 @@ public class PrefPageMetaData extends TargetPrefPage
             store.setValue(DBeaverPreferences.READ_EXPENSIVE_PROPERTIES, readExpensiveCheck.getSelection());
             store.setValue(ModelPreferences.META_SEPARATE_CONNECTION, separateMetaConnectionCheck.getSelection());
             store.setValue(ModelPreferences.META_CASE_SENSITIVE, caseSensitiveNamesCheck.getSelection());
+            store.setValue(ModelPreferences.META_WARMUP_ENABLED, warmUpCheck.getSelection());
+            store.setValue(ModelPreferences.META_WARMUP_THREADS, warmUpThreadsSpinner.getSelection());
         } catch (Exception e) {
             log.warn(e);
         }
@@ -110,6 +122,8 @@ public class PrefPageMetaData extends TargetPrefPage
         store.setToDefault(DBeaverPreferences.READ_EXPENSIVE_PROPERTIES);
         store.setToDefault(ModelPreferences.META_SEPARATE_CONNECTION);
         store.setToDefault(ModelPreferences.META_CASE_SENSITIVE);
+        store.setToDefault(ModelPreferences.META_WARMUP_ENABLED);
+        store.setToDefault(ModelPreferences.META_WARMUP_THREADS);
     }
 
     @Override
@@ -43,6 +43,7 @@ public class PrefPageSQLCompletion extends TargetPrefPage
     private Button csHideDuplicates;
     private Button csShortName;
     private Button csInsertSpace;
+    private Button csUseNameIndex;
 
     public PrefPageSQLCompletion()
     {
@@ -61,7 +62,8 @@ public class PrefPageSQLCompletion extends TargetPrefPage
             store.contains(SQLPreferenceConstants.PROPOSAL_INSERT_CASE) ||
             store.contains(SQLPreferenceConstants.HIDE_DUPLICATE_PROPOSALS) ||
             store.contains(SQLPreferenceConstants.PROPOSAL_SHORT_NAME) ||
-            store.contains(SQLPreferenceConstants.INSERT_SPACE_AFTER_PROPOSALS)
+            store.contains(SQLPreferenceConstants.INSERT_SPACE_AFTER_PROPOSALS) ||
+            store.contains(SQLPreferenceConstants.PROPOSALS_USE_NAME_INDEX)
         ;
     }
 
@@ -117,6 +119,11 @@ public class PrefPageSQLCompletion extends TargetPrefPage
             csHideDuplicates = UIUtils.createCheckbox(assistGroup, "Hide duplicate names from non-active schemas", null, false, 2);
             csShortName = UIUtils.createCheckbox(assistGroup, "Use short object names (omit schema/catalog)", null, false, 2);
             csInsertSpace = UIUtils.createCheckbox(assistGroup, "Insert space after table/column names", null, false, 2);
+            csUseNameIndex = UIUtils.createCheckbox(
+                assistGroup,
+                "Use local object names index",
+                "Search object names in locally cached metadata first.\nDatabase is queried if local metadata doesn't cover the whole search scope.",
+                false, 2);
         }
 
         return composite;
@@ -135,6 +142,7 @@ public class PrefPageSQLCompletion extends TargetPrefPage
             csHideDuplicates.setSelection(store.getBoolean(SQLPreferenceConstants.HIDE_DUPLICATE_PROPOSALS));
             csShortName.setSelection(store.getBoolean(SQLPreferenceConstants.PROPOSAL_SHORT_NAME));
             csInsertSpace.setSelection(store.getBoolean(SQLPreferenceConstants.INSERT_SPACE_AFTER_PROPOSALS));
+            csUseNameIndex.setSelection(store.getBoolean(SQLPreferenceConstants.PROPOSALS_USE_NAME_INDEX));
 
         } catch (Exception e) {
             log.warn(e);
@@ -153,6 +161,7 @@ public class PrefPageSQLCompletion extends TargetPrefPage
             store.setValue(SQLPreferenceConstants.HIDE_DUPLICATE_PROPOSALS, csHideDuplicates.getSelection());
             store.setValue(SQLPreferenceConstants.PROPOSAL_SHORT_NAME, csShortName.getSelection());
             store.setValue(SQLPreferenceConstants.INSERT_SPACE_AFTER_PROPOSALS, csInsertSpace.getSelection());
+            store.setValue(SQLPreferenceConstants.PROPOSALS_USE_NAME_INDEX, csUseNameIndex.getSelection());
         } catch (Exception e) {
             log.warn(e);
         }
@@ -170,6 +179,7 @@ public class PrefPageSQLCompletion extends TargetPrefPage
         store.setToDefault(SQLPreferenceConstants.HIDE_DUPLICATE_PROPOSALS);
         store.setToDefault(SQLPreferenceConstants.PROPOSAL_SHORT_NAME);
         store.setToDefault(SQLPreferenceConstants.INSERT_SPACE_AFTER_PROPOSALS);
+        store.setToDefault(SQLPreferenceConstants.PROPOSALS_USE_NAME_INDEX);
     }
 
     @Override
@@ -48,6 +48,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
     private Combo commitTypeCombo;
     private Combo errorHandlingCombo;
     private Spinner commitLinesText;
+    private Spinner batchSizeText;
     private Button fetchResultSetsCheck;
     private Button resetCursorCheck;
 
@@ -74,6 +75,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
             store.contains(DBeaverPreferences.SCRIPT_COMMIT_TYPE) ||
             store.contains(DBeaverPreferences.SCRIPT_ERROR_HANDLING) ||
             store.contains(DBeaverPreferences.SCRIPT_COMMIT_LINES) ||
+            store.contains(DBeaverPreferences.SCRIPT_BATCH_SIZE) ||
             store.contains(DBeaverPreferences.SCRIPT_FETCH_RESULT_SETS) ||
             store.contains(ModelPreferences.SCRIPT_STATEMENT_DELIMITER) ||
             store.contains(ModelPreferences.SCRIPT_IGNORE_NATIVE_DELIMITER) ||
@@ -144,6 +146,11 @@ public class PrefPageSQLExecute extends TargetPrefPage
                 commitLinesText.setMaximum(1024 * 1024);
             }
 
+            {
+                batchSizeText = UIUtils.createLabelSpinner(scriptsGroup, CoreMessages.pref_page_sql_editor_label_batch_size,
+                    "Number of DML queries sent to the server in one batch. 0 or 1 disables batches", 0, 0, 100000);
+            }
+
             {
                 UIUtils.createControlLabel(scriptsGroup, CoreMessages.pref_page_sql_editor_label_error_handling);
 
@@ -191,6 +198,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
             commitTypeCombo.select(SQLScriptCommitType.valueOf(store.getString(DBeaverPreferences.SCRIPT_COMMIT_TYPE)).ordinal());
             errorHandlingCombo.select(SQLScriptErrorHandling.valueOf(store.getString(DBeaverPreferences.SCRIPT_ERROR_HANDLING)).ordinal());
             commitLinesText.setSelection(store.getInt(DBeaverPreferences.SCRIPT_COMMIT_LINES));
+            batchSizeText.setSelection(store.getInt(DBeaverPreferences.SCRIPT_BATCH_SIZE));
             fetchResultSetsCheck.setSelection(store.getBoolean(DBeaverPreferences.SCRIPT_FETCH_RESULT_SETS));
             resetCursorCheck.setSelection(store.getBoolean(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE));
 
@@ -217,6 +225,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
 
             store.setValue(DBeaverPreferences.SCRIPT_COMMIT_TYPE, CommonUtils.fromOrdinal(SQLScriptCommitType.class, commitTypeCombo.getSelectionIndex()).name());
             store.setValue(DBeaverPreferences.SCRIPT_COMMIT_LINES, commitLinesText.getSelection());
+            store.setValue(DBeaverPreferences.SCRIPT_BATCH_SIZE, batchSizeText.getSelection());
             store.setValue(DBeaverPreferences.SCRIPT_ERROR_HANDLING, CommonUtils.fromOrdinal(SQLScriptErrorHandling.class, errorHandlingCombo.getSelectionIndex()).name());
             store.setValue(DBeaverPreferences.SCRIPT_FETCH_RESULT_SETS, fetchResultSetsCheck.getSelection());
             store.setValue(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE, resetCursorCheck.getSelection());
@@ -242,6 +251,7 @@ public class PrefPageSQLExecute extends TargetPrefPage
 
         store.setToDefault(DBeaverPreferences.SCRIPT_COMMIT_TYPE);
         store.setToDefault(DBeaverPreferences.SCRIPT_COMMIT_LINES);
+        store.setToDefault(DBeaverPreferences.SCRIPT_BATCH_SIZE);
         store.setToDefault(DBeaverPreferences.SCRIPT_ERROR_HANDLING);
         store.setToDefault(DBeaverPreferences.SCRIPT_FETCH_RESULT_SETS);
         store.setToDefault(SQLPreferenceConstants.RESET_CURSOR_ON_EXECUTE);
@@ -41,6 +41,7 @@ import org.jkiss.dbeaver.model.DBPDataSource;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.exec.plan.DBCPlanNode;
 import org.jkiss.dbeaver.model.exec.plan.DBCQueryPlanner;
 import org.jkiss.dbeaver.model.sql.SQLQuery;
 import org.jkiss.dbeaver.runtime.properties.PropertyCollector;
@@ -51,6 +52,8 @@ import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.dbeaver.ui.properties.PropertyTreeViewer;
 import org.jkiss.utils.CommonUtils;
 
+import java.util.Collection;
+
 /**
  * ResultSetViewer
  */
@@ -67,7 +70,11 @@ public class ExplainPlanViewer implements IPropertyChangeListener
     private DBCQueryPlanner planner;
     private RefreshPlanAction refreshPlanAction;
     private ToggleViewAction toggleViewAction;
+    private ComparePlanAction comparePlanAction;
     private final SashForm leftPanel;
+    private final PlanDiffViewer diffViewer;
+    private Collection<DBCPlanNode> currentPlan;
+    private Collection<DBCPlanNode> previousPlan;
 
     public ExplainPlanViewer(final IWorkbenchPart workbenchPart, Composite parent)
     {
@@ -91,8 +98,14 @@ public class ExplainPlanViewer implements IPropertyChangeListener
                 @Override
                 protected void fillCustomActions(IContributionManager contributionManager) {
                     contributionManager.add(toggleViewAction);
+                    contributionManager.add(comparePlanAction);
                     contributionManager.add(refreshPlanAction);
                 }
+
+                @Override
+                protected void onPlanLoaded(Collection<DBCPlanNode> planNodes) {
+                    updatePlanHistory(planNodes);
+                }
             };
             this.planTree.setShowDivider(true);
             this.planTree.createProgressPanel(composite);
@@ -113,6 +126,10 @@ public class ExplainPlanViewer implements IPropertyChangeListener
         planPanel.setWeights(new int[] {70, 30});
         //planPanel.setMaximizedControl(planTree);
 
+        // Shown instead of plan and properties when plans are compared
+        diffViewer = new PlanDiffViewer(planPanel);
+        diffViewer.getControl().setVisible(false);
+
         planTree.getControl().addPaintListener(new PaintListener() {
             @Override
             public void paintControl(PaintEvent e)
@@ -180,6 +197,38 @@ public class ExplainPlanViewer implements IPropertyChangeListener
 
         this.refreshPlanAction = new RefreshPlanAction();
         this.refreshPlanAction.setEnabled(false);
+
+        this.comparePlanAction = new ComparePlanAction();
+        this.comparePlanAction.setEnabled(false);
+    }
+
+    private void updatePlanHistory(Collection<DBCPlanNode> planNodes)
+    {
+        final DBCExecutionContext context = planTree.getExecutionContext();
+        final String planQuery = planTree.getQuery();
+        if (context == null || planQuery == null) {
+            return;
+        }
+        currentPlan = planNodes;
+        previousPlan = PlanCache.putPlan(context.getDataSource().getContainer(), planQuery, planNodes);
+        comparePlanAction.setEnabled(previousPlan != null);
+        if (comparePlanAction.isChecked()) {
+            showPlanDiff(previousPlan != null);
+        }
+    }
+
+    private void showPlanDiff(boolean show)
+    {
+        if (show) {
+            diffViewer.setPlans(previousPlan, currentPlan);
+            diffViewer.getControl().setVisible(true);
+            planPanel.setMaximizedControl(diffViewer.getControl());
+        } else {
+            planPanel.setMaximizedControl(null);
+            diffViewer.getControl().setVisible(false);
+            planPanel.layout();
+        }
+        comparePlanAction.setChecked(show);
     }
 
     public Control getControl()
@@ -209,6 +258,12 @@ public class ExplainPlanViewer implements IPropertyChangeListener
         }
         planTree.clearListData();
         refreshPlanAction.setEnabled(false);
+        comparePlanAction.setEnabled(false);
+        if (comparePlanAction.isChecked()) {
+            showPlanDiff(false);
+        }
+        currentPlan = null;
+        previousPlan = null;
 
         if (planner == null) {
             throw new DBCException("This datasource doesn't support execution plans");
@@ -244,6 +299,20 @@ public class ExplainPlanViewer implements IPropertyChangeListener
         }
     }
 
+    private class ComparePlanAction extends Action {
+        private ComparePlanAction()
+        {
+            super("Compare with previous run", Action.AS_CHECK_BOX);
+            setImageDescriptor(DBeaverIcons.getImageDescriptor(UIIcon.COMPARE));
+        }
+
+        @Override
+        public void run()
+        {
+            showPlanDiff(isChecked() && previousPlan != null && currentPlan != null);
+        }
+    }
+
     private class ToggleViewAction extends Action {
         private ToggleViewAction()
         {
@@ -0,0 +1,89 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.ui.views.plan;
+
+import org.jkiss.dbeaver.core.DBeaverCore;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.exec.plan.DBCPlanNode;
+import org.jkiss.dbeaver.model.navigator.DBNDatabaseNode;
+import org.jkiss.dbeaver.model.navigator.DBNEvent;
+import org.jkiss.dbeaver.model.navigator.INavigatorListener;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Last explained plans of recent queries.
+ * Plans are kept per data source and query text. They are used to compare plans of different runs.
+ * Plans of a data source are dropped when it is disconnected or deleted.
+ */
+class PlanCache {
+
+    private static final int MAX_PLANS = 50;
+
+    private static final Map<DBPDataSourceContainer, Map<String, Collection<DBCPlanNode>>> plans = new WeakHashMap<>();
+    private static INavigatorListener modelListener;
+
+    private PlanCache() {
+    }
+
+    /**
+     * Saves plan of the query.
+     * @return previous plan of the same query or null
+     */
+    static synchronized Collection<DBCPlanNode> putPlan(DBPDataSourceContainer container, String query, Collection<DBCPlanNode> plan) {
+        if (modelListener == null) {
+            modelListener = new ModelListener();
+            DBeaverCore.getInstance().getNavigatorModel().addListener(modelListener);
+        }
+        Map<String, Collection<DBCPlanNode>> containerPlans = plans.get(container);
+        if (containerPlans == null) {
+            containerPlans = new LinkedHashMap<String, Collection<DBCPlanNode>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Collection<DBCPlanNode>> eldest) {
+                    return size() > MAX_PLANS;
+                }
+            };
+            plans.put(container, containerPlans);
+        }
+        return containerPlans.put(query.trim(), plan);
+    }
+
+    private static synchronized void removePlans(DBPDataSourceContainer container) {
+        plans.remove(container);
+    }
+
+    private static class ModelListener implements INavigatorListener {
+        @Override
+        public void nodeChanged(DBNEvent event) {
+            if (!(event.getNode() instanceof DBNDatabaseNode)) {
+                return;
+            }
+            final Object object = ((DBNDatabaseNode) event.getNode()).getObject();
+            if (object instanceof DBPDataSourceContainer && (event.getAction() == DBNEvent.Action.REMOVE ||
+                (event.getAction() == DBNEvent.Action.UPDATE && event.getNodeChange() == DBNEvent.NodeChange.UNLOAD)))
+            {
+                // Data source was deleted or disconnected
+                removePlans((DBPDataSourceContainer) object);
+            }
+        }
+    }
+
+}
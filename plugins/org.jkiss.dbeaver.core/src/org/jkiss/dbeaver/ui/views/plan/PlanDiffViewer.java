@@ -0,0 +1,197 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.ui.views.plan;
+
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.TreeViewerColumn;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.SashForm;
+import org.eclipse.swt.graphics.Color;
+import org.eclipse.swt.layout.GridData;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Label;
+import org.jkiss.dbeaver.model.exec.plan.DBCPlanCostNode;
+import org.jkiss.dbeaver.model.exec.plan.DBCPlanNode;
+import org.jkiss.dbeaver.ui.UIUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.text.NumberFormat;
+import java.util.*;
+
+/**
+ * Side-by-side comparison of two plans of the same query.
+ * Nodes of the current plan which cost or rows estimate grew are highlighted.
+ */
+class PlanDiffViewer {
+
+    // Changes less than this ratio are ignored
+    private static final double CHANGE_THRESHOLD = 0.1;
+
+    private final Composite composite;
+    private final TreeViewer previousViewer;
+    private final TreeViewer currentViewer;
+    private final NumberFormat numberFormat = NumberFormat.getNumberInstance();
+    // Current node -> previous node and vice versa
+    private final Map<Object, DBCPlanCostNode> matchedNodes = new IdentityHashMap<>();
+
+    PlanDiffViewer(Composite parent)
+    {
+        numberFormat.setMaximumFractionDigits(2);
+        composite = new SashForm(parent, SWT.HORIZONTAL);
+        previousViewer = createPlanViewer(composite, "Previous run", false);
+        currentViewer = createPlanViewer(composite, "Current run", true);
+    }
+
+    Control getControl()
+    {
+        return composite;
+    }
+
+    void setPlans(Collection<DBCPlanNode> previousPlan, Collection<DBCPlanNode> currentPlan)
+    {
+        matchedNodes.clear();
+        matchNodes(previousPlan, currentPlan);
+        previousViewer.setInput(previousPlan);
+        currentViewer.setInput(currentPlan);
+        previousViewer.expandToLevel(10);
+        currentViewer.expandToLevel(10);
+        UIUtils.packColumns(previousViewer.getTree(), true, null);
+        UIUtils.packColumns(currentViewer.getTree(), true, null);
+    }
+
+    /**
+     * Matches nodes by their position in tree. Subtrees are matched only if node names are the same.
+     */
+    private void matchNodes(Collection<? extends DBCPlanNode> previous, Collection<? extends DBCPlanNode> current)
+    {
+        if (previous == null || current == null) {
+            return;
+        }
+        final Iterator<? extends DBCPlanNode> prevIter = previous.iterator();
+        final Iterator<? extends DBCPlanNode> curIter = current.iterator();
+        while (prevIter.hasNext() && curIter.hasNext()) {
+            final DBCPlanNode prevNode = prevIter.next();
+            final DBCPlanNode curNode = curIter.next();
+            if (prevNode instanceof DBCPlanCostNode && curNode instanceof DBCPlanCostNode &&
+                CommonUtils.equalObjects(((DBCPlanCostNode) prevNode).getNodeName(), ((DBCPlanCostNode) curNode).getNodeName()))
+            {
+                matchedNodes.put(curNode, (DBCPlanCostNode) prevNode);
+                matchedNodes.put(prevNode, (DBCPlanCostNode) curNode);
+                matchNodes(prevNode.getNested(), curNode.getNested());
+            }
+        }
+    }
+
+    private TreeViewer createPlanViewer(Composite parent, String title, final boolean current)
+    {
+        final Composite panel = UIUtils.createPlaceholder(parent, 1);
+        final Label titleLabel = new Label(panel, SWT.NONE);
+        titleLabel.setText(title);
+
+        final TreeViewer viewer = new TreeViewer(panel, SWT.BORDER | SWT.FULL_SELECTION | SWT.H_SCROLL | SWT.V_SCROLL);
+        viewer.getTree().setLayoutData(new GridData(GridData.FILL_BOTH));
+        viewer.getTree().setHeaderVisible(true);
+        viewer.getTree().setLinesVisible(true);
+        viewer.setContentProvider(PlanNodesTree.CONTENT_PROVIDER);
+
+        final TreeViewerColumn nameColumn = new TreeViewerColumn(viewer, SWT.LEFT);
+        nameColumn.getColumn().setText("Node");
+        nameColumn.setLabelProvider(new ColumnLabelProvider() {
+            @Override
+            public String getText(Object element)
+            {
+                return element instanceof DBCPlanCostNode ? ((DBCPlanCostNode) element).getNodeName() : String.valueOf(element);
+            }
+
+            @Override
+            public Color getForeground(Object element)
+            {
+                return matchedNodes.containsKey(element) ? null : composite.getDisplay().getSystemColor(SWT.COLOR_DARK_GRAY);
+            }
+        });
+        createValueColumn(viewer, "Cost", current, true);
+        createValueColumn(viewer, "Rows", current, false);
+        return viewer;
+    }
+
+    private void createValueColumn(TreeViewer viewer, String title, final boolean current, final boolean cost)
+    {
+        final TreeViewerColumn column = new TreeViewerColumn(viewer, SWT.RIGHT);
+        column.getColumn().setText(title);
+        column.setLabelProvider(new ColumnLabelProvider() {
+            @Override
+            public String getText(Object element)
+            {
+                final Number value = getValue(element, cost);
+                if (value == null) {
+                    return "";
+                }
+                final String text = numberFormat.format(value);
+                final double change = getChange(element, cost);
+                if (!current || Double.isNaN(change) || Math.abs(change) < CHANGE_THRESHOLD) {
+                    return text;
+                }
+                return text + " (" + (change > 0 ? "+" : "") + Math.round(change * 100) + "%)";
+            }
+
+            @Override
+            public Color getForeground(Object element)
+            {
+                if (!current) {
+                    return null;
+                }
+                final double change = getChange(element, cost);
+                if (Double.isNaN(change) || Math.abs(change) < CHANGE_THRESHOLD) {
+                    return null;
+                }
+                return composite.getDisplay().getSystemColor(change > 0 ? SWT.COLOR_RED : SWT.COLOR_DARK_GREEN);
+            }
+        });
+    }
+
+    /**
+     * Relative change of the current node value comparing to previous node.
+     * Returns NaN if nodes can't be compared.
+     */
+    private double getChange(Object element, boolean cost)
+    {
+        final DBCPlanCostNode prevNode = matchedNodes.get(element);
+        final Number curValue = getValue(element, cost);
+        final Number prevValue = prevNode == null ? null : getValue(prevNode, cost);
+        if (curValue == null || prevValue == null) {
+            return Double.NaN;
+        }
+        final double prev = prevValue.doubleValue();
+        final double cur = curValue.doubleValue();
+        if (prev == 0) {
+            return cur == 0 ? 0 : Double.POSITIVE_INFINITY;
+        }
+        return (cur - prev) / prev;
+    }
+
+    private static Number getValue(Object element, boolean cost)
+    {
+        if (!(element instanceof DBCPlanCostNode)) {
+            return null;
+        }
+        return cost ? ((DBCPlanCostNode) element).getNodeCost() : ((DBCPlanCostNode) element).getNodeRowCount();
+    }
+
+}
@@ -89,7 +89,24 @@ public class PlanNodesTree extends DatabaseObjectListControl<DBCPlanNode> {
         this.query = query;
     }
 
-    private static ITreeContentProvider CONTENT_PROVIDER = new ITreeContentProvider() {
+    public DBCExecutionContext getExecutionContext()
+    {
+        return context;
+    }
+
+    public String getQuery()
+    {
+        return query;
+    }
+
+    /**
+     * Called in UI thread when plan is loaded
+     */
+    protected void onPlanLoaded(Collection<DBCPlanNode> planNodes)
+    {
+    }
+
+    static final ITreeContentProvider CONTENT_PROVIDER = new ITreeContentProvider() {
         @Override
         public Object[] getElements(Object inputElement)
         {
@@ -171,6 +188,9 @@ public class PlanNodesTree extends DatabaseObjectListControl<DBCPlanNode> {
             } finally {
                 itemsViewer.getControl().setRedraw(true);
             }
+            if (items != null) {
+                onPlanLoaded(items);
+            }
         }
     }
 
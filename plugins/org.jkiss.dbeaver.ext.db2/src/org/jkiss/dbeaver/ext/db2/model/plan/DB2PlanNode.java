@@ -18,7 +18,7 @@
  */
 package org.jkiss.dbeaver.ext.db2.model.plan;
 
-import org.jkiss.dbeaver.model.exec.plan.DBCPlanNode;
+import org.jkiss.dbeaver.model.exec.plan.DBCPlanCostNode;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -28,7 +28,7 @@ import java.util.Collection;
  * 
  * @author Denis Forveille
  */
-public abstract class DB2PlanNode implements DBCPlanNode {
+public abstract class DB2PlanNode implements DBCPlanCostNode {
 
     private DB2PlanNode parent;
     private Collection<DB2PlanNode> listNestedNodes = new ArrayList<>(64);
@@ -48,6 +48,19 @@ public abstract class DB2PlanNode implements DBCPlanNode {
 
     public abstract Double getEstimatedCardinality();
 
+    @Override
+    public Number getNodeCost()
+    {
+        // Not supported by every kind of DB2PlanNode
+        return null;
+    }
+
+    @Override
+    public Number getNodeRowCount()
+    {
+        return getEstimatedCardinality();
+    }
+
     public void setEstimatedCardinality(Double estimatedCardinality)
     {
         // Not supported by every kind of DB2PlanNode
@@ -154,6 +154,12 @@ public class DB2PlanOperator extends DB2PlanNode {
         return estimatedCardinality;
     }
 
+    @Override
+    public Number getNodeCost()
+    {
+        return totalCost;
+    }
+
     @Property(viewable = false, order = 6)
     public List<DB2PlanOperatorArgument> getArguments()
     {
@@ -40,6 +40,15 @@ public class DiagramObjectCollector {
 
     private static final Log log = Log.getLog(DiagramObjectCollector.class);
 
+    /**
+     * Minimal number of diagram entities in one container to read metadata of the whole container at once
+     */
+    private static final int BULK_PREFETCH_MIN_ENTITIES = 10;
+    /**
+     * Minimal percent of container entities which must be in diagram to read metadata of the whole container at once
+     */
+    private static final int BULK_PREFETCH_MIN_PERCENT = 50;
+
     private final EntityDiagram diagram;
     private final List<ERDEntity> erdEntities = new ArrayList<>();
     private final Map<DBSEntity, ERDEntity> tableMap = new HashMap<>();
@@ -111,13 +120,67 @@ public class DiagramObjectCollector {
         }
     }
 
+    /**
+     * Reads attributes, constraints and foreign keys of specified entities in bulk.
+     * Entities are grouped by their containers. Each container where diagram has most of entities
+     * caches structure of all its entities with a few set-based queries instead of reading
+     * each entity's metadata separately. Diagram is then built from warm caches.
+     */
+    public static void prefetchEntitiesMetadata(
+        DBRProgressMonitor monitor,
+        Collection<? extends DBSEntity> entities)
+    {
+        final Map<DBSObjectContainer, Integer> containers = new LinkedHashMap<>();
+        for (DBSEntity entity : entities) {
+            DBSObjectContainer container = DBUtils.getAdapter(DBSObjectContainer.class, entity.getParentObject());
+            if (container != null) {
+                Integer count = containers.get(container);
+                containers.put(container, count == null ? 1 : count + 1);
+            }
+        }
+        monitor.beginTask("Prefetch entities metadata", containers.size());
+        for (Map.Entry<DBSObjectContainer, Integer> entry : containers.entrySet()) {
+            if (monitor.isCanceled()) {
+                break;
+            }
+            if (entry.getValue() < BULK_PREFETCH_MIN_ENTITIES) {
+                // Just a few entities - read them separately
+                monitor.worked(1);
+                continue;
+            }
+            final DBSObjectContainer container = entry.getKey();
+            try {
+                final Collection<? extends DBSObject> children = container.getChildren(monitor);
+                if (children != null && entry.getValue() * 100L < children.size() * (long) BULK_PREFETCH_MIN_PERCENT) {
+                    // Diagram has a small part of container - reading of the whole container costs more
+                    monitor.worked(1);
+                    continue;
+                }
+                monitor.subTask("Prefetch '" + container.getName() + "' metadata");
+                container.cacheStructure(monitor, DBSObjectContainer.STRUCT_ALL);
+            } catch (DBException e) {
+                log.warn("Can't prefetch '" + container.getName() + "' metadata", e);
+            }
+            monitor.worked(1);
+        }
+        monitor.done();
+    }
+
     public void generateDiagramObjects(
         DBRProgressMonitor monitor,
         Collection<? extends DBSObject> roots)
         throws DBException
     {
         boolean showViews = ERDActivator.getDefault().getPreferenceStore().getBoolean(ERDConstants.PREF_DIAGRAM_SHOW_VIEWS);
+        long startTime = System.currentTimeMillis();
         Collection<DBSEntity> tables = collectTables(monitor, roots);
+        log.debug("Diagram entities collected (" + tables.size() + "): " + (System.currentTimeMillis() - startTime) + "ms");
+
+        startTime = System.currentTimeMillis();
+        prefetchEntitiesMetadata(monitor, tables);
+        log.debug("Diagram metadata prefetched: " + (System.currentTimeMillis() - startTime) + "ms");
+
+        startTime = System.currentTimeMillis();
         for (DBSEntity table : tables) {
             if (DBUtils.isHiddenObject(table)) {
                 // Skip hidden tables
@@ -130,10 +193,14 @@ public class DiagramObjectCollector {
             addDiagramEntity(monitor, table);
         }
 
+        log.debug("Diagram entities loaded: " + (System.currentTimeMillis() - startTime) + "ms");
+
         // Add new relations
+        startTime = System.currentTimeMillis();
         for (ERDEntity erdEntity : erdEntities) {
             erdEntity.addRelations(monitor, tableMap, false);
         }
+        log.debug("Diagram relations loaded: " + (System.currentTimeMillis() - startTime) + "ms");
     }
 
     private void addDiagramEntity(DBRProgressMonitor monitor, DBSEntity table)
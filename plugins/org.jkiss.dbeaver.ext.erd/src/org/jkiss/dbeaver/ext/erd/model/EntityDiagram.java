@@ -24,6 +24,7 @@ import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.ext.erd.ERDActivator;
 import org.jkiss.dbeaver.ext.erd.editor.ERDAttributeStyle;
 import org.jkiss.dbeaver.ext.erd.editor.ERDAttributeVisibility;
@@ -42,6 +43,8 @@ import java.util.*;
  */
 public class EntityDiagram extends ERDObject<DBSObject>
 {
+	private static final Log log = Log.getLog(EntityDiagram.class);
+
 	private String name;
 	private List<ERDEntity> entities = new ArrayList<>();
 	private boolean layoutManualDesired = true;
@@ -240,7 +243,13 @@ public class EntityDiagram extends ERDObject<DBSObject>
 
     public void fillTables(DBRProgressMonitor monitor, Collection<DBSEntity> tables, DBSObject dbObject)
     {
+        // Read metadata of all entities at once
+        long startTime = System.currentTimeMillis();
+        DiagramObjectCollector.prefetchEntitiesMetadata(monitor, tables);
+        log.debug("Diagram metadata prefetched: " + (System.currentTimeMillis() - startTime) + "ms");
+
         // Load entities
+        startTime = System.currentTimeMillis();
         monitor.beginTask("Load entities metadata", tables.size());
         for (DBSEntity table : tables) {
             if (monitor.isCanceled()) {
@@ -257,8 +266,10 @@ public class EntityDiagram extends ERDObject<DBSObject>
         }
 
         monitor.done();
+        log.debug("Diagram entities loaded (" + tables.size() + "): " + (System.currentTimeMillis() - startTime) + "ms");
 
         // Load relations
+        startTime = System.currentTimeMillis();
         monitor.beginTask("Load entities' relations", tables.size());
         for (DBSEntity table : tables) {
             if (monitor.isCanceled()) {
@@ -272,6 +283,7 @@ public class EntityDiagram extends ERDObject<DBSObject>
             monitor.worked(1);
         }
         monitor.done();
+        log.debug("Diagram relations loaded: " + (System.currentTimeMillis() - startTime) + "ms");
     }
 
     public boolean containsTable(DBSEntity table)
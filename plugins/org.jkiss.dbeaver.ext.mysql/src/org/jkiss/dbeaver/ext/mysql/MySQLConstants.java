@@ -75,6 +75,7 @@ public class MySQLConstants {
 
     public static final String COL_TABLE_SCHEMA = "TABLE_SCHEMA";
     public static final String COL_TABLE_NAME = "TABLE_NAME";
+    public static final String COL_TABLE_STATUS_NAME = "NAME";
     public static final String COL_TABLE_TYPE = "TABLE_TYPE";
     public static final String COL_ENGINE = "ENGINE";
     public static final String COL_VERSION = "VERSION";
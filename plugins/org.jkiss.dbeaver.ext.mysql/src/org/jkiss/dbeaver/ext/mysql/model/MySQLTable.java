@@ -83,12 +83,32 @@ public class MySQLTable extends MySQLTableBase
         public void setCollation(String collation) { this.collation = collation; }
     }
 
-    public static class AdditionalInfoValidator implements IPropertyCacheValidator<MySQLTable> {
+    public static class AdditionalInfoValidator implements IPropertyBatchLoader<MySQLTable> {
         @Override
         public boolean isPropertyCached(MySQLTable object, Object propertyId)
         {
             return object.additionalInfo.loaded;
         }
+
+        @Override
+        public void loadPropertyValues(DBRProgressMonitor monitor, Collection<MySQLTable> objects, Object propertyId) throws DBException
+        {
+            Map<MySQLCatalog, List<MySQLTable>> catalogTables = new LinkedHashMap<>();
+            for (MySQLTable table : objects) {
+                List<MySQLTable> tables = catalogTables.get(table.getContainer());
+                if (tables == null) {
+                    tables = new ArrayList<>();
+                    catalogTables.put(table.getContainer(), tables);
+                }
+                tables.add(table);
+            }
+            for (Map.Entry<MySQLCatalog, List<MySQLTable>> entry : catalogTables.entrySet()) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                loadAdditionalInfo(monitor, entry.getKey(), entry.getValue());
+            }
+        }
     }
 
     private final SimpleObjectCache<MySQLTable, MySQLTableForeignKey> foreignKeys = new SimpleObjectCache<>();
@@ -265,36 +285,76 @@ public class MySQLTable extends MySQLTableBase
                 "SHOW TABLE STATUS FROM " + DBUtils.getQuotedIdentifier(getContainer()) + " LIKE '" + getName() + "'")) {
                 try (JDBCResultSet dbResult = dbStat.executeQuery()) {
                     if (dbResult.next()) {
-                        // filer table description (for INNODB it contains some system information)
-                        String desc = JDBCUtils.safeGetString(dbResult, MySQLConstants.COL_TABLE_COMMENT);
-                        if (desc != null) {
-                            if (desc.startsWith(INNODB_COMMENT)) {
-                                desc = "";
-                            } else if (!CommonUtils.isEmpty(desc)) {
-                                int divPos = desc.indexOf("; " + INNODB_COMMENT);
-                                if (divPos != -1) {
-                                    desc = desc.substring(0, divPos);
+                        fillAdditionalInfo(dbResult);
+                    }
+                    additionalInfo.loaded = true;
+                }
+            }
+        } catch (SQLException e) {
+            throw new DBCException(e, dataSource);
+        }
+    }
+
+    /**
+     * Reads status of all catalog tables with one query.
+     * Other cached tables of the catalog are filled too.
+     */
+    private static void loadAdditionalInfo(DBRProgressMonitor monitor, MySQLCatalog catalog, Collection<MySQLTable> tables) throws DBCException
+    {
+        MySQLDataSource dataSource = catalog.getDataSource();
+        try (JDBCSession session = DBUtils.openMetaSession(monitor, dataSource, "Load tables status")) {
+            try (JDBCPreparedStatement dbStat = session.prepareStatement(
+                "SHOW TABLE STATUS FROM " + DBUtils.getQuotedIdentifier(catalog))) {
+                try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                    while (dbResult.next()) {
+                        String tableName = JDBCUtils.safeGetString(dbResult, MySQLConstants.COL_TABLE_STATUS_NAME);
+                        MySQLTableBase table = tableName == null ? null : catalog.getTableCache().getCachedObject(tableName);
+                        if (table instanceof MySQLTable && table.isPersisted()) {
+                            AdditionalInfo additionalInfo = ((MySQLTable) table).additionalInfo;
+                            synchronized (additionalInfo) {
+                                if (!additionalInfo.loaded) {
+                                    ((MySQLTable) table).fillAdditionalInfo(dbResult);
+                                    additionalInfo.loaded = true;
                                 }
                             }
-                            additionalInfo.description = desc;
-                        }
-                        additionalInfo.engine = JDBCUtils.safeGetString(dbResult, MySQLConstants.COL_ENGINE);
-                        additionalInfo.rowCount = JDBCUtils.safeGetLong(dbResult, MySQLConstants.COL_TABLE_ROWS);
-                        additionalInfo.autoIncrement = JDBCUtils.safeGetLong(dbResult, MySQLConstants.COL_AUTO_INCREMENT);
-                        additionalInfo.createTime = JDBCUtils.safeGetTimestamp(dbResult, MySQLConstants.COL_CREATE_TIME);
-                        additionalInfo.collation = JDBCUtils.safeGetString(dbResult, MySQLConstants.COL_COLLATION);
-                        if (additionalInfo.collation != null) {
-                            additionalInfo.charset = getDataSource().getCharsetByCollation(additionalInfo.collation);
                         }
-                        additionalInfo.avgRowLength = JDBCUtils.safeGetLong(dbResult, MySQLConstants.COL_AVG_ROW_LENGTH);
-                        additionalInfo.dataLength = JDBCUtils.safeGetLong(dbResult, MySQLConstants.COL_DATA_LENGTH);
                     }
-                    additionalInfo.loaded = true;
                 }
             }
         } catch (SQLException e) {
             throw new DBCException(e, dataSource);
         }
+        // Tables missing in status (e.g. dropped or new ones) have no additional info
+        for (MySQLTable table : tables) {
+            table.additionalInfo.loaded = true;
+        }
+    }
+
+    private void fillAdditionalInfo(JDBCResultSet dbResult)
+    {
+        // filer table description (for INNODB it contains some system information)
+        String desc = JDBCUtils.safeGetString(dbResult, MySQLConstants.COL_TABLE_COMMENT);
+        if (desc != null) {
+            if (desc.startsWith(INNODB_COMMENT)) {
+                desc = "";
+            } else if (!CommonUtils.isEmpty(desc)) {
+                int divPos = desc.indexOf("; " + INNODB_COMMENT);
+                if (divPos != -1) {
+                    desc = desc.substring(0, divPos);
+                }
+            }
+            additionalInfo.description = desc;
+        }
+        additionalInfo.engine = JDBCUtils.safeGetString(dbResult, MySQLConstants.COL_ENGINE);
+        additionalInfo.rowCount = JDBCUtils.safeGetLong(dbResult, MySQLConstants.COL_TABLE_ROWS);
+        additionalInfo.autoIncrement = JDBCUtils.safeGetLong(dbResult, MySQLConstants.COL_AUTO_INCREMENT);
+        additionalInfo.createTime = JDBCUtils.safeGetTimestamp(dbResult, MySQLConstants.COL_CREATE_TIME);
+        additionalInfo.collation = JDBCUtils.safeGetString(dbResult, MySQLConstants.COL_COLLATION);
+        if (additionalInfo.collation != null) {
+            additionalInfo.charset = getDataSource().getCharsetByCollation(additionalInfo.collation);
+        }
+        additionalInfo.avgRowLength = JDBCUtils.safeGetLong(dbResult, MySQLConstants.COL_AVG_ROW_LENGTH);
+        additionalInfo.dataLength = JDBCUtils.safeGetLong(dbResult, MySQLConstants.COL_DATA_LENGTH);
     }
 
     private List<MySQLTableForeignKey> loadForeignKeys(DBRProgressMonitor monitor, boolean references)
@@ -33,12 +33,24 @@ public class MySQLDatabaseExportInfo {
     private MySQLCatalog database;
     @Nullable
     private Collection<MySQLTableBase> tables;
+    private boolean routinesOnly;
+    private boolean eventsOnly;
 
     public MySQLDatabaseExportInfo(@NotNull MySQLCatalog database, @Nullable Collection<MySQLTableBase> tables) {
         this.database = database;
         this.tables = tables;
     }
 
+    public MySQLDatabaseExportInfo(@NotNull MySQLCatalog database, boolean routinesOnly) {
+        this.database = database;
+        this.routinesOnly = routinesOnly;
+    }
+
+    public MySQLDatabaseExportInfo(@NotNull MySQLCatalog database, boolean routinesOnly, boolean eventsOnly) {
+        this(database, routinesOnly);
+        this.eventsOnly = eventsOnly;
+    }
+
     @NotNull
     public MySQLCatalog getDatabase() {
         return database;
@@ -49,8 +61,22 @@ public class MySQLDatabaseExportInfo {
         return tables;
     }
 
+    /**
+     * Dump of stored routines (and events) only. Used by parallel dump.
+     */
+    public boolean isRoutinesOnly() {
+        return routinesOnly;
+    }
+
+    /**
+     * Routines only dump which skips stored routines themselves (used to dump events of selected tables' database).
+     */
+    public boolean isEventsOnly() {
+        return eventsOnly;
+    }
+
     @Override
     public String toString() {
-        return database.getName() + " " + tables;
+        return database.getName() + " " + (eventsOnly ? "events" : routinesOnly ? "routines" : tables);
     }
 }
@@ -0,0 +1,147 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.ext.mysql.tools;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.utils.GeneralUtils;
+import org.jkiss.utils.CommonUtils;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manifest of parallel MySQL dump.
+ * Parallel dump produces a separate file for each table. Manifest lists these files in restore order.
+ * Tables may be restored simultaneously, views and routines are restored after them one by one.
+ */
+public class MySQLDumpManifest {
+
+    public static final String FILE_EXTENSION = "dump-manifest";
+
+    private static final String HEADER = "# MySQL dump manifest";
+    private static final String PROP_DATABASE = "database=";
+
+    public enum EntryType {
+        TABLE(true),
+        VIEW(false),
+        ROUTINES(false);
+
+        private final boolean parallel;
+
+        EntryType(boolean parallel) {
+            this.parallel = parallel;
+        }
+
+        public boolean isParallel() {
+            return parallel;
+        }
+    }
+
+    public static class Entry {
+        @NotNull
+        private final EntryType type;
+        @NotNull
+        private final String fileName;
+
+        public Entry(@NotNull EntryType type, @NotNull String fileName) {
+            this.type = type;
+            this.fileName = fileName;
+        }
+
+        @NotNull
+        public EntryType getType() {
+            return type;
+        }
+
+        @NotNull
+        public String getFileName() {
+            return fileName;
+        }
+    }
+
+    private final String database;
+    private final List<Entry> entries = new ArrayList<>();
+
+    public MySQLDumpManifest(String database) {
+        this.database = database;
+    }
+
+    public String getDatabase() {
+        return database;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public void addEntry(@NotNull EntryType type, @NotNull String fileName) {
+        entries.add(new Entry(type, fileName));
+    }
+
+    public static boolean isManifestFile(File file) {
+        return file != null && file.getName().endsWith("." + FILE_EXTENSION);
+    }
+
+    public void write(File file) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), GeneralUtils.UTF8_ENCODING)) {
+            writer.write(HEADER);
+            writer.write("\n");
+            writer.write(PROP_DATABASE + CommonUtils.notEmpty(database));
+            writer.write("\n");
+            // Restore order is the same as entries order
+            for (Entry entry : entries) {
+                writer.write(entry.type.name() + "\t" + entry.fileName + "\n");
+            }
+        }
+    }
+
+    public static MySQLDumpManifest read(File file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), GeneralUtils.UTF8_ENCODING))) {
+            MySQLDumpManifest manifest = null;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                if (line.startsWith(PROP_DATABASE)) {
+                    manifest = new MySQLDumpManifest(line.substring(PROP_DATABASE.length()));
+                    continue;
+                }
+                if (manifest == null) {
+                    throw new IOException("Bad dump manifest '" + file.getName() + "': database is not specified");
+                }
+                int divPos = line.indexOf('\t');
+                if (divPos == -1) {
+                    throw new IOException("Bad dump manifest '" + file.getName() + "' line: " + line);
+                }
+                final EntryType type;
+                try {
+                    type = EntryType.valueOf(line.substring(0, divPos));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException("Bad dump manifest '" + file.getName() + "' entry type: " + line.substring(0, divPos));
+                }
+                manifest.addEntry(type, line.substring(divPos + 1));
+            }
+            if (manifest == null) {
+                throw new IOException("Empty dump manifest '" + file.getName() + "'");
+            }
+            return manifest;
+        }
+    }
+
+}
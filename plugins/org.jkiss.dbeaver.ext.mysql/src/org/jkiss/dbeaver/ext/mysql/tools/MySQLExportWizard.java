@@ -25,12 +25,15 @@ import org.eclipse.swt.SWT;
 import org.eclipse.ui.IExportWizard;
 import org.eclipse.ui.IWorkbench;
 import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.core.DBeaverCore;
 import org.jkiss.dbeaver.ext.mysql.MySQLConstants;
 import org.jkiss.dbeaver.ext.mysql.MySQLDataSourceProvider;
 import org.jkiss.dbeaver.ext.mysql.MySQLMessages;
 import org.jkiss.dbeaver.ext.mysql.MySQLServerHome;
+import org.jkiss.dbeaver.ext.mysql.model.MySQLCatalog;
 import org.jkiss.dbeaver.ext.mysql.model.MySQLTableBase;
+import org.jkiss.dbeaver.ext.mysql.model.MySQLView;
 import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
@@ -42,9 +45,11 @@ import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.io.*;
+import java.lang.reflect.InvocationTargetException;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -58,6 +63,10 @@ class MySQLExportWizard extends AbstractImportExportWizard<MySQLDatabaseExportIn
         NORMAL
     }
 
+    // Table names can't contain dots so routines file never clashes with a table file
+    private static final String ROUTINES_FILE_NAME = "routines.ddl";
+    private static final String EVENTS_FILE_NAME = "events.ddl";
+
     DumpMethod method;
     boolean noCreateStatements;
     boolean addDropStatements = true;
@@ -68,7 +77,9 @@ class MySQLExportWizard extends AbstractImportExportWizard<MySQLDatabaseExportIn
     boolean removeDefiner;
     boolean binariesInHex;
     boolean showViews;
+    int parallelDumps = 1;
     public List<MySQLDatabaseExportInfo> objects = new ArrayList<>();
+    private List<MySQLDatabaseExportInfo> runObjects = objects;
 
     private MySQLExportWizardPageObjects objectsPage;
     private MySQLExportWizardPageSettings settingsPage;
@@ -92,6 +103,7 @@ class MySQLExportWizard extends AbstractImportExportWizard<MySQLDatabaseExportIn
         removeDefiner = CommonUtils.getBoolean(store.getString("MySQL.export.removeDefiner"), false);
         binariesInHex = CommonUtils.getBoolean(store.getString("MySQL.export.binariesInHex"), false);
         showViews = CommonUtils.getBoolean(store.getString("MySQL.export.showViews"), false);
+        parallelDumps = Math.max(1, CommonUtils.toInt(store.getString("MySQL.export.parallelDumps"), 1));
     }
 
     @Override
@@ -149,6 +161,17 @@ class MySQLExportWizard extends AbstractImportExportWizard<MySQLDatabaseExportIn
                 break;
         }
 
+        if (arg.isRoutinesOnly()) {
+            cmd.add("--no-create-info"); //$NON-NLS-1$
+            cmd.add("--no-data"); //$NON-NLS-1$
+            cmd.add("--skip-triggers"); //$NON-NLS-1$
+            if (!arg.isEventsOnly()) {
+                cmd.add("--routines"); //$NON-NLS-1$
+            }
+            if (dumpEvents) cmd.add("--events"); //$NON-NLS-1$
+            if (comments) cmd.add("--comments"); //$NON-NLS-1$
+            return;
+        }
         if (noCreateStatements) {
             cmd.add("--no-create-info"); //$NON-NLS-1$
         } else {
@@ -166,7 +189,10 @@ class MySQLExportWizard extends AbstractImportExportWizard<MySQLDatabaseExportIn
         if (binariesInHex) {
             cmd.add("--hex-blob"); //$NON-NLS-1$
         }
-        if (dumpEvents) cmd.add("--events"); //$NON-NLS-1$
+        if (dumpEvents && !isParallelDump()) {
+            // In parallel mode events are dumped with routines
+            cmd.add("--events"); //$NON-NLS-1$
+        }
         if (comments) cmd.add("--comments"); //$NON-NLS-1$
     }
 
@@ -192,6 +218,7 @@ class MySQLExportWizard extends AbstractImportExportWizard<MySQLDatabaseExportIn
         store.setValue("MySQL.export.removeDefiner", removeDefiner);
         store.setValue("MySQL.export.binariesInHex", binariesInHex);
         store.setValue("MySQL.export.showViews", showViews);
+        store.setValue("MySQL.export.parallelDumps", parallelDumps);
 
         return super.performFinish();
     }
@@ -204,7 +231,100 @@ class MySQLExportWizard extends AbstractImportExportWizard<MySQLDatabaseExportIn
 
     @Override
     public Collection<MySQLDatabaseExportInfo> getRunInfo() {
-        return objects;
+        return runObjects;
+    }
+
+    @Override
+    protected int getParallelProcessCount() {
+        return parallelDumps;
+    }
+
+    private boolean isParallelDump() {
+        return parallelDumps > 1;
+    }
+
+    @Override
+    public void run(DBRProgressMonitor monitor) throws InvocationTargetException, InterruptedException {
+        if (!isParallelDump()) {
+            runObjects = objects;
+            super.run(monitor);
+            return;
+        }
+        // Dump each table in a separate process. Manifest keeps the list of produced files
+        final List<MySQLDumpManifest> manifests = new ArrayList<>();
+        try {
+            runObjects = splitObjects(monitor, manifests);
+        } catch (DBException e) {
+            throw new InvocationTargetException(e);
+        }
+        try {
+            super.run(monitor);
+        } finally {
+            runObjects = objects;
+        }
+        if (getFailedProcessCount() > 0) {
+            // Incomplete dump must not be restored as a whole
+            logPage.appendLog("Dump manifest was not created: " + getFailedProcessCount() + " object(s) failed to dump\n", true);
+            return;
+        }
+        try {
+            for (MySQLDumpManifest manifest : manifests) {
+                manifest.write(getManifestFile(manifest));
+            }
+        } catch (IOException e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private List<MySQLDatabaseExportInfo> splitObjects(DBRProgressMonitor monitor, List<MySQLDumpManifest> manifests) throws DBException {
+        final List<MySQLDatabaseExportInfo> result = new ArrayList<>();
+        for (MySQLDatabaseExportInfo info : objects) {
+            final MySQLCatalog database = info.getDatabase();
+            final List<MySQLTableBase> tables = new ArrayList<>();
+            final List<MySQLTableBase> views = new ArrayList<>();
+            if (CommonUtils.isEmpty(info.getTables())) {
+                tables.addAll(database.getTables(monitor));
+                views.addAll(database.getViews(monitor));
+            } else {
+                for (MySQLTableBase table : info.getTables()) {
+                    if (table instanceof MySQLView) {
+                        views.add(table);
+                    } else {
+                        tables.add(table);
+                    }
+                }
+            }
+            final MySQLDumpManifest manifest = new MySQLDumpManifest(database.getName());
+            // Views depend on tables so they go after all tables
+            for (MySQLTableBase table : tables) {
+                addSplitObject(result, manifest, MySQLDumpManifest.EntryType.TABLE,
+                    new MySQLDatabaseExportInfo(database, Collections.singletonList(table)));
+            }
+            for (MySQLTableBase view : views) {
+                addSplitObject(result, manifest, MySQLDumpManifest.EntryType.VIEW,
+                    new MySQLDatabaseExportInfo(database, Collections.singletonList(view)));
+            }
+            if (CommonUtils.isEmpty(info.getTables()) && !noCreateStatements) {
+                addSplitObject(result, manifest, MySQLDumpManifest.EntryType.ROUTINES,
+                    new MySQLDatabaseExportInfo(database, true));
+            } else if (dumpEvents) {
+                // Plain dump includes events here but not routines
+                addSplitObject(result, manifest, MySQLDumpManifest.EntryType.ROUTINES,
+                    new MySQLDatabaseExportInfo(database, true, true));
+            }
+            manifests.add(manifest);
+        }
+        return result;
+    }
+
+    private void addSplitObject(List<MySQLDatabaseExportInfo> result, MySQLDumpManifest manifest, MySQLDumpManifest.EntryType type, MySQLDatabaseExportInfo info) {
+        result.add(info);
+        manifest.addEntry(type, getOutputFile(info).getName());
+    }
+
+    @Override
+    protected boolean isParallelProcess(MySQLDatabaseExportInfo arg) {
+        return !arg.isRoutinesOnly();
     }
 
     @Override
@@ -236,36 +356,70 @@ class MySQLExportWizard extends AbstractImportExportWizard<MySQLDatabaseExportIn
     {
         super.startProcessHandler(monitor, arg, processBuilder, process);
 
-        String outFileName = GeneralUtils.replaceVariables(outputFilePattern, new GeneralUtils.IVariableResolver() {
+        File outFile = getOutputFile(arg);
+        boolean isFiltering = removeDefiner;
+        Thread job = isFiltering ?
+            new DumpFilterJob(monitor, process.getInputStream(), outFile) :
+            new DumpCopierJob(monitor, MySQLMessages.tools_db_export_wizard_monitor_export_db, process.getInputStream(), outFile);
+        job.start();
+    }
+
+    private File getOutputFile(final MySQLDatabaseExportInfo arg) {
+        String tableName;
+        final Iterator<MySQLTableBase> iterator = arg.getTables() == null ? null : arg.getTables().iterator();
+        if (iterator != null && iterator.hasNext()) {
+            tableName = iterator.next().getName();
+        } else if (arg.isRoutinesOnly()) {
+            tableName = arg.isEventsOnly() ? EVENTS_FILE_NAME : ROUTINES_FILE_NAME;
+        } else {
+            tableName = "null";
+        }
+        String filePattern = outputFilePattern;
+        if (isParallelDump() && !filePattern.contains("${" + VARIABLE_TABLE + "}")) {
+            // Each table goes to its own file
+            int extPos = filePattern.lastIndexOf('.');
+            if (extPos == -1) {
+                extPos = filePattern.length();
+            }
+            filePattern = filePattern.substring(0, extPos) + "-${" + VARIABLE_TABLE + "}" + filePattern.substring(extPos);
+        }
+        return new File(outputFolder, resolveFileName(filePattern, arg.getDatabase(), tableName));
+    }
+
+    private File getManifestFile(MySQLDumpManifest manifest) {
+        MySQLCatalog database = null;
+        for (MySQLDatabaseExportInfo info : objects) {
+            if (info.getDatabase().getName().equals(manifest.getDatabase())) {
+                database = info.getDatabase();
+                break;
+            }
+        }
+        String fileName = database == null ? manifest.getDatabase() : resolveFileName(outputFilePattern, database, "manifest");
+        int extPos = fileName.lastIndexOf('.');
+        if (extPos != -1) {
+            fileName = fileName.substring(0, extPos);
+        }
+        return new File(outputFolder, fileName + "." + MySQLDumpManifest.FILE_EXTENSION);
+    }
+
+    private String resolveFileName(String filePattern, final MySQLCatalog database, final String tableName) {
+        return GeneralUtils.replaceVariables(filePattern, new GeneralUtils.IVariableResolver() {
             @Override
             public String get(String name) {
                 switch (name) {
                     case VARIABLE_DATABASE:
-                        return arg.getDatabase().getName();
+                        return database.getName();
                     case VARIABLE_HOST:
-                        return arg.getDatabase().getDataSource().getContainer().getConnectionConfiguration().getHostName();
+                        return database.getDataSource().getContainer().getConnectionConfiguration().getHostName();
                     case VARIABLE_TABLE:
-                        final Iterator<MySQLTableBase> iterator = arg.getTables() == null ? null : arg.getTables().iterator();
-                        if (iterator != null && iterator.hasNext()) {
-                            return iterator.next().getName();
-                        } else {
-                            return "null";
-                        }
+                        return tableName;
                     case VARIABLE_TIMESTAMP:
-                        return RuntimeUtils.getCurrentTimeStamp();
+                        return getRunTimestamp();
                     default:
-                        System.getProperty(name);
+                        return System.getProperty(name);
                 }
-                return null;
             }
         });
-
-        File outFile = new File(outputFolder, outFileName);
-        boolean isFiltering = removeDefiner;
-        Thread job = isFiltering ?
-            new DumpFilterJob(monitor, process.getInputStream(), outFile) :
-            new DumpCopierJob(monitor, MySQLMessages.tools_db_export_wizard_monitor_export_db, process.getInputStream(), outFile);
-        job.start();
     }
 
     private static Pattern DEFINER_PATTER = Pattern.compile("DEFINER\\s*=\\s*`[^*]*`@`[0-9a-z\\-_\\.%]*`", Pattern.CASE_INSENSITIVE);
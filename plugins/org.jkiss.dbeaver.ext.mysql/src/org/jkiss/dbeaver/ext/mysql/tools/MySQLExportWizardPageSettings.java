@@ -38,6 +38,7 @@ class MySQLExportWizardPageSettings extends MySQLWizardPageSettings<MySQLExportW
     private Text outputFolderText;
     private Text outputFileText;
     private Combo methodCombo;
+    private Spinner parallelDumpsSpinner;
     private Button noCreateStatementsCheck;
     private Button addDropStatementsCheck;
     private Button disableKeysCheck;
@@ -118,6 +119,10 @@ class MySQLExportWizardPageSettings extends MySQLWizardPageSettings<MySQLExportW
                 wizard.setOutputFilePattern(outputFileText.getText());
             }
         });
+        parallelDumpsSpinner = UIUtils.createLabelSpinner(outputGroup, "Parallel dumps",
+            "Number of tables dumped simultaneously. Each table is saved in a separate file, restore order is kept in a dump manifest file",
+            wizard.parallelDumps, 1, 64);
+        parallelDumpsSpinner.addSelectionListener(changeListener);
         if (wizard.getOutputFolder() != null) {
             outputFolderText.setText(wizard.getOutputFolder().getAbsolutePath());
         }
@@ -132,6 +137,7 @@ class MySQLExportWizardPageSettings extends MySQLWizardPageSettings<MySQLExportW
         String fileName = outputFolderText.getText();
         wizard.setOutputFolder(CommonUtils.isEmpty(fileName) ? null : new File(fileName));
         wizard.setOutputFilePattern(outputFileText.getText());
+        wizard.parallelDumps = parallelDumpsSpinner.getSelection();
         switch (methodCombo.getSelectionIndex()) {
             case 0: wizard.method = MySQLExportWizard.DumpMethod.ONLINE; break;
             case 1: wizard.method = MySQLExportWizard.DumpMethod.LOCK_ALL_TABLES; break;
@@ -0,0 +1,62 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.ext.mysql.tools;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.ext.mysql.model.MySQLCatalog;
+
+import java.io.File;
+
+/**
+* MySQLScriptExecuteInfo
+*/
+public class MySQLScriptExecuteInfo {
+    @NotNull
+    private final MySQLCatalog catalog;
+    @NotNull
+    private final File scriptFile;
+    private final boolean parallel;
+
+    public MySQLScriptExecuteInfo(@NotNull MySQLCatalog catalog, @NotNull File scriptFile, boolean parallel) {
+        this.catalog = catalog;
+        this.scriptFile = scriptFile;
+        this.parallel = parallel;
+    }
+
+    @NotNull
+    public MySQLCatalog getCatalog() {
+        return catalog;
+    }
+
+    @NotNull
+    public File getScriptFile() {
+        return scriptFile;
+    }
+
+    /**
+     * Script may be executed simultaneously with other scripts
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    @Override
+    public String toString() {
+        return catalog.getName() + " " + scriptFile.getName();
+    }
+}
@@ -24,16 +24,20 @@ import org.jkiss.dbeaver.ext.mysql.MySQLDataSourceProvider;
 import org.jkiss.dbeaver.ext.mysql.MySQLMessages;
 import org.jkiss.dbeaver.ext.mysql.MySQLServerHome;
 import org.jkiss.dbeaver.ext.mysql.model.MySQLCatalog;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.ui.dialogs.tools.AbstractScriptExecuteWizard;
 import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.CommonUtils;
 
+import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
-class MySQLScriptExecuteWizard extends AbstractScriptExecuteWizard<MySQLCatalog, MySQLCatalog> {
+class MySQLScriptExecuteWizard extends AbstractScriptExecuteWizard<MySQLCatalog, MySQLScriptExecuteInfo> {
 
     enum LogLevel {
         Normal,
@@ -45,7 +49,9 @@ class MySQLScriptExecuteWizard extends AbstractScriptExecuteWizard<MySQLCatalog,
     private boolean noBeep;
 
     private boolean isImport;
+    int parallelProcesses = 1;
     private MySQLScriptExecuteWizardPageSettings mainPage;
+    private List<MySQLScriptExecuteInfo> runObjects;
 
     public MySQLScriptExecuteWizard(MySQLCatalog catalog, boolean isImport)
     {
@@ -85,7 +91,7 @@ class MySQLScriptExecuteWizard extends AbstractScriptExecuteWizard<MySQLCatalog,
     }
 
     @Override
-    public void fillProcessParameters(List<String> cmd, MySQLCatalog arg) throws IOException
+    public void fillProcessParameters(List<String> cmd, MySQLScriptExecuteInfo arg) throws IOException
     {
         String dumpPath = RuntimeUtils.getHomeBinary(getClientHome(), MySQLConstants.BIN_FOLDER, "mysql").getAbsolutePath(); //$NON-NLS-1$
         cmd.add(dumpPath);
@@ -111,15 +117,68 @@ class MySQLScriptExecuteWizard extends AbstractScriptExecuteWizard<MySQLCatalog,
     }
 
     @Override
-    public Collection<MySQLCatalog> getRunInfo() {
-        return getDatabaseObjects();
+    public void run(DBRProgressMonitor monitor) throws InvocationTargetException, InterruptedException
+    {
+        try {
+            runObjects = makeRunObjects();
+        } catch (IOException e) {
+            throw new InvocationTargetException(e);
+        }
+        super.run(monitor);
+    }
+
+    private List<MySQLScriptExecuteInfo> makeRunObjects() throws IOException
+    {
+        List<MySQLScriptExecuteInfo> result = new ArrayList<>();
+        if (isImport && MySQLDumpManifest.isManifestFile(inputFile)) {
+            // Parallel dump. Restore files listed in manifest into the selected database
+            MySQLDumpManifest manifest = MySQLDumpManifest.read(inputFile);
+            File dumpFolder = inputFile.getAbsoluteFile().getParentFile();
+            for (MySQLCatalog catalog : getDatabaseObjects()) {
+                for (MySQLDumpManifest.Entry entry : manifest.getEntries()) {
+                    File scriptFile = new File(dumpFolder, entry.getFileName());
+                    if (!scriptFile.exists()) {
+                        throw new IOException("Dump file '" + scriptFile.getAbsolutePath() + "' not found");
+                    }
+                    result.add(new MySQLScriptExecuteInfo(catalog, scriptFile, entry.getType().isParallel()));
+                }
+            }
+        } else {
+            for (MySQLCatalog catalog : getDatabaseObjects()) {
+                result.add(new MySQLScriptExecuteInfo(catalog, inputFile, false));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Collection<MySQLScriptExecuteInfo> getRunInfo() {
+        return runObjects;
+    }
+
+    @Override
+    protected int getParallelProcessCount()
+    {
+        return parallelProcesses;
+    }
+
+    @Override
+    protected boolean isParallelProcess(MySQLScriptExecuteInfo arg)
+    {
+        return arg.isParallel();
+    }
+
+    @Override
+    protected File getProcessInputFile(MySQLScriptExecuteInfo arg)
+    {
+        return arg.getScriptFile();
     }
 
     @Override
-    protected List<String> getCommandLine(MySQLCatalog arg) throws IOException
+    protected List<String> getCommandLine(MySQLScriptExecuteInfo arg) throws IOException
     {
         List<String> cmd = MySQLToolScript.getMySQLToolCommandLine(this, arg);
-        cmd.add(arg.getName());
+        cmd.add(arg.getCatalog().getName());
         return cmd;
     }
 }
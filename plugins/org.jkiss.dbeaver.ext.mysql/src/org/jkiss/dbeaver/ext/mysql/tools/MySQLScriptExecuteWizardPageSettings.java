@@ -39,6 +39,7 @@ public class MySQLScriptExecuteWizardPageSettings extends MySQLWizardPageSetting
 {
     private Text inputFileText;
     private Combo logLevelCombo;
+    private Spinner parallelProcessesSpinner;
 
     public MySQLScriptExecuteWizardPageSettings(MySQLScriptExecuteWizard wizard)
     {
@@ -104,6 +105,17 @@ public class MySQLScriptExecuteWizardPageSettings extends MySQLWizardPageSetting
                 wizard.setLogLevel(MySQLScriptExecuteWizard.LogLevel.valueOf(logLevelCombo.getText()));
             }
         });
+        if (wizard.isImport()) {
+            parallelProcessesSpinner = UIUtils.createLabelSpinner(settingsGroup, "Parallel processes",
+                "Number of tables restored simultaneously. Used for dump manifest files only", wizard.parallelProcesses, 1, 64);
+            parallelProcessesSpinner.addSelectionListener(new SelectionAdapter() {
+                @Override
+                public void widgetSelected(SelectionEvent e)
+                {
+                    wizard.parallelProcesses = parallelProcessesSpinner.getSelection();
+                }
+            });
+        }
 
         createSecurityGroup(composite);
 
@@ -114,7 +126,7 @@ public class MySQLScriptExecuteWizardPageSettings extends MySQLWizardPageSetting
 
     private void chooseInputFile()
     {
-        File file = DialogUtils.openFile(getShell(), new String[]{"*.sql", "*.txt", "*.*"}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+        File file = DialogUtils.openFile(getShell(), new String[]{"*.sql", "*.txt", "*." + MySQLDumpManifest.FILE_EXTENSION, "*.*"}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
         if (file != null) {
             inputFileText.setText(file.getAbsolutePath());
         }
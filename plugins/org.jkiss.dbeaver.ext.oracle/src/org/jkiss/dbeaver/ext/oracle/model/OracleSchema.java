@@ -23,6 +23,8 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.dbeaver.model.DBPEvaluationContext;
 import org.jkiss.dbeaver.model.DBPRefreshableObject;
+import org.jkiss.dbeaver.model.DBPScriptObject;
+import org.jkiss.dbeaver.model.DBPScriptObjectBulkReader;
 import org.jkiss.dbeaver.model.DBPSystemObject;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
@@ -48,7 +50,7 @@ import java.util.*;
 /**
  * OracleSchema
  */
-public class OracleSchema extends OracleGlobalObject implements DBSSchema, DBPRefreshableObject, DBPSystemObject, DBSProcedureContainer
+public class OracleSchema extends OracleGlobalObject implements DBSSchema, DBPRefreshableObject, DBPSystemObject, DBSProcedureContainer, DBPScriptObjectBulkReader
 {
     private static final Log log = Log.getLog(OracleSchema.class);
 
@@ -175,6 +177,33 @@ public class OracleSchema extends OracleGlobalObject implements DBSSchema, DBPRe
         return tableCache.getObject(monitor, this, name, OracleView.class);
     }
 
+    @NotNull
+    @Override
+    public Map<DBPScriptObject, String> readObjectDefinitions(@NotNull DBRProgressMonitor monitor, @NotNull Collection<? extends DBPScriptObject> objects)
+        throws DBException
+    {
+        // Only tables read DDL with DBMS_METADATA. Other objects have their own sources
+        final Map<String, OracleTable> tables = new LinkedHashMap<>();
+        for (DBPScriptObject object : objects) {
+            if (object instanceof OracleTable && ((OracleTable) object).getContainer() == this) {
+                tables.put(((OracleTable) object).getName(), (OracleTable) object);
+            }
+        }
+        final Map<DBPScriptObject, String> result = new IdentityHashMap<>();
+        if (tables.isEmpty()) {
+            return result;
+        }
+        final Map<String, String> ddlMap = OracleUtils.getDDLBulk(
+            monitor, "TABLE", this, tables.keySet(), OracleDDLFormat.getCurrentFormat(getDataSource()));
+        for (Map.Entry<String, String> ddl : ddlMap.entrySet()) {
+            final OracleTable table = tables.get(ddl.getKey());
+            if (table != null && ddl.getValue() != null) {
+                result.put(table, ddl.getValue());
+            }
+        }
+        return result;
+    }
+
     @Association
     public Collection<OracleMaterializedView> getMaterializedViews(DBRProgressMonitor monitor)
         throws DBException
@@ -48,7 +48,7 @@ import org.jkiss.utils.CommonUtils;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Collection;
+import java.util.*;
 
 /**
  * OracleTable base
@@ -58,6 +58,8 @@ public abstract class OracleTableBase extends JDBCTable<OracleDataSource, Oracle
 {
     private static final Log log = Log.getLog(OracleTableBase.class);
 
+    private static final int MAX_TABLES_IN_LIST = 1000;
+
     public static class TableAdditionalInfo {
         volatile boolean loaded = false;
 
@@ -190,6 +192,64 @@ public abstract class OracleTableBase extends JDBCTable<OracleDataSource, Oracle
         }
     }
 
+    /**
+     * Loads column comments of many tables of the same schema.
+     * Tables are read by chunks to fit Oracle IN list limit.
+     */
+    static void loadColumnComments(DBRProgressMonitor monitor, OracleSchema schema, List<OracleTableBase> tables)
+        throws DBException
+    {
+        try {
+            try (JDBCSession session = DBUtils.openMetaSession(monitor, schema.getDataSource(), "Load tables column comments")) {
+                for (int chunkStart = 0; chunkStart < tables.size(); chunkStart += MAX_TABLES_IN_LIST) {
+                    if (monitor.isCanceled()) {
+                        return;
+                    }
+                    final List<OracleTableBase> chunk = tables.subList(chunkStart, Math.min(chunkStart + MAX_TABLES_IN_LIST, tables.size()));
+                    final Map<String, OracleTableBase> tableMap = new HashMap<>();
+                    StringBuilder sql = new StringBuilder("SELECT TABLE_NAME,COLUMN_NAME,COMMENTS FROM SYS.ALL_COL_COMMENTS cc WHERE CC.OWNER=? AND cc.TABLE_NAME IN (");
+                    for (int i = 0; i < chunk.size(); i++) {
+                        if (i > 0) {
+                            sql.append(",");
+                        }
+                        sql.append("?");
+                        tableMap.put(chunk.get(i).getName(), chunk.get(i));
+                    }
+                    sql.append(")");
+                    try (JDBCPreparedStatement stat = session.prepareStatement(sql.toString())) {
+                        stat.setString(1, schema.getName());
+                        for (int i = 0; i < chunk.size(); i++) {
+                            stat.setString(i + 2, chunk.get(i).getName());
+                        }
+                        try (JDBCResultSet resultSet = stat.executeQuery()) {
+                            while (resultSet.next()) {
+                                final OracleTableBase table = tableMap.get(resultSet.getString(1));
+                                if (table == null) {
+                                    continue;
+                                }
+                                String colName = resultSet.getString(2);
+                                String colComment = resultSet.getString(3);
+                                OracleTableColumn col = table.getAttribute(monitor, colName);
+                                if (col == null) {
+                                    log.warn("Column '" + colName + "' not found in table '" + table.getFullyQualifiedName(DBPEvaluationContext.DDL) + "'");
+                                } else {
+                                    col.setComment(CommonUtils.notEmpty(colComment));
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+            for (OracleTableBase table : tables) {
+                for (OracleTableColumn col : table.getAttributes(monitor)) {
+                    col.cacheComment();
+                }
+            }
+        } catch (SQLException e) {
+            throw new DBException("Error fetching column comments of " + tables.size() + " table(s) in '" + schema.getName() + "'", e, schema.getDataSource());
+        }
+    }
+
     public String getComment()
     {
         return comment;
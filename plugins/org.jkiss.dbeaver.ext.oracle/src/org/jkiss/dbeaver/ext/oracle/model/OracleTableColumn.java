@@ -28,7 +28,7 @@ import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.impl.DBPositiveNumberTransformer;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.impl.jdbc.struct.JDBCTableColumn;
-import org.jkiss.dbeaver.model.meta.IPropertyCacheValidator;
+import org.jkiss.dbeaver.model.meta.IPropertyBatchLoader;
 import org.jkiss.dbeaver.model.meta.LazyProperty;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
@@ -39,9 +39,7 @@ import org.jkiss.dbeaver.model.meta.IPropertyValueListProvider;
 
 import java.sql.ResultSet;
 import java.sql.Types;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 
 /**
  * OracleTableColumn
@@ -169,12 +167,39 @@ public class OracleTableColumn extends JDBCTableColumn<OracleTableBase> implemen
         return false;
     }
 
-    public static class CommentLoadValidator implements IPropertyCacheValidator<OracleTableColumn> {
+    public static class CommentLoadValidator implements IPropertyBatchLoader<OracleTableColumn> {
         @Override
         public boolean isPropertyCached(OracleTableColumn object, Object propertyId)
         {
             return object.comment != null;
         }
+
+        @Override
+        public void loadPropertyValues(DBRProgressMonitor monitor, Collection<OracleTableColumn> objects, Object propertyId)
+            throws DBException
+        {
+            // Load comments of all columns of all tables (per schema)
+            Map<OracleSchema, List<OracleTableBase>> schemaTables = new LinkedHashMap<>();
+            Set<OracleTableBase> addedTables = Collections.newSetFromMap(new IdentityHashMap<OracleTableBase, Boolean>());
+            for (OracleTableColumn column : objects) {
+                final OracleTableBase table = column.getTable();
+                if (!addedTables.add(table)) {
+                    continue;
+                }
+                List<OracleTableBase> tables = schemaTables.get(table.getSchema());
+                if (tables == null) {
+                    tables = new ArrayList<>();
+                    schemaTables.put(table.getSchema(), tables);
+                }
+                tables.add(table);
+            }
+            for (Map.Entry<OracleSchema, List<OracleTableBase>> entry : schemaTables.entrySet()) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                OracleTableBase.loadColumnComments(monitor, entry.getKey(), entry.getValue());
+            }
+        }
     }
 
     @Property(viewable = true, editable = true, updatable = true, order = 100)
@@ -28,7 +28,7 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectCache;
 import org.jkiss.dbeaver.model.meta.Association;
-import org.jkiss.dbeaver.model.meta.IPropertyCacheValidator;
+import org.jkiss.dbeaver.model.meta.IPropertyBatchLoader;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
@@ -37,7 +37,7 @@ import org.jkiss.utils.CommonUtils;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Collection;
+import java.util.*;
 
 /**
  * Oracle tablespace
@@ -324,7 +324,7 @@ public class OracleTablespace extends OracleGlobalObject implements DBPRefreshab
         }
     }
 
-    public static class TablespaceReferenceValidator implements IPropertyCacheValidator<DBSObjectLazy<OracleDataSource>> {
+    public static class TablespaceReferenceValidator implements IPropertyBatchLoader<DBSObjectLazy<OracleDataSource>> {
         @Override
         public boolean isPropertyCached(DBSObjectLazy<OracleDataSource> object, Object propertyId)
         {
@@ -334,6 +334,21 @@ public class OracleTablespace extends OracleGlobalObject implements DBPRefreshab
                 object.getDataSource().tablespaceCache.isFullyCached() ||
                 !object.getDataSource().isAdmin();
         }
+
+        @Override
+        public void loadPropertyValues(DBRProgressMonitor monitor, Collection<DBSObjectLazy<OracleDataSource>> objects, Object propertyId) throws DBException
+        {
+            // Read all tablespaces once. After that references are resolved from cache.
+            Set<OracleDataSource> dataSources = Collections.newSetFromMap(new IdentityHashMap<OracleDataSource, Boolean>());
+            for (DBSObjectLazy<OracleDataSource> object : objects) {
+                dataSources.add(object.getDataSource());
+            }
+            for (OracleDataSource dataSource : dataSources) {
+                if (dataSource.isAdmin()) {
+                    dataSource.tablespaceCache.getAllObjects(monitor, dataSource);
+                }
+            }
+        }
     }
 
 }
@@ -40,8 +40,9 @@ import org.jkiss.dbeaver.model.struct.DBSEntity;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.model.struct.DBSObjectLazy;
 
+import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.List;
+import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -52,6 +53,11 @@ public class OracleUtils {
 
     private static final Log log = Log.getLog(OracleUtils.class);
 
+    private static final int DDL_BULK_SIZE = 100;
+
+    // DDL transform parameters applied to connections. DBMS_METADATA keeps them for the whole session.
+    private static final Map<Connection, OracleDDLFormat> sessionDDLFormats = new WeakHashMap<>();
+
     public static String getDDL(
         DBRProgressMonitor monitor,
         String objectType,
@@ -69,15 +75,7 @@ public class OracleUtils {
         assert(dataSource != null);
         monitor.beginTask("Load sources for " + objectType + " '" + objectFullName + "'...", 1);
         try (final JDBCSession session = DBUtils.openMetaSession(monitor, dataSource, "Load source code for " + objectType + " '" + objectFullName + "'")) {
-            JDBCUtils.executeProcedure(
-                session,
-                "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'STORAGE'," + ddlFormat.isShowStorage() + "); end;");
-            JDBCUtils.executeProcedure(
-                session,
-                "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'TABLESPACE'," + ddlFormat.isShowTablespace() + ");  end;");
-            JDBCUtils.executeProcedure(
-                session,
-                "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'SEGMENT_ATTRIBUTES'," + ddlFormat.isShowSegments() + ");  end;");
+            setTransformParams(session, ddlFormat);
 /*
             String curSchema = null;
             if (schema != null) {
@@ -127,6 +125,80 @@ public class OracleUtils {
         }
     }
 
+    /**
+     * Reads DDL of several objects of the same type with a few queries.
+     * Objects which DDL can't be read are absent in the result.
+     * @return object name to DDL map
+     */
+    public static Map<String, String> getDDLBulk(
+        DBRProgressMonitor monitor,
+        String objectType,
+        OracleSchema schema,
+        Collection<String> objectNames,
+        OracleDDLFormat ddlFormat) throws DBException
+    {
+        final Map<String, String> result = new HashMap<>();
+        final List<String> names = new ArrayList<>(objectNames);
+        monitor.beginTask("Load DDL of " + names.size() + " " + objectType + "(s) from '" + schema.getName() + "'", names.size());
+        try (final JDBCSession session = DBUtils.openMetaSession(monitor, schema.getDataSource(), "Load DDL of " + objectType + "(s) from '" + schema.getName() + "'")) {
+            setTransformParams(session, ddlFormat);
+            for (int i = 0; i < names.size() && !monitor.isCanceled(); i += DDL_BULK_SIZE) {
+                final List<String> chunk = names.subList(i, Math.min(i + DDL_BULK_SIZE, names.size()));
+                StringBuilder query = new StringBuilder("SELECT t.COLUMN_VALUE NAME, DBMS_METADATA.GET_DDL(?,t.COLUMN_VALUE,?) TXT FROM TABLE(SYS.ODCIVARCHAR2LIST(");
+                for (int k = 0; k < chunk.size(); k++) {
+                    query.append(k == 0 ? "?" : ",?");
+                }
+                query.append(")) t");
+                try (JDBCPreparedStatement dbStat = session.prepareStatement(query.toString())) {
+                    dbStat.setString(1, objectType);
+                    dbStat.setString(2, schema.getName());
+                    for (int k = 0; k < chunk.size(); k++) {
+                        dbStat.setString(k + 3, chunk.get(k));
+                    }
+                    try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                        while (dbResult.next()) {
+                            result.put(dbResult.getString(1), dbResult.getString(2));
+                        }
+                    }
+                } catch (SQLException e) {
+                    // One broken object fails the whole query. Its neighbours will be read one by one.
+                    log.warn("Error reading DDL of " + chunk.size() + " " + objectType + "(s) from '" + schema.getName() + "'", e);
+                }
+                monitor.worked(chunk.size());
+            }
+        } catch (SQLException e) {
+            throw new DBException(e, schema.getDataSource());
+        } finally {
+            monitor.done();
+        }
+        return result;
+    }
+
+    /**
+     * Sets DDL transform parameters. They are set only once per connection.
+     */
+    private static void setTransformParams(JDBCSession session, OracleDDLFormat ddlFormat) throws SQLException
+    {
+        final Connection connection = session.getOriginal();
+        synchronized (sessionDDLFormats) {
+            if (sessionDDLFormats.get(connection) == ddlFormat) {
+                return;
+            }
+        }
+        JDBCUtils.executeProcedure(
+            session,
+            "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'STORAGE'," + ddlFormat.isShowStorage() + "); end;");
+        JDBCUtils.executeProcedure(
+            session,
+            "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'TABLESPACE'," + ddlFormat.isShowTablespace() + ");  end;");
+        JDBCUtils.executeProcedure(
+            session,
+            "begin DBMS_METADATA.SET_TRANSFORM_PARAM(DBMS_METADATA.SESSION_TRANSFORM,'SEGMENT_ATTRIBUTES'," + ddlFormat.isShowSegments() + ");  end;");
+        synchronized (sessionDDLFormats) {
+            sessionDDLFormats.put(connection, ddlFormat);
+        }
+    }
+
     public static void setCurrentSchema(JDBCSession session, String schema) throws SQLException {
         JDBCUtils.executeSQL(session,
             "ALTER SESSION SET CURRENT_SCHEMA=" + DBUtils.getQuotedIdentifier(session.getDataSource(), schema));
@@ -21,6 +21,7 @@ import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.ext.oracle.model.OracleDataSource;
 import org.jkiss.dbeaver.ext.oracle.model.OracleObjectType;
 import org.jkiss.dbeaver.ext.oracle.model.OracleTablePhysical;
+import org.jkiss.dbeaver.model.exec.plan.DBCPlanCostNode;
 import org.jkiss.dbeaver.model.exec.plan.DBCPlanNode;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.meta.Property;
@@ -38,7 +39,7 @@ import java.util.List;
 /**
  * Oracle execution plan node
  */
-public class OraclePlanNode implements DBCPlanNode {
+public class OraclePlanNode implements DBCPlanCostNode {
 
     private final OracleDataSource dataSource;
     private String statement_id;
@@ -242,6 +243,24 @@ public class OraclePlanNode implements DBCPlanNode {
         return bytes;
     }
 
+    @Override
+    public String getNodeName()
+    {
+        return CommonUtils.isEmpty(options) ? operation : operation + " " + options;
+    }
+
+    @Override
+    public Number getNodeCost()
+    {
+        return cost;
+    }
+
+    @Override
+    public Number getNodeRowCount()
+    {
+        return cardinality;
+    }
+
     @Override
     public String toString()
     {
@@ -25,7 +25,7 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCObjectCache;
-import org.jkiss.utils.LongKeyMap;
+import org.jkiss.utils.LongObjectMap;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -36,7 +36,7 @@ import java.util.List;
 public class PostgreDataTypeCache extends JDBCObjectCache<PostgreSchema, PostgreDataType>
 {
     private static final Log log = Log.getLog(PostgreDataTypeCache.class);
-    private LongKeyMap<PostgreDataType> dataTypeMap = new LongKeyMap<>();
+    private LongObjectMap<PostgreDataType> dataTypeMap = new LongObjectMap<>();
 
     @Override
     public void clearCache() {
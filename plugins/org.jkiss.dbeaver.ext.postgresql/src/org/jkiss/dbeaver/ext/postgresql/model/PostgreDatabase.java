@@ -43,7 +43,7 @@ import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.*;
 import org.jkiss.dbeaver.model.struct.rdb.DBSCatalog;
-import org.jkiss.utils.LongKeyMap;
+import org.jkiss.utils.LongObjectMap;
 
 import java.sql.SQLException;
 import java.util.*;
@@ -75,7 +75,7 @@ public class PostgreDatabase implements DBSInstance, DBSCatalog, DBPRefreshableO
     public final EncodingCache encodingCache = new EncodingCache();
     public final TablespaceCache tablespaceCache = new TablespaceCache();
     public final SchemaCache schemaCache = new SchemaCache();
-    public final LongKeyMap<PostgreDataType> dataTypeCache = new LongKeyMap<>();
+    public final LongObjectMap<PostgreDataType> dataTypeCache = new LongObjectMap<>();
 
     public PostgreDatabase(PostgreDataSource dataSource, JDBCResultSet dbResult)
         throws SQLException
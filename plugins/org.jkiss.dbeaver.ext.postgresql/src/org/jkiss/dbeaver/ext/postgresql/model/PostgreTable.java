@@ -32,6 +32,8 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.impl.SimpleObjectCache;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCUtils;
 import org.jkiss.dbeaver.model.meta.Association;
+import org.jkiss.dbeaver.model.meta.IPropertyBatchLoader;
+import org.jkiss.dbeaver.model.meta.LazyProperty;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSEntity;
@@ -41,10 +43,7 @@ import org.jkiss.utils.CommonUtils;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 
 /**
  * PostgreTable
@@ -163,7 +162,71 @@ public abstract class PostgreTable extends PostgreTableReal implements DBDPseudo
         return getSchema().constraintCache.getTypedObjects(monitor, getSchema(), this, PostgreTableForeignKey.class);
     }
 
+    public static class SuperTablesValidator implements IPropertyBatchLoader<PostgreTable> {
+        @Override
+        public boolean isPropertyCached(PostgreTable object, Object propertyId)
+        {
+            return object.superTables != null;
+        }
+
+        @Override
+        public void loadPropertyValues(DBRProgressMonitor monitor, Collection<PostgreTable> objects, Object propertyId)
+            throws DBException
+        {
+            // Read inheritance of all tables of each schema with one query
+            Map<PostgreSchema, Map<Long, PostgreTable>> schemaTables = new LinkedHashMap<>();
+            for (PostgreTable table : objects) {
+                Map<Long, PostgreTable> tables = schemaTables.get(table.getSchema());
+                if (tables == null) {
+                    tables = new HashMap<>();
+                    schemaTables.put(table.getSchema(), tables);
+                }
+                tables.put(table.getObjectId(), table);
+            }
+            for (Map.Entry<PostgreSchema, Map<Long, PostgreTable>> entry : schemaTables.entrySet()) {
+                if (monitor.isCanceled()) {
+                    break;
+                }
+                final Map<Long, PostgreTable> tables = entry.getValue();
+                final Map<PostgreTable, List<PostgreTableInheritance>> inheritance = new HashMap<>();
+                try (JDBCSession session = DBUtils.openMetaSession(monitor, entry.getKey().getDataSource(), "Load schema inheritance info")) {
+                    try (JDBCPreparedStatement dbStat = session.prepareStatement(
+                        "SELECT i.*,c.relnamespace " +
+                        "FROM pg_catalog.pg_inherits i,pg_catalog.pg_class c,pg_catalog.pg_class t " +
+                        "WHERE t.relnamespace=? AND i.inhrelid=t.oid AND c.oid=i.inhparent " +
+                        "ORDER BY i.inhrelid,i.inhseqno")) {
+                        dbStat.setLong(1, entry.getKey().getObjectId());
+                        try (JDBCResultSet dbResult = dbStat.executeQuery()) {
+                            while (dbResult.next()) {
+                                final PostgreTable table = tables.get(JDBCUtils.safeGetLong(dbResult, "inhrelid"));
+                                if (table == null) {
+                                    continue;
+                                }
+                                final PostgreTableInheritance superTable = table.readSuperInheritance(monitor, dbResult);
+                                if (superTable != null) {
+                                    List<PostgreTableInheritance> tableInheritance = inheritance.get(table);
+                                    if (tableInheritance == null) {
+                                        tableInheritance = new ArrayList<>();
+                                        inheritance.put(table, tableInheritance);
+                                    }
+                                    tableInheritance.add(superTable);
+                                }
+                            }
+                        }
+                    }
+                } catch (SQLException e) {
+                    throw new DBCException(e, entry.getKey().getDataSource());
+                }
+                for (PostgreTable table : tables.values()) {
+                    final List<PostgreTableInheritance> tableInheritance = inheritance.get(table);
+                    table.superTables = tableInheritance == null ? Collections.<PostgreTableInheritance>emptyList() : tableInheritance;
+                }
+            }
+        }
+    }
+
     @Property(viewable = false, order = 30)
+    @LazyProperty(cacheValidator = SuperTablesValidator.class)
     public List<PostgreTableBase> getSuperTables(DBRProgressMonitor monitor) throws DBException {
         final List<PostgreTableInheritance> si = getSuperInheritance(monitor);
         if (si.isEmpty()) {
@@ -201,27 +264,14 @@ public abstract class PostgreTable extends PostgreTableReal implements DBDPseudo
                     dbStat.setLong(1, getObjectId());
                     try (JDBCResultSet dbResult = dbStat.executeQuery()) {
                         while (dbResult.next()) {
-                            final long parentSchemaId = JDBCUtils.safeGetLong(dbResult, "relnamespace");
-                            final long parentTableId = JDBCUtils.safeGetLong(dbResult, "inhparent");
-                            PostgreSchema schema = getDatabase().getSchema(monitor, parentSchemaId);
-                            if (schema == null) {
-                                log.warn("Can't find parent table's schema '" + parentSchemaId + "'");
-                                continue;
-                            }
-                            PostgreTableBase parentTable = schema.getTable(monitor, parentTableId);
-                            if (parentTable == null) {
-                                log.warn("Can't find parent table '" + parentTableId + "' in '" + schema.getName() + "'");
+                            final PostgreTableInheritance superTable = readSuperInheritance(monitor, dbResult);
+                            if (superTable == null) {
                                 continue;
                             }
                             if (superTables == null) {
                                 superTables = new ArrayList<>();
                             }
-                            superTables.add(
-                                new PostgreTableInheritance(
-                                    this,
-                                    parentTable,
-                                    JDBCUtils.safeGetInt(dbResult, "inhseqno"),
-                                    true));
+                            superTables.add(superTable);
                         }
                     }
                 }
@@ -235,6 +285,26 @@ public abstract class PostgreTable extends PostgreTableReal implements DBDPseudo
         return superTables;
     }
 
+    private PostgreTableInheritance readSuperInheritance(DBRProgressMonitor monitor, JDBCResultSet dbResult) throws DBException {
+        final long parentSchemaId = JDBCUtils.safeGetLong(dbResult, "relnamespace");
+        final long parentTableId = JDBCUtils.safeGetLong(dbResult, "inhparent");
+        PostgreSchema schema = getDatabase().getSchema(monitor, parentSchemaId);
+        if (schema == null) {
+            log.warn("Can't find parent table's schema '" + parentSchemaId + "'");
+            return null;
+        }
+        PostgreTableBase parentTable = schema.getTable(monitor, parentTableId);
+        if (parentTable == null) {
+            log.warn("Can't find parent table '" + parentTableId + "' in '" + schema.getName() + "'");
+            return null;
+        }
+        return new PostgreTableInheritance(
+            this,
+            parentTable,
+            JDBCUtils.safeGetInt(dbResult, "inhseqno"),
+            true);
+    }
+
     @NotNull
     public List<PostgreTableInheritance> getSubInheritance(@NotNull DBRProgressMonitor monitor) throws DBException {
         if (subTables == null) {
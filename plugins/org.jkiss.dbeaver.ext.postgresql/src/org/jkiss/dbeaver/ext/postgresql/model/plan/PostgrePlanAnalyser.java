@@ -25,16 +25,16 @@ import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.exec.plan.DBCPlan;
 import org.jkiss.dbeaver.model.exec.plan.DBCPlanNode;
-import org.jkiss.utils.xml.XMLException;
-import org.jkiss.utils.xml.XMLUtils;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.SQLException;
 import java.sql.SQLXML;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
 
 /**
  * Postgre execution plan analyser
@@ -43,6 +43,11 @@ public class PostgrePlanAnalyser implements DBCPlan {
 
     private static final Log log = Log.getLog(PostgrePlanAnalyser.class);
 
+    private static final String TAG_PLAN = "Plan";
+    private static final String TAG_PLANS = "Plans";
+
+    private static XMLInputFactory xmlInputFactory;
+
     private String query;
     private List<DBCPlanNode> rootNodes;
 
@@ -79,7 +84,7 @@ public class PostgrePlanAnalyser implements DBCPlan {
                         SQLXML planXML = dbResult.getSQLXML(1);
                         parsePlan(planXML);
                     }
-                } catch (XMLException e) {
+                } catch (XMLStreamException | IOException e) {
                     throw new DBCException("Can't parse plan XML", e);
                 }
             }
@@ -98,13 +103,105 @@ public class PostgrePlanAnalyser implements DBCPlan {
         }
     }
 
-    private void parsePlan(SQLXML planXML) throws SQLException, XMLException {
+    private void parsePlan(SQLXML planXML) throws SQLException, XMLStreamException, IOException {
         rootNodes = new ArrayList<>();
-        Document planDocument = XMLUtils.parseDocument(planXML.getBinaryStream());
-        Element queryElement = XMLUtils.getChildElement(planDocument.getDocumentElement(), "Query");
-        for (Element planElement : XMLUtils.getChildElementList(queryElement, "Plan")) {
-            rootNodes.add(new PostgrePlanNode(null, planElement));
+        // Read plan as a stream. Plans of generated queries may be huge, DOM of such plan takes too much time and memory
+        try (InputStream planStream = planXML.getBinaryStream()) {
+            final XMLStreamReader reader = getXMLInputFactory().createXMLStreamReader(planStream);
+            try {
+                final Map<String, String> names = new HashMap<>();
+                while (reader.hasNext()) {
+                    if (reader.next() == XMLStreamConstants.START_ELEMENT && TAG_PLAN.equals(reader.getLocalName())) {
+                        rootNodes.add(readPlanNode(reader, names));
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Reads plan node. Reader is positioned on the Plan start tag, after read it is positioned on the Plan end tag.
+     * @param names attribute names pool. Nodes share name instances.
+     */
+    private static PostgrePlanNode readPlanNode(XMLStreamReader reader, Map<String, String> names) throws XMLStreamException {
+        final Map<String, String> attributes = new LinkedHashMap<>();
+        final List<PostgrePlanNode> nested = new ArrayList<>();
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                break;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            if (TAG_PLANS.equals(reader.getLocalName())) {
+                while (reader.hasNext()) {
+                    final int plansEvent = reader.next();
+                    if (plansEvent == XMLStreamConstants.END_ELEMENT) {
+                        break;
+                    }
+                    if (plansEvent == XMLStreamConstants.START_ELEMENT) {
+                        if (TAG_PLAN.equals(reader.getLocalName())) {
+                            nested.add(readPlanNode(reader, names));
+                        } else {
+                            readElementText(reader);
+                        }
+                    }
+                }
+            } else {
+                String name = reader.getLocalName();
+                String pooledName = names.get(name);
+                if (pooledName == null) {
+                    names.put(name, name);
+                } else {
+                    name = pooledName;
+                }
+                attributes.put(name, readElementText(reader));
+            }
+        }
+        return new PostgrePlanNode(attributes, nested);
+    }
+
+    /**
+     * Reads text of element. Texts of nested elements (e.g. output items) are separated with comma.
+     */
+    private static String readElementText(XMLStreamReader reader) throws XMLStreamException {
+        final StringBuilder text = new StringBuilder();
+        boolean needSeparator = false;
+        for (int depth = 1; depth > 0 && reader.hasNext(); ) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    needSeparator = text.length() > 0;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                    if (!reader.isWhiteSpace()) {
+                        if (needSeparator) {
+                            text.append(", ");
+                            needSeparator = false;
+                        }
+                        text.append(reader.getText());
+                    }
+                    break;
+            }
+        }
+        return text.toString();
+    }
+
+    private static synchronized XMLInputFactory getXMLInputFactory() {
+        if (xmlInputFactory == null) {
+            xmlInputFactory = XMLInputFactory.newInstance();
+            xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+            xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
         }
+        return xmlInputFactory;
     }
 
 }
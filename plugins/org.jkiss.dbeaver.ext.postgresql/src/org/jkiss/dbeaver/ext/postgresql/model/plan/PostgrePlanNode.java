@@ -20,24 +20,21 @@ package org.jkiss.dbeaver.ext.postgresql.model.plan;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.preferences.DBPPropertyDescriptor;
 import org.jkiss.dbeaver.model.preferences.DBPPropertySource;
+import org.jkiss.dbeaver.model.exec.plan.DBCPlanCostNode;
 import org.jkiss.dbeaver.model.exec.plan.DBCPlanNode;
 import org.jkiss.dbeaver.model.meta.Property;
 import org.jkiss.dbeaver.model.impl.PropertyDescriptor;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.utils.CommonUtils;
-import org.jkiss.utils.xml.XMLUtils;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * Postgre execution plan node
  */
-public class PostgrePlanNode implements DBCPlanNode, DBPPropertySource {
+public class PostgrePlanNode implements DBCPlanCostNode, DBPPropertySource {
 
     public static final String ATTR_NODE_TYPE = "Node-Type";
     public static final String ATTR_RELATION_NAME = "Relation-Name";
@@ -45,6 +42,7 @@ public class PostgrePlanNode implements DBCPlanNode, DBPPropertySource {
     public static final String ATTR_TOTAL_COST = "Total-Cost";
     public static final String ATTR_STARTUP_COST = "Startup-Cost";
     public static final String ATTR_INDEX_NAME = "Index-Name";
+    public static final String ATTR_PLAN_ROWS = "Plan-Rows";
 
     private PostgrePlanNode parent;
     private List<PostgrePlanNode> nested;
@@ -52,16 +50,12 @@ public class PostgrePlanNode implements DBCPlanNode, DBPPropertySource {
     private String nodeType;
     private String entity;
     private String cost;
-    private Map<String, String> attributes = new LinkedHashMap<>();
+    private Double totalCost;
+    // Attribute names and values. Arrays are much more compact than map for huge plans
+    private final String[] attributeNames;
+    private final String[] attributeValues;
 
-    public PostgrePlanNode(PostgrePlanNode parent, Element element) {
-        this.parent = parent;
-
-        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
-            if (child instanceof Element && !"Plans".equals(child.getNodeName())) {
-                attributes.put(child.getNodeName(), child.getTextContent());
-            }
-        }
+    PostgrePlanNode(Map<String, String> attributes, List<PostgrePlanNode> nested) {
         nodeType = attributes.remove(ATTR_NODE_TYPE);
         entity = attributes.get(ATTR_RELATION_NAME);
         if (entity != null) {
@@ -75,14 +69,21 @@ public class PostgrePlanNode implements DBCPlanNode, DBPPropertySource {
         String startCost = attributes.remove(ATTR_STARTUP_COST);
         String totalCost = attributes.remove(ATTR_TOTAL_COST);
         cost = startCost + " - " + totalCost;
+        this.totalCost = parseNumber(totalCost);
+
+        attributeNames = new String[attributes.size()];
+        attributeValues = new String[attributes.size()];
+        int index = 0;
+        for (Map.Entry<String, String> attr : attributes.entrySet()) {
+            attributeNames[index] = attr.getKey();
+            attributeValues[index] = attr.getValue();
+            index++;
+        }
 
-        Element nestedPlansElement = XMLUtils.getChildElement(element, "Plans");
-        if (nestedPlansElement != null) {
-            for (Element planElement : XMLUtils.getChildElementList(nestedPlansElement, "Plan")) {
-                if (nested == null) {
-                    nested = new ArrayList<>();
-                }
-                nested.add(new PostgrePlanNode(null, planElement));
+        if (!CommonUtils.isEmpty(nested)) {
+            this.nested = new ArrayList<>(nested);
+            for (PostgrePlanNode child : this.nested) {
+                child.parent = this;
             }
         }
     }
@@ -102,6 +103,41 @@ public class PostgrePlanNode implements DBCPlanNode, DBPPropertySource {
         return cost;
     }
 
+    @Override
+    public String getNodeName() {
+        return CommonUtils.isEmpty(entity) ? nodeType : nodeType + " " + entity;
+    }
+
+    @Override
+    public Number getNodeCost() {
+        return totalCost;
+    }
+
+    @Override
+    public Number getNodeRowCount() {
+        return parseNumber(getAttribute(ATTR_PLAN_ROWS));
+    }
+
+    public String getAttribute(String name) {
+        for (int i = 0; i < attributeNames.length; i++) {
+            if (attributeNames[i].equals(name)) {
+                return attributeValues[i];
+            }
+        }
+        return null;
+    }
+
+    private static Double parseNumber(String value) {
+        if (CommonUtils.isEmpty(value)) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     @Override
     public DBCPlanNode getParent()
     {
@@ -121,17 +157,16 @@ public class PostgrePlanNode implements DBCPlanNode, DBPPropertySource {
 
     @Override
     public DBPPropertyDescriptor[] getPropertyDescriptors2() {
-        DBPPropertyDescriptor[] props = new DBPPropertyDescriptor[attributes.size()];
-        int index = 0;
-        for (Map.Entry<String, String> attr : attributes.entrySet()) {
-            props[index++] = new PropertyDescriptor("Source", attr.getKey(), attr.getKey(), null, String.class, false, null, null, false);
+        DBPPropertyDescriptor[] props = new DBPPropertyDescriptor[attributeNames.length];
+        for (int i = 0; i < attributeNames.length; i++) {
+            props[i] = new PropertyDescriptor("Source", attributeNames[i], attributeNames[i], null, String.class, false, null, null, false);
         }
         return props;
     }
 
     @Override
     public Object getPropertyValue(@Nullable DBRProgressMonitor monitor, Object id) {
-        return attributes.get(id.toString());
+        return getAttribute(id.toString());
     }
 
     @Override
@@ -168,7 +203,7 @@ public class PostgrePlanNode implements DBCPlanNode, DBPPropertySource {
     public String toString() {
         StringBuilder title = new StringBuilder();
         title.append("Type: ").append(nodeType);
-        String joinType = attributes.get("Join-Type");
+        String joinType = getAttribute("Join-Type");
         if (!CommonUtils.isEmpty(joinType)) {
             title.append(" (").append(joinType).append(")");
         }
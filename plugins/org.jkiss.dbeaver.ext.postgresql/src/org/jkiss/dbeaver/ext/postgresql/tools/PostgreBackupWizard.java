@@ -32,7 +32,6 @@ import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSObject;
 import org.jkiss.dbeaver.ui.UIUtils;
 import org.jkiss.dbeaver.utils.GeneralUtils;
-import org.jkiss.dbeaver.utils.RuntimeUtils;
 import org.jkiss.utils.CommonUtils;
 
 import java.io.File;
@@ -46,6 +45,8 @@ class PostgreBackupWizard extends PostgreBackupRestoreWizard<PostgreDatabaseBack
     String compression;
     String encoding;
     boolean showViews;
+    // Number of parallel pg_dump jobs. Supported by directory format only
+    int parallelJobs;
     public List<PostgreDatabaseBackupInfo> objects = new ArrayList<>();
 
     private PostgreBackupWizardPageObjects objectsPage;
@@ -60,6 +61,7 @@ class PostgreBackupWizard extends PostgreBackupRestoreWizard<PostgreDatabaseBack
             this.outputFilePattern = "dump-${database}-${timestamp}.backup";
         }
         showViews = CommonUtils.getBoolean(store.getString("Postgre.export.showViews"), false);
+        parallelJobs = Math.max(1, CommonUtils.toInt(store.getString("Postgre.export.parallelJobs")));
     }
 
     @Override
@@ -114,6 +116,13 @@ class PostgreBackupWizard extends PostgreBackupRestoreWizard<PostgreDatabaseBack
         if (!CommonUtils.isEmpty(encoding)) {
             cmd.add("--encoding=" + encoding);
         }
+        if (format == ExportFormat.DIRECTORY) {
+            // Directory can't be written in stdout. Dump jobs run in parallel, one per table
+            cmd.add("--file=" + getOutputFile(arg).getAbsolutePath());
+            if (parallelJobs > 1) {
+                cmd.add("--jobs=" + parallelJobs);
+            }
+        }
 
         // Objects
         if (objects.isEmpty()) {
@@ -146,6 +155,7 @@ class PostgreBackupWizard extends PostgreBackupRestoreWizard<PostgreDatabaseBack
         final DBPPreferenceStore store = DBeaverCore.getGlobalPreferenceStore();
         store.setValue("Postgre.export.outputFilePattern", this.outputFilePattern);
         store.setValue("Postgre.export.showViews", showViews);
+        store.setValue("Postgre.export.parallelJobs", parallelJobs);
 
         return super.performFinish();
     }
@@ -160,6 +170,14 @@ class PostgreBackupWizard extends PostgreBackupRestoreWizard<PostgreDatabaseBack
     {
         super.startProcessHandler(monitor, arg, processBuilder, process);
 
+        if (format != ExportFormat.DIRECTORY) {
+            Thread job = new DumpCopierJob(monitor, "Export database", process.getInputStream(), getOutputFile(arg));
+            job.start();
+        }
+    }
+
+    private File getOutputFile(final PostgreDatabaseBackupInfo arg)
+    {
         String outFileName = GeneralUtils.replaceVariables(outputFilePattern, new GeneralUtils.IVariableResolver() {
             @Override
             public String get(String name) {
@@ -169,7 +187,7 @@ class PostgreBackupWizard extends PostgreBackupRestoreWizard<PostgreDatabaseBack
                     case VARIABLE_HOST:
                         return arg.getDatabase().getDataSource().getContainer().getConnectionConfiguration().getHostName();
                     case VARIABLE_TIMESTAMP:
-                        return RuntimeUtils.getCurrentTimeStamp();
+                        return getRunTimestamp();
                     default:
                         System.getProperty(name);
                 }
@@ -177,9 +195,7 @@ class PostgreBackupWizard extends PostgreBackupRestoreWizard<PostgreDatabaseBack
             }
         });
 
-        File outFile = new File(outputFolder, outFileName);
-        Thread job = new DumpCopierJob(monitor, "Export database", process.getInputStream(), outFile);
-        job.start();
+        return new File(outputFolder, outFileName);
     }
 
 
@@ -39,6 +39,7 @@ class PostgreBackupWizardPageSettings extends PostgreWizardPageSettings<PostgreB
     private Combo formatCombo;
     private Combo compressCombo;
     private Combo encodingCombo;
+    private Spinner parallelJobsSpinner;
 
     protected PostgreBackupWizardPageSettings(PostgreBackupWizard wizard)
     {
@@ -87,6 +88,11 @@ class PostgreBackupWizardPageSettings extends PostgreWizardPageSettings<PostgreB
         encodingCombo = UIUtils.createEncodingCombo(formatGroup, null);
         encodingCombo.addSelectionListener(changeListener);
 
+        parallelJobsSpinner = UIUtils.createLabelSpinner(formatGroup, "Parallel jobs",
+            "Number of tables dumped simultaneously. Supported by directory format only", wizard.parallelJobs, 1, 64);
+        parallelJobsSpinner.setEnabled(wizard.format == PostgreBackupWizard.ExportFormat.DIRECTORY);
+        parallelJobsSpinner.addSelectionListener(changeListener);
+
         Group outputGroup = UIUtils.createControlGroup(composite, "Output", 2, GridData.FILL_HORIZONTAL, 0);
         outputFolderText = DialogUtils.createOutputFolderChooser(outputGroup, "Output folder", new ModifyListener() {
             @Override
@@ -124,6 +130,8 @@ class PostgreBackupWizardPageSettings extends PostgreWizardPageSettings<PostgreB
         wizard.format = PostgreBackupWizard.ExportFormat.values()[formatCombo.getSelectionIndex()];
         wizard.compression = compressCombo.getText();
         wizard.encoding = encodingCombo.getText();
+        wizard.parallelJobs = parallelJobsSpinner.getSelection();
+        parallelJobsSpinner.setEnabled(wizard.format == PostgreBackupWizard.ExportFormat.DIRECTORY);
 
         getContainer().updateButtons();
     }
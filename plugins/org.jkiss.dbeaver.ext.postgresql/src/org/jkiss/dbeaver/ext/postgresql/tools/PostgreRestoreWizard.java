@@ -41,6 +41,8 @@ class PostgreRestoreWizard extends PostgreBackupRestoreWizard<PostgreDatabaseRes
     private PostgreDatabaseRestoreInfo restoreInfo;
 
     public String inputFile;
+    // Number of parallel pg_restore jobs. Supported by custom and directory formats
+    int parallelJobs = 1;
 
     public PostgreRestoreWizard(PostgreDatabase database) {
         super(Collections.<DBSObject>singletonList(database), "Database restore");
@@ -100,6 +102,12 @@ class PostgreRestoreWizard extends PostgreBackupRestoreWizard<PostgreDatabaseRes
         List<String> cmd = super.getCommandLine(arg);
         cmd.add("--format=" + format.getId());
         cmd.add("--dbname=" + arg.getDatabase().getName());
+        if (isFileInput()) {
+            if (parallelJobs > 1) {
+                cmd.add("--jobs=" + parallelJobs);
+            }
+            cmd.add(getInputPath().getAbsolutePath());
+        }
 
         return cmd;
     }
@@ -113,7 +121,27 @@ class PostgreRestoreWizard extends PostgreBackupRestoreWizard<PostgreDatabaseRes
     protected void startProcessHandler(DBRProgressMonitor monitor, final PostgreDatabaseRestoreInfo arg, ProcessBuilder processBuilder, Process process)
     {
         super.startProcessHandler(monitor, arg, processBuilder, process);
-        new BinaryFileTransformerJob(monitor, new File(inputFile), process.getOutputStream()).start();
+        if (!isFileInput()) {
+            new BinaryFileTransformerJob(monitor, new File(inputFile), process.getOutputStream()).start();
+        }
+    }
+
+    /**
+     * Parallel restore and directory format need direct access to the backup - it can't be read from stdin
+     */
+    private boolean isFileInput()
+    {
+        return format == ExportFormat.DIRECTORY || (format == ExportFormat.CUSTOM && parallelJobs > 1);
+    }
+
+    private File getInputPath()
+    {
+        File file = new File(inputFile);
+        if (format == ExportFormat.DIRECTORY && !file.isDirectory()) {
+            // Table of contents file was chosen
+            file = file.getParentFile();
+        }
+        return file;
     }
 
 }
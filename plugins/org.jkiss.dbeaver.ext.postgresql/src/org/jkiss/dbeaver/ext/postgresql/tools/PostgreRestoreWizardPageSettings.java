@@ -34,6 +34,7 @@ class PostgreRestoreWizardPageSettings extends PostgreWizardPageSettings<Postgre
 
     private TextWithOpenFile inputFileText;
     private Combo formatCombo;
+    private Spinner parallelJobsSpinner;
 
     protected PostgreRestoreWizardPageSettings(PostgreRestoreWizard wizard)
     {
@@ -69,6 +70,11 @@ class PostgreRestoreWizardPageSettings extends PostgreWizardPageSettings<Postgre
         formatCombo.select(wizard.format.ordinal());
         formatCombo.addListener(SWT.Selection, updateListener);
 
+        parallelJobsSpinner = UIUtils.createLabelSpinner(formatGroup, "Parallel jobs",
+            "Number of objects restored simultaneously. Supported by custom and directory formats only", wizard.parallelJobs, 1, 64);
+        parallelJobsSpinner.addListener(SWT.Selection, updateListener);
+        updateParallelJobsState();
+
         Group inputGroup = UIUtils.createControlGroup(composite, "Input", 2, GridData.FILL_HORIZONTAL, 0);
         UIUtils.createControlLabel(inputGroup, "Backup file");
         inputFileText = new TextWithOpenFile(inputGroup, "Choose backup file", new String[] {"*.backup","*"});
@@ -84,8 +90,17 @@ class PostgreRestoreWizardPageSettings extends PostgreWizardPageSettings<Postgre
     {
         wizard.format = PostgreBackupWizard.ExportFormat.values()[formatCombo.getSelectionIndex()];
         wizard.inputFile = inputFileText.getText();
+        wizard.parallelJobs = parallelJobsSpinner.getSelection();
+        updateParallelJobsState();
 
         getContainer().updateButtons();
     }
 
+    private void updateParallelJobsState()
+    {
+        parallelJobsSpinner.setEnabled(
+            wizard.format == PostgreBackupWizard.ExportFormat.CUSTOM ||
+            wizard.format == PostgreBackupWizard.ExportFormat.DIRECTORY);
+    }
+
 }
@@ -0,0 +1,41 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jkiss.dbeaver.model;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Object container which can read definitions of many script objects at once.
+ */
+public interface DBPScriptObjectBulkReader {
+
+    /**
+     * Reads definitions of the specified objects.
+     * Objects which definitions were not read are absent in the result. Caller reads them one by one.
+     */
+    @NotNull
+    Map<DBPScriptObject, String> readObjectDefinitions(@NotNull DBRProgressMonitor monitor, @NotNull Collection<? extends DBPScriptObject> objects)
+        throws DBException;
+
+}
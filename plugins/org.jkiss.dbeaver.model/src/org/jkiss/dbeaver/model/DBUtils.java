@@ -29,6 +29,7 @@ import org.jkiss.dbeaver.model.data.*;
 import org.jkiss.dbeaver.model.exec.*;
 import org.jkiss.dbeaver.model.impl.data.DefaultValueHandler;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.MetadataLoadTracker;
 import org.jkiss.dbeaver.model.sql.*;
 import org.jkiss.dbeaver.model.struct.*;
 import org.jkiss.dbeaver.model.struct.rdb.*;
@@ -463,6 +464,49 @@ public final class DBUtils {
         return new DBDAttributeBindingMeta(session, attributeMeta);
     }
 
+    /**
+     * Creates reader of result set column values.
+     * Value handler may provide reader specialized for the column type.
+     * @param index column index (zero-based)
+     */
+    @NotNull
+    public static DBDValueReader createValueReader(@NotNull DBCResultSet resultSet, @NotNull DBDValueHandler valueHandler, @NotNull DBSTypedObject type, int index)
+    {
+        if (valueHandler instanceof DBDValueReaderFactory) {
+            return ((DBDValueReaderFactory) valueHandler).createValueReader(resultSet, type, index);
+        }
+        return createDefaultValueReader(valueHandler, type, index);
+    }
+
+    /**
+     * Creates reader which reads values with {@link DBDValueHandler#fetchValueObject}
+     */
+    @NotNull
+    public static DBDValueReader createDefaultValueReader(@NotNull final DBDValueHandler valueHandler, @NotNull final DBSTypedObject type, final int index)
+    {
+        return new DBDValueReader() {
+            @Override
+            public Object readValue(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException
+            {
+                return valueHandler.fetchValueObject(session, resultSet, type, index);
+            }
+        };
+    }
+
+    /**
+     * Creates value readers of bound attributes
+     */
+    @NotNull
+    public static DBDValueReader[] createValueReaders(@NotNull DBCResultSet resultSet, @NotNull DBDAttributeBinding[] bindings)
+    {
+        DBDValueReader[] readers = new DBDValueReader[bindings.length];
+        for (int i = 0; i < readers.length; i++) {
+            DBDAttributeBinding binding = bindings[i];
+            readers[i] = createValueReader(resultSet, binding.getValueHandler(), binding.getAttribute(), binding.getOrdinalPosition());
+        }
+        return readers;
+    }
+
     @NotNull
     public static DBDValueHandler findValueHandler(@NotNull DBCSession session, @NotNull DBSTypedObject column)
     {
@@ -1232,7 +1276,7 @@ public final class DBUtils {
     @SuppressWarnings("unchecked")
     @NotNull
     public static <T extends DBCSession> T openMetaSession(@NotNull DBRProgressMonitor monitor, @NotNull DBPDataSource dataSource, @NotNull String task) {
-        return (T) dataSource.getDefaultContext(true).openSession(monitor, DBCExecutionPurpose.META, task);
+        return (T) MetadataLoadTracker.getMetaContext(dataSource).openSession(monitor, DBCExecutionPurpose.META, task);
     }
 
     @SuppressWarnings("unchecked")
@@ -31,6 +31,8 @@ public class DBCStatistics {
     private long executeTime;
     private long fetchTime;
     private int statementsCount;
+    private int fetchSize;
+    private int rowSize;
     private String queryText;
     private Map<String, Object> infoMap;
     private List<String> messages;
@@ -112,6 +114,28 @@ public class DBCStatistics {
         this.statementsCount++;
     }
 
+    /**
+     * Fetch size used for the last round trip (0 if not set explicitly)
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Estimated row size in bytes which was used to choose fetch size
+     */
+    public int getRowSize() {
+        return rowSize;
+    }
+
+    public void setRowSize(int rowSize) {
+        this.rowSize = rowSize;
+    }
+
     public String getQueryText() {
         return queryText;
     }
@@ -159,6 +183,8 @@ public class DBCStatistics {
         executeTime += stat.executeTime;
         fetchTime += stat.fetchTime;
         statementsCount += stat.statementsCount;
+        fetchSize = Math.max(fetchSize, stat.fetchSize);
+        rowSize = Math.max(rowSize, stat.rowSize);
         if (!CommonUtils.isEmpty(stat.messages)) {
             for (String message : stat.messages) {
                 addMessage(message);
@@ -178,6 +204,8 @@ public class DBCStatistics {
         executeTime = 0;
         fetchTime = 0;
         statementsCount = 0;
+        fetchSize = 0;
+        rowSize = 0;
         messages = null;
         infoMap = null;
     }
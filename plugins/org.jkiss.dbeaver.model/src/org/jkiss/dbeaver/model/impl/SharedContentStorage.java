@@ -0,0 +1,96 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jkiss.dbeaver.model.impl;
+
+import org.jkiss.dbeaver.model.data.DBDContentStorage;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+/**
+ * Content stored in shared content store.
+ * Clones share the same stored content.
+ */
+public class SharedContentStorage implements DBDContentStorage {
+
+    private final SharedContentStore store;
+    private final SharedContentStore.Segment segment;
+    private final String charset;
+    private boolean released;
+
+    SharedContentStorage(SharedContentStore store, SharedContentStore.Segment segment, String charset)
+    {
+        this.store = store;
+        this.segment = segment;
+        this.charset = charset;
+    }
+
+    @Override
+    public InputStream getContentStream()
+        throws IOException
+    {
+        if (released) {
+            throw new IOException("Content was released");
+        }
+        return store.openStream(segment);
+    }
+
+    @Override
+    public Reader getContentReader()
+        throws IOException
+    {
+        return new InputStreamReader(getContentStream(), charset);
+    }
+
+    @Override
+    public long getContentLength()
+    {
+        return segment.getLength();
+    }
+
+    @Override
+    public String getCharset()
+    {
+        return charset;
+    }
+
+    @Override
+    public DBDContentStorage cloneStorage(DBRProgressMonitor monitor)
+        throws IOException
+    {
+        if (released) {
+            throw new IOException("Content was released");
+        }
+        store.addReference(segment);
+        return new SharedContentStorage(store, segment, charset);
+    }
+
+    @Override
+    public synchronized void release()
+    {
+        if (!released) {
+            released = true;
+            store.releaseReference(segment);
+        }
+    }
+
+}
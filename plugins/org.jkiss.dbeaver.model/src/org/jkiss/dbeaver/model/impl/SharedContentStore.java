@@ -0,0 +1,431 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jkiss.dbeaver.model.impl;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.app.DBPPlatform;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.utils.ContentUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared storage of big LOB contents.
+ *
+ * Contents are appended to spill files and read through memory-mapped buffers.
+ * Equal contents are stored only once (they are recognized by content digest).
+ * Each content is reference counted. When the last reference is released the content is forgotten.
+ * Spill files are rotated when they reach {@link #MAX_SPILL_FILE_SIZE} (or when the tail of the current file
+ * is held by a content of unknown length). Old files are deleted as soon as all their contents are released,
+ * the current file is reused from the beginning once it has no live contents.
+ * Contents are copied outside of the store lock - each writer reserves its own region of the file first.
+ */
+public class SharedContentStore {
+
+    private static final Log log = Log.getLog(SharedContentStore.class);
+
+    private static final String DIGEST_ALGORITHM = "SHA-1";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final int MAP_WINDOW_SIZE = 8 * 1024 * 1024;
+    private static final long MAX_SPILL_FILE_SIZE = 256L * 1024 * 1024;
+
+    private static SharedContentStore instance;
+
+    private final File folder;
+    private final Map<String, Segment> segments = new HashMap<>();
+    private final List<SpillFile> spillFiles = new ArrayList<>();
+    private SpillFile currentFile;
+    private int fileCounter;
+
+    /**
+     * Content stored in spill file
+     */
+    static class Segment {
+        private final String digest;
+        private final SpillFile file;
+        private final long offset;
+        private final long length;
+        private int refCount;
+
+        Segment(String digest, SpillFile file, long offset, long length) {
+            this.digest = digest;
+            this.file = file;
+            this.offset = offset;
+            this.length = length;
+            this.refCount = 1;
+        }
+
+        long getLength() {
+            return length;
+        }
+    }
+
+    /**
+     * One spill file. All fields except channel are guarded by store lock.
+     */
+    private static class SpillFile {
+        private final File file;
+        private final RandomAccessFile storeFile;
+        private final FileChannel channel;
+        private long writePosition;
+        private int liveSegments;
+        private int activeWriters;
+        // Content of unknown length is being written at the end of file
+        private boolean tailLocked;
+
+        SpillFile(File file)
+            throws IOException
+        {
+            this.file = file;
+            this.storeFile = new RandomAccessFile(file, "rw");
+            this.channel = storeFile.getChannel();
+        }
+
+        boolean isUnused() {
+            return liveSegments == 0 && activeWriters == 0;
+        }
+
+        void close() {
+            try {
+                channel.close();
+                storeFile.close();
+            } catch (IOException e) {
+                log.warn("Error closing shared content file", e);
+            }
+            ContentUtils.deleteTempFile(file);
+        }
+    }
+
+    public static synchronized SharedContentStore getInstance(DBRProgressMonitor monitor, DBPPlatform platform)
+        throws IOException
+    {
+        if (instance == null) {
+            instance = new SharedContentStore(ContentUtils.getLobFolder(monitor, platform));
+        }
+        return instance;
+    }
+
+    public static synchronized void disposeInstance()
+    {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    private SharedContentStore(File folder)
+    {
+        this.folder = folder;
+    }
+
+    /**
+     * Copies stream into the store.
+     * If the same content is already stored then its reference counter is incremented and no space is used.
+     * @return stored content
+     * @throws InterruptedIOException if monitor was canceled. Nothing is stored in this case.
+     */
+    @NotNull
+    public SharedContentStorage storeContent(
+        @NotNull DBRProgressMonitor monitor,
+        @NotNull InputStream stream,
+        long contentLength,
+        String charset)
+        throws IOException
+    {
+        final SpillFile file;
+        final long startPosition;
+        synchronized (this) {
+            file = reserveFile(monitor);
+            startPosition = file.writePosition;
+            file.activeWriters++;
+            if (contentLength < 0) {
+                file.tailLocked = true;
+            } else {
+                file.writePosition += contentLength;
+            }
+        }
+        final long endPosition = contentLength < 0 ? Long.MAX_VALUE : startPosition + contentLength;
+        final MessageDigest digest;
+        long position = startPosition;
+        boolean completed = false;
+        // Work is reported in kilobytes to fit contents bigger than 2Gb
+        monitor.beginTask("Store binary content", contentLength < 0 ? COPY_BUFFER_SIZE : (int) Math.min(Integer.MAX_VALUE, contentLength / 1024));
+        try {
+            digest = createDigest();
+            final byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            while (position < endPosition) {
+                if (monitor.isCanceled()) {
+                    throw new InterruptedIOException("Content store canceled");
+                }
+                int count = stream.read(buffer, 0, (int) Math.min(buffer.length, endPosition - position));
+                if (count < 0) {
+                    break;
+                }
+                digest.update(buffer, 0, count);
+                final ByteBuffer writeBuffer = ByteBuffer.wrap(buffer, 0, count);
+                while (writeBuffer.hasRemaining()) {
+                    position += file.channel.write(writeBuffer, position);
+                }
+                monitor.worked((int) ((position - startPosition) / 1024 - (position - startPosition - count) / 1024));
+            }
+            completed = true;
+        } finally {
+            monitor.done();
+            if (!completed) {
+                synchronized (this) {
+                    finishWrite(file, endPosition, startPosition);
+                }
+            }
+        }
+        final long length = position - startPosition;
+        final String key = toHexString(digest.digest()) + ":" + length;
+        synchronized (this) {
+            Segment segment = segments.get(key);
+            if (segment != null) {
+                // Duplicate content. Written bytes are given back if nobody has reserved space after them
+                segment.refCount++;
+                finishWrite(file, endPosition, startPosition);
+            } else {
+                segment = new Segment(key, file, startPosition, length);
+                segments.put(key, segment);
+                file.liveSegments++;
+                finishWrite(file, endPosition, position);
+            }
+            return new SharedContentStorage(this, segment, charset);
+        }
+    }
+
+    /**
+     * Returns file for a new content. Must be called under store lock.
+     */
+    private SpillFile reserveFile(DBRProgressMonitor monitor)
+        throws IOException
+    {
+        if (currentFile == null || currentFile.tailLocked || currentFile.writePosition >= MAX_SPILL_FILE_SIZE) {
+            currentFile = new SpillFile(ContentUtils.makeTempFile(monitor, folder, "shared-content-" + (++fileCounter), "data"));
+            spillFiles.add(currentFile);
+        }
+        return currentFile;
+    }
+
+    /**
+     * Ends content write. Reserved space after {@code usedEnd} is given back if it is at the end of the file.
+     * {@code reservedEnd} is Long.MAX_VALUE for contents of unknown length.
+     * Must be called under store lock.
+     */
+    private void finishWrite(SpillFile file, long reservedEnd, long usedEnd)
+    {
+        file.activeWriters--;
+        if (reservedEnd == Long.MAX_VALUE) {
+            // Content of unknown length - file tail was locked
+            file.tailLocked = false;
+            file.writePosition = usedEnd;
+        } else if (file.writePosition == reservedEnd) {
+            file.writePosition = usedEnd;
+        }
+        reclaimFiles();
+    }
+
+    /**
+     * Deletes old spill files without live contents. Must be called under store lock.
+     */
+    private void reclaimFiles()
+    {
+        for (Iterator<SpillFile> iter = spillFiles.iterator(); iter.hasNext(); ) {
+            SpillFile file = iter.next();
+            if (!file.isUnused()) {
+                continue;
+            }
+            if (file == currentFile) {
+                // No live contents - reuse file space
+                file.writePosition = 0;
+            } else {
+                iter.remove();
+                file.close();
+            }
+        }
+    }
+
+    synchronized void addReference(@NotNull Segment segment)
+    {
+        if (segment.refCount <= 0) {
+            throw new IllegalStateException("Content was already released");
+        }
+        segment.refCount++;
+    }
+
+    synchronized void releaseReference(@NotNull Segment segment)
+    {
+        if (--segment.refCount == 0) {
+            segments.remove(segment.digest);
+            segment.file.liveSegments--;
+            reclaimFiles();
+        }
+    }
+
+    /**
+     * Opens stream over stored content. Content is read by mapping file windows into memory.
+     */
+    @NotNull
+    InputStream openStream(@NotNull Segment segment)
+    {
+        return new SegmentInputStream(segment.file.channel, segment.offset, segment.length);
+    }
+
+    private synchronized void close()
+    {
+        segments.clear();
+        for (SpillFile file : spillFiles) {
+            file.close();
+        }
+        spillFiles.clear();
+        currentFile = null;
+    }
+
+    private static MessageDigest createDigest()
+        throws IOException
+    {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("Content digest algorithm is not available", e);
+        }
+    }
+
+    private static String toHexString(byte[] bytes)
+    {
+        final StringBuilder str = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            str.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return str.toString();
+    }
+
+    private static class SegmentInputStream extends InputStream {
+        private final FileChannel channel;
+        private long position;
+        private final long end;
+        private ByteBuffer window;
+        private long mark;
+
+        SegmentInputStream(FileChannel channel, long offset, long length)
+        {
+            this.channel = channel;
+            this.position = offset;
+            this.end = offset + length;
+            this.mark = offset;
+        }
+
+        private boolean fillWindow()
+            throws IOException
+        {
+            if (window != null && window.hasRemaining()) {
+                return true;
+            }
+            if (position >= end) {
+                return false;
+            }
+            final long windowSize = Math.min(MAP_WINDOW_SIZE, end - position);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+            return true;
+        }
+
+        @Override
+        public int read()
+            throws IOException
+        {
+            if (!fillWindow()) {
+                return -1;
+            }
+            position++;
+            return window.get() & 0xFF;
+        }
+
+        @Override
+        public int read(@NotNull byte[] b, int off, int len)
+            throws IOException
+        {
+            if (len == 0) {
+                return 0;
+            }
+            if (!fillWindow()) {
+                return -1;
+            }
+            final int count = Math.min(len, window.remaining());
+            window.get(b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public long skip(long n)
+        {
+            final long count = Math.max(0, Math.min(n, end - position));
+            position += count;
+            window = null;
+            return count;
+        }
+
+        @Override
+        public int available()
+        {
+            return (int) Math.min(Integer.MAX_VALUE, end - position);
+        }
+
+        @Override
+        public boolean markSupported()
+        {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit)
+        {
+            mark = position;
+        }
+
+        @Override
+        public synchronized void reset()
+        {
+            position = mark;
+            window = null;
+        }
+
+        @Override
+        public void close()
+        {
+            window = null;
+        }
+    }
+
+}
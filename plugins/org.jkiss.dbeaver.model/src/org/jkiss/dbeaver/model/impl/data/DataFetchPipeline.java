@@ -0,0 +1,345 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jkiss.dbeaver.model.impl.data;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
+import org.jkiss.dbeaver.model.data.DBDDataReceiver;
+import org.jkiss.dbeaver.model.data.DBDValueMeta;
+import org.jkiss.dbeaver.model.data.DBDValueReader;
+import org.jkiss.dbeaver.model.exec.*;
+import org.jkiss.dbeaver.model.messages.ModelMessages;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pipelined result set fetch.
+ * Rows are read and decoded by the calling thread while data receiver processes previously read rows
+ * in a separate thread. Rows are passed through a bounded ring of reusable row buffers, so the faster side
+ * waits for the slower one.
+ * Only one receiver thread is used because data receivers are stateful and expect rows in cursor order.
+ */
+public class DataFetchPipeline {
+
+    private static final Log log = Log.getLog(DataFetchPipeline.class);
+
+    private static final int DEFAULT_BUFFER_SIZE = 256;
+
+    @NotNull
+    private final DBCSession session;
+    @NotNull
+    private final DBCResultSet resultSet;
+    @NotNull
+    private final DBDDataReceiver dataReceiver;
+    @NotNull
+    private final DBDAttributeBinding[] bindings;
+    @NotNull
+    private final DBDValueReader[] valueReaders;
+
+    private final Object bufferLock = new Object();
+    private final Object[][] rowBuffers;
+    private int readPosition;
+    private int writePosition;
+    private int rowsInBuffer;
+    private boolean readFinished;
+    private boolean discardRows;
+    private volatile Throwable receiverError;
+
+    /**
+     * Checks whether result set values may be read ahead of the receiver.
+     * Values of LOB and complex types may depend on cursor position, so they are not supported.
+     */
+    public static boolean isSupported(@NotNull DBCResultSet resultSet) throws DBCException
+    {
+        List<DBCAttributeMetaData> attributes = resultSet.getMeta().getAttributes();
+        if (attributes.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < attributes.size(); i++) {
+            DBCAttributeMetaData attribute = attributes.get(i);
+            if (attribute.getOrdinalPosition() != i) {
+                return false;
+            }
+            switch (attribute.getDataKind()) {
+                case BOOLEAN:
+                case NUMERIC:
+                case STRING:
+                case DATETIME:
+                case BINARY:
+                case ROWID:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    public DataFetchPipeline(@NotNull DBCSession session, @NotNull DBCResultSet resultSet, @NotNull DBDDataReceiver dataReceiver)
+        throws DBCException
+    {
+        this.session = session;
+        this.resultSet = resultSet;
+        this.dataReceiver = dataReceiver;
+        List<DBCAttributeMetaData> attributes = resultSet.getMeta().getAttributes();
+        this.bindings = new DBDAttributeBinding[attributes.size()];
+        for (int i = 0; i < attributes.size(); i++) {
+            bindings[i] = DBUtils.getAttributeBinding(session, attributes.get(i));
+        }
+        this.valueReaders = DBUtils.createValueReaders(resultSet, bindings);
+        this.rowBuffers = new Object[DEFAULT_BUFFER_SIZE][bindings.length];
+    }
+
+    /**
+     * Reads result set rows and passes them to the data receiver.
+     * @param monitor progress monitor
+     * @param maxRows maximum number of rows to read (0 means no limit)
+     * @return number of fetched rows
+     * @throws DBCException on read error or if data receiver failed to process some row
+     */
+    public long fetch(@NotNull DBRProgressMonitor monitor, long maxRows) throws DBCException
+    {
+        Thread receiverThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                processRows();
+            }
+        }, "Fetch receiver (" + Thread.currentThread().getName() + ")");
+        receiverThread.setDaemon(true);
+        receiverThread.start();
+
+        long rowCount = 0;
+        boolean success = false;
+        try {
+            while (receiverError == null && resultSet.nextRow()) {
+                if (monitor.isCanceled() || (maxRows > 0 && rowCount >= maxRows)) {
+                    // Fetch not more than max rows
+                    break;
+                }
+                Object[] row = acquireRowBuffer();
+                if (row == null) {
+                    // Receiver failed
+                    break;
+                }
+                for (int i = 0; i < valueReaders.length; i++) {
+                    row[i] = valueReaders[i].readValue(session, resultSet);
+                }
+                publishRow();
+                rowCount++;
+                if (rowCount % 100 == 0) {
+                    monitor.subTask(rowCount + ModelMessages.model_jdbc__rows_fetched);
+                    monitor.worked(100);
+                }
+            }
+            success = true;
+        } finally {
+            finishReading(!success || monitor.isCanceled());
+            try {
+                receiverThread.join();
+            } catch (InterruptedException e) {
+                log.debug("Interrupted while waiting for fetch receiver", e);
+            }
+        }
+        Throwable error = receiverError;
+        if (error != null) {
+            if (error instanceof DBCException) {
+                throw (DBCException) error;
+            }
+            throw new DBCException("Error processing fetched row", error);
+        }
+        return rowCount;
+    }
+
+    @Nullable
+    private Object[] acquireRowBuffer() throws DBCException
+    {
+        synchronized (bufferLock) {
+            while (rowsInBuffer >= rowBuffers.length && receiverError == null) {
+                try {
+                    bufferLock.wait();
+                } catch (InterruptedException e) {
+                    throw new DBCException("Fetch interrupted", e);
+                }
+            }
+            return receiverError != null ? null : rowBuffers[writePosition];
+        }
+    }
+
+    private void publishRow()
+    {
+        synchronized (bufferLock) {
+            writePosition = (writePosition + 1) % rowBuffers.length;
+            rowsInBuffer++;
+            bufferLock.notifyAll();
+        }
+    }
+
+    private void finishReading(boolean discard)
+    {
+        synchronized (bufferLock) {
+            readFinished = true;
+            discardRows = discard;
+            bufferLock.notifyAll();
+        }
+    }
+
+    @Nullable
+    private Object[] takeRow() throws InterruptedException
+    {
+        synchronized (bufferLock) {
+            while (rowsInBuffer == 0 && !readFinished) {
+                bufferLock.wait();
+            }
+            if (rowsInBuffer == 0 || discardRows) {
+                return null;
+            }
+            return rowBuffers[readPosition];
+        }
+    }
+
+    private void releaseRow()
+    {
+        synchronized (bufferLock) {
+            // Do not keep references on processed values
+            Arrays.fill(rowBuffers[readPosition], null);
+            readPosition = (readPosition + 1) % rowBuffers.length;
+            rowsInBuffer--;
+            bufferLock.notifyAll();
+        }
+    }
+
+    private void processRows()
+    {
+        BufferedResultSet rowSet = new BufferedResultSet();
+        try {
+            for (;;) {
+                Object[] row = takeRow();
+                if (row == null) {
+                    break;
+                }
+                rowSet.curRow = row;
+                try {
+                    dataReceiver.fetchRow(session, rowSet);
+                } finally {
+                    rowSet.curRow = null;
+                    releaseRow();
+                }
+            }
+        } catch (Throwable e) {
+            synchronized (bufferLock) {
+                receiverError = e;
+                bufferLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Exposes current buffered row to the data receiver.
+     * Everything but values is delegated to the source result set.
+     */
+    private class BufferedResultSet implements DBCResultSet {
+
+        private Object[] curRow;
+
+        @Override
+        public DBCSession getSession()
+        {
+            return session;
+        }
+
+        @Override
+        public DBCStatement getSourceStatement()
+        {
+            return resultSet.getSourceStatement();
+        }
+
+        @Override
+        public Object getAttributeValue(int index) throws DBCException
+        {
+            if (curRow == null) {
+                throw new DBCException("No current row");
+            }
+            if (index < 0 || index >= curRow.length) {
+                throw new DBCException("Attribute index out of range (" + index + "/" + curRow.length + ")");
+            }
+            return curRow[index];
+        }
+
+        @Nullable
+        @Override
+        public Object getAttributeValue(String name) throws DBCException
+        {
+            for (int i = 0; i < bindings.length; i++) {
+                if (bindings[i].getName().equals(name)) {
+                    return getAttributeValue(i);
+                }
+            }
+            throw new DBCException("Bad attribute name: " + name);
+        }
+
+        @Override
+        public DBDValueMeta getAttributeValueMeta(int index) throws DBCException
+        {
+            return null;
+        }
+
+        @Override
+        public DBDValueMeta getRowMeta() throws DBCException
+        {
+            return null;
+        }
+
+        @Override
+        public boolean nextRow() throws DBCException
+        {
+            throw new DBCException("Buffered result set can't be navigated");
+        }
+
+        @Override
+        public boolean moveTo(int position) throws DBCException
+        {
+            throw new DBCException("Buffered result set can't be navigated");
+        }
+
+        @NotNull
+        @Override
+        public DBCResultSetMetaData getMeta() throws DBCException
+        {
+            return resultSet.getMeta();
+        }
+
+        @Override
+        public String getResultSetName() throws DBCException
+        {
+            return resultSet.getResultSetName();
+        }
+
+        @Override
+        public void close()
+        {
+            // Source result set is closed by the caller
+        }
+    }
+
+}
@@ -0,0 +1,311 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc;
+
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.runtime.AbstractJob;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Pool of idle physical connections of isolated execution contexts.
+ * Connections are reset when returned, validated when borrowed after some idle time and closed after idle timeout.
+ * Only transaction state is reset. Contexts which run user queries must not return their connections here
+ * (see {@link JDBCExecutionContext}).
+ */
+public class JDBCConnectionPool {
+
+    private static final Log log = Log.getLog(JDBCConnectionPool.class);
+
+    // Validate connections which were idle longer than this
+    private static final long VALIDATION_INTERVAL = 10000;
+
+    private final JDBCDataSource dataSource;
+    private final int maxIdle;
+    private final long idleTimeout;
+    // Most recently released connections are at the head
+    private final ArrayDeque<IdleConnection> idleConnections = new ArrayDeque<>();
+    private final EvictionJob evictionJob = new EvictionJob();
+    private boolean closed;
+
+    private long borrowCount;
+    private long reuseCount;
+    private long returnCount;
+    private long discardCount;
+    private long evictCount;
+    private long validationFailCount;
+
+    private static class IdleConnection {
+        final Connection connection;
+        final long releaseTime;
+
+        IdleConnection(Connection connection, long releaseTime)
+        {
+            this.connection = connection;
+            this.releaseTime = releaseTime;
+        }
+    }
+
+    /**
+     * @param maxIdle maximum number of idle connections
+     * @param idleTimeout idle timeout in milliseconds
+     */
+    public JDBCConnectionPool(@NotNull JDBCDataSource dataSource, int maxIdle, long idleTimeout)
+    {
+        this.dataSource = dataSource;
+        this.maxIdle = maxIdle;
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Takes idle connection from pool.
+     * @return alive connection or null if pool has no idle connections
+     */
+    @Nullable
+    public Connection borrowConnection()
+    {
+        synchronized (this) {
+            borrowCount++;
+        }
+        for (;;) {
+            IdleConnection idle;
+            synchronized (this) {
+                idle = idleConnections.pollFirst();
+                if (idle == null) {
+                    return null;
+                }
+            }
+            long idleTime = System.currentTimeMillis() - idle.releaseTime;
+            if (idleTime >= idleTimeout) {
+                closeConnection(idle.connection);
+                synchronized (this) {
+                    evictCount++;
+                }
+                continue;
+            }
+            if (idleTime >= VALIDATION_INTERVAL && !JDBCUtils.isConnectionAlive(dataSource, idle.connection)) {
+                closeConnection(idle.connection);
+                synchronized (this) {
+                    validationFailCount++;
+                }
+                continue;
+            }
+            synchronized (this) {
+                reuseCount++;
+            }
+            return idle.connection;
+        }
+    }
+
+    /**
+     * Returns connection in pool. Connection is reset to default state (auto-commit, transaction isolation).
+     * Other session state is kept, so connections which executed user queries must not be released here.
+     * @return false if connection wasn't pooled. Caller must close it.
+     */
+    public boolean releaseConnection(@NotNull Connection connection)
+    {
+        synchronized (this) {
+            if (closed || idleConnections.size() >= maxIdle) {
+                discardCount++;
+                return false;
+            }
+        }
+        if (!resetConnection(connection)) {
+            synchronized (this) {
+                discardCount++;
+            }
+            return false;
+        }
+        synchronized (this) {
+            if (closed || idleConnections.size() >= maxIdle) {
+                discardCount++;
+                return false;
+            }
+            idleConnections.addFirst(new IdleConnection(connection, System.currentTimeMillis()));
+            returnCount++;
+        }
+        evictionJob.schedule(idleTimeout);
+        return true;
+    }
+
+    private boolean resetConnection(Connection connection)
+    {
+        DBPDataSourceContainer container = dataSource.getContainer();
+        try {
+            if (connection.isClosed()) {
+                return false;
+            }
+            if (!connection.getAutoCommit()) {
+                // Do not keep changes of previous owner
+                connection.rollback();
+            }
+            boolean autoCommit = container.isDefaultAutoCommit();
+            if (connection.getAutoCommit() != autoCommit) {
+                connection.setAutoCommit(autoCommit);
+            }
+            // Restore isolation level even in auto-commit mode - it is kept by connection
+            Integer txnLevel = container.getDefaultTransactionsIsolation();
+            if (txnLevel == null) {
+                txnLevel = connection.getMetaData().getDefaultTransactionIsolation();
+            }
+            if (txnLevel != Connection.TRANSACTION_NONE && connection.getTransactionIsolation() != txnLevel) {
+                connection.setTransactionIsolation(txnLevel);
+            }
+            connection.clearWarnings();
+            return true;
+        } catch (Throwable e) {
+            log.debug("Can't reset pooled connection: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Closes connections which were idle longer than idle timeout
+     */
+    public void evictIdleConnections()
+    {
+        List<Connection> expired = new ArrayList<>();
+        boolean hasIdle;
+        synchronized (this) {
+            long minReleaseTime = System.currentTimeMillis() - idleTimeout;
+            for (Iterator<IdleConnection> iter = idleConnections.iterator(); iter.hasNext(); ) {
+                IdleConnection idle = iter.next();
+                if (idle.releaseTime <= minReleaseTime) {
+                    expired.add(idle.connection);
+                    iter.remove();
+                }
+            }
+            evictCount += expired.size();
+            hasIdle = !idleConnections.isEmpty();
+        }
+        for (Connection connection : expired) {
+            closeConnection(connection);
+        }
+        if (hasIdle) {
+            evictionJob.schedule(idleTimeout);
+        }
+    }
+
+    /**
+     * Closes all idle connections. Released connections won't be pooled after this.
+     */
+    public void close()
+    {
+        List<IdleConnection> toClose;
+        synchronized (this) {
+            closed = true;
+            toClose = new ArrayList<>(idleConnections);
+            idleConnections.clear();
+        }
+        evictionJob.cancel();
+        for (IdleConnection idle : toClose) {
+            closeConnection(idle.connection);
+        }
+        log.debug("Isolated connections pool of '" + dataSource.getContainer().getName() + "' closed. " + this);
+    }
+
+    private void closeConnection(Connection connection)
+    {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    public synchronized int getIdleCount()
+    {
+        return idleConnections.size();
+    }
+
+    public synchronized long getBorrowCount()
+    {
+        return borrowCount;
+    }
+
+    /**
+     * Number of borrow requests served by idle connections
+     */
+    public synchronized long getReuseCount()
+    {
+        return reuseCount;
+    }
+
+    public synchronized long getReturnCount()
+    {
+        return returnCount;
+    }
+
+    /**
+     * Number of released connections which were closed instead of pooling (pool is full or reset failed)
+     */
+    public synchronized long getDiscardCount()
+    {
+        return discardCount;
+    }
+
+    public synchronized long getEvictCount()
+    {
+        return evictCount;
+    }
+
+    public synchronized long getValidationFailCount()
+    {
+        return validationFailCount;
+    }
+
+    @Override
+    public synchronized String toString()
+    {
+        return "idle=" + idleConnections.size() +
+            ", borrowed=" + borrowCount +
+            ", reused=" + reuseCount +
+            ", returned=" + returnCount +
+            ", discarded=" + discardCount +
+            ", evicted=" + evictCount +
+            ", invalid=" + validationFailCount;
+    }
+
+    private class EvictionJob extends AbstractJob {
+        EvictionJob()
+        {
+            super("Evict idle connections");
+            setUser(false);
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(DBRProgressMonitor monitor)
+        {
+            evictIdleConnections();
+            return Status.OK_STATUS;
+        }
+    }
+
+}
@@ -38,6 +38,7 @@ import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCFactoryDefault;
 import org.jkiss.dbeaver.model.impl.sql.BasicSQLDialect;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.meta.Property;
+import org.jkiss.dbeaver.model.preferences.DBPPreferenceStore;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.sql.SQLDataSource;
 import org.jkiss.dbeaver.model.sql.SQLDialect;
@@ -80,6 +81,8 @@ public abstract class JDBCDataSource
     protected JDBCExecutionContext metaContext;
     @NotNull
     private final List<JDBCExecutionContext> allContexts = new ArrayList<>();
+    @Nullable
+    private JDBCConnectionPool isolatedConnectionPool;
     @NotNull
     protected volatile DBPDataSourceInfo dataSourceInfo;
     protected volatile SQLDialect sqlDialect;
@@ -223,10 +226,30 @@ public abstract class JDBCDataSource
     public DBCExecutionContext openIsolatedContext(@NotNull DBRProgressMonitor monitor, @NotNull String purpose) throws DBException
     {
         JDBCExecutionContext context = new JDBCExecutionContext(this, purpose);
+        context.setConnectionPool(getIsolatedConnectionPool());
         context.connect(monitor, null, null, true);
         return context;
     }
 
+    /**
+     * Pool of idle connections of isolated contexts. Null if pooling is disabled.
+     */
+    @Nullable
+    public synchronized JDBCConnectionPool getIsolatedConnectionPool()
+    {
+        if (isolatedConnectionPool == null) {
+            DBPPreferenceStore preferenceStore = container.getPreferenceStore();
+            int maxIdle = preferenceStore.getInt(ModelPreferences.CONNECTION_POOL_MAX_IDLE);
+            if (maxIdle > 0) {
+                isolatedConnectionPool = new JDBCConnectionPool(
+                    this,
+                    maxIdle,
+                    preferenceStore.getInt(ModelPreferences.CONNECTION_POOL_IDLE_TIMEOUT) * 1000L);
+            }
+        }
+        return isolatedConnectionPool;
+    }
+
     protected void initializeContextState(@NotNull DBRProgressMonitor monitor, @NotNull JDBCExecutionContext context, boolean setActiveObject) throws DBCException {
 
     }
@@ -345,6 +368,9 @@ public abstract class JDBCDataSource
         // [JDBC] Need sync here because real connection close could take some time
         // while UI may invoke callbacks to operate with connection
         synchronized (this) {
+            if (isolatedConnectionPool != null) {
+                isolatedConnectionPool.close();
+            }
             executionContext.close();
             if (metaContext != null) {
                 metaContext.close();
@@ -45,12 +45,25 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
     private volatile Connection connection;
     private volatile Boolean autoCommit;
     private volatile Integer transactionIsolationLevel;
+    @Nullable
+    private JDBCConnectionPool connectionPool;
+    // User queries were executed. Connection may keep session state (role, variables, temp tables) which can't be reset
+    private volatile boolean userSessionsOpened;
 
     public JDBCExecutionContext(@NotNull JDBCDataSource dataSource, String purpose)
     {
         super(dataSource, purpose);
     }
 
+    /**
+     * Physical connection is taken from this pool (if it has idle connections) and returned in it on close.
+     * Connections of contexts which executed user queries are never returned in pool.
+     */
+    void setConnectionPool(@Nullable JDBCConnectionPool connectionPool)
+    {
+        this.connectionPool = connectionPool;
+    }
+
     @NotNull
     private Connection getConnection() {
         return connection;
@@ -70,7 +83,8 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
         boolean connectionReadOnly = dataSource.getContainer().isConnectionReadOnly();
         DBExecUtils.startContextInitiation(this);
         try {
-            this.connection = dataSource.openConnection(monitor, purpose);
+            final Connection pooledConnection = connectionPool == null ? null : connectionPool.borrowConnection();
+            this.connection = pooledConnection != null ? pooledConnection : dataSource.openConnection(monitor, purpose);
             if (this.connection == null) {
                 throw new DBCException("Null connection returned");
             }
@@ -109,10 +123,15 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
                 }
             }
 
-            try {
-                this.initContextBootstrap(monitor, autoCommit);
-            } catch (DBCException e) {
-                log.error("Error while running context bootstrap", e);
+            if (pooledConnection != null) {
+                // Bootstrap queries were executed when connection was opened
+                QMUtils.getDefaultHandler().handleContextOpen(this, !autoCommit);
+            } else {
+                try {
+                    this.initContextBootstrap(monitor, autoCommit);
+                } catch (DBCException e) {
+                    log.error("Error while running context bootstrap", e);
+                }
             }
 
             try {
@@ -149,6 +168,9 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
     @Override
     public JDBCSession openSession(@NotNull DBRProgressMonitor monitor, @NotNull DBCExecutionPurpose purpose, @NotNull String taskTitle)
     {
+        if (purpose.isUser()) {
+            userSessionsOpened = true;
+        }
         return dataSource.createConnection(monitor, this, purpose, taskTitle);
     }
 
@@ -178,7 +200,8 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
         if (!JDBCUtils.isConnectionAlive(getDataSource(), getConnection())) {
             Boolean prevAutocommit = autoCommit;
             Integer txnLevel = transactionIsolationLevel;
-            close();
+            // Dead connection must not return in pool
+            close(false);
             connect(monitor, prevAutocommit, txnLevel, true);
 
             return InvalidateResult.RECONNECTED;
@@ -188,12 +211,19 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
 
     @Override
     public void close()
+    {
+        close(true);
+    }
+
+    private void close(boolean releaseToPool)
     {
         // [JDBC] Need sync here because real connection close could take some time
         // while UI may invoke callbacks to operate with connection
         synchronized (this) {
             if (connection != null) {
-                this.dataSource.closeConnection(connection);
+                if (!releaseToPool || userSessionsOpened || connectionPool == null || !connectionPool.releaseConnection(connection)) {
+                    this.dataSource.closeConnection(connection);
+                }
                 connection = null;
             }
             super.closeContext();
@@ -366,7 +396,7 @@ public class JDBCExecutionContext extends AbstractExecutionContext<JDBCDataSourc
     }
 
     public void reconnect(DBRProgressMonitor monitor) throws DBCException {
-        close();
+        close(false);
         connect(monitor);
     }
 }
@@ -28,10 +28,11 @@ import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCPreparedStatement;
 import org.jkiss.dbeaver.model.exec.jdbc.JDBCSession;
 import org.jkiss.dbeaver.model.impl.BytesContentStorage;
-import org.jkiss.dbeaver.model.impl.TemporaryContentStorage;
+import org.jkiss.dbeaver.model.impl.SharedContentStore;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
 import org.jkiss.dbeaver.model.struct.DBSTypedObject;
 import org.jkiss.dbeaver.utils.ContentUtils;
+import org.jkiss.dbeaver.utils.GeneralUtils;
 import org.jkiss.dbeaver.utils.MimeTypes;
 
 import java.io.*;
@@ -96,26 +97,17 @@ public class JDBCContentBLOB extends JDBCContentLOB {
                     throw new DBCException(e, dataSource);
                 }
             } else {
-                // Create new local storage
-                File tempFile;
+                // Put content in shared spill file. Equal contents are stored once.
                 try {
-                    tempFile = ContentUtils.createTempContentFile(monitor, platform, "blob" + blob.hashCode());
-                }
-                catch (IOException e) {
-                    throw new DBCException("Can't create temporary file", e);
-                }
-                try (OutputStream os = new FileOutputStream(tempFile)) {
+                    SharedContentStore contentStore = SharedContentStore.getInstance(monitor, platform);
                     try (InputStream bs = blob.getBinaryStream()) {
-                        ContentUtils.copyStreams(bs, contentLength, os, monitor);
+                        storage = contentStore.storeContent(monitor, bs, contentLength, GeneralUtils.DEFAULT_ENCODING);
                     }
                 } catch (IOException e) {
-                    ContentUtils.deleteTempFile(tempFile);
                     throw new DBCException("IO error while copying stream", e);
                 } catch (Throwable e) {
-                    ContentUtils.deleteTempFile(tempFile);
                     throw new DBCException(e, dataSource);
                 }
-                this.storage = new TemporaryContentStorage(platform, tempFile);
             }
             // Free blob - we don't need it anymore
             releaseBlob();
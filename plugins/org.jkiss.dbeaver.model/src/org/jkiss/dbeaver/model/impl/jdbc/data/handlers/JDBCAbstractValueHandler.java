@@ -20,6 +20,9 @@ package org.jkiss.dbeaver.model.impl.jdbc.data.handlers;
 import org.jkiss.dbeaver.Log;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.data.DBDValueReader;
+import org.jkiss.dbeaver.model.data.DBDValueReaderFactory;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCResultSet;
@@ -36,7 +39,7 @@ import java.sql.SQLException;
 /**
  * Base JDBC value handler
  */
-public abstract class JDBCAbstractValueHandler extends BaseValueHandler {
+public abstract class JDBCAbstractValueHandler extends BaseValueHandler implements DBDValueReaderFactory {
 
     private static final Log log = Log.getLog(JDBCAbstractValueHandler.class);
 
@@ -57,6 +60,20 @@ public abstract class JDBCAbstractValueHandler extends BaseValueHandler {
         }
     }
 
+    @NotNull
+    @Override
+    public DBDValueReader createValueReader(@NotNull DBCResultSet resultSet, @NotNull DBSTypedObject type, int index)
+    {
+        if (resultSet instanceof JDBCResultSet) {
+            // JDBC uses 1-based indexes
+            JDBCColumnReader reader = createColumnReader(type, index + 1);
+            if (reader != null) {
+                return reader;
+            }
+        }
+        return DBUtils.createDefaultValueReader(this, type, index);
+    }
+
     @Override
     public final void bindValueObject(@NotNull DBCSession session, @NotNull DBCStatement statement, @NotNull DBSTypedObject columnMetaData,
                                       int index, Object value) throws DBCException {
@@ -69,6 +86,20 @@ public abstract class JDBCAbstractValueHandler extends BaseValueHandler {
         }
     }
 
+    /**
+     * Creates reader specialized for the column type.
+     * Specialized reader must read exactly the same value as {@link #fetchColumnValue} does,
+     * so handlers shouldn't provide it to subclasses which may override value fetch.
+     * @param type      column type
+     * @param index     column index (1-based)
+     * @return reader or null if values should be read with {@link #fetchColumnValue}
+     */
+    @Nullable
+    protected JDBCColumnReader createColumnReader(@NotNull DBSTypedObject type, int index)
+    {
+        return null;
+    }
+
     @Nullable
     protected abstract Object fetchColumnValue(DBCSession session, JDBCResultSet resultSet, DBSTypedObject type, int index)
         throws DBCException, SQLException;
@@ -37,6 +37,22 @@ public class JDBCBooleanValueHandler extends JDBCAbstractValueHandler {
 
     private static final Log log = Log.getLog(JDBCBooleanValueHandler.class);
 
+    @Override
+    protected JDBCColumnReader createColumnReader(@NotNull DBSTypedObject type, int index)
+    {
+        if (getClass() != JDBCBooleanValueHandler.class) {
+            return null;
+        }
+        return new JDBCColumnReader(index) {
+            @Override
+            protected Object readColumn(@NotNull JDBCResultSet resultSet) throws SQLException
+            {
+                boolean value = resultSet.getBoolean(index);
+                return resultSet.wasNull() ? null : value;
+            }
+        };
+    }
+
     @Override
     protected Object fetchColumnValue(DBCSession session, JDBCResultSet resultSet, DBSTypedObject type, int index)
         throws SQLException
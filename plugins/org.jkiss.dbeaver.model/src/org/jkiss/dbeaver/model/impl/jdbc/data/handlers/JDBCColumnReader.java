@@ -0,0 +1,63 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.data.handlers;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.data.DBDValueReader;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCResultSet;
+import org.jkiss.dbeaver.model.exec.DBCSession;
+import org.jkiss.dbeaver.model.exec.jdbc.JDBCResultSet;
+
+import java.sql.SQLException;
+
+/**
+ * Reader of a certain JDBC result set column.
+ * Implementations call exact ResultSet getter for the column type.
+ */
+public abstract class JDBCColumnReader implements DBDValueReader {
+
+    // JDBC uses 1-based indexes
+    protected final int index;
+
+    protected JDBCColumnReader(int index)
+    {
+        this.index = index;
+    }
+
+    @Nullable
+    @Override
+    public final Object readValue(@NotNull DBCSession session, @NotNull DBCResultSet resultSet) throws DBCException
+    {
+        try {
+            if (resultSet instanceof JDBCResultSet) {
+                return readColumn((JDBCResultSet) resultSet);
+            } else {
+                return resultSet.getAttributeValue(index - 1);
+            }
+        }
+        catch (SQLException e) {
+            throw new DBCException(e, session.getDataSource());
+        }
+    }
+
+    @Nullable
+    protected abstract Object readColumn(@NotNull JDBCResultSet resultSet) throws SQLException;
+
+}
@@ -21,9 +21,12 @@ import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
 import org.jkiss.dbeaver.model.DBConstants;
 import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.DBDDataFormatter;
 import org.jkiss.dbeaver.model.data.DBDDataFormatterProfile;
 import org.jkiss.dbeaver.model.data.DBDDisplayFormat;
+import org.jkiss.dbeaver.model.data.DBDValueReader;
+import org.jkiss.dbeaver.model.data.DBDValueReaderFactory;
 import org.jkiss.dbeaver.model.exec.DBCException;
 import org.jkiss.dbeaver.model.exec.DBCResultSet;
 import org.jkiss.dbeaver.model.exec.DBCSession;
@@ -44,7 +47,7 @@ import java.util.Date;
 /**
  * JDBC string value handler
  */
-public class JDBCDateTimeValueHandler extends DateTimeCustomValueHandler {
+public class JDBCDateTimeValueHandler extends DateTimeCustomValueHandler implements DBDValueReaderFactory {
 
     protected static final SimpleDateFormat DEFAULT_DATETIME_FORMAT = new SimpleDateFormat("''" + DBConstants.DEFAULT_TIMESTAMP_FORMAT + "''");
     protected static final SimpleDateFormat DEFAULT_DATE_FORMAT = new SimpleDateFormat("''" + DBConstants.DEFAULT_DATE_FORMAT + "''");
@@ -92,6 +95,43 @@ public class JDBCDateTimeValueHandler extends DateTimeCustomValueHandler {
         }
     }
 
+    @NotNull
+    @Override
+    public DBDValueReader createValueReader(@NotNull DBCResultSet resultSet, @NotNull DBSTypedObject type, int index)
+    {
+        if (getClass() != JDBCDateTimeValueHandler.class || !(resultSet instanceof JDBCResultSet)) {
+            // Subclasses may read values in their own way
+            return DBUtils.createDefaultValueReader(this, type, index);
+        }
+        switch (type.getTypeID()) {
+            case Types.TIME:
+            case Types.TIME_WITH_TIMEZONE:
+                return new DateTimeReader(index + 1) {
+                    @Override
+                    protected Object readDateTime(@NotNull JDBCResultSet resultSet) throws SQLException
+                    {
+                        return resultSet.getTime(index);
+                    }
+                };
+            case Types.DATE:
+                return new DateTimeReader(index + 1) {
+                    @Override
+                    protected Object readDateTime(@NotNull JDBCResultSet resultSet) throws SQLException
+                    {
+                        return resultSet.getDate(index);
+                    }
+                };
+            default:
+                return new DateTimeReader(index + 1) {
+                    @Override
+                    protected Object readDateTime(@NotNull JDBCResultSet resultSet) throws SQLException
+                    {
+                        return resultSet.getTimestamp(index);
+                    }
+                };
+        }
+    }
+
     @Override
     public void bindValueObject(@NotNull DBCSession session, @NotNull DBCStatement statement, @NotNull DBSTypedObject type, int index, @Nullable Object value) throws DBCException {
         try {
@@ -119,6 +159,34 @@ public class JDBCDateTimeValueHandler extends DateTimeCustomValueHandler {
         }
     }
 
+    private abstract static class DateTimeReader extends JDBCColumnReader {
+        DateTimeReader(int index)
+        {
+            super(index);
+        }
+
+        @Override
+        protected Object readColumn(@NotNull JDBCResultSet resultSet) throws SQLException
+        {
+            try {
+                return readDateTime(resultSet);
+            } catch (SQLException e) {
+                if (e.getCause() instanceof ParseException) {
+                    // [SQLite] workaround. See fetchValueObject
+                    try {
+                        return resultSet.getObject(index);
+                    } catch (SQLException e1) {
+                        log.debug("Can't retrieve datetime object");
+                    }
+                }
+                throw e;
+            }
+        }
+
+        @Nullable
+        protected abstract Object readDateTime(@NotNull JDBCResultSet resultSet) throws SQLException;
+    }
+
     @NotNull
     @Override
     public String getValueDisplayString(@NotNull DBSTypedObject column, Object value, @NotNull DBDDisplayFormat format)
@@ -80,6 +80,55 @@ public class JDBCNumberValueHandler extends JDBCAbstractValueHandler {
         return formatter.formatValue(value);
     }
 
+    @Nullable
+    @Override
+    protected JDBCColumnReader createColumnReader(@NotNull DBSTypedObject type, int index)
+    {
+        if (getClass() != JDBCNumberValueHandler.class) {
+            // Subclasses may read values in their own way
+            return null;
+        }
+        switch (type.getTypeID()) {
+            case java.sql.Types.DOUBLE:
+            case java.sql.Types.REAL:
+                return new DoubleReader(index, false);
+            case java.sql.Types.FLOAT:
+                return new DoubleReader(index, true);
+            case java.sql.Types.INTEGER:
+                return new LongReader(index);
+            case java.sql.Types.SMALLINT:
+                return new JDBCColumnReader(index) {
+                    @Override
+                    protected Object readColumn(@NotNull JDBCResultSet resultSet) throws SQLException
+                    {
+                        int value = resultSet.getInt(index);
+                        return resultSet.wasNull() ? null : value;
+                    }
+                };
+            case java.sql.Types.TINYINT:
+                return new JDBCColumnReader(index) {
+                    @Override
+                    protected Object readColumn(@NotNull JDBCResultSet resultSet) throws SQLException
+                    {
+                        short value = resultSet.getShort(index);
+                        return resultSet.wasNull() ? null : value;
+                    }
+                };
+            case java.sql.Types.BIT:
+                return new JDBCColumnReader(index) {
+                    @Override
+                    protected Object readColumn(@NotNull JDBCResultSet resultSet) throws SQLException
+                    {
+                        byte value = resultSet.getByte(index);
+                        return resultSet.wasNull() ? null : value;
+                    }
+                };
+            default:
+                // Any numeric value. Its type is resolved by fetchColumnValue
+                return null;
+        }
+    }
+
     @Nullable
     @Override
     protected Object fetchColumnValue(
@@ -152,6 +201,53 @@ public class JDBCNumberValueHandler extends JDBCAbstractValueHandler {
         }
     }
 
+    private static class DoubleReader extends JDBCColumnReader {
+        private final boolean floatFallback;
+
+        DoubleReader(int index, boolean floatFallback)
+        {
+            super(index);
+            this.floatFallback = floatFallback;
+        }
+
+        @Override
+        protected Object readColumn(@NotNull JDBCResultSet resultSet) throws SQLException
+        {
+            Number value;
+            if (floatFallback) {
+                try {
+                    // Read value with maximum precision. Some drivers reports FLOAT but means double [JDBC:SQLite]
+                    value = resultSet.getDouble(index);
+                } catch (SQLException e) {
+                    value = resultSet.getFloat(index);
+                }
+            } else {
+                value = resultSet.getDouble(index);
+            }
+            return resultSet.wasNull() ? null : value;
+        }
+    }
+
+    private static class LongReader extends JDBCColumnReader {
+        LongReader(int index)
+        {
+            super(index);
+        }
+
+        @Override
+        protected Object readColumn(@NotNull JDBCResultSet resultSet) throws SQLException
+        {
+            Number value;
+            try {
+                // Read value with maximum precision. Some drivers reports INTEGER but means long [JDBC:SQLite]
+                value = resultSet.getLong(index);
+            } catch (SQLException e) {
+                value = resultSet.getInt(index);
+            }
+            return resultSet.wasNull() ? null : value;
+        }
+    }
+
     @Override
     protected void bindParameter(JDBCSession session, JDBCPreparedStatement statement, DBSTypedObject paramType,
                                  int paramIndex, Object value) throws SQLException
@@ -40,6 +40,21 @@ public class JDBCStringValueHandler extends JDBCAbstractValueHandler {
 
     private static final Log log = Log.getLog(JDBCStringValueHandler.class);
 
+    @Override
+    protected JDBCColumnReader createColumnReader(@NotNull DBSTypedObject type, int index)
+    {
+        if (getClass() != JDBCStringValueHandler.class) {
+            return null;
+        }
+        return new JDBCColumnReader(index) {
+            @Override
+            protected Object readColumn(@NotNull JDBCResultSet resultSet) throws SQLException
+            {
+                return resultSet.getString(index);
+            }
+        };
+    }
+
     @Override
     protected Object fetchColumnValue(
         DBCSession session,
@@ -0,0 +1,182 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.model.impl.jdbc.exec;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.dbeaver.Log;
+import org.jkiss.dbeaver.model.exec.DBCAttributeMetaData;
+import org.jkiss.dbeaver.model.exec.DBCException;
+import org.jkiss.dbeaver.model.exec.DBCResultSetMetaData;
+
+import java.sql.ResultSet;
+
+/**
+ * Adaptive fetch size controller.
+ * Fetch size is estimated from result set row width so that a single round trip stays within memory budget.
+ * During fetch round trip time is measured and fetch size grows while round trips are slow
+ * (high-latency network) and memory limit is not reached.
+ */
+public class JDBCFetchSizeController {
+
+    private static final Log log = Log.getLog(JDBCFetchSizeController.class);
+
+    // Used before row width is known
+    public static final int INITIAL_FETCH_SIZE = 500;
+    public static final int MIN_FETCH_SIZE = 10;
+    public static final int MAX_FETCH_SIZE = 100000;
+
+    private static final long INITIAL_FETCH_MEMORY = 1024 * 1024;
+    private static final long MAX_FETCH_MEMORY = 16 * 1024 * 1024;
+    // Round trips slower than this worth to be made less frequent
+    private static final long SLOW_ROUND_TRIP_NANOS = 20 * 1000000L;
+
+    private static final int VALUE_OVERHEAD = 16;
+    private static final int MAX_INLINE_LENGTH = 4000;
+    private static final int LOB_VALUE_SIZE = 8192;
+    private static final int DEFAULT_VALUE_SIZE = 256;
+
+    private final long rowsLimit;
+    private int rowSize;
+    private int fetchSize;
+    private int maxFetchSize;
+    private boolean disabled;
+
+    private int roundTripRows;
+    private long roundTripNanos;
+
+    /**
+     * @param rowsLimit maximum number of rows which will be read (0 if unknown)
+     */
+    public JDBCFetchSizeController(long rowsLimit)
+    {
+        this.rowsLimit = rowsLimit;
+        this.fetchSize = limitFetchSize(INITIAL_FETCH_SIZE);
+        this.maxFetchSize = limitFetchSize(MAX_FETCH_SIZE);
+    }
+
+    /**
+     * Current fetch size
+     */
+    public int getFetchSize()
+    {
+        return fetchSize;
+    }
+
+    /**
+     * Estimated row size in bytes (0 if not estimated yet)
+     */
+    public int getRowSize()
+    {
+        return rowSize;
+    }
+
+    void attachResultSet(@NotNull JDBCResultSetImpl resultSet)
+    {
+        try {
+            rowSize = estimateRowSize(resultSet.getMeta());
+        } catch (DBCException e) {
+            log.debug("Can't read result set metadata, fetch size won't be adapted", e);
+            disabled = true;
+            return;
+        }
+        maxFetchSize = limitFetchSize(MAX_FETCH_MEMORY / rowSize);
+        applyFetchSize(resultSet.getOriginal(), limitFetchSize(INITIAL_FETCH_MEMORY / rowSize));
+    }
+
+    void handleRowFetch(@NotNull ResultSet resultSet, long fetchNanos)
+    {
+        if (disabled) {
+            return;
+        }
+        roundTripRows++;
+        // Only fetches which really went to the server take noticeable time, so their sum is the round trip time
+        roundTripNanos += fetchNanos;
+        if (roundTripRows >= fetchSize) {
+            if (roundTripNanos > SLOW_ROUND_TRIP_NANOS && fetchSize < maxFetchSize) {
+                applyFetchSize(resultSet, (int) Math.min((long) fetchSize * 2, maxFetchSize));
+            }
+            roundTripRows = 0;
+            roundTripNanos = 0;
+        }
+    }
+
+    private void applyFetchSize(@NotNull ResultSet resultSet, int newFetchSize)
+    {
+        if (newFetchSize == fetchSize) {
+            return;
+        }
+        try {
+            resultSet.setFetchSize(newFetchSize);
+            fetchSize = newFetchSize;
+        } catch (Throwable e) {
+            // Driver doesn't support fetch size change on result set
+            log.debug("Can't change result set fetch size: " + e.getMessage());
+            disabled = true;
+        }
+    }
+
+    private int limitFetchSize(long size)
+    {
+        if (rowsLimit > 0 && size > rowsLimit) {
+            size = rowsLimit;
+        }
+        return (int) Math.max(MIN_FETCH_SIZE, Math.min(size, MAX_FETCH_SIZE));
+    }
+
+    static int estimateRowSize(@NotNull DBCResultSetMetaData meta)
+    {
+        int rowSize = VALUE_OVERHEAD;
+        for (DBCAttributeMetaData attr : meta.getAttributes()) {
+            rowSize += estimateValueSize(attr);
+        }
+        return rowSize;
+    }
+
+    private static int estimateValueSize(@NotNull DBCAttributeMetaData attr)
+    {
+        switch (attr.getDataKind()) {
+            case BOOLEAN:
+                return VALUE_OVERHEAD;
+            case NUMERIC:
+                return VALUE_OVERHEAD + 16;
+            case DATETIME:
+                return VALUE_OVERHEAD + 24;
+            case STRING:
+                // Java strings use two bytes per character
+                return VALUE_OVERHEAD + getInlineLength(attr) * 2;
+            case BINARY:
+            case ROWID:
+                return VALUE_OVERHEAD + getInlineLength(attr);
+            case CONTENT:
+                // Drivers prefetch LOB locators with some part of content
+                return LOB_VALUE_SIZE;
+            default:
+                return DEFAULT_VALUE_SIZE;
+        }
+    }
+
+    private static int getInlineLength(@NotNull DBCAttributeMetaData attr)
+    {
+        long maxLength = attr.getMaxLength();
+        if (maxLength <= 0 || maxLength > MAX_INLINE_LENGTH) {
+            return MAX_INLINE_LENGTH;
+        }
+        return (int) maxLength;
+    }
+
+}
@@ -51,6 +51,7 @@ public class JDBCResultSetImpl implements JDBCResultSet {
     private JDBCResultSetMetaData metaData;
     private long rowsFetched;
     private long maxRows = -1;
+    private JDBCFetchSizeController fetchSizeController;
     private boolean fake;
     private boolean disableLogging;
 
@@ -267,6 +268,11 @@ public class JDBCResultSetImpl implements JDBCResultSet {
         this.maxRows = maxRows;
     }
 
+    void setFetchSizeController(@NotNull JDBCFetchSizeController fetchSizeController) {
+        this.fetchSizeController = fetchSizeController;
+        fetchSizeController.attachResultSet(this);
+    }
+
     @Override
     public boolean next()
         throws SQLException
@@ -282,9 +288,13 @@ public class JDBCResultSetImpl implements JDBCResultSet {
         this.beforeFetch();
         try {
             // Fetch next row
+            long fetchStart = fetchSizeController == null ? 0 : System.nanoTime();
             boolean fetched = original.next();
             if (fetched) {
                 rowsFetched++;
+                if (fetchSizeController != null) {
+                    fetchSizeController.handleRowFetch(original, System.nanoTime() - fetchStart);
+                }
             }
             return fetched;
         }
@@ -54,6 +54,7 @@ public class JDBCStatementImpl<STATEMENT extends Statement> implements JDBCState
     private DBCExecutionSource source;
     private int updateCount;
     private Throwable executeError;
+    private JDBCFetchSizeController fetchSizeController;
 
     private boolean disableLogging;
 
@@ -130,6 +131,20 @@ public class JDBCStatementImpl<STATEMENT extends Statement> implements JDBCState
         this.query = query;
     }
 
+    @Nullable
+    public JDBCFetchSizeController getFetchSizeController()
+    {
+        return fetchSizeController;
+    }
+
+    /**
+     * Enables adaptive fetch size for result sets opened by this statement
+     */
+    public void setFetchSizeController(@Nullable JDBCFetchSizeController fetchSizeController)
+    {
+        this.fetchSizeController = fetchSizeController;
+    }
+
     @Override
     public boolean executeStatement()
         throws DBCException
@@ -271,6 +286,9 @@ public class JDBCStatementImpl<STATEMENT extends Statement> implements JDBCState
         if (rsMaxRows > 0 && connection.getDataSource().getInfo().supportsResultSetLimit()) {
             dbResult.setMaxRows(rsMaxRows);
         }
+        if (fetchSizeController != null && dbResult instanceof JDBCResultSetImpl) {
+            ((JDBCResultSetImpl) dbResult).setFetchSizeController(fetchSizeController);
+        }
         return dbResult;
     }
 
@@ -28,11 +28,13 @@ import org.jkiss.dbeaver.model.DBPSaveableObject;
 import org.jkiss.dbeaver.model.DBUtils;
 import org.jkiss.dbeaver.model.data.*;
 import org.jkiss.dbeaver.model.exec.*;
-import org.jkiss.dbeaver.model.exec.jdbc.JDBCStatement;
 import org.jkiss.dbeaver.model.impl.DBObjectNameCaseTransformer;
+import org.jkiss.dbeaver.model.impl.data.DataFetchPipeline;
 import org.jkiss.dbeaver.model.impl.data.ExecuteBatchImpl;
 import org.jkiss.dbeaver.model.impl.jdbc.JDBCSQLDialect;
 import org.jkiss.dbeaver.model.impl.jdbc.cache.JDBCStructCache;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCFetchSizeController;
+import org.jkiss.dbeaver.model.impl.jdbc.exec.JDBCStatementImpl;
 import org.jkiss.dbeaver.model.impl.struct.AbstractTable;
 import org.jkiss.dbeaver.model.messages.ModelMessages;
 import org.jkiss.dbeaver.model.meta.Property;
@@ -52,7 +54,6 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
 {
     private static final Log log = Log.getLog(JDBCTable.class);
     public static final String DEFAULT_TABLE_ALIAS = "x";
-    public static final int DEFAULT_READ_FETCH_SIZE = 10000;
 
     private boolean persisted;
 
@@ -165,12 +166,15 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
             if (monitor.isCanceled()) {
                 return statistics;
             }
-            if (dbStat instanceof JDBCStatement && maxRows > 0) {
+            JDBCFetchSizeController fetchSizeController = null;
+            if (dbStat instanceof JDBCStatementImpl) {
                 boolean useFetchSize = getDataSource().getContainer().getPreferenceStore().getBoolean(ModelPreferences.RESULT_SET_USE_FETCH_SIZE);
                 if (useFetchSize) {
+                    // Initial fetch size is adapted to the row width and network latency once result set is opened
+                    fetchSizeController = new JDBCFetchSizeController(firstRow < 0 || maxRows <= 0 ? 0 : firstRow + maxRows);
                     try {
-                        ((JDBCStatement) dbStat).setFetchSize(
-                            firstRow < 0 || maxRows <= 0 ? DEFAULT_READ_FETCH_SIZE : (int) (firstRow + maxRows));
+                        ((JDBCStatementImpl) dbStat).setFetchSize(fetchSizeController.getFetchSize());
+                        ((JDBCStatementImpl) dbStat).setFetchSizeController(fetchSizeController);
                     } catch (Exception e) {
                         log.warn(e);
                     }
@@ -188,20 +192,29 @@ public abstract class JDBCTable<DATASOURCE extends DBPDataSource, CONTAINER exte
 
                         startTime = System.currentTimeMillis();
                         long rowCount = 0;
-                        while (dbResult.nextRow()) {
-                            if (monitor.isCanceled() || (hasLimits && rowCount >= maxRows)) {
-                                // Fetch not more than max rows
-                                break;
-                            }
-                            dataReceiver.fetchRow(session, dbResult);
-                            rowCount++;
-                            if (rowCount % 100 == 0) {
-                                monitor.subTask(rowCount + ModelMessages.model_jdbc__rows_fetched);
-                                monitor.worked(100);
+                        if ((flags & FLAG_FETCH_PIPELINE) != 0 && DataFetchPipeline.isSupported(dbResult)) {
+                            // Decode rows while receiver processes previous ones
+                            rowCount = new DataFetchPipeline(session, dbResult, dataReceiver).fetch(monitor, hasLimits ? maxRows : 0);
+                        } else {
+                            while (dbResult.nextRow()) {
+                                if (monitor.isCanceled() || (hasLimits && rowCount >= maxRows)) {
+                                    // Fetch not more than max rows
+                                    break;
+                                }
+                                dataReceiver.fetchRow(session, dbResult);
+                                rowCount++;
+                                if (rowCount % 100 == 0) {
+                                    monitor.subTask(rowCount + ModelMessages.model_jdbc__rows_fetched);
+                                    monitor.worked(100);
+                                }
                             }
                         }
                         statistics.setFetchTime(System.currentTimeMillis() - startTime);
                         statistics.setRowsFetched(rowCount);
+                        if (fetchSizeController != null) {
+                            statistics.setFetchSize(fetchSizeController.getFetchSize());
+                            statistics.setRowSize(fetchSizeController.getRowSize());
+                        }
                     } finally {
                         // First - close cursor
                         try {
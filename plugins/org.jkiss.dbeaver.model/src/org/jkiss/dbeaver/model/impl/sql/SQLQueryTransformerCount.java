@@ -21,7 +21,6 @@ import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.Function;
 import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
-import net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import net.sf.jsqlparser.schema.Column;
 import net.sf.jsqlparser.statement.Statement;
 import net.sf.jsqlparser.statement.select.PlainSelect;
@@ -31,6 +30,7 @@ import net.sf.jsqlparser.statement.select.SelectItem;
 import org.jkiss.dbeaver.DBException;
 import org.jkiss.dbeaver.model.sql.SQLDataSource;
 import org.jkiss.dbeaver.model.sql.SQLQuery;
+import org.jkiss.dbeaver.model.sql.SQLQueryParseCache;
 import org.jkiss.dbeaver.model.sql.SQLQueryTransformer;
 
 import java.util.ArrayList;
@@ -45,7 +45,7 @@ public class SQLQueryTransformerCount implements SQLQueryTransformer {
     @Override
     public SQLQuery transformQuery(SQLDataSource dataSource, SQLQuery query) throws DBException {
         try {
-            Statement statement = CCJSqlParserUtil.parse(query.getQuery());
+            Statement statement = SQLQueryParseCache.parseStatement(query.getQuery());
             if (statement instanceof Select && ((Select) statement).getSelectBody() instanceof PlainSelect) {
                 PlainSelect select = (PlainSelect) ((Select) statement).getSelectBody();
                 List<SelectItem> selectItems = new ArrayList<>();
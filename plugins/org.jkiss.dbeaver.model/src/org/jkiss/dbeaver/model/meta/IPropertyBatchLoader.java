@@ -0,0 +1,36 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.model.meta;
+
+import org.jkiss.dbeaver.DBException;
+import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+
+import java.util.Collection;
+
+/**
+ * Lazy property batch loader.
+ * May be implemented by lazy property cache validator (see {@link LazyProperty#cacheValidator()})
+ * to read the property of many sibling objects with one query.
+ * After successful load {@link IPropertyCacheValidator#isPropertyCached} must return true for all passed objects.
+ */
+public interface IPropertyBatchLoader<OBJECT_TYPE> extends IPropertyCacheValidator<OBJECT_TYPE> {
+
+    void loadPropertyValues(DBRProgressMonitor monitor, Collection<OBJECT_TYPE> objects, Object propertyId)
+        throws DBException;
+
+}
@@ -31,6 +31,7 @@ import org.jkiss.dbeaver.model.navigator.meta.DBXTreeNode;
 import org.jkiss.dbeaver.model.navigator.meta.DBXTreeObject;
 import org.jkiss.dbeaver.model.runtime.DBRProgressListener;
 import org.jkiss.dbeaver.model.runtime.DBRProgressMonitor;
+import org.jkiss.dbeaver.model.runtime.MetadataLoadTracker;
 import org.jkiss.dbeaver.model.struct.*;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.BeanUtils;
@@ -51,6 +52,7 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
 
     private volatile boolean locked;
     protected volatile DBNDatabaseNode[] childNodes;
+    private volatile ChildIndex childIndex;
     private boolean filtered;
 
     protected DBNDatabaseNode(DBNNode parentNode)
@@ -189,6 +191,7 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
                 final List<DBNDatabaseNode> tmpList = new ArrayList<>();
                 loadChildren(monitor, getMeta(), null, tmpList);
                 if (!monitor.isCanceled()) {
+                    MetadataLoadTracker.objectUsed(getObject());
                     if (tmpList.isEmpty()) {
                         this.childNodes = EMPTY_NODES;
                     } else {
@@ -213,14 +216,61 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
 
     boolean hasChildItem(DBSObject object)
     {
-        if (childNodes != null) {
-            for (DBNDatabaseNode child : childNodes) {
-                if (child.getObject() == object) {
-                    return true;
-                }
+        final ChildIndex index = getChildIndex();
+        return index != null && index.containsObject(object);
+    }
+
+    /**
+     * Finds loaded child by navigator path item (node name or folder type).
+     * Uses children index which is rebuilt each time children array is replaced.
+     * @return first matched child or null if children are not loaded or nothing matches
+     */
+    @Nullable
+    DBNDatabaseNode findChildByPathItem(String item)
+    {
+        final ChildIndex index = getChildIndex();
+        if (index == null) {
+            return null;
+        }
+        final DBNDatabaseNode child = index.findByPathItem(item);
+        if (child != null && !isPathItemOf(child, item)) {
+            // Child was renamed after index was built
+            childIndex = null;
+            return null;
+        }
+        return child;
+    }
+
+    @Nullable
+    private ChildIndex getChildIndex()
+    {
+        final DBNDatabaseNode[] children = childNodes;
+        if (children == null) {
+            return null;
+        }
+        ChildIndex index = childIndex;
+        if (index == null || index.children != children) {
+            index = new ChildIndex(children);
+            childIndex = index;
+        }
+        return index;
+    }
+
+    @Nullable
+    private static String getFolderType(DBNDatabaseNode node)
+    {
+        if (node instanceof DBNDatabaseFolder) {
+            DBXTreeFolder meta = ((DBNDatabaseFolder) node).getMeta();
+            if (meta != null && !CommonUtils.isEmpty(meta.getType())) {
+                return meta.getType();
             }
         }
-        return false;
+        return null;
+    }
+
+    private static boolean isPathItemOf(DBNDatabaseNode node, String item)
+    {
+        return item.equals(getFolderType(node)) || node.getNodeName().equals(item);
     }
 
     void addChildItem(DBSObject object)
@@ -355,6 +405,7 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
         synchronized (this) {
             childrenCopy = childNodes == null ? null : Arrays.copyOf(childNodes, childNodes.length);
             childNodes = null;
+            childIndex = null;
         }
         if (childrenCopy != null) {
             for (DBNNode child : childrenCopy) {
@@ -486,6 +537,8 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
 
         DBPDataSourceContainer dataSourceContainer = getDataSourceContainer();
         boolean showSystem = dataSourceContainer == null || dataSourceContainer.isShowSystemObjects();
+        // Group old children by unique name - refresh of big folders must not be quadratic
+        final Map<String, List<DBNDatabaseNode>> oldChildrenMap = oldList == null ? null : groupOldChildren(oldList, meta);
         for (Object childItem : itemList) {
             if (childItem == null) {
                 continue;
@@ -508,10 +561,12 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
             }
             DBSObject object = (DBSObject)childItem;
             boolean added = false;
-            if (oldList != null) {
+            if (oldChildrenMap != null) {
                 // Check that new object is a replacement of old one
-                for (DBNDatabaseNode oldChild : oldList) {
-                    if (oldChild.getMeta() == meta && equalObjects(oldChild.getObject(), object)) {
+                final List<DBNDatabaseNode> oldChildren = oldChildrenMap.get(DBUtils.getObjectUniqueName(object));
+                for (int i = 0; oldChildren != null && i < oldChildren.size(); i++) {
+                    final DBNDatabaseNode oldChild = oldChildren.get(i);
+                    if (equalObjects(oldChild.getObject(), object)) {
                         oldChild.reloadObject(monitor, object);
 
                         if (oldChild.hasChildren(false) && !oldChild.needsInitialization()) {
@@ -535,16 +590,32 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
 
         if (oldList != null) {
             // Now remove all non-existing items
+            final Map<String, List<DBSObject>> newItemsMap = new HashMap<>(itemList.size());
+            for (Object childItem : itemList) {
+                if (childItem instanceof DBSObject) {
+                    final String uniqueName = DBUtils.getObjectUniqueName((DBSObject) childItem);
+                    List<DBSObject> sameNameItems = newItemsMap.get(uniqueName);
+                    if (sameNameItems == null) {
+                        sameNameItems = new ArrayList<>(1);
+                        newItemsMap.put(uniqueName, sameNameItems);
+                    }
+                    sameNameItems.add((DBSObject) childItem);
+                }
+            }
             for (DBNDatabaseNode oldChild : oldList) {
                 if (oldChild.getMeta() != meta) {
                     // Wrong type
                     continue;
                 }
                 boolean found = false;
-                for (Object childItem : itemList) {
-                    if (childItem instanceof DBSObject && equalObjects(oldChild.getObject(), (DBSObject) childItem)) {
-                        found = true;
-                        break;
+                final DBSObject oldObject = oldChild.getObject();
+                final List<DBSObject> sameNameItems = oldObject == null ? null : newItemsMap.get(DBUtils.getObjectUniqueName(oldObject));
+                if (sameNameItems != null) {
+                    for (DBSObject childItem : sameNameItems) {
+                        if (equalObjects(oldObject, childItem)) {
+                            found = true;
+                            break;
+                        }
                     }
                 }
                 if (!found) {
@@ -675,6 +746,25 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
         }
     }
 
+    private static Map<String, List<DBNDatabaseNode>> groupOldChildren(DBNDatabaseNode[] oldList, DBXTreeNode meta)
+    {
+        final Map<String, List<DBNDatabaseNode>> result = new HashMap<>(oldList.length);
+        for (DBNDatabaseNode oldChild : oldList) {
+            final DBSObject oldObject = oldChild.getObject();
+            if (oldChild.getMeta() != meta || oldObject == null) {
+                continue;
+            }
+            final String uniqueName = DBUtils.getObjectUniqueName(oldObject);
+            List<DBNDatabaseNode> sameNameChildren = result.get(uniqueName);
+            if (sameNameChildren == null) {
+                sameNameChildren = new ArrayList<>(1);
+                result.put(uniqueName, sameNameChildren);
+            }
+            sameNameChildren.add(oldChild);
+        }
+        return result;
+    }
+
     private static boolean equalObjects(DBSObject object1, DBSObject object2) {
         if (object1 == object2) {
             return true;
@@ -820,4 +910,55 @@ public abstract class DBNDatabaseNode extends DBNNode implements DBSWrapper, DBP
         return clazz == Object.class ? null : findPropertyGetter(clazz.getSuperclass(), getName, isName);
     }
 
+    /**
+     * Lookup tables over a snapshot of child nodes
+     */
+    private static class ChildIndex {
+        private final DBNDatabaseNode[] children;
+        private final Map<String, Integer> nameMap;
+        private final Map<String, Integer> folderTypeMap;
+        private final Map<DBSObject, DBNDatabaseNode> objectMap;
+
+        ChildIndex(DBNDatabaseNode[] children)
+        {
+            this.children = children;
+            this.nameMap = new HashMap<>(children.length);
+            this.folderTypeMap = new HashMap<>();
+            this.objectMap = new IdentityHashMap<>(children.length);
+            for (int i = 0; i < children.length; i++) {
+                final DBNDatabaseNode child = children[i];
+                final String nodeName = child.getNodeName();
+                if (!nameMap.containsKey(nodeName)) {
+                    nameMap.put(nodeName, i);
+                }
+                final String folderType = getFolderType(child);
+                if (folderType != null && !folderTypeMap.containsKey(folderType)) {
+                    folderTypeMap.put(folderType, i);
+                }
+                final DBSObject object = child.getObject();
+                if (object != null && !objectMap.containsKey(object)) {
+                    objectMap.put(object, child);
+                }
+            }
+        }
+
+        boolean containsObject(DBSObject object)
+        {
+            return objectMap.containsKey(object);
+        }
+
+        @Nullable
+        DBNDatabaseNode findByPathItem(String item)
+        {
+            final Integer namePos = nameMap.get(item);
+            final Integer typePos = folderTypeMap.get(item);
+            if (namePos == null && typePos == null) {
+                return null;
+            }
+            // The first child matching either way wins - the same as in sequential scan
+            final int pos = namePos == null ? typePos : (typePos == null ? namePos : Math.min(namePos, typePos));
+            return children[pos];
+        }
+    }
+
 }
@@ -37,10 +37,7 @@ import org.jkiss.dbeaver.model.struct.DBSObjectState;
 import org.jkiss.utils.ArrayUtils;
 import org.jkiss.utils.CommonUtils;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 /**
  * DBNModel.
@@ -54,6 +51,9 @@ import java.util.Map;
 public class DBNModel implements IResourceChangeListener {
     private static final Log log = Log.getLog(DBNModel.class);
 
+    // Node events are collected and delivered to listeners in batches, not more often than once per this period (ms)
+    private static final long EVENTS_DISPATCH_DELAY = 20;
+
     private static class NodePath {
         DBNNode.NodePathType type;
         List<String> pathItems;
@@ -73,6 +73,8 @@ public class DBNModel implements IResourceChangeListener {
     private final List<INavigatorListener> listeners = new ArrayList<>();
     private transient INavigatorListener[] listenersCopy = null;
     private final Map<DBSObject, Object> nodeMap = new HashMap<>();
+    private final List<DBNEvent> eventQueue = new ArrayList<>();
+    private final EventDispatchJob eventDispatchJob = new EventDispatchJob();
 
     public DBNModel(DBPPlatform platform) {
         this.platform = platform;
@@ -101,6 +103,10 @@ public class DBNModel implements IResourceChangeListener {
     {
         platform.getWorkspace().removeResourceChangeListener(this);
         this.root.dispose(false);
+        synchronized (eventQueue) {
+            eventQueue.clear();
+        }
+        eventDispatchJob.cancel();
         synchronized (nodeMap) {
             this.nodeMap.clear();
         }
@@ -304,9 +310,31 @@ public class DBNModel implements IResourceChangeListener {
         for (int i = firstItem, itemsSize = nodePath.pathItems.size(); i < itemsSize; i++) {
             String item = nodePath.pathItems.get(i);
             DBNNode[] children = curNode.getChildren(monitor);
+            DBNNode triedChild = null;
+            if (nodePath.type == DBNNode.NodePathType.database &&
+                curNode instanceof DBNDatabaseNode &&
+                children == ((DBNDatabaseNode) curNode).getChildNodes())
+            {
+                // Lookup in children index first
+                DBNDatabaseNode indexedChild = ((DBNDatabaseNode) curNode).findChildByPathItem(item);
+                if (indexedChild != null) {
+                    if (i == itemsSize - 1) {
+                        return indexedChild;
+                    }
+                    DBNNode result = findNodeByPath(monitor, nodePath, indexedChild, i + 1);
+                    if (result != null) {
+                        return result;
+                    }
+                    // Path continues in some other child with the same name - scan the rest of them
+                    triedChild = indexedChild;
+                }
+            }
             DBNNode nextChild = null;
             if (children != null && children.length > 0) {
                 for (DBNNode child : children) {
+                    if (child == triedChild) {
+                        continue;
+                    }
                     if (nodePath.type == DBNNode.NodePathType.resource) {
                         if (child instanceof DBNResource && ((DBNResource) child).getResource().getName().equals(item)) {
                             nextChild = child;
@@ -507,29 +535,76 @@ public class DBNModel implements IResourceChangeListener {
 
     void fireNodeEvent(final DBNEvent event)
     {
-        final INavigatorListener[] listenersCopy;
         synchronized (this.listeners) {
             if (listeners.isEmpty()) {
                 return;
             }
-            listenersCopy = this.listenersCopy;
         }
-        if (listenersCopy.length == 0) {
-            return;
+        // Notify listeners in detached job.
+        // Events are queued and delivered in batches so massive refresh doesn't spawn a job per node
+        synchronized (eventQueue) {
+            boolean firstEvent = eventQueue.isEmpty();
+            eventQueue.add(event);
+            if (firstEvent) {
+                eventDispatchJob.schedule(EVENTS_DISPATCH_DELAY);
+            }
         }
-        // Notify listeners in detached job
-        new Job("Notify node '" + event.getNode().getName() + "' changes") {
+    }
+
+    /**
+     * Removes repeated node updates from events batch.
+     * The last of equal updates is kept so listeners see node state after all preceding changes.
+     */
+    private static List<DBNEvent> coalesceEvents(List<DBNEvent> events)
+    {
+        if (events.size() < 2) {
+            return events;
+        }
+        final Set<List<Object>> updates = new HashSet<>();
+        final List<DBNEvent> result = new ArrayList<>(events.size());
+        for (int i = events.size(); i-- > 0; ) {
+            final DBNEvent event = events.get(i);
+            if (event.getAction() == DBNEvent.Action.UPDATE &&
+                !updates.add(Arrays.asList(event.getNode(), event.getNodeChange(), event.getSource())))
             {
-                setSystem(true);
+                // Newer equal update is already in batch
+                continue;
+            }
+            result.add(event);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private class EventDispatchJob extends Job {
+        EventDispatchJob()
+        {
+            super("Notify navigator nodes changes");
+            setSystem(true);
+        }
+
+        @Override
+        protected IStatus run(IProgressMonitor monitor)
+        {
+            final List<DBNEvent> events;
+            synchronized (eventQueue) {
+                events = new ArrayList<>(eventQueue);
+                eventQueue.clear();
+            }
+            final INavigatorListener[] listenersCopy;
+            synchronized (listeners) {
+                listenersCopy = DBNModel.this.listenersCopy;
+            }
+            if (listenersCopy == null || listenersCopy.length == 0) {
+                return Status.OK_STATUS;
             }
-            @Override
-            protected IStatus run(IProgressMonitor monitor) {
-                for (INavigatorListener listener :  listenersCopy) {
+            for (DBNEvent event : coalesceEvents(events)) {
+                for (INavigatorListener listener : listenersCopy) {
                     listener.nodeChanged(event);
                 }
-                return Status.OK_STATUS;
             }
-        }.schedule();
+            return Status.OK_STATUS;
+        }
     }
 
     @Override
@@ -0,0 +1,155 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+package org.jkiss.dbeaver.model.runtime;
+
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBPDataSource;
+import org.jkiss.dbeaver.model.DBPDataSourceContainer;
+import org.jkiss.dbeaver.model.exec.DBCExecutionContext;
+import org.jkiss.dbeaver.model.struct.DBSEntity;
+import org.jkiss.dbeaver.model.struct.DBSObject;
+import org.jkiss.dbeaver.model.struct.DBSObjectContainer;
+
+import java.util.*;
+
+/**
+ * Tracks metadata reads.
+ * Background (prefetch) threads register themselves here and may use their own execution context.
+ * All other metadata reads are considered user-initiated: their time is recorded so background
+ * loaders can yield to them. Containers whose contents were read by user are kept in per-connection history.
+ */
+public class MetadataLoadTracker {
+
+    private static final int MAX_HISTORY_SIZE = 50;
+
+    private static final ThreadLocal<BackgroundLoad> backgroundLoad = new ThreadLocal<>();
+    private static final Map<DBPDataSource, Long> userRequestTimes = new WeakHashMap<>();
+    private static final Map<String, LinkedList<List<String>>> usedContainers = new HashMap<>();
+
+    private static class BackgroundLoad {
+        final DBCExecutionContext context;
+
+        BackgroundLoad(DBCExecutionContext context)
+        {
+            this.context = context;
+        }
+    }
+
+    /**
+     * Marks current thread as background metadata loader.
+     * @param context execution context used for metadata reads in this thread. If null then default metadata context is used.
+     */
+    public static void beginBackgroundLoad(@Nullable DBCExecutionContext context)
+    {
+        backgroundLoad.set(new BackgroundLoad(context));
+    }
+
+    public static void endBackgroundLoad()
+    {
+        backgroundLoad.remove();
+    }
+
+    public static boolean isBackgroundLoad()
+    {
+        return backgroundLoad.get() != null;
+    }
+
+    /**
+     * Returns execution context for metadata read in current thread.
+     * Records user request time if current thread isn't a background loader.
+     */
+    @NotNull
+    public static DBCExecutionContext getMetaContext(@NotNull DBPDataSource dataSource)
+    {
+        BackgroundLoad load = backgroundLoad.get();
+        if (load == null) {
+            synchronized (userRequestTimes) {
+                userRequestTimes.put(dataSource, System.currentTimeMillis());
+            }
+        } else if (load.context != null && load.context.getDataSource() == dataSource && load.context.isConnected()) {
+            return load.context;
+        }
+        return dataSource.getDefaultContext(true);
+    }
+
+    /**
+     * Time of the last user-initiated metadata read (or 0)
+     */
+    public static long getLastUserRequestTime(@NotNull DBPDataSource dataSource)
+    {
+        synchronized (userRequestTimes) {
+            Long time = userRequestTimes.get(dataSource);
+            return time == null ? 0 : time;
+        }
+    }
+
+    /**
+     * Records that user has read contents of specified object.
+     * The closest non-entity container is put in the head of connection history.
+     */
+    public static void objectUsed(@Nullable DBSObject object)
+    {
+        if (object == null || isBackgroundLoad()) {
+            return;
+        }
+        DBPDataSource dataSource = object.getDataSource();
+        if (dataSource == null) {
+            return;
+        }
+        while (object != null && !(object instanceof DBSObjectContainer && !(object instanceof DBSEntity))) {
+            object = object.getParentObject();
+        }
+        List<String> path = new ArrayList<>();
+        for (DBSObject obj = object; obj != null && obj != dataSource && !(obj instanceof DBPDataSourceContainer); obj = obj.getParentObject()) {
+            path.add(0, obj.getName());
+        }
+        if (path.isEmpty()) {
+            return;
+        }
+        String containerId = dataSource.getContainer().getId();
+        synchronized (usedContainers) {
+            LinkedList<List<String>> history = usedContainers.get(containerId);
+            if (history == null) {
+                history = new LinkedList<>();
+                usedContainers.put(containerId, history);
+            } else if (!history.isEmpty() && history.getFirst().equals(path)) {
+                return;
+            }
+            history.remove(path);
+            history.addFirst(path);
+            if (history.size() > MAX_HISTORY_SIZE) {
+                history.removeLast();
+            }
+        }
+    }
+
+    /**
+     * Name paths (from data source root) of containers recently used in specified connection.
+     * Most recent first.
+     */
+    @NotNull
+    public static List<List<String>> getUsedContainers(@NotNull String containerId)
+    {
+        synchronized (usedContainers) {
+            LinkedList<List<String>> history = usedContainers.get(containerId);
+            return history == null ? Collections.<List<String>>emptyList() : new ArrayList<>(history);
+        }
+    }
+
+}
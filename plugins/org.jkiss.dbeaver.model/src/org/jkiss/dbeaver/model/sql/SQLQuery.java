@@ -18,30 +18,12 @@
 
 package org.jkiss.dbeaver.model.sql;
 
-import net.sf.jsqlparser.parser.CCJSqlParserUtil;
-import net.sf.jsqlparser.schema.Database;
-import net.sf.jsqlparser.schema.Table;
 import net.sf.jsqlparser.statement.Statement;
-import net.sf.jsqlparser.statement.alter.Alter;
-import net.sf.jsqlparser.statement.create.index.CreateIndex;
-import net.sf.jsqlparser.statement.create.table.CreateTable;
-import net.sf.jsqlparser.statement.create.view.CreateView;
-import net.sf.jsqlparser.statement.delete.Delete;
-import net.sf.jsqlparser.statement.drop.Drop;
-import net.sf.jsqlparser.statement.insert.Insert;
-import net.sf.jsqlparser.statement.select.PlainSelect;
-import net.sf.jsqlparser.statement.select.Select;
-import net.sf.jsqlparser.statement.select.SelectBody;
-import net.sf.jsqlparser.statement.select.SelectItem;
-import net.sf.jsqlparser.statement.update.Update;
 import org.jkiss.code.NotNull;
 import org.jkiss.code.Nullable;
-import org.jkiss.dbeaver.model.DBUtils;
-import org.jkiss.dbeaver.model.exec.DBCAttributeMetaData;
 import org.jkiss.dbeaver.model.exec.DBCEntityMetaData;
-import org.jkiss.utils.CommonUtils;
 
-import java.util.*;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -59,13 +41,14 @@ public class SQLQuery {
     private int offset;
     private int length;
     private Object data;
+    // Text which is analyzed by parser. Parameters substitution doesn't change it.
     @NotNull
-    private SQLQueryType type;
+    private final String parseText;
+    private SQLQueryParseCache.ParseResult parseResult;
     @Nullable
     private Statement statement;
+    private boolean statementParsed;
     private List<SQLQueryParameter> parameters;
-    private SingleTableMeta singleTableMeta;
-    private List<SQLSelectItem> selectItems;
     private String queryTitle;
 
     public SQLQuery(@NotNull String query)
@@ -95,59 +78,10 @@ public class SQLQuery {
         this.originalQuery = this.query = query;
         this.offset = offset;
         this.length = length;
+        this.parseText = query;
+
+        // Query is parsed lazily - most queries never need parse information
 
-        try {
-            statement = CCJSqlParserUtil.parse(query);
-            if (statement instanceof Select) {
-                type = SQLQueryType.SELECT;
-                // Detect single source table
-                SelectBody selectBody = ((Select) statement).getSelectBody();
-                if (selectBody instanceof PlainSelect) {
-                    PlainSelect plainSelect = (PlainSelect) selectBody;
-                    if (plainSelect.getFromItem() instanceof Table &&
-                        CommonUtils.isEmpty(plainSelect.getJoins()) &&
-                        CommonUtils.isEmpty(plainSelect.getGroupByColumnReferences()) &&
-                        CommonUtils.isEmpty(plainSelect.getIntoTables()))
-                    {
-                        Table fromItem = (Table) plainSelect.getFromItem();
-                        Database database = fromItem.getDatabase();
-                        String catalogName = database == null ? null : database.getDatabaseName();
-                        String schemaName = fromItem.getSchemaName();
-                        String tableName = fromItem.getName();
-                        singleTableMeta = new SingleTableMeta(
-                            unquoteIdentifier(catalogName),
-                            unquoteIdentifier(schemaName),
-                            unquoteIdentifier(tableName));
-                    }
-                    // Extract select items info
-                    final List<SelectItem> items = plainSelect.getSelectItems();
-                    if (items != null && !items.isEmpty()) {
-                        selectItems = new ArrayList<>();
-                        for (SelectItem item : items) {
-                            selectItems.add(new SQLSelectItem(item));
-                        }
-                    }
-                }
-            } else if (statement instanceof Insert) {
-                type = SQLQueryType.INSERT;
-            } else if (statement instanceof Update) {
-                type = SQLQueryType.UPDATE;
-            } else if (statement instanceof Delete) {
-                type = SQLQueryType.DELETE;
-            } else if (statement instanceof Alter ||
-                statement instanceof CreateTable ||
-                statement instanceof CreateView ||
-                statement instanceof Drop ||
-                statement instanceof CreateIndex)
-            {
-                type = SQLQueryType.DDL;
-            } else {
-                type = SQLQueryType.UNKNOWN;
-            }
-        } catch (Throwable e) {
-            this.type = SQLQueryType.UNKNOWN;
-            //log.debug("Error parsing SQL query [" + query + "]:" + CommonUtils.getRootCause(e).getMessage());
-        }
         // Extract query title
         queryTitle = null;
         final Matcher matcher = QUERY_TITLE_PATTERN.matcher(query);
@@ -156,11 +90,12 @@ public class SQLQuery {
         }
     }
 
-    private String unquoteIdentifier(String name) {
-        if (name == null) {
-            return null;
+    @NotNull
+    private SQLQueryParseCache.ParseResult getParseResult() {
+        if (parseResult == null) {
+            parseResult = SQLQueryParseCache.getParseResult(parseText);
         }
-        return DBUtils.getUnQuotedIdentifier(name, "\"");
+        return parseResult;
     }
 
     /**
@@ -168,18 +103,15 @@ public class SQLQuery {
      * @return true is this query is a plain select
      */
     public boolean isPlainSelect() {
-        if (statement instanceof Select && ((Select) statement).getSelectBody() instanceof PlainSelect) {
-            PlainSelect selectBody = (PlainSelect) ((Select) statement).getSelectBody();
-            return selectBody.getFromItem() != null &&
-                CommonUtils.isEmpty(selectBody.getIntoTables()) &&
-                selectBody.getLimit() == null &&
-                selectBody.getTop() == null &&
-                !selectBody.isForUpdate();
+        if (statementParsed) {
+            // Statement may be modified by transformers
+            return SQLQueryParseCache.isPlainSelect(statement);
         }
-        return false;
+        return getParseResult().isPlainSelect();
     }
 
     public SQLSelectItem getSelectItem(String name) {
+        final List<SQLSelectItem> selectItems = getParseResult().getSelectItems();
         if (selectItems == null) {
             return null;
         }
@@ -192,6 +124,7 @@ public class SQLQuery {
     }
 
     public SQLSelectItem getSelectItem(int index) {
+        final List<SQLSelectItem> selectItems = getParseResult().getSelectItems();
         return selectItems == null || selectItems.size() <= index ? null : selectItems.get(index);
     }
 
@@ -214,8 +147,20 @@ public class SQLQuery {
         return queryTitle;
     }
 
+    /**
+     * Parsed statement. Each query has its own statement tree so it may be modified.
+     * @return statement or null if query can't be parsed
+     */
     @Nullable
     public Statement getStatement() {
+        if (!statementParsed) {
+            try {
+                statement = getParseResult().isParsed() ? SQLQueryParseCache.parseStatement(parseText) : null;
+            } catch (Throwable e) {
+                statement = null;
+            }
+            statementParsed = true;
+        }
         return statement;
     }
 
@@ -248,11 +193,11 @@ public class SQLQuery {
     @NotNull
     public SQLQueryType getType()
     {
-        return type;
+        return getParseResult().getType();
     }
 
     public DBCEntityMetaData getSingleSource() {
-        return singleTableMeta;
+        return getParseResult().getSingleSource();
     }
 
     public void setParameters(List<SQLQueryParameter> parameters)
@@ -273,66 +218,6 @@ public class SQLQuery {
         return query;
     }
 
-    private static class SingleTableMeta implements DBCEntityMetaData {
-
-        private final String catalogName;
-        private final String schemaName;
-        private final String tableName;
-
-        private SingleTableMeta(String catalogName, String schemaName, @NotNull String tableName) {
-            this.catalogName = catalogName;
-            this.schemaName = schemaName;
-            this.tableName = tableName;
-        }
-
-        @Nullable
-        @Override
-        public String getCatalogName() {
-            return catalogName;
-        }
-
-        @Nullable
-        @Override
-        public String getSchemaName() {
-            return schemaName;
-        }
-
-        @NotNull
-        @Override
-        public String getEntityName() {
-            return tableName;
-        }
-
-        @NotNull
-        @Override
-        public List<? extends DBCAttributeMetaData> getAttributes() {
-            return Collections.emptyList();
-        }
-
-        @Override
-        public String toString() {
-            return DBUtils.getSimpleQualifiedName(catalogName, schemaName, tableName);
-        }
-
-        @Override
-        public int hashCode() {
-            return (catalogName == null ? 1 : catalogName.hashCode()) *
-                (schemaName == null ? 2 : schemaName.hashCode()) *
-                tableName.hashCode();
-        }
-
-        @Override
-        public boolean equals(Object obj) {
-            if (!(obj instanceof SingleTableMeta)) {
-                return false;
-            }
-            SingleTableMeta md2 = (SingleTableMeta) obj;
-            return CommonUtils.equalObjects(catalogName, md2.catalogName) &&
-                CommonUtils.equalObjects(schemaName, md2.schemaName) &&
-                CommonUtils.equalObjects(tableName, md2.tableName);
-        }
-    }
-
     @Override
     public boolean equals(Object obj) {
         return obj instanceof SQLQuery && query.equals(((SQLQuery) obj).query);
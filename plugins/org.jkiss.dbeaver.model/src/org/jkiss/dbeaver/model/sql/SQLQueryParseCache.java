@@ -0,0 +1,329 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jkiss.dbeaver.model.sql;
+
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Database;
+import net.sf.jsqlparser.schema.Table;
+import net.sf.jsqlparser.statement.Statement;
+import net.sf.jsqlparser.statement.alter.Alter;
+import net.sf.jsqlparser.statement.create.index.CreateIndex;
+import net.sf.jsqlparser.statement.create.table.CreateTable;
+import net.sf.jsqlparser.statement.create.view.CreateView;
+import net.sf.jsqlparser.statement.delete.Delete;
+import net.sf.jsqlparser.statement.drop.Drop;
+import net.sf.jsqlparser.statement.insert.Insert;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectBody;
+import net.sf.jsqlparser.statement.select.SelectItem;
+import net.sf.jsqlparser.statement.update.Update;
+import org.jkiss.code.NotNull;
+import org.jkiss.code.Nullable;
+import org.jkiss.dbeaver.model.DBUtils;
+import org.jkiss.dbeaver.model.exec.DBCAttributeMetaData;
+import org.jkiss.dbeaver.model.exec.DBCEntityMetaData;
+import org.jkiss.utils.CommonUtils;
+
+import java.util.*;
+
+/**
+ * Shared cache of SQL query parse results.
+ *
+ * Only information extracted from the statement tree is cached (query type, single source, select items).
+ * Statement trees are mutable (query transformers patch them) so each caller gets its own tree.
+ * Parse failures are cached as well - on big vendor-specific queries they are the most expensive.
+ */
+public class SQLQueryParseCache {
+
+    private static final int MAX_CACHE_SIZE = 500;
+    // Do not keep huge scripts in cache
+    private static final int MAX_CACHED_QUERY_LENGTH = 64 * 1024;
+
+    private static final Map<String, ParseResult> resultCache = new LinkedHashMap<String, ParseResult>(MAX_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ParseResult> eldest) {
+            return size() > MAX_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Returns parse result of specified query. Parses query only if it is not in cache.
+     */
+    @NotNull
+    public static ParseResult getParseResult(@NotNull String query)
+    {
+        final String cacheKey = getCacheKey(query);
+        ParseResult result = getCachedResult(cacheKey);
+        if (result == null) {
+            Statement statement;
+            try {
+                statement = CCJSqlParserUtil.parse(query);
+            } catch (Throwable e) {
+                statement = null;
+            }
+            result = new ParseResult(statement);
+            cacheResult(cacheKey, result);
+        }
+        return result;
+    }
+
+    /**
+     * Parses query into a new statement tree. Caller may modify it.
+     * Queries which are already known as unparseable fail immediately.
+     */
+    @NotNull
+    public static Statement parseStatement(@NotNull String query) throws JSQLParserException
+    {
+        final String cacheKey = getCacheKey(query);
+        final ParseResult cachedResult = getCachedResult(cacheKey);
+        if (cachedResult != null && !cachedResult.isParsed()) {
+            throw new JSQLParserException("Query can't be parsed");
+        }
+        try {
+            return CCJSqlParserUtil.parse(query);
+        } catch (JSQLParserException e) {
+            cacheResult(cacheKey, new ParseResult(null));
+            throw e;
+        }
+    }
+
+    public static void clearCache()
+    {
+        synchronized (resultCache) {
+            resultCache.clear();
+        }
+    }
+
+    @Nullable
+    private static String getCacheKey(@NotNull String query)
+    {
+        // Leading and trailing whitespaces do not affect parse result
+        final String cacheKey = query.trim();
+        return cacheKey.length() > MAX_CACHED_QUERY_LENGTH ? null : cacheKey;
+    }
+
+    @Nullable
+    private static ParseResult getCachedResult(@Nullable String cacheKey)
+    {
+        if (cacheKey == null) {
+            return null;
+        }
+        synchronized (resultCache) {
+            return resultCache.get(cacheKey);
+        }
+    }
+
+    private static void cacheResult(@Nullable String cacheKey, @NotNull ParseResult result)
+    {
+        if (cacheKey != null) {
+            synchronized (resultCache) {
+                resultCache.put(cacheKey, result);
+            }
+        }
+    }
+
+    /**
+     * Information extracted from parsed statement. Immutable.
+     */
+    public static class ParseResult {
+        private final boolean parsed;
+        @NotNull
+        private final SQLQueryType type;
+        private final boolean plainSelect;
+        @Nullable
+        private final DBCEntityMetaData singleSource;
+        @Nullable
+        private final List<SQLSelectItem> selectItems;
+
+        private ParseResult(@Nullable Statement statement)
+        {
+            this.parsed = statement != null;
+            this.type = getStatementType(statement);
+            this.plainSelect = isPlainSelect(statement);
+
+            DBCEntityMetaData singleSource = null;
+            List<SQLSelectItem> selectItems = null;
+            if (statement instanceof Select) {
+                // Detect single source table
+                SelectBody selectBody = ((Select) statement).getSelectBody();
+                if (selectBody instanceof PlainSelect) {
+                    PlainSelect plainSelect = (PlainSelect) selectBody;
+                    if (plainSelect.getFromItem() instanceof Table &&
+                        CommonUtils.isEmpty(plainSelect.getJoins()) &&
+                        CommonUtils.isEmpty(plainSelect.getGroupByColumnReferences()) &&
+                        CommonUtils.isEmpty(plainSelect.getIntoTables()))
+                    {
+                        Table fromItem = (Table) plainSelect.getFromItem();
+                        Database database = fromItem.getDatabase();
+                        String catalogName = database == null ? null : database.getDatabaseName();
+                        String schemaName = fromItem.getSchemaName();
+                        String tableName = fromItem.getName();
+                        singleSource = new SingleTableMeta(
+                            unquoteIdentifier(catalogName),
+                            unquoteIdentifier(schemaName),
+                            unquoteIdentifier(tableName));
+                    }
+                    // Extract select items info
+                    final List<SelectItem> items = plainSelect.getSelectItems();
+                    if (items != null && !items.isEmpty()) {
+                        selectItems = new ArrayList<>();
+                        for (SelectItem item : items) {
+                            selectItems.add(new SQLSelectItem(item));
+                        }
+                        selectItems = Collections.unmodifiableList(selectItems);
+                    }
+                }
+            }
+            this.singleSource = singleSource;
+            this.selectItems = selectItems;
+        }
+
+        public boolean isParsed() {
+            return parsed;
+        }
+
+        @NotNull
+        public SQLQueryType getType() {
+            return type;
+        }
+
+        public boolean isPlainSelect() {
+            return plainSelect;
+        }
+
+        @Nullable
+        public DBCEntityMetaData getSingleSource() {
+            return singleSource;
+        }
+
+        @Nullable
+        public List<SQLSelectItem> getSelectItems() {
+            return selectItems;
+        }
+    }
+
+    @NotNull
+    private static SQLQueryType getStatementType(@Nullable Statement statement)
+    {
+        if (statement instanceof Select) {
+            return SQLQueryType.SELECT;
+        } else if (statement instanceof Insert) {
+            return SQLQueryType.INSERT;
+        } else if (statement instanceof Update) {
+            return SQLQueryType.UPDATE;
+        } else if (statement instanceof Delete) {
+            return SQLQueryType.DELETE;
+        } else if (statement instanceof Alter ||
+            statement instanceof CreateTable ||
+            statement instanceof CreateView ||
+            statement instanceof Drop ||
+            statement instanceof CreateIndex)
+        {
+            return SQLQueryType.DDL;
+        } else {
+            return SQLQueryType.UNKNOWN;
+        }
+    }
+
+    /**
+     * Plain select is a SELECT statement without INTO clause, without LIMIT or TOP modifiers
+     */
+    static boolean isPlainSelect(@Nullable Statement statement)
+    {
+        if (statement instanceof Select && ((Select) statement).getSelectBody() instanceof PlainSelect) {
+            PlainSelect selectBody = (PlainSelect) ((Select) statement).getSelectBody();
+            return selectBody.getFromItem() != null &&
+                CommonUtils.isEmpty(selectBody.getIntoTables()) &&
+                selectBody.getLimit() == null &&
+                selectBody.getTop() == null &&
+                !selectBody.isForUpdate();
+        }
+        return false;
+    }
+
+    private static String unquoteIdentifier(String name) {
+        if (name == null) {
+            return null;
+        }
+        return DBUtils.getUnQuotedIdentifier(name, "\"");
+    }
+
+    private static class SingleTableMeta implements DBCEntityMetaData {
+
+        private final String catalogName;
+        private final String schemaName;
+        private final String tableName;
+
+        private SingleTableMeta(String catalogName, String schemaName, @NotNull String tableName) {
+            this.catalogName = catalogName;
+            this.schemaName = schemaName;
+            this.tableName = tableName;
+        }
+
+        @Nullable
+        @Override
+        public String getCatalogName() {
+            return catalogName;
+        }
+
+        @Nullable
+        @Override
+        public String getSchemaName() {
+            return schemaName;
+        }
+
+        @NotNull
+        @Override
+        public String getEntityName() {
+            return tableName;
+        }
+
+        @NotNull
+        @Override
+        public List<? extends DBCAttributeMetaData> getAttributes() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String toString() {
+            return DBUtils.getSimpleQualifiedName(catalogName, schemaName, tableName);
+        }
+
+        @Override
+        public int hashCode() {
+            return (catalogName == null ? 1 : catalogName.hashCode()) *
+                (schemaName == null ? 2 : schemaName.hashCode()) *
+                tableName.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof SingleTableMeta)) {
+                return false;
+            }
+            SingleTableMeta md2 = (SingleTableMeta) obj;
+            return CommonUtils.equalObjects(catalogName, md2.catalogName) &&
+                CommonUtils.equalObjects(schemaName, md2.schemaName) &&
+                CommonUtils.equalObjects(tableName, md2.tableName);
+        }
+    }
+
+}
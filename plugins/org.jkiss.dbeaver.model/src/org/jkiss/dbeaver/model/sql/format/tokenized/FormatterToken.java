@@ -21,11 +21,25 @@
  */
 package org.jkiss.dbeaver.model.sql.format.tokenized;
 
+/**
+ * Formatter token.
+ * Parsed tokens refer to the source text by offsets. String is created on demand.
+ */
 class FormatterToken {
 
     private TokenType fType;
-    private String fString;
+    private String fSource;
     private int fPos = -1;
+    private int fEnd = -1;
+    private String fString;
+
+    public FormatterToken(final TokenType argType, final String argSource, final int argPos, final int argEnd)
+    {
+        fType = argType;
+        fSource = argSource;
+        fPos = argPos;
+        fEnd = argEnd;
+    }
 
     public FormatterToken(final TokenType argType, final String argString, final int argPos)
     {
@@ -52,15 +66,30 @@ class FormatterToken {
     public void setString(final String argString)
     {
         fString = argString;
+        fSource = null;
     }
 
     public String getString()
     {
+        if (fString == null && fSource != null) {
+            fString = fSource.substring(fPos, fEnd);
+            fSource = null;
+        }
         return fString;
     }
 
+    public void appendTo(final StringBuilder buffer)
+    {
+        if (fString == null && fSource != null) {
+            buffer.append(fSource, fPos, fEnd);
+        } else {
+            buffer.append(fString);
+        }
+    }
+
     public void setPos(final int argPos)
     {
+        getString();
         fPos = argPos;
     }
 
@@ -74,7 +103,7 @@ class FormatterToken {
         final StringBuilder buf = new StringBuilder();
         buf.append(getClass().getName());
         buf.append("type=").append(fType);
-        buf.append(",string=").append(fString);
+        buf.append(",string=").append(getString());
         buf.append(",pos=").append(fPos);
         buf.append("]");
         return buf.toString();
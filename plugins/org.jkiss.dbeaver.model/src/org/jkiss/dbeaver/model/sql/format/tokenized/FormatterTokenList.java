@@ -0,0 +1,129 @@
+/*
+ * DBeaver - Universal Database Manager
+ * Copyright (C) 2010-2016 Serge Rieder (serge@jkiss.org)
+ *
+ * This program is free software; you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (version 2)
+ * as published by the Free Software Foundation.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License along
+ * with this program; if not, write to the Free Software Foundation, Inc.,
+ * 51 Franklin Street, Fifth Floor, Boston, MA 02110-1301 USA.
+ */
+
+package org.jkiss.dbeaver.model.sql.format.tokenized;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * Token list based on gap buffer.
+ * Formatter inserts and removes tokens near the current position while it walks over the list.
+ * Gap follows this position so such modifications cost O(1) instead of shifting the whole list tail.
+ */
+class FormatterTokenList extends AbstractList<FormatterToken> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private FormatterToken[] buffer = new FormatterToken[INITIAL_CAPACITY];
+    private int gapStart = 0;
+    private int gapEnd = INITIAL_CAPACITY;
+
+    @Override
+    public int size()
+    {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public FormatterToken get(int index)
+    {
+        checkIndex(index);
+        return buffer[index < gapStart ? index : index + gapEnd - gapStart];
+    }
+
+    @Override
+    public FormatterToken set(int index, FormatterToken token)
+    {
+        checkIndex(index);
+        int pos = index < gapStart ? index : index + gapEnd - gapStart;
+        FormatterToken oldToken = buffer[pos];
+        buffer[pos] = token;
+        return oldToken;
+    }
+
+    @Override
+    public void add(int index, FormatterToken token)
+    {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (gapStart == gapEnd) {
+            growGap();
+        }
+        moveGap(index);
+        buffer[gapStart++] = token;
+        modCount++;
+    }
+
+    @Override
+    public FormatterToken remove(int index)
+    {
+        checkIndex(index);
+        moveGap(index);
+        FormatterToken token = buffer[gapEnd];
+        buffer[gapEnd++] = null;
+        modCount++;
+        return token;
+    }
+
+    @Override
+    public void clear()
+    {
+        Arrays.fill(buffer, null);
+        gapStart = 0;
+        gapEnd = buffer.length;
+        modCount++;
+    }
+
+    private void checkIndex(int index)
+    {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+    }
+
+    private void moveGap(int index)
+    {
+        if (index < gapStart) {
+            int count = gapStart - index;
+            System.arraycopy(buffer, index, buffer, gapEnd - count, count);
+            Arrays.fill(buffer, index, Math.min(gapStart, gapEnd - count), null);
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (index > gapStart) {
+            int count = index - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            Arrays.fill(buffer, Math.max(gapEnd, gapStart + count), gapEnd + count, null);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+
+    private void growGap()
+    {
+        int tailSize = buffer.length - gapEnd;
+        FormatterToken[] newBuffer = new FormatterToken[buffer.length * 2];
+        System.arraycopy(buffer, 0, newBuffer, 0, gapStart);
+        System.arraycopy(buffer, gapEnd, newBuffer, newBuffer.length - tailSize, tailSize);
+        gapEnd = newBuffer.length - tailSize;
+        buffer = newBuffer;
+    }
+
+}
@@ -42,14 +42,19 @@ public class SQLTokenizedFormatter implements SQLFormatter {
 
     private SQLFormatterConfiguration formatterCfg;
     private List<Boolean> functionBracket = new ArrayList<>();
+    // Number of TRUE values in functionBracket
+    private int functionBracketCount;
     private List<String> statementDelimiters = new ArrayList<>(2);
     private String delimiterRedefiner;
+    private String lineSeparator;
 
     @Override
     public String format(final String argSql, SQLFormatterConfiguration configuration)
     {
         formatterCfg = configuration;
+        lineSeparator = GeneralUtils.getDefaultLineSeparator();
 
+        statementDelimiters.clear();
         for (String delim : formatterCfg.getSyntaxManager().getStatementDelimiters()) {
             statementDelimiters.add(delim.toUpperCase(Locale.ENGLISH));
         }
@@ -60,6 +65,7 @@ public class SQLTokenizedFormatter implements SQLFormatter {
         SQLTokensParser fParser = new SQLTokensParser(formatterCfg);
 
         functionBracket.clear();
+        functionBracketCount = 0;
 
         boolean isSqlEndsWithNewLine = false;
         if (argSql.endsWith("\n")) { //$NON-NLS-1$
@@ -69,13 +75,18 @@ public class SQLTokenizedFormatter implements SQLFormatter {
         List<FormatterToken> list = fParser.parse(argSql);
         list = format(list);
 
-        StringBuilder after = new StringBuilder(argSql.length() + 20);
+        StringBuilder after = new StringBuilder(argSql.length() + argSql.length() / 4 + 20);
+        FormatterToken prev = null;
         for (FormatterToken token : list) {
-            after.append(token.getString());
+            if (prev != null && isSpaceRequired(prev, token)) {
+                after.append(' ');
+            }
+            token.appendTo(after);
+            prev = token;
         }
 
         if (isSqlEndsWithNewLine) {
-            after.append(GeneralUtils.getDefaultLineSeparator());
+            after.append(lineSeparator);
         }
 
         return after.toString();
@@ -157,14 +168,21 @@ public class SQLTokenizedFormatter implements SQLFormatter {
             String tokenString = token.getString().toUpperCase(Locale.ENGLISH);
             if (token.getType() == TokenType.SYMBOL) {
                 if (tokenString.equals("(")) { //$NON-NLS-1$
-                    functionBracket.add(formatterCfg.isFunction(prev.getString()) ? Boolean.TRUE : Boolean.FALSE);
+                    if (formatterCfg.isFunction(prev.getString())) {
+                        functionBracket.add(Boolean.TRUE);
+                        functionBracketCount++;
+                    } else {
+                        functionBracket.add(Boolean.FALSE);
+                    }
                     bracketIndent.add(indent);
                     indent++;
                     index += insertReturnAndIndent(argList, index + 1, indent);
                 } else if (tokenString.equals(")") && !bracketIndent.isEmpty() && !functionBracket.isEmpty()) { //$NON-NLS-1$
                     indent = bracketIndent.remove(bracketIndent.size() - 1);
                     index += insertReturnAndIndent(argList, index, indent);
-                    functionBracket.remove(functionBracket.size() - 1);
+                    if (functionBracket.remove(functionBracket.size() - 1)) {
+                        functionBracketCount--;
+                    }
                 } else if (tokenString.equals(",")) { //$NON-NLS-1$
                     index += insertReturnAndIndent(argList, index + 1, indent);
                 } else if (statementDelimiters.contains(tokenString)) { //$NON-NLS-1$
@@ -315,40 +333,41 @@ public class SQLTokenizedFormatter implements SQLFormatter {
             }
         }
 
-        for (int index = 1; index < argList.size(); index++) {
-            prev = argList.get(index - 1);
-            token = argList.get(index);
+        return argList;
+    }
 
-            if (prev.getType() != TokenType.SPACE &&
-                token.getType() != TokenType.SPACE &&
-                !token.getString().startsWith("("))
-            {
-                if (token.getString().equals(",") || statementDelimiters.contains(token.getString())) { //$NON-NLS-1$
-                    continue;
-                }
-                if (formatterCfg.isFunction(prev.getString())
-                        && token.getString().equals("(")) { //$NON-NLS-1$
-                    continue;
-                }
-                if (token.getType() == TokenType.VALUE && prev.getType() == TokenType.NAME) {
-                    // Do not add space between name and value [JDBC:MSSQL]
-                    continue;
-                }
-                if (token.getType() == TokenType.SYMBOL && isEmbeddedToken(token) ||
-                    prev.getType() == TokenType.SYMBOL && isEmbeddedToken(prev))
-                {
-                    // Do not insert spaces around colons
-                    continue;
-                }
-                if (token.getType() == TokenType.SYMBOL && prev.getType() == TokenType.SYMBOL) {
-                    // Do not add space between symbols
-                    continue;
-                }
-                argList.add(index, new FormatterToken(TokenType.SPACE, " ")); //$NON-NLS-1$
-            }
+    /**
+     * Checks whether space must be added between two adjacent tokens of the formatted list
+     */
+    private boolean isSpaceRequired(FormatterToken prev, FormatterToken token) {
+        if (prev.getType() == TokenType.SPACE ||
+            token.getType() == TokenType.SPACE ||
+            token.getString().startsWith("("))
+        {
+            return false;
         }
-
-        return argList;
+        if (token.getString().equals(",") || statementDelimiters.contains(token.getString())) { //$NON-NLS-1$
+            return false;
+        }
+        if (formatterCfg.isFunction(prev.getString())
+                && token.getString().equals("(")) { //$NON-NLS-1$
+            return false;
+        }
+        if (token.getType() == TokenType.VALUE && prev.getType() == TokenType.NAME) {
+            // Do not add space between name and value [JDBC:MSSQL]
+            return false;
+        }
+        if (token.getType() == TokenType.SYMBOL && isEmbeddedToken(token) ||
+            prev.getType() == TokenType.SYMBOL && isEmbeddedToken(prev))
+        {
+            // Do not insert spaces around colons
+            return false;
+        }
+        if (token.getType() == TokenType.SYMBOL && prev.getType() == TokenType.SYMBOL) {
+            // Do not add space between symbols
+            return false;
+        }
+        return true;
     }
 
     private static  boolean isEmbeddedToken(FormatterToken token) {
@@ -395,21 +414,27 @@ public class SQLTokenizedFormatter implements SQLFormatter {
 
     private int insertReturnAndIndent(final List<FormatterToken> argList, final int argIndex, final int argIndent)
     {
-        if (functionBracket.contains(Boolean.TRUE))
+        if (functionBracketCount > 0)
             return 0;
+        if (argIndex >= argList.size()) {
+            // Nothing to indent at the end of script
+            return 0;
+        }
         try {
-            String s = GeneralUtils.getDefaultLineSeparator();
+            StringBuilder indent = new StringBuilder();
+            indent.append(lineSeparator);
             if (argIndex > 0) {
                 final FormatterToken prevToken = argList.get(argIndex - 1);
                 if (prevToken.getType() == TokenType.COMMENT &&
                     SQLUtils.isCommentLine(formatterCfg.getSyntaxManager().getDialect(), prevToken.getString()))
                 {
-                    s = ""; //$NON-NLS-1$
+                    indent.setLength(0);
                 }
             }
             for (int index = 0; index < argIndent; index++) {
-                s += formatterCfg.getIndentString();
+                indent.append(formatterCfg.getIndentString());
             }
+            final String s = indent.toString();
 
             FormatterToken token = argList.get(argIndex);
             if (token.getType() == TokenType.SPACE) {
@@ -419,6 +444,9 @@ public class SQLTokenizedFormatter implements SQLFormatter {
             boolean isDelimiter = statementDelimiters.contains(token.getString().toUpperCase());
 
             if (!isDelimiter) {
+                if (argIndex == 0) {
+                    return 0;
+                }
                 token = argList.get(argIndex - 1);
                 if (token.getType() == TokenType.SPACE) {
                     token.setString(s);
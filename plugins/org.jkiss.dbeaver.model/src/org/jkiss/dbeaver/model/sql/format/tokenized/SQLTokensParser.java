@@ -103,8 +103,9 @@ class SQLTokensParser {
     }
 
     FormatterToken nextToken() {
-        int start_pos = fPos;
-        if (fPos >= fBefore.length()) {
+        final int start_pos = fPos;
+        final int length = fBefore.length();
+        if (fPos >= length) {
             fPos++;
             return new FormatterToken(TokenType.END, "", start_pos);
         }
@@ -112,82 +113,59 @@ class SQLTokensParser {
         char fChar = fBefore.charAt(fPos);
 
         if (isSpace(fChar)) {
-            StringBuilder workString = new StringBuilder();
-            for (;;) {
-                workString.append(fChar);
-                fChar = fBefore.charAt(fPos);
-                if (!isSpace(fChar)) {
-                    return new FormatterToken(TokenType.SPACE, workString.toString(), start_pos);
-                }
+            do {
                 fPos++;
-                if (fPos >= fBefore.length()) {
-                    return new FormatterToken(TokenType.SPACE, workString.toString(), start_pos);
-                }
-            }
+            } while (fPos < length && isSpace(fBefore.charAt(fPos)));
+            return newToken(TokenType.SPACE, start_pos);
         } else if (fChar == ';') {
             fPos++;
-            return new FormatterToken(TokenType.SYMBOL, ";", start_pos);
+            return newToken(TokenType.SYMBOL, start_pos);
         } else if (isDigit(fChar)) {
-            StringBuilder s = new StringBuilder();
-            while (isDigit(fChar) || fChar == '.') {
-                // if (ch == '.') type = Token.REAL;
-                s.append(fChar);
+            do {
                 fPos++;
-
-                if (fPos >= fBefore.length()) {
-                    break;
-                }
-
-                fChar = fBefore.charAt(fPos);
-            }
-            return new FormatterToken(TokenType.VALUE, s.toString(), start_pos);
+            } while (fPos < length && (isDigit(fChar = fBefore.charAt(fPos)) || fChar == '.'));
+            return newToken(TokenType.VALUE, start_pos);
         }
         // single line comment
         else if (ArrayUtils.contains(singleLineCommentStart, fChar)) {
             fPos++;
             String commentString = null;
             for (String slc : singleLineComments) {
-                if (fBefore.length() >= start_pos + slc.length() && slc.equals(fBefore.substring(start_pos, start_pos + slc.length()))) {
+                if (fBefore.startsWith(slc, start_pos)) {
                     commentString = slc;
                     break;
                 }
             }
             if (commentString == null) {
-                return new FormatterToken(TokenType.SYMBOL, String.valueOf(fChar), start_pos);
+                return newToken(TokenType.SYMBOL, start_pos);
             }
             fPos += commentString.length() - 1;
-            while (fPos < fBefore.length()) {
+            while (fPos < length) {
                 fPos++;
                 if (fBefore.charAt(fPos - 1) == '\n') {
                     break;
                 }
             }
-            commentString = fBefore.substring(start_pos, fPos);
-            return new FormatterToken(TokenType.COMMENT, commentString, start_pos);
+            return newToken(TokenType.COMMENT, start_pos);
         }
         else if (isLetter(fChar)) {
-            StringBuilder s = new StringBuilder();
             while (isLetter(fChar) || isDigit(fChar) || fChar == '*' || structSeparator == fChar || catalogSeparator.indexOf(fChar) != -1) {
-                s.append(fChar);
                 fPos++;
-                if (fPos >= fBefore.length()) {
+                if (fPos >= length) {
                     break;
                 }
 
                 fChar = fBefore.charAt(fPos);
             }
-            String word = s.toString();
+            String word = fBefore.substring(start_pos, fPos);
             if (commands.contains(word.toUpperCase(Locale.ENGLISH))) {
-                s.setLength(0);
-                for (; fPos < fBefore.length(); fPos++) {
+                for (; fPos < length; fPos++) {
                     fChar = fBefore.charAt(fPos);
                     if (fChar == '\n' || fChar == '\r') {
                         break;
-                    } else {
-                        s.append(fChar);
                     }
                 }
-                return new FormatterToken(TokenType.COMMAND, word + s.toString(), start_pos);
+                return newToken(TokenType.COMMAND, start_pos);
             }
             if (configuration.getSyntaxManager().getDialect().getKeywordType(word) != null) {
                 return new FormatterToken(TokenType.KEYWORD, word, start_pos);
@@ -196,64 +174,49 @@ class SQLTokensParser {
         }
         else if (fChar == '/') {
             fPos++;
-            char ch2 = fBefore.charAt(fPos);
-            if (ch2 != '*') {
-                return new FormatterToken(TokenType.SYMBOL, "/", start_pos);
-            }
-
-            StringBuilder s = new StringBuilder("/*");
-            fPos++;
-            for (;;) {
-                int ch0 = fChar;
-                fChar = fBefore.charAt(fPos);
-                s.append(fChar);
-                fPos++;
-                if (ch0 == '*' && fChar == '/') {
-                    return new FormatterToken(TokenType.COMMENT, s.toString(), start_pos);
-                }
+            if (fPos >= length || fBefore.charAt(fPos) != '*') {
+                return newToken(TokenType.SYMBOL, start_pos);
             }
+            // Comment ends with the first "*/" after the opening "/*"
+            int commentEnd = fBefore.indexOf("*/", fPos + 1);
+            fPos = commentEnd == -1 ? length : commentEnd + 2;
+            return newToken(TokenType.COMMENT, start_pos);
         } else {
             if (fChar == '\'' || fChar == '\"' || (quoteSymbol != null && !quoteSymbol.isEmpty() && fChar == quoteSymbol.charAt(0))) {
-                fPos++;
-                char quoteChar = fChar;
-                StringBuilder s = new StringBuilder(String.valueOf(quoteChar));
-                for (;;) {
-                    fChar = fBefore.charAt(fPos);
-                    s.append(fChar);
-                    fPos++;
-                    if (fChar == quoteChar) {
-                        return new FormatterToken(TokenType.VALUE, s.toString(), start_pos);
-                    }
-                }
+                int quoteEnd = fBefore.indexOf(fChar, fPos + 1);
+                fPos = quoteEnd == -1 ? length : quoteEnd + 1;
+                return newToken(TokenType.VALUE, start_pos);
             }
 
             else if (isSymbol(fChar)) {
-                String s = String.valueOf(fChar);
                 fPos++;
-                if (fPos >= fBefore.length()) {
-                    return new FormatterToken(TokenType.SYMBOL, s, start_pos);
+                if (fPos >= length) {
+                    return newToken(TokenType.SYMBOL, start_pos);
                 }
                 char ch2 = fBefore.charAt(fPos);
                 for (int i = 0; i < twoCharacterSymbol.length; i++) {
                     if (twoCharacterSymbol[i].charAt(0) == fChar && twoCharacterSymbol[i].charAt(1) == ch2) {
                         fPos++;
-                        s += ch2;
                         break;
                     }
                 }
-                return new FormatterToken(TokenType.SYMBOL, s, start_pos);
+                return newToken(TokenType.SYMBOL, start_pos);
             } else {
                 fPos++;
-                return new FormatterToken(TokenType.UNKNOWN, String.valueOf(fChar), start_pos);
+                return newToken(TokenType.UNKNOWN, start_pos);
             }
         }
     }
 
+    private FormatterToken newToken(TokenType type, int start_pos) {
+        return new FormatterToken(type, fBefore, start_pos, fPos);
+    }
+
     public List<FormatterToken> parse(final String argSql) {
         fPos = 0;
         fBefore = argSql;
 
-        final List<FormatterToken> list = new ArrayList<>();
+        final List<FormatterToken> list = new FormatterTokenList();
         for (;;) {
             final FormatterToken token = nextToken();
             if (token.getType() == TokenType.END) {
@@ -34,6 +34,7 @@ import org.jkiss.dbeaver.model.data.DBDAttributeBinding;
 import org.jkiss.dbeaver.model.data.DBDAttributeConstraint;
 import org.jkiss.dbeaver.model.data.DBDDataFilter;
 import org.jkiss.dbeaver.model.sql.SQLDataSource;
+import org.jkiss.dbeaver.model.sql.SQLQueryParseCache;
 import org.jkiss.dbeaver.model.sql.SQLUtils;
 import org.jkiss.dbeaver.model.struct.DBSAttributeBase;
 import org.jkiss.dbeaver.model.struct.DBSEntityAttribute;
@@ -54,7 +55,7 @@ public class SQLSemanticProcessor {
     public static boolean isSelectQuery(String query)
     {
         try {
-            Statement statement = CCJSqlParserUtil.parse(query);
+            Statement statement = SQLQueryParseCache.parseStatement(query);
             return
                 statement instanceof Select &&
                 ((Select) statement).getSelectBody() instanceof PlainSelect &&
@@ -70,7 +71,7 @@ public class SQLSemanticProcessor {
     public static String addFiltersToQuery(final DBPDataSource dataSource, String sqlQuery, final DBDDataFilter dataFilter) {
         boolean supportSubqueries = dataSource instanceof SQLDataSource && ((SQLDataSource) dataSource).getSQLDialect().supportsSubqueries();
         try {
-            Statement statement = CCJSqlParserUtil.parse(sqlQuery);
+            Statement statement = SQLQueryParseCache.parseStatement(sqlQuery);
             if (statement instanceof Select && ((Select) statement).getSelectBody() instanceof PlainSelect) {
                 PlainSelect select = (PlainSelect) ((Select) statement).getSelectBody();
                 if (patchSelectQuery(dataSource, select, dataFilter)) {
@@ -41,6 +41,7 @@ public interface DBSDataContainer extends DBSObject {
 
     long FLAG_NONE               = 0;
     long FLAG_READ_PSEUDO        = 1 << 1;
+    long FLAG_FETCH_PIPELINE     = 1 << 2;
 
     /**
      * Features supported by implementation